@@ -14,6 +14,7 @@
 package org.eclipse.lsp4mp.commons;
 
 import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 
@@ -38,6 +39,8 @@ public class MicroProfileProjectInfo extends ConfigurationMetadata {
 
 	private ClasspathKind classpathKind;
 
+	private List<String> scannedSourceTypes;
+
 	/**
 	 * Returns the project URI.
 	 *
@@ -74,4 +77,35 @@ public class MicroProfileProjectInfo extends ConfigurationMetadata {
 		this.classpathKind = classpathKind;
 	}
 
+	/**
+	 * Returns the top-level source types declared in the Java source files which
+	 * have been scanned when this project information is a delta and null if this
+	 * project information contains all the properties of the search scope.
+	 *
+	 * <p>
+	 * When this project information is a delta, the properties and hints coming
+	 * from the Java sources whose source type is one of the scanned source types
+	 * (or a type nested in it) must be replaced with the properties and hints of
+	 * this project information.
+	 * </p>
+	 *
+	 * @return the top-level source types declared in the Java source files which
+	 *         have been scanned when this project information is a delta and null
+	 *         otherwise.
+	 */
+	public List<String> getScannedSourceTypes() {
+		return scannedSourceTypes;
+	}
+
+	/**
+	 * Set the top-level source types declared in the Java source files which
+	 * have been scanned when this project information is a delta.
+	 *
+	 * @param scannedSourceTypes the top-level source types declared in the Java
+	 *                           source files which have been scanned.
+	 */
+	public void setScannedSourceTypes(List<String> scannedSourceTypes) {
+		this.scannedSourceTypes = scannedSourceTypes;
+	}
+
 }
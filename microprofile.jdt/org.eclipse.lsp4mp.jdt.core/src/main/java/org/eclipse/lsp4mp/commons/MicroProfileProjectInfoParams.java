@@ -14,6 +14,7 @@
 package org.eclipse.lsp4mp.commons;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * MicroProfile project information parameters.
@@ -29,6 +30,10 @@ public class MicroProfileProjectInfoParams {
 
 	private DocumentFormat documentFormat;
 
+	private Set<String> javaSourceURIs;
+
+	private boolean excludeDescriptions;
+
 	public MicroProfileProjectInfoParams() {
 	}
 
@@ -89,4 +94,62 @@ public class MicroProfileProjectInfoParams {
 	public DocumentFormat getDocumentFormat() {
 		return documentFormat;
 	}
+
+	/**
+	 * Returns the URIs of the Java source files to scan when the search scope is
+	 * only sources and null if all Java source files must be scanned.
+	 *
+	 * @return the URIs of the Java source files to scan when the search scope is
+	 *         only sources and null if all Java source files must be scanned.
+	 */
+	public Set<String> getJavaSourceURIs() {
+		return javaSourceURIs;
+	}
+
+	/**
+	 * Set the URIs of the Java source files to scan when the search scope is only
+	 * sources.
+	 *
+	 * <p>
+	 * In this case, the project information returned is a delta which contains
+	 * only the properties and hints of the given Java source files and the
+	 * {@link MicroProfileProjectInfo#getScannedSourceTypes() scanned source
+	 * types}.
+	 * </p>
+	 *
+	 * @param javaSourceURIs the URIs of the Java source files to scan and null if
+	 *                       all Java source files must be scanned.
+	 */
+	public void setJavaSourceURIs(Set<String> javaSourceURIs) {
+		this.javaSourceURIs = javaSourceURIs;
+	}
+
+	/**
+	 * Returns true if the descriptions of the properties must be excluded from
+	 * the project information and false otherwise.
+	 *
+	 * @return true if the descriptions of the properties must be excluded from
+	 *         the project information and false otherwise.
+	 */
+	public boolean isExcludeDescriptions() {
+		return excludeDescriptions;
+	}
+
+	/**
+	 * Set true if the descriptions of the properties must be excluded from the
+	 * project information and false otherwise.
+	 *
+	 * <p>
+	 * In this case, the descriptions are retrieved on demand with the
+	 * "microprofile/propertyDescriptions" request (see
+	 * {@link MicroProfilePropertyDescriptionsParams}).
+	 * </p>
+	 *
+	 * @param excludeDescriptions true if the descriptions of the properties must
+	 *                            be excluded from the project information and
+	 *                            false otherwise.
+	 */
+	public void setExcludeDescriptions(boolean excludeDescriptions) {
+		this.excludeDescriptions = excludeDescriptions;
+	}
 }
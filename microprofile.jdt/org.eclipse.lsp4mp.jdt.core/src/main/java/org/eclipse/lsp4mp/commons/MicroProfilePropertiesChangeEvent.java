@@ -28,6 +28,8 @@ public class MicroProfilePropertiesChangeEvent {
 
 	private Set<String> projectURIs;
 
+	private Set<String> javaSourceURIs;
+
 	/**
 	 * Returns the search scope to collect the MicroProfile properties.
 	 *
@@ -64,4 +66,27 @@ public class MicroProfilePropertiesChangeEvent {
 		this.projectURIs = projectURIs;
 	}
 
+	/**
+	 * Returns the URIs of the Java source files which have been saved when the
+	 * type scope is only sources and null if the changed Java files are unknown.
+	 *
+	 * @return the URIs of the Java source files which have been saved when the
+	 *         type scope is only sources and null if the changed Java files are
+	 *         unknown.
+	 */
+	public Set<String> getJavaSourceURIs() {
+		return javaSourceURIs;
+	}
+
+	/**
+	 * Set the URIs of the Java source files which have been saved when the type
+	 * scope is only sources.
+	 *
+	 * @param javaSourceURIs the URIs of the Java source files which have been
+	 *                       saved.
+	 */
+	public void setJavaSourceURIs(Set<String> javaSourceURIs) {
+		this.javaSourceURIs = javaSourceURIs;
+	}
+
 }
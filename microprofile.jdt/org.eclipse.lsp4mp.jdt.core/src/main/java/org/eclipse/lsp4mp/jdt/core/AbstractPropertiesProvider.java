@@ -15,8 +15,8 @@ package org.eclipse.lsp4mp.jdt.core;
 
 import static org.eclipse.lsp4mp.jdt.core.utils.JDTTypeUtils.getPropertyType;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaElement;
@@ -189,7 +189,8 @@ public abstract class AbstractPropertiesProvider implements IPropertiesProvider
 	 * Returns true if the given Java element has already generated MicroProfile
 	 * properties for this provider and false otherwise.
 	 * 
-	 * This check allows to prevent from duplicate properties.
+	 * This check allows to prevent from duplicate properties. It can be called
+	 * by several threads when the search matches are processed in parallel.
 	 * 
 	 * @param element the Java element collected by the search engine to generate
 	 *                some MicroProfile properties.
@@ -202,11 +203,7 @@ public abstract class AbstractPropertiesProvider implements IPropertiesProvider
 			return true;
 		}
 		String key = this.getClass().getName();
-		Set<Object> elements = (Set<Object>) context.get(key);
-		if (elements == null) {
-			elements = new HashSet<>();
-			context.put(key, elements);
-		}
+		Set<Object> elements = (Set<Object>) context.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
 		return !elements.add(element);
 	}
 
@@ -16,6 +16,7 @@ package org.eclipse.lsp4mp.jdt.core;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.lsp4mp.jdt.internal.core.CachedArtifactResolver;
 import org.eclipse.lsp4mp.jdt.internal.core.MavenArtifactResolver;
 
 /**
@@ -106,9 +107,10 @@ public interface ArtifactResolver {
 		}
 	}
 
-	public static final ArtifactResolver DEFAULT_ARTIFACT_RESOLVER = new MavenArtifactResolver();
+	public static final ArtifactResolver DEFAULT_ARTIFACT_RESOLVER = new CachedArtifactResolver(
+			new MavenArtifactResolver());
 
 	String getArtifact(Artifact artifact, IProgressMonitor monitor);
 
 	Set<Artifact> getDependencies(Artifact artifact, IProgressMonitor monitor);
-}
\ No newline at end of file
+}
\ No newline at end of file
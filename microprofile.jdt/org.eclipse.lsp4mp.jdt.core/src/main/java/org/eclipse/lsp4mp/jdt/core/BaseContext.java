@@ -13,9 +13,10 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
@@ -35,17 +36,41 @@ public class BaseContext {
 	public BaseContext(IJavaProject javaProject, List<MicroProfilePropertiesScope> scopes) {
 		this.javaProject = javaProject;
 		this.scopes = scopes;
-		cache = new HashMap<>();
+		// the cache can be used by the properties providers which process the search
+		// matches in parallel
+		cache = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Creates a context which shares the Java project, the scopes and the cache of
+	 * the given context.
+	 *
+	 * @param context the context to share.
+	 */
+	protected BaseContext(BaseContext context) {
+		this.javaProject = context.javaProject;
+		this.scopes = context.scopes;
+		this.cache = context.cache;
 	}
 
 	/**
 	 * Associates the specified value with the specified key in the cache.
 	 *
+	 * <p>
+	 * The cache is thread-safe and doesn't support null values: putting a null
+	 * value removes the mapping of the key, then {@link #get(String)} returns null
+	 * for the key as if the null value was stored.
+	 * </p>
+	 *
 	 * @param key   the key.
-	 * @param value the value.
+	 * @param value the value, null to remove the mapping of the key.
 	 */
 	public void put(String key, Object value) {
-		cache.put(key, value);
+		if (value == null) {
+			cache.remove(key);
+		} else {
+			cache.put(key, value);
+		}
 	}
 
 	/**
@@ -60,6 +85,38 @@ public class BaseContext {
 		return cache.get(key);
 	}
 
+	/**
+	 * Associates the specified value with the specified key in the cache if the
+	 * key is not already associated with a value, atomically.
+	 *
+	 * @param key   the key.
+	 * @param value the value.
+	 * @return the previous value associated with the specified key and null if
+	 *         there was no mapping for the key.
+	 */
+	public Object putIfAbsent(String key, Object value) {
+		return cache.putIfAbsent(key, value);
+	}
+
+	/**
+	 * Returns the value to which the specified key is mapped and computes it with
+	 * the given mapping function if the key is not already associated with a
+	 * value, atomically.
+	 *
+	 * <p>
+	 * The properties providers which process the search matches in parallel must
+	 * use this method to create a value shared by the matches (instead of
+	 * {@link #get(String)} followed by {@link #put(String, Object)}).
+	 * </p>
+	 *
+	 * @param key             the key.
+	 * @param mappingFunction the function to compute the value.
+	 * @return the value to which the specified key is mapped.
+	 */
+	public Object computeIfAbsent(String key, Function<String, Object> mappingFunction) {
+		return cache.computeIfAbsent(key, mappingFunction);
+	}
+
 	/**
 	 * Returns the java project.
 	 *
@@ -21,6 +21,26 @@ import org.eclipse.jdt.core.search.SearchPattern;
 /**
  * Properties provider API.
  *
+ * <p>
+ * Threading contract: the building scope methods, {@link #beginSearch},
+ * {@link #createSearchPattern()} and {@link #endSearch} are called by the thread
+ * of the search. When the dependencies are scanned,
+ * {@link #collectProperties(SearchMatch, SearchContext, IProgressMonitor)} is
+ * called concurrently by the threads of a bounded executor, for different
+ * search matches of the same search. So a provider:
+ * </p>
+ *
+ * <ul>
+ * <li>must not keep the state of a search in its fields.</li>
+ * <li>must store the state shared by the search matches of a search in the
+ * search context with {@link BaseContext#computeIfAbsent} or
+ * {@link BaseContext#putIfAbsent}, and this state must be thread-safe.</li>
+ * <li>can use the collector of the given search context without
+ * synchronization: it is used by one thread at a time, and its properties are
+ * applied to the collector of the search in the order of the search matches
+ * when the search is done.</li>
+ * </ul>
+ *
  * @author Angelo ZERR
  *
  */
@@ -79,12 +99,59 @@ public interface IPropertiesProvider {
 	/**
 	 * Collect properties from the given Java search match.
 	 *
+	 * <p>
+	 * This method can be called concurrently for different search matches (see the
+	 * threading contract of this interface).
+	 * </p>
+	 *
 	 * @param match   the java search match.
 	 * @param context the search context.
 	 * @param monitor the progress monitor.
 	 */
 	void collectProperties(SearchMatch match, SearchContext context, IProgressMonitor monitor);
 
+	/**
+	 * Returns the fully qualified names of the annotations of the search matches
+	 * that this provider processes, an empty array if the provider doesn't process
+	 * the search matches and null if the provider must receive all the search
+	 * matches.
+	 *
+	 * <p>
+	 * This method is an opt-in to the dispatch of the search matches: a provider
+	 * must return the annotation names only if
+	 * {@link #collectProperties(SearchMatch, SearchContext, IProgressMonitor)}
+	 * ignores the Java elements which are not annotated with one of those
+	 * annotations (or which are not the types returned by
+	 * {@link #getDispatchedTypeNames()}).
+	 * </p>
+	 *
+	 * @return the fully qualified names of the annotations of the search matches
+	 *         that this provider processes, an empty array if the provider
+	 *         doesn't process the search matches and null if the provider must
+	 *         receive all the search matches.
+	 */
+	default String[] getDispatchedAnnotationNames() {
+		return null;
+	}
+
+	/**
+	 * Returns the fully qualified names of the types of the search matches that
+	 * this provider processes and null if the provider must receive all the
+	 * search matches.
+	 *
+	 * <p>
+	 * This method is an opt-in to the dispatch of the search matches (see
+	 * {@link #getDispatchedAnnotationNames()}).
+	 * </p>
+	 *
+	 * @return the fully qualified names of the types of the search matches that
+	 *         this provider processes and null if the provider must receive all
+	 *         the search matches.
+	 */
+	default String[] getDispatchedTypeNames() {
+		return null;
+	}
+
 	/**
 	 * End the search.
 	 *
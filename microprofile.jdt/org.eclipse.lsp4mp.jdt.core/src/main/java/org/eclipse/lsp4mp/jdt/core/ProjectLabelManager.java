@@ -140,7 +140,7 @@ public class ProjectLabelManager {
 		// project.
 		if (types != null) {
 			for (String type : types) {
-				if (JDTTypeUtils.findType(javaProject, type) != null) {
+				if (JDTTypeUtils.isOnClasspath(javaProject, type)) {
 					projectLabels.add(type);
 				}
 			}
@@ -13,10 +13,22 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -25,16 +37,19 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.core.compiler.CharOperation;
@@ -56,13 +71,23 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDescriptionsParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.BufferedPropertiesCollector;
 import org.eclipse.lsp4mp.jdt.internal.core.FakeJavaProject;
+import org.eclipse.lsp4mp.jdt.internal.core.JarMetadataCache;
+import org.eclipse.lsp4mp.jdt.internal.core.JarMetadataRecorder;
+import org.eclipse.lsp4mp.jdt.internal.core.MicroProfileExecutors;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesCollector;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesProviderRegistry;
+import org.eclipse.lsp4mp.jdt.internal.core.PropertyDescriptionsStore;
+import org.eclipse.lsp4mp.jdt.internal.core.SingleFlightRegistry;
+import org.eclipse.lsp4mp.jdt.internal.core.SourceDependencyIndex;
 import org.eclipse.lsp4mp.jdt.internal.core.StaticPropertyProviderRegistry;
+import org.eclipse.lsp4mp.jdt.internal.core.TrackingArtifactResolver;
 
 /**
  * MicroProfile properties manager used to:
@@ -81,12 +106,50 @@ public class PropertiesManager {
 
 	private static final Logger LOGGER = Logger.getLogger(PropertiesManager.class.getName());
 
+	/**
+	 * System property to disable the parallel processing of the search matches
+	 * with <code>-Dlsp4mp.search.parallel=false</code>.
+	 */
+	private static final String PARALLEL_SEARCH_PROPERTY = "lsp4mp.search.parallel";
+
 	public static PropertiesManager getInstance() {
 		return INSTANCE;
 	}
 
-	private PropertiesManager() {
+	// the project info computations in progress (ex : application.properties and
+	// microprofile-config.properties opened at the same time) are shared
+	private final SingleFlightRegistry<List<Object>, MicroProfileProjectInfo> projectInfoComputations;
+
+	// the generation of the projects, incremented when the classpath or a source of
+	// the project changes: a computation started before the change is not shared
+	// with the callers which ask for the project info after the change
+	private final Map<String, Long> projectGenerations;
+
+	private static class SearchClasspath {
+
+		private final IClasspathEntry[] resolvedClasspath;
 
+		private final IJavaProject javaProjectForSearch;
+
+		public SearchClasspath(IClasspathEntry[] resolvedClasspath, IJavaProject javaProjectForSearch) {
+			this.resolvedClasspath = resolvedClasspath;
+			this.javaProjectForSearch = javaProjectForSearch;
+		}
+	}
+
+	// the java projects used for the search by project, test code exclusion and
+	// scopes, reused while the resolved classpath of the project doesn't change
+	private final Map<List<Object>, SearchClasspath> searchClasspaths;
+
+	// the executor shared by the searches which process the search matches in
+	// parallel
+	private final ExecutorService searchExecutor;
+
+	private PropertiesManager() {
+		this.projectInfoComputations = new SingleFlightRegistry<>();
+		this.projectGenerations = new ConcurrentHashMap<>();
+		this.searchClasspaths = new ConcurrentHashMap<>();
+		this.searchExecutor = MicroProfileExecutors.newBoundedExecutor("MicroProfile properties search");
 	}
 
 	public MicroProfileProjectInfo getMicroProfileProjectInfo(MicroProfileProjectInfoParams params, IJDTUtils utils,
@@ -101,7 +164,46 @@ public class PropertiesManager {
 			// The uri doesn't belong to a Java project
 			return createInfo(file.getProject(), ClasspathKind.NONE);
 		}
-		return getMicroProfileProjectInfo(file, params.getScopes(), utils, params.getDocumentFormat(), progress);
+		String projectName = file.getProject().getName();
+		IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel().getJavaProject(projectName);
+		ClasspathKind classpathKind = JDTMicroProfileUtils.getClasspathKind(file, javaProject);
+		List<Object> key = Arrays.asList(projectName, projectGenerations.getOrDefault(projectName, 0L),
+				params.getScopes(), classpathKind, params.getDocumentFormat(), params.getJavaSourceURIs(),
+				params.isExcludeDescriptions());
+		return projectInfoComputations.compute(key, () -> {
+			MicroProfileProjectInfo info = getMicroProfileProjectInfo(javaProject, params.getScopes(),
+					params.getJavaSourceURIs(), classpathKind, utils, params.getDocumentFormat(), progress);
+			if (params.isExcludeDescriptions()) {
+				// the descriptions are retrieved on demand by the language server
+				PropertyDescriptionsStore.getInstance().excludeDescriptions(info.getProjectURI(),
+						info.getProperties(), MicroProfilePropertiesScope.isOnlySources(params.getScopes()),
+						info.getScannedSourceTypes());
+			}
+			return info;
+		}, progress);
+	}
+
+	/**
+	 * Notify that the classpath or a source of the given project has changed: the
+	 * project info computations in progress for the project are not shared with
+	 * the next callers.
+	 *
+	 * @param projectName the project name.
+	 */
+	public void projectChanged(String projectName) {
+		projectGenerations.merge(projectName, 1L, Long::sum);
+	}
+
+	/**
+	 * Notify that the given project has been closed or deleted: the java projects
+	 * used for the search and the source dependencies of the project are removed
+	 * from the cache.
+	 *
+	 * @param projectName the project name.
+	 */
+	public void projectClosed(String projectName) {
+		searchClasspaths.keySet().removeIf(key -> projectName.equals(key.get(0)));
+		SourceDependencyIndex.getInstance().evict(projectName);
 	}
 
 	public MicroProfileProjectInfo getMicroProfileProjectInfo(IFile file, List<MicroProfilePropertiesScope> scopes,
@@ -110,17 +212,59 @@ public class PropertiesManager {
 		String projectName = file.getProject().getName();
 		IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel().getJavaProject(projectName);
 		ClasspathKind classpathKind = JDTMicroProfileUtils.getClasspathKind(file, javaProject);
-		return getMicroProfileProjectInfo(javaProject, scopes, classpathKind, utils, documentFormat, progress);
+		return getMicroProfileProjectInfo(javaProject, scopes, null, classpathKind, utils, documentFormat, progress);
 	}
 
 	public MicroProfileProjectInfo getMicroProfileProjectInfo(IJavaProject javaProject,
 			List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind, IJDTUtils utils,
 			DocumentFormat documentFormat, IProgressMonitor monitor) throws JavaModelException, CoreException {
+		return getMicroProfileProjectInfo(javaProject, scopes, null, classpathKind, utils, documentFormat, monitor);
+	}
+
+	/**
+	 * Returns the MicroProfile project information of the given Java project.
+	 *
+	 * <p>
+	 * When the scope is only sources and <code>javaSourceURIs</code> is not null,
+	 * only the given Java source files are scanned and the returned project
+	 * information is a delta which contains the
+	 * {@link MicroProfileProjectInfo#getScannedSourceTypes() scanned source
+	 * types}.
+	 * </p>
+	 *
+	 * @param javaProject    the Java project.
+	 * @param scopes         the search scopes.
+	 * @param javaSourceURIs the URIs of the Java source files to scan and null if
+	 *                       all Java source files must be scanned.
+	 * @param classpathKind  the classpath kind.
+	 * @param utils          the JDT LS utilities.
+	 * @param documentFormat the document format.
+	 * @param monitor        the progress monitor.
+	 * @return the MicroProfile project information of the given Java project.
+	 * @throws JavaModelException
+	 * @throws CoreException
+	 */
+	public MicroProfileProjectInfo getMicroProfileProjectInfo(IJavaProject javaProject,
+			List<MicroProfilePropertiesScope> scopes, Set<String> javaSourceURIs, ClasspathKind classpathKind,
+			IJDTUtils utils, DocumentFormat documentFormat, IProgressMonitor monitor)
+			throws JavaModelException, CoreException {
 		MicroProfileProjectInfo info = createInfo(javaProject.getProject(), classpathKind);
 		if (classpathKind == ClasspathKind.NONE) {
 			info.setProperties(Collections.emptyList());
 			return info;
 		}
+		IJavaElement[] javaSources = null;
+		if (javaSourceURIs != null && MicroProfilePropertiesScope.isOnlySources(scopes)) {
+			List<String> scannedSourceTypes = new ArrayList<>();
+			javaSources = getJavaSources(javaSourceURIs, scannedSourceTypes, utils);
+			if (javaSources != null) {
+				// the properties of the sources which depend on the types of the saved Java
+				// files (ex : a class annotated with @ConfigProperties which extends a saved
+				// class) must be collected too.
+				javaSources = addDependentSources(javaProject, javaSources, scannedSourceTypes);
+				info.setScannedSourceTypes(scannedSourceTypes);
+			}
+		}
 		long startTime = System.currentTimeMillis();
 		if (LOGGER.isLoggable(Level.INFO)) {
 			LOGGER.info("Start computing MicroProfile properties for '" + info.getProjectURI() + "' project.");
@@ -142,7 +286,7 @@ public class PropertiesManager {
 			}
 
 			// Step2 (50%) : scan Java classes from the search classpath
-			scanJavaClasses(javaProjectForSearch, excludeTestCode, documentFormat, scopes, info, utils,
+			scanJavaClasses(javaProjectForSearch, excludeTestCode, documentFormat, scopes, javaSources, info, utils,
 					mainMonitor.split(50));
 			if (mainMonitor.isCanceled()) {
 				throw new OperationCanceledException();
@@ -157,6 +301,86 @@ public class PropertiesManager {
 		return info;
 	}
 
+	/**
+	 * Returns the compilation units of the given Java source URIs which exist and
+	 * null if a Java source URI cannot be resolved.
+	 *
+	 * @param javaSourceURIs     the Java source URIs.
+	 * @param scannedSourceTypes the list to fill with the top-level types of the
+	 *                           Java sources (including the types of the deleted
+	 *                           Java sources).
+	 * @param utils              the JDT LS utilities.
+	 * @return the compilation units of the given Java source URIs which exist and
+	 *         null if a Java source URI cannot be resolved.
+	 * @throws JavaModelException
+	 */
+	private static IJavaElement[] getJavaSources(Set<String> javaSourceURIs, List<String> scannedSourceTypes,
+			IJDTUtils utils) throws JavaModelException {
+		List<IJavaElement> javaSources = new ArrayList<>(javaSourceURIs.size());
+		for (String javaSourceURI : javaSourceURIs) {
+			ICompilationUnit unit = utils.resolveCompilationUnit(javaSourceURI);
+			if (unit == null) {
+				return null;
+			}
+			// the primary type is computed from the compilation unit handle, so it's
+			// available even if the Java file has been deleted.
+			String packageName = unit.getParent().getElementName();
+			String primaryTypeName = JavaCore.removeJavaLikeExtension(unit.getElementName());
+			scannedSourceTypes.add(packageName.isEmpty() ? primaryTypeName : packageName + "." + primaryTypeName);
+			if (unit.exists()) {
+				for (IType type : unit.getTypes()) {
+					String typeName = type.getFullyQualifiedName('.');
+					if (!scannedSourceTypes.contains(typeName)) {
+						scannedSourceTypes.add(typeName);
+					}
+				}
+				javaSources.add(unit);
+			}
+		}
+		return javaSources.toArray(new IJavaElement[javaSources.size()]);
+	}
+
+	/**
+	 * Returns the given Java sources with the compilation units of the given Java
+	 * project which depend on their types: the compilation units which reference
+	 * the types and the compilation units of their subtypes. They are found with
+	 * the {@link SourceDependencyIndex} which is updated only for the changed
+	 * compilation units.
+	 *
+	 * @param javaProject        the Java project.
+	 * @param javaSources        the Java sources to scan.
+	 * @param scannedSourceTypes the list to fill with the top-level types of the
+	 *                           dependent compilation units.
+	 * @return the given Java sources with the compilation units which depend on
+	 *         their types.
+	 * @throws JavaModelException
+	 */
+	private static IJavaElement[] addDependentSources(IJavaProject javaProject, IJavaElement[] javaSources,
+			List<String> scannedSourceTypes) throws JavaModelException {
+		if (scannedSourceTypes.isEmpty()) {
+			return javaSources;
+		}
+		Set<IJavaElement> units = new LinkedHashSet<>();
+		Collections.addAll(units, javaSources);
+		// the types of the deleted Java sources are referenced by name
+		units.addAll(SourceDependencyIndex.getInstance().getDependents(javaProject, scannedSourceTypes));
+		if (units.size() == javaSources.length) {
+			return javaSources;
+		}
+		int index = 0;
+		for (IJavaElement unit : units) {
+			if (index++ >= javaSources.length) {
+				for (IType type : ((ICompilationUnit) unit).getTypes()) {
+					String typeName = type.getFullyQualifiedName('.');
+					if (!scannedSourceTypes.contains(typeName)) {
+						scannedSourceTypes.add(typeName);
+					}
+				}
+			}
+		}
+		return units.toArray(new IJavaElement[units.size()]);
+	}
+
 	/**
 	 * Configure the classpath used for the search of MicroProfile properties. At
 	 * this step we can add new JARs to use for the search (ex : for Quarkus we add
@@ -195,6 +419,8 @@ public class PropertiesManager {
 	 * @param documentFormat       the document format to use to format Javadoc (in
 	 *                             Markdown for instance)
 	 * @param scopes               the scopes
+	 * @param javaSources          the Java sources to scan and null if all the
+	 *                             search classpath must be scanned.
 	 * @param info                 the project information to update.
 	 * @param utils                the JDT LS utilities
 	 * @param mainMonitor          the main progress monitor.
@@ -202,8 +428,9 @@ public class PropertiesManager {
 	 * @throws CoreException
 	 */
 	private void scanJavaClasses(IJavaProject javaProjectForSearch, boolean excludeTestCode,
-			DocumentFormat documentFormat, List<MicroProfilePropertiesScope> scopes, MicroProfileProjectInfo info,
-			IJDTUtils utils, SubMonitor mainMonitor) throws JavaModelException, CoreException {
+			DocumentFormat documentFormat, List<MicroProfilePropertiesScope> scopes, IJavaElement[] javaSources,
+			MicroProfileProjectInfo info, IJDTUtils utils, SubMonitor mainMonitor)
+			throws JavaModelException, CoreException {
 		// Create JDT Java search pattern, engine and scope
 		mainMonitor.subTask("Scanning Java classes");
 		SubMonitor subMonitor = mainMonitor.setWorkRemaining(100);
@@ -212,11 +439,41 @@ public class PropertiesManager {
 
 			SearchPattern pattern = createSearchPattern();
 			SearchEngine engine = new SearchEngine();
-			IJavaSearchScope scope = createSearchScope(javaProjectForSearch, scopes, excludeTestCode, subMonitor);
+			PropertiesProviderDispatcher dispatcher = new PropertiesProviderDispatcher(getPropertiesProviders());
+			PropertiesCollector collector = new PropertiesCollector(info, scopes);
+
+			// The properties of the JARs which are cached are merged from the cache and
+			// those JARs are excluded from the search scope, the properties of the other
+			// JARs are recorded to cache them.
+			List<ConfigurationMetadata> cachedMetadata = new ArrayList<>();
+			Map<IPackageFragmentRoot, File> jarsToRecord = new HashMap<>();
+			IJavaSearchScope scope;
+			if (javaSources != null) {
+				scope = SearchEngine.createJavaSearchScope(javaSources, IJavaSearchScope.SOURCES);
+			} else {
+				Set<String> cachedJars = new HashSet<>();
+				if (JarMetadataCache.getInstance().isEnabled()
+						&& scopes.contains(MicroProfilePropertiesScope.dependencies)) {
+					collectCachedJars(javaProjectForSearch, excludeTestCode,
+							createSearchScope(javaProjectForSearch, scopes, excludeTestCode, Collections.emptySet(),
+									subMonitor),
+							documentFormat, cachedMetadata, cachedJars, jarsToRecord);
+				}
+				scope = createSearchScope(javaProjectForSearch, scopes, excludeTestCode, cachedJars, subMonitor);
+			}
 
 			// Execute the search
-			PropertiesCollector collector = new PropertiesCollector(info, scopes);
-			SearchContext context = new SearchContext(javaProjectForSearch, collector, utils, documentFormat, scopes);
+			SearchContext context = new SearchContext(javaProjectForSearch, collector, utils, documentFormat,
+					scopes);
+			JarMetadataRecorder recorder = jarsToRecord.isEmpty() ? null
+					: new JarMetadataRecorder(context, jarsToRecord);
+			// When the dependencies are scanned, the search requestor dispatches the
+			// search matches to the providers which process them in parallel while the
+			// search is running.
+			ParallelMatchProcessor processor = javaSources == null
+					&& !MicroProfilePropertiesScope.isOnlySources(scopes) && isParallelSearch()
+							? new ParallelMatchProcessor(dispatcher, context, recorder, searchExecutor, subMonitor)
+							: null;
 			beginSearch(context, subMonitor);
 			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope,
 					new SearchRequestor() {
@@ -234,16 +491,302 @@ public class PropertiesManager {
 							// class A
 
 							if (!match.isInsideDocComment()) {
-								collectProperties(match, context, subMonitor);
+								if (processor != null) {
+									processor.add(match);
+								} else {
+									dispatcher.collectProperties(match, getContext(match, context, recorder),
+											subMonitor);
+								}
 							}
 						}
 					}, subMonitor);
+			if (processor != null) {
+				processor.finish();
+			}
+
+			// Cache the properties of the searched JARs (even if they don't contain
+			// properties, to exclude them from the next search)
+			if (recorder != null) {
+				for (Map.Entry<IPackageFragmentRoot, File> jar : jarsToRecord.entrySet()) {
+					ConfigurationMetadata metadata = recorder.getRecord(jar.getKey());
+					JarMetadataCache.getInstance().put(jar.getValue(), documentFormat, metadata);
+					cachedMetadata.add(metadata);
+				}
+			}
+			// Merge the properties of the cached and searched JARs before the end of the
+			// search, like the properties of the JARs which are searched without cache.
+			for (ConfigurationMetadata metadata : cachedMetadata) {
+				collector.mergeJarMetadata(metadata);
+			}
 			endSearch(context, subMonitor);
 		} finally {
 			subMonitor.done();
 		}
 	}
 
+	/**
+	 * Collect the cached properties of the JARs of the given search scope.
+	 *
+	 * <p>
+	 * When the classpath of the project changes, only the added and updated JARs
+	 * are searched and the cached properties of the removed JARs are dropped.
+	 * </p>
+	 *
+	 * @param javaProjectForSearch the Java project used for the search.
+	 * @param excludeTestCode      true if test must be excluded and false
+	 *                             otherwise.
+	 * @param scope                the search scope with all the JARs.
+	 * @param documentFormat       the document format.
+	 * @param cachedMetadata       the list to fill with the cached properties of
+	 *                             the JARs.
+	 * @param cachedJars           the set to fill with the paths of the cached
+	 *                             JARs to exclude from the search.
+	 * @param jarsToRecord         the map to fill with the JARs which are not
+	 *                             cached.
+	 * @throws JavaModelException
+	 */
+	private static void collectCachedJars(IJavaProject javaProjectForSearch, boolean excludeTestCode,
+			IJavaSearchScope scope, DocumentFormat documentFormat, List<ConfigurationMetadata> cachedMetadata,
+			Set<String> cachedJars, Map<IPackageFragmentRoot, File> jarsToRecord) throws JavaModelException {
+		String projectName = javaProjectForSearch.getProject().getName();
+		Set<IPackageFragmentRoot> roots = new LinkedHashSet<>();
+		Collections.addAll(roots, javaProjectForSearch.getPackageFragmentRoots());
+		IJavaProject realJavaProject = FakeJavaProject.getRealJavaProject(javaProjectForSearch);
+		if (realJavaProject != javaProjectForSearch) {
+			Collections.addAll(roots, realJavaProject.getPackageFragmentRoots());
+		}
+		Set<File> jars = new HashSet<>();
+		for (IPackageFragmentRoot root : roots) {
+			if (root.getKind() != IPackageFragmentRoot.K_BINARY || !scope.encloses(root)) {
+				continue;
+			}
+			File jar = JarMetadataCache.getJarFile(root);
+			if (jar == null) {
+				continue;
+			}
+			jars.add(jar);
+			ConfigurationMetadata metadata = JarMetadataCache.getInstance().get(jar, documentFormat);
+			if (metadata != null) {
+				cachedMetadata.add(metadata);
+				cachedJars.add(root.getPath().toString());
+				cachedJars.add(root.getPath().toOSString());
+			} else {
+				jarsToRecord.put(root, jar);
+			}
+		}
+		Set<File> removedJars = JarMetadataCache.getInstance().updateClasspath(projectName, excludeTestCode, jars);
+		if (LOGGER.isLoggable(Level.INFO)) {
+			LOGGER.info("Classpath of '" + projectName + "' project: " + jarsToRecord.size() + " JAR(s) to search, "
+					+ (jars.size() - jarsToRecord.size()) + " JAR(s) merged from the cache, " + removedJars.size()
+					+ " JAR(s) removed.");
+		}
+	}
+
+	/**
+	 * Returns the search context to use to process the given search match.
+	 *
+	 * @param match    the search match.
+	 * @param context  the search context.
+	 * @param recorder the recorder of the JARs and null otherwise.
+	 * @return the search context of the JAR of the given search match if the JAR
+	 *         is recorded and the given search context otherwise.
+	 */
+	private static SearchContext getContext(SearchMatch match, SearchContext context,
+			JarMetadataRecorder recorder) {
+		return recorder != null ? recorder.getContext(match) : context;
+	}
+
+	/**
+	 * The buffered collectors of a properties provider for a batch of search
+	 * matches, by collector of the search (the collector of the search and the
+	 * collectors of the recorded JARs). A batch is processed by one thread.
+	 */
+	private static class ProviderBuffers {
+
+		private final Map<IPropertiesCollector, SearchContext> contexts = new IdentityHashMap<>();
+
+		/**
+		 * Returns the search context of the provider for the given search context.
+		 */
+		public SearchContext getContext(SearchContext context) {
+			return contexts.computeIfAbsent(context.getCollector(),
+					collector -> new SearchContext(context, new BufferedPropertiesCollector(collector)));
+		}
+
+		/**
+		 * Apply the properties buffered for the search match with the given index to
+		 * the given collector.
+		 */
+		public void apply(int matchIndex, IPropertiesCollector target) {
+			SearchContext context = contexts.get(target);
+			if (context != null) {
+				((BufferedPropertiesCollector) context.getCollector()).apply(matchIndex, target);
+			}
+		}
+	}
+
+	/**
+	 * Processes the search matches with the properties providers in parallel while
+	 * the search is running.
+	 *
+	 * <p>
+	 * The search matches are dispatched by batches as soon as they are found. Each
+	 * batch is processed by one task of the bounded search executor, with one
+	 * {@link BufferedPropertiesCollector} by provider (one by collector when the
+	 * JARs are recorded), and the batches run in parallel: a provider can process
+	 * several batches of the same search concurrently (see the threading contract
+	 * of {@link IPropertiesProvider}). When the search and all batches are done,
+	 * the buffered properties are applied to the collector of the search context
+	 * in the order of the matches and of the providers, to get the same result as
+	 * a sequential processing.
+	 * </p>
+	 */
+	private static class ParallelMatchProcessor {
+
+		private static final int BATCH_SIZE = 64;
+
+		private final PropertiesProviderDispatcher dispatcher;
+
+		private final SearchContext context;
+
+		private final JarMetadataRecorder recorder;
+
+		private final ExecutorService executor;
+
+		// The progress monitor is not thread-safe, the providers only use it to check
+		// the cancellation
+		private final IProgressMonitor providerMonitor;
+
+		private final List<SearchMatch> matches;
+
+		// the buffers of each provider by batch, null if the provider is not
+		// dispatched
+		private final List<List<ProviderBuffers>> batchBuffers;
+
+		private final List<CompletableFuture<Void>> batches;
+
+		private int batchStart;
+
+		private volatile boolean canceled;
+
+		public ParallelMatchProcessor(PropertiesProviderDispatcher dispatcher, SearchContext context,
+				JarMetadataRecorder recorder, ExecutorService executor, IProgressMonitor monitor) {
+			this.dispatcher = dispatcher;
+			this.context = context;
+			this.recorder = recorder;
+			this.executor = executor;
+			this.providerMonitor = new NullProgressMonitor() {
+
+				@Override
+				public boolean isCanceled() {
+					return canceled || monitor.isCanceled();
+				}
+			};
+			this.matches = new ArrayList<>();
+			this.batchBuffers = new ArrayList<>();
+			this.batches = new ArrayList<>();
+		}
+
+		/**
+		 * Add the given search match, a batch of matches is dispatched to the
+		 * executor when it is full.
+		 *
+		 * @param match the search match.
+		 */
+		public void add(SearchMatch match) {
+			matches.add(match);
+			if (matches.size() - batchStart >= BATCH_SIZE) {
+				dispatchBatch();
+			}
+		}
+
+		/**
+		 * Wait for the providers to process all the search matches and apply the
+		 * buffered properties to the collectors of the search.
+		 */
+		public void finish() {
+			dispatchBatch();
+			try {
+				CompletableFuture.allOf(batches.toArray(new CompletableFuture[batches.size()])).get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				cancel();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw new RuntimeException(cause);
+			}
+
+			// Apply the properties in the order of the search matches, all batches
+			// except the last one have BATCH_SIZE matches
+			for (int i = 0; i < matches.size(); i++) {
+				IPropertiesCollector target = getContext(matches.get(i), context, recorder).getCollector();
+				for (ProviderBuffers providerBuffers : batchBuffers.get(i / BATCH_SIZE)) {
+					if (providerBuffers != null) {
+						providerBuffers.apply(i, target);
+					}
+				}
+			}
+		}
+
+		private void cancel() {
+			canceled = true;
+		}
+
+		private void dispatchBatch() {
+			int start = batchStart;
+			int end = matches.size();
+			if (start == end) {
+				return;
+			}
+			batchStart = end;
+			List<SearchMatch> batch = new ArrayList<>(matches.subList(start, end));
+			int nbProviders = dispatcher.getProviders().size();
+			List<ProviderBuffers> providerBuffers = new ArrayList<>(nbProviders);
+			for (int p = 0; p < nbProviders; p++) {
+				providerBuffers.add(dispatcher.isDispatched(p) ? new ProviderBuffers() : null);
+			}
+			batchBuffers.add(providerBuffers);
+			batches.add(CompletableFuture.runAsync(() -> {
+				try {
+					processBatch(batch, start, providerBuffers);
+				} catch (RuntimeException | Error e) {
+					// stop the other batches
+					cancel();
+					throw e;
+				}
+			}, executor));
+		}
+
+		private void processBatch(List<SearchMatch> batch, int start, List<ProviderBuffers> providerBuffers) {
+			List<IPropertiesProvider> providers = dispatcher.getProviders();
+			for (int j = 0; j < batch.size(); j++) {
+				SearchMatch match = batch.get(j);
+				BitSet indexes = dispatcher.getProviders(match);
+				for (int p = indexes.nextSetBit(0); p >= 0; p = indexes.nextSetBit(p + 1)) {
+					if (providerMonitor.isCanceled()) {
+						throw new OperationCanceledException();
+					}
+					SearchContext providerContext = providerBuffers.get(p)
+							.getContext(getContext(match, context, recorder));
+					((BufferedPropertiesCollector) providerContext.getCollector()).beginMatch(start + j);
+					providers.get(p).collectProperties(match, providerContext, providerMonitor);
+				}
+			}
+		}
+	}
+
+	private static boolean isParallelSearch() {
+		return !"false".equals(System.getProperty(PARALLEL_SEARCH_PROPERTY))
+				&& Runtime.getRuntime().availableProcessors() > 1;
+	}
+
 	private void beginSearch(SearchContext context, IProgressMonitor monitor) {
 		for (IPropertiesProvider provider : getPropertiesProviders()) {
 			provider.beginSearch(context, monitor);
@@ -256,12 +799,6 @@ public class PropertiesManager {
 		}
 	}
 
-	private void collectProperties(SearchMatch match, SearchContext context, IProgressMonitor monitor) {
-		for (IPropertiesProvider provider : getPropertiesProviders()) {
-			provider.collectProperties(match, context, monitor);
-		}
-	}
-
 	private static MicroProfileProjectInfo createInfo(IProject project, ClasspathKind classpathKind) {
 		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
 		info.setProjectURI(JDTMicroProfileUtils.getProjectURI(project));
@@ -273,7 +810,7 @@ public class PropertiesManager {
 	}
 
 	private IJavaSearchScope createSearchScope(IJavaProject project, List<MicroProfilePropertiesScope> scopes,
-			boolean excludeTestCode, IProgressMonitor monitor) throws JavaModelException {
+			boolean excludeTestCode, Set<String> excludedJars, IProgressMonitor monitor) throws JavaModelException {
 		int searchScope = 0;
 		for (MicroProfilePropertiesScope scope : scopes) {
 			switch (scope) {
@@ -290,7 +827,11 @@ public class PropertiesManager {
 			// classpath like Quarkus deployment JARs)
 			FakeJavaProject fakeProject = (FakeJavaProject) project;
 			return createJavaSearchScope(fakeProject, excludeTestCode, fakeProject.getElementsToSearch(scopes),
-					searchScope);
+					searchScope, excludedJars);
+		}
+		if (!excludedJars.isEmpty()) {
+			return createJavaSearchScope(null, excludeTestCode, new IJavaElement[] { project }, searchScope,
+					excludedJars);
 		}
 		// Standard Java Search in the project.
 		// The search scope is used to search in src, jars
@@ -307,6 +848,12 @@ public class PropertiesManager {
 	 * project is created with the origin java project and extras JARs.
 	 * </p>
 	 *
+	 * <p>
+	 * The extra JARs are resolved by the properties providers (ex : with Maven),
+	 * the java project used for search is cached until the resolved classpath of
+	 * the origin java project changes.
+	 * </p>
+	 *
 	 * @param javaProject     the origin java project
 	 * @param excludeTestCode true if test must me excluded and false otherwise.
 	 * @param scopes
@@ -320,17 +867,33 @@ public class PropertiesManager {
 			// The java project is already resolved
 			return javaProject;
 		}
+		List<Object> key = Arrays.asList(javaProject.getElementName(), excludeTestCode, scopes);
+		IClasspathEntry[] resolvedClasspath = ((JavaProject) javaProject).getResolvedClasspath();
+		SearchClasspath searchClasspath = searchClasspaths.get(key);
+		if (searchClasspath != null && Arrays.equals(searchClasspath.resolvedClasspath, resolvedClasspath)) {
+			return searchClasspath.javaProjectForSearch;
+		}
 		SubMonitor mainMonitor = monitor;
-		BuildingScopeContext context = new BuildingScopeContext(javaProject, excludeTestCode, scopes,
+		TrackingArtifactResolver artifactResolver = new TrackingArtifactResolver(
 				ArtifactResolver.DEFAULT_ARTIFACT_RESOLVER);
+		BuildingScopeContext context = new BuildingScopeContext(javaProject, excludeTestCode, scopes,
+				artifactResolver);
 		beginBuildingScope(context, mainMonitor);
 		contributeToClasspath(context, mainMonitor);
 		endBuildingScope(context, mainMonitor);
 		List<IClasspathEntry> searchClasspathEntries = context.getSearchClassPathEntries();
+		IJavaProject javaProjectForSearch = javaProject;
 		if (!searchClasspathEntries.isEmpty()) {
-			return new FakeJavaProject(javaProject, searchClasspathEntries);
+			javaProjectForSearch = new FakeJavaProject(javaProject, searchClasspathEntries);
+		}
+		if (artifactResolver.hasFailed()) {
+			// an extra JAR cannot be resolved (ex : the network is not available), the
+			// java project used for search is not cached to resolve it at the next search
+			searchClasspaths.remove(key);
+		} else {
+			searchClasspaths.put(key, new SearchClasspath(resolvedClasspath, javaProjectForSearch));
 		}
-		return javaProject;
+		return javaProjectForSearch;
 	}
 
 	private void beginBuildingScope(BuildingScopeContext context, IProgressMonitor monitor) {
@@ -376,16 +939,19 @@ public class PropertiesManager {
 	 * This code is the same than
 	 * {@link BasicSearchEngine#createJavaSearchScope(boolean, IJavaElement[], boolean)}.
 	 * It overrides {@link JavaSearchScope#packageFragmentRoot(String, int, String)}
-	 * to search the first the package root (JAR) from the given fake project.
+	 * to search the first the package root (JAR) from the given fake project and
+	 * {@link JavaSearchScope#encloses(String)} to exclude the given JARs (which
+	 * have their properties cached).
 	 *
-	 * @param fakeProject
+	 * @param fakeProject  the fake project and null otherwise.
 	 * @param excludeTestCode
 	 * @param elements
 	 * @param includeMask
+	 * @param excludedJars the paths of the JARs to exclude from the search.
 	 * @return
 	 */
 	private static IJavaSearchScope createJavaSearchScope(IJavaProject fakeProject, boolean excludeTestCode,
-			IJavaElement[] elements, int includeMask) {
+			IJavaElement[] elements, int includeMask, Set<String> excludedJars) {
 		HashSet<JavaProject> projectsToBeAdded = new HashSet<>(2);
 		for (int i = 0, length = elements.length; i < length; i++) {
 			IJavaElement element = elements[i];
@@ -395,9 +961,23 @@ public class PropertiesManager {
 		}
 		JavaSearchScope scope = new JavaSearchScope(excludeTestCode) {
 
+			@Override
+			public boolean encloses(String resourcePathString) {
+				if (!excludedJars.isEmpty()) {
+					int separatorIndex = resourcePathString.indexOf(IJavaSearchScope.JAR_FILE_ENTRY_SEPARATOR);
+					if (separatorIndex != -1 && excludedJars.contains(resourcePathString.substring(0, separatorIndex))) {
+						return false;
+					}
+				}
+				return super.encloses(resourcePathString);
+			}
+
 			@Override
 			public IPackageFragmentRoot packageFragmentRoot(String resourcePathString, int jarSeparatorIndex,
 					String jarPath) {
+				if (fakeProject == null) {
+					return super.packageFragmentRoot(resourcePathString, jarSeparatorIndex, jarPath);
+				}
 				// Search at first in the fake project the package root to avoid creating a non
 				// existing IProject (because fake project doesn't exists)
 				try {
@@ -592,6 +1172,28 @@ public class PropertiesManager {
 		return utils.getJavadoc(member, params.getDocumentFormat());
 	}
 
+	/**
+	 * Returns the descriptions of the given properties which have been excluded
+	 * from the project information (see
+	 * {@link MicroProfileProjectInfoParams#isExcludeDescriptions()}).
+	 *
+	 * @param params   the parameters with the properties file URI and the
+	 *                 property names.
+	 * @param utils    the jdt utils
+	 * @param progress the progress monitor
+	 * @return the descriptions by property name. A property which has no
+	 *         description is not included in the result.
+	 */
+	public Map<String, String> collectPropertyDescriptions(MicroProfilePropertyDescriptionsParams params,
+			IJDTUtils utils, IProgressMonitor progress) {
+		IFile file = utils.findFile(params.getUri());
+		if (file == null) {
+			throw new UnsupportedOperationException(String.format("Cannot find IFile for '%s'", params.getUri()));
+		}
+		String projectURI = JDTMicroProfileUtils.getProjectURI(file.getProject());
+		return PropertyDescriptionsStore.getInstance().getDescriptions(projectURI, params.getPropertyNames());
+	}
+
 	private static String getMonitorTitle(IJavaProject javaProject, String sourceType, String sourceField,
 			String sourceMethod) {
 		StringBuilder title = new StringBuilder("Finding declared property");
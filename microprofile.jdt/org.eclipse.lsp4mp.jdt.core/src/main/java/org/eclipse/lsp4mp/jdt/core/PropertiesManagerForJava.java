@@ -17,10 +17,17 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -45,7 +52,6 @@ import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeLens;
 import org.eclipse.lsp4j.CompletionItem;
@@ -77,6 +83,8 @@ import org.eclipse.lsp4mp.jdt.core.java.hover.JavaHoverContext;
 import org.eclipse.lsp4mp.jdt.core.utils.ASTNodeUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.MicroProfileExecutors;
+import org.eclipse.lsp4mp.jdt.internal.core.java.CompilationUnitASTCache;
 import org.eclipse.lsp4mp.jdt.internal.core.java.JavaFeaturesRegistry;
 import org.eclipse.lsp4mp.jdt.internal.core.java.codeaction.CodeActionHandler;
 import org.eclipse.lsp4mp.jdt.internal.core.java.codelens.JavaCodeLensDefinition;
@@ -102,8 +110,17 @@ public class PropertiesManagerForJava {
 
 	private final CodeActionHandler codeActionHandler;
 
+	// the delay between two checks of the cancellation of a diagnostics request
+	// while it waits for the validation of its Java files
+	private static final long CANCEL_CHECK_DELAY_MILLIS = 100;
+
+	// the executor which collects the diagnostics of the Java files in parallel,
+	// shared by the diagnostics requests
+	private final ExecutorService diagnosticsExecutor;
+
 	private PropertiesManagerForJava() {
 		this.codeActionHandler = new CodeActionHandler();
+		this.diagnosticsExecutor = MicroProfileExecutors.newBoundedExecutor("MicroProfile Java diagnostics");
 	}
 
 	/**
@@ -318,21 +335,115 @@ public class PropertiesManagerForJava {
 			return Collections.emptyList();
 		}
 		DocumentFormat documentFormat = params.getDocumentFormat();
+		List<JavaDiagnosticsDefinition> allDefinitions = JavaFeaturesRegistry.getInstance()
+				.getJavaDiagnosticsDefinitions();
 		List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<PublishDiagnosticsParams>();
 		for (String uri : uris) {
 			List<Diagnostic> diagnostics = new ArrayList<>();
 			PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
 			publishDiagnostics.add(publishDiagnostic);
-			collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics, monitor);
 		}
+		collectDiagnosticsInParallel(publishDiagnostics, utils, documentFormat, params.getSettings(), allDefinitions,
+				monitor);
 		if (monitor.isCanceled()) {
 			return Collections.emptyList();
 		}
 		return publishDiagnostics;
 	}
 
+	/**
+	 * Collect the diagnostics of the Java files in parallel, on the shared executor
+	 * bounded by the number of processors (ex : the language server sends one
+	 * request per opened Java file after a save, to publish the diagnostics of
+	 * each Java file as soon as they are computed).
+	 *
+	 * <p>
+	 * The cancellation of the request is checked while waiting for the
+	 * validations, the pending validations are skipped when the request is
+	 * cancelled.
+	 * </p>
+	 *
+	 * @param publishDiagnostics the diagnostics to fill for each Java file.
+	 * @param utils              the JDT LS utilities.
+	 * @param documentFormat     the document format.
+	 * @param settings           the diagnostics settings.
+	 * @param allDefinitions     the diagnostics definitions.
+	 * @param monitor            the progress monitor.
+	 */
+	private void collectDiagnosticsInParallel(List<PublishDiagnosticsParams> publishDiagnostics, IJDTUtils utils,
+			DocumentFormat documentFormat, MicroProfileJavaDiagnosticsSettings settings,
+			List<JavaDiagnosticsDefinition> allDefinitions, IProgressMonitor monitor) {
+		// The progress monitor is not thread-safe, the participants only use it to
+		// check the cancellation
+		IProgressMonitor fileMonitor = new NullProgressMonitor() {
+
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		List<Future<?>> futures = new ArrayList<>(publishDiagnostics.size());
+		try {
+			for (PublishDiagnosticsParams publishDiagnostic : publishDiagnostics) {
+				futures.add(diagnosticsExecutor.submit(() -> {
+					if (!fileMonitor.isCanceled()) {
+						collectDiagnostics(publishDiagnostic.getUri(), utils, documentFormat, settings,
+								allDefinitions, publishDiagnostic.getDiagnostics(), fileMonitor);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				while (!isDone(future, CANCEL_CHECK_DELAY_MILLIS)) {
+					if (monitor.isCanceled()) {
+						return;
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		} finally {
+			// the Java files which are not validated yet are skipped when a validation
+			// fails or when the request is cancelled
+			for (Future<?> future : futures) {
+				future.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * Returns true if the given future is done after waiting at most the given
+	 * delay and false otherwise.
+	 *
+	 * @param future the future.
+	 * @param delay  the delay in milliseconds.
+	 * @return true if the given future is done after waiting at most the given
+	 *         delay and false otherwise.
+	 * @throws InterruptedException if the current thread was interrupted while
+	 *                              waiting.
+	 * @throws ExecutionException   if the computation threw an exception.
+	 */
+	private static boolean isDone(Future<?> future, long delay) throws InterruptedException, ExecutionException {
+		try {
+			future.get(delay, TimeUnit.MILLISECONDS);
+			return true;
+		} catch (TimeoutException e) {
+			return false;
+		}
+	}
+
 	private void collectDiagnostics(String uri, IJDTUtils utils, DocumentFormat documentFormat,
-			MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics, IProgressMonitor monitor) {
+			MicroProfileJavaDiagnosticsSettings settings, List<JavaDiagnosticsDefinition> allDefinitions,
+			List<Diagnostic> diagnostics, IProgressMonitor monitor) {
 		ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
 		if (typeRoot == null) {
 			return;
@@ -340,8 +451,8 @@ public class PropertiesManagerForJava {
 
 		// Collect all adapted diagnostics participant
 		JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, documentFormat, settings);
-		List<JavaDiagnosticsDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaDiagnosticsDefinitions()
-				.stream().filter(definition -> definition.isAdaptedForDiagnostics(context, monitor))
+		List<JavaDiagnosticsDefinition> definitions = allDefinitions.stream()
+				.filter(definition -> definition.isAdaptedForDiagnostics(context, monitor))
 				.collect(Collectors.toList());
 		if (definitions.isEmpty()) {
 			return;
@@ -413,7 +524,7 @@ public class PropertiesManagerForJava {
 		if (typeRoot == null) {
 			return new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, "");
 		}
-		CompilationUnit ast = ASTResolving.createQuickFixAST((ICompilationUnit) typeRoot, monitor);
+		CompilationUnit ast = CompilationUnitASTCache.getInstance().getAST((ICompilationUnit) typeRoot, monitor);
 
 		JavaCursorContextKind kind = getJavaCursorContextKind(params, typeRoot, ast, utils, monitor);
 		String prefix = getJavaCursorPrefix(params, typeRoot, ast, utils, monitor);
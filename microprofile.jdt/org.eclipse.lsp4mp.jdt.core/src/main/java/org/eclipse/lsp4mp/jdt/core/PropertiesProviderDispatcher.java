@@ -0,0 +1,238 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.IAnnotatable;
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.TypeReferenceMatch;
+import org.eclipse.lsp4mp.jdt.core.utils.JDTTypeUtils;
+
+/**
+ * Dispatcher of the search matches to the properties providers which are
+ * interested by them.
+ *
+ * <p>
+ * Instead of giving each search match to each properties provider (which loop
+ * for the annotations of the matched Java element), an index of the providers
+ * is built once per search:
+ * </p>
+ *
+ * <ul>
+ * <li>by annotation fully qualified name with
+ * {@link IPropertiesProvider#getDispatchedAnnotationNames()}.</li>
+ * <li>by type name with {@link IPropertiesProvider#getDispatchedTypeNames()}.</li>
+ * </ul>
+ *
+ * <p>
+ * The annotations of a matched Java element are read and resolved once to
+ * route the match to the providers of those annotations. The providers which
+ * return an empty array (ex : the static properties providers) don't receive
+ * the search matches and the providers which don't opt-in receive all the
+ * search matches.
+ * </p>
+ *
+ */
+class PropertiesProviderDispatcher {
+
+	private static final Logger LOGGER = Logger.getLogger(PropertiesProviderDispatcher.class.getName());
+
+	private final List<IPropertiesProvider> providers;
+
+	// the indexes of the providers by annotation fully qualified name
+	private final Map<String, BitSet> annotationProviders;
+
+	// the indexes of the providers which are dispatched by annotation
+	private final BitSet allAnnotationProviders;
+
+	// the indexes of the providers by type name
+	private final Map<String, BitSet> typeProviders;
+
+	// the indexes of the providers which receive all the search matches
+	private final BitSet allMatchesProviders;
+
+	// the indexes of the providers which can receive a search match
+	private final BitSet dispatchedProviders;
+
+	public PropertiesProviderDispatcher(List<IPropertiesProvider> providers) {
+		this.providers = providers;
+		this.annotationProviders = new HashMap<>();
+		this.typeProviders = new HashMap<>();
+		this.allAnnotationProviders = new BitSet(providers.size());
+		this.allMatchesProviders = new BitSet(providers.size());
+		for (int i = 0; i < providers.size(); i++) {
+			IPropertiesProvider provider = providers.get(i);
+			String[] annotationNames = provider.getDispatchedAnnotationNames();
+			String[] typeNames = provider.getDispatchedTypeNames();
+			if (annotationNames == null && typeNames == null) {
+				allMatchesProviders.set(i);
+				continue;
+			}
+			if (annotationNames != null) {
+				for (String annotationName : annotationNames) {
+					addProvider(annotationName, i, annotationProviders);
+					allAnnotationProviders.set(i);
+				}
+			}
+			if (typeNames != null) {
+				for (String typeName : typeNames) {
+					addProvider(typeName, i, typeProviders);
+				}
+			}
+		}
+		this.dispatchedProviders = (BitSet) allMatchesProviders.clone();
+		annotationProviders.values().forEach(dispatchedProviders::or);
+		typeProviders.values().forEach(dispatchedProviders::or);
+	}
+
+	/**
+	 * Returns the properties providers.
+	 *
+	 * @return the properties providers.
+	 */
+	public List<IPropertiesProvider> getProviders() {
+		return providers;
+	}
+
+	/**
+	 * Returns true if the provider with the given index can receive a search match
+	 * and false otherwise.
+	 *
+	 * @param providerIndex the provider index.
+	 * @return true if the provider with the given index can receive a search match
+	 *         and false otherwise.
+	 */
+	public boolean isDispatched(int providerIndex) {
+		return dispatchedProviders.get(providerIndex);
+	}
+
+	/**
+	 * Returns the indexes (in the {@link #getProviders() providers list}) of the
+	 * providers which must process the given search match.
+	 *
+	 * @param match the search match.
+	 * @return the indexes of the providers which must process the given search
+	 *         match.
+	 */
+	public BitSet getProviders(SearchMatch match) {
+		BitSet result = (BitSet) allMatchesProviders.clone();
+		Object element = getMatchedElement(match);
+		try {
+			if (!annotationProviders.isEmpty()) {
+				if (element instanceof IAnnotation) {
+					addProviders((IAnnotation) element, result);
+				} else if (element instanceof IAnnotatable && element instanceof IJavaElement) {
+					for (IAnnotation annotation : ((IAnnotatable) element).getAnnotations()) {
+						addProviders(annotation, result);
+					}
+				}
+			}
+			if (!typeProviders.isEmpty() && match.getElement() instanceof IType) {
+				BitSet indexes = typeProviders.get(((IType) match.getElement()).getFullyQualifiedName());
+				if (indexes != null) {
+					result.or(indexes);
+				}
+			}
+		} catch (JavaModelException e) {
+			LOGGER.log(Level.WARNING, "Error while dispatching the search match '" + match.getElement() + "'", e);
+			// the match is given to all providers
+			result.set(0, providers.size());
+		}
+		return result;
+	}
+
+	/**
+	 * Collect the properties of the given search match with the providers which
+	 * are interested by the match, in the order of the providers.
+	 *
+	 * @param match   the search match.
+	 * @param context the search context.
+	 * @param monitor the progress monitor.
+	 */
+	public void collectProperties(SearchMatch match, SearchContext context, IProgressMonitor monitor) {
+		BitSet indexes = getProviders(match);
+		for (int i = indexes.nextSetBit(0); i >= 0; i = indexes.nextSetBit(i + 1)) {
+			providers.get(i).collectProperties(match, context, monitor);
+		}
+	}
+
+	private void addProviders(IAnnotation annotation, BitSet result) throws JavaModelException {
+		String annotationName = resolveAnnotationName(annotation);
+		if (annotationName == null) {
+			// the annotation cannot be resolved, the providers check the annotation
+			result.or(allAnnotationProviders);
+			return;
+		}
+		BitSet indexes = annotationProviders.get(annotationName);
+		if (indexes != null) {
+			result.or(indexes);
+		}
+	}
+
+	private static void addProvider(String key, int index, Map<String, BitSet> providersByKey) {
+		providersByKey.computeIfAbsent(key, k -> new BitSet()).set(index);
+	}
+
+	/**
+	 * Returns the fully qualified name of the given annotation and null if it
+	 * cannot be resolved.
+	 *
+	 * <p>
+	 * When the annotation comes from binary, IAnnotation#getElementName() is the
+	 * fully qualified name (ex :
+	 * 'org.eclipse.microprofile.config.inject.ConfigProperty'), when it comes from
+	 * source, it is the name written in the source (ex : 'ConfigProperty') which
+	 * is resolved with the imports of the declaring type.
+	 * </p>
+	 *
+	 * @param annotation the annotation.
+	 * @return the fully qualified name of the given annotation and null if it
+	 *         cannot be resolved.
+	 * @throws JavaModelException
+	 */
+	private static String resolveAnnotationName(IAnnotation annotation) throws JavaModelException {
+		String annotationName = annotation.getElementName();
+		if (JDTTypeUtils.isBinary(annotation.getParent())) {
+			return annotationName;
+		}
+		IType declaringType = (IType) annotation.getAncestor(IJavaElement.TYPE);
+		return declaringType != null ? JDTTypeUtils.resolveTypeName(declaringType, annotationName) : null;
+	}
+
+	/**
+	 * Returns the element associated with the given match (the same element as
+	 * {@link AbstractAnnotationTypeReferencePropertiesProvider}).
+	 *
+	 * @param match the match
+	 * @return the element associated with the given match.
+	 */
+	private static Object getMatchedElement(SearchMatch match) {
+		if (match instanceof TypeReferenceMatch) {
+			Object localElement = ((TypeReferenceMatch) match).getLocalElement();
+			return localElement != null ? localElement : match.getElement();
+		}
+		return match.getElement();
+	}
+}
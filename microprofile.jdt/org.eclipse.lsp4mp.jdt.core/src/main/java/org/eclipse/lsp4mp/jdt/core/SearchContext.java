@@ -39,6 +39,20 @@ public class SearchContext extends BaseContext {
 		this.documentFormat = documentFormat;
 	}
 
+	/**
+	 * Creates a search context which shares the given search context with another
+	 * properties collector.
+	 *
+	 * @param context   the search context to share.
+	 * @param collector the properties collector.
+	 */
+	public SearchContext(SearchContext context, IPropertiesCollector collector) {
+		super(context);
+		this.collector = collector;
+		this.utils = context.utils;
+		this.documentFormat = context.documentFormat;
+	}
+
 	/**
 	 * Returns the properties collector.
 	 *
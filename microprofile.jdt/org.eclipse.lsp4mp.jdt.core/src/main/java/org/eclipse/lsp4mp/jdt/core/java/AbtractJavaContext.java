@@ -20,8 +20,8 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.java.CompilationUnitASTCache;
 
 /**
  * Abstract class for Java context for a given compilation unit.
@@ -95,7 +95,8 @@ public abstract class AbtractJavaContext {
 	
 	public CompilationUnit getASTRoot() {
 		if (fASTRoot == null) {
-			fASTRoot = ASTResolving.createQuickFixAST((ICompilationUnit) getTypeRoot(), null);
+			// the AST of the compilation unit is shared by the contexts of the requests
+			fASTRoot = CompilationUnitASTCache.getInstance().getAST((ICompilationUnit) getTypeRoot(), null);
 		}
 		return fASTRoot;
 	}
@@ -84,7 +84,7 @@ public abstract class AbstractAnnotationDefinitionParticipant implements IJavaDe
 			throws JavaModelException {
 		// Definition is done only if the annotation is on the classpath
 		IJavaProject javaProject = context.getJavaProject();
-		return JDTTypeUtils.findType(javaProject, annotationName) != null;
+		return JDTTypeUtils.isOnClasspath(javaProject, annotationName);
 	}
 
 	@Override
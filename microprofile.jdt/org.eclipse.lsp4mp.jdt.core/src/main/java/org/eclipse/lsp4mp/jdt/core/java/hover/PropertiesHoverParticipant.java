@@ -120,7 +120,7 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 	public boolean isAdaptedForHover(JavaHoverContext context, IProgressMonitor monitor) throws JavaModelException {
 		// Definition is done only if the annotation is on the classpath
 		IJavaProject javaProject = context.getJavaProject();
-		return JDTTypeUtils.findType(javaProject, annotationName) != null;
+		return JDTTypeUtils.isOnClasspath(javaProject, annotationName);
 	}
 
 	@Override
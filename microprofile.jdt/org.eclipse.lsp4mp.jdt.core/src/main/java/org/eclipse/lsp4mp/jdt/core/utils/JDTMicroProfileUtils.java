@@ -13,8 +13,6 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core.utils;
 
-import java.util.logging.Level;
-import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IProject;
@@ -38,8 +36,6 @@ import org.eclipse.lsp4mp.jdt.core.MicroProfileConfigConstants;
  */
 public class JDTMicroProfileUtils {
 
-	private static final Logger LOGGER = Logger.getLogger(JDTMicroProfileUtils.class.getName());
-
 	private JDTMicroProfileUtils() {
 
 	}
@@ -145,12 +141,7 @@ public class JDTMicroProfileUtils {
 	 * @return true only if <code>javaProject</code> is a MicroProfile project.
 	 */
 	public static boolean isMicroProfileProject(IJavaProject javaProject) {
-		try {
-			return javaProject.findType(MicroProfileConfigConstants.CONFIG_PROPERTY_ANNOTATION) != null;
-		} catch (JavaModelException e) {
-			LOGGER.log(Level.INFO, "Current Java project is not a MicroProfile project", e);
-			return false;
-		}
+		return JDTTypeUtils.isOnClasspath(javaProject, MicroProfileConfigConstants.CONFIG_PROPERTY_ANNOTATION);
 	}
 
 	/**
@@ -33,6 +33,7 @@ import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.lsp4mp.jdt.internal.core.ClasspathTypeCache;
 
 /**
  * JDT Type utilities.
@@ -59,6 +60,25 @@ public class JDTTypeUtils {
 		}
 	}
 
+	/**
+	 * Returns true if the type with the given name is in the classpath of the
+	 * given project and false otherwise.
+	 *
+	 * <p>
+	 * The result is cached until the classpath of the project changes, this method
+	 * must be used to check the presence of a library type (ex : an annotation of
+	 * a MicroProfile specification) and not of a type of the project sources.
+	 * </p>
+	 *
+	 * @param project the Java project.
+	 * @param name    the fully qualified name of the type.
+	 * @return true if the type with the given name is in the classpath of the
+	 *         given project and false otherwise.
+	 */
+	public static boolean isOnClasspath(IJavaProject project, String name) {
+		return ClasspathTypeCache.getInstance().hasType(project, name, typeName -> findType(project, typeName) != null);
+	}
+
 	/**
 	 * Returns the resolved type name of the <code>javaElement</code> and null
 	 * otherwise
@@ -167,6 +187,27 @@ public class JDTTypeUtils {
 		return type != null ? type.getFullyQualifiedName('.') : typeName;
 	}
 
+	/**
+	 * Returns the fully qualified name of the given type name (as written in the
+	 * source of the given type, ex : 'ConfigProperty') resolved in the context of
+	 * the given type and null otherwise.
+	 *
+	 * @param type     the source type which uses the type name.
+	 * @param typeName the type name to resolve.
+	 * @return the fully qualified name of the given type name resolved in the
+	 *         context of the given type and null otherwise.
+	 * @throws JavaModelException
+	 */
+	public static String resolveTypeName(IType type, String typeName) throws JavaModelException {
+		String[][] resolvedTypes = type.resolveType(typeName);
+		if (resolvedTypes == null || resolvedTypes.length == 0) {
+			return null;
+		}
+		String packageName = resolvedTypes[0][0];
+		return packageName == null || packageName.isEmpty() ? resolvedTypes[0][1]
+				: packageName + "." + resolvedTypes[0][1];
+	}
+
 	/**
 	 * Returns true if the given <code>javaElement</code> is from a Java binary, and
 	 * false otherwise
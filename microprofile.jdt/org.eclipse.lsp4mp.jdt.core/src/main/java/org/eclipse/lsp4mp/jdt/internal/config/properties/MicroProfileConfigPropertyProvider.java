@@ -58,6 +58,12 @@ public class MicroProfileConfigPropertyProvider extends AbstractAnnotationTypeRe
 		return ANNOTATION_NAMES;
 	}
 
+	@Override
+	public String[] getDispatchedAnnotationNames() {
+		// the search matches are processed only by the annotations to search
+		return getAnnotationNames();
+	}
+
 	@Override
 	protected void processAnnotation(IJavaElement javaElement, IAnnotation configPropertyAnnotation,
 			String annotationName, SearchContext context, IProgressMonitor monitor) throws JavaModelException {
@@ -0,0 +1,176 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.jdt.core.IPropertiesCollector;
+
+/**
+ * Properties collector used by a properties provider when the search matches
+ * are processed in parallel.
+ *
+ * <p>
+ * The search matches are processed by batches on several threads, a batch
+ * uses one buffered collector by properties provider and is processed by one
+ * thread. The properties and hints collected for a search match are buffered
+ * and applied later to the properties collector of the search, match by match,
+ * in the order of the matches and of the providers. The result is the same as
+ * when the matches are processed sequentially: a hint which was missing when a
+ * provider checked it but which has been created by a previous batch is not
+ * updated when the properties are applied.
+ * </p>
+ *
+ * <p>
+ * The properties collector of the search is only read while the matches are
+ * processed (to know the existing hints).
+ * </p>
+ *
+ */
+public class BufferedPropertiesCollector implements IPropertiesCollector {
+
+	private final IPropertiesCollector collector;
+
+	private final Map<Integer /* match index */, List<Consumer<IPropertiesCollector>>> operations;
+
+	// the hints created by the provider in the previous matches
+	private final Set<String> createdHints;
+
+	private int matchIndex;
+
+	// the hints used by the provider in the current match
+	private final Map<String, ItemHint> matchHints;
+
+	// the hints which didn't exist when the provider checked them in the current
+	// match
+	private final Set<String> missingHints;
+
+	public BufferedPropertiesCollector(IPropertiesCollector collector) {
+		this.collector = collector;
+		this.operations = new HashMap<>();
+		this.createdHints = new HashSet<>();
+		this.matchHints = new HashMap<>();
+		this.missingHints = new HashSet<>();
+	}
+
+	/**
+	 * Start the collect of the properties of the search match with the given
+	 * index.
+	 *
+	 * @param matchIndex the search match index.
+	 */
+	public void beginMatch(int matchIndex) {
+		this.matchIndex = matchIndex;
+		createdHints.addAll(matchHints.keySet());
+		matchHints.clear();
+		missingHints.clear();
+	}
+
+	/**
+	 * Apply the properties and hints collected for the search match with the
+	 * given index to the given collector.
+	 *
+	 * @param matchIndex the search match index.
+	 * @param target     the collector to update.
+	 */
+	public void apply(int matchIndex, IPropertiesCollector target) {
+		List<Consumer<IPropertiesCollector>> matchOperations = operations.remove(matchIndex);
+		if (matchOperations != null) {
+			for (Consumer<IPropertiesCollector> operation : matchOperations) {
+				operation.accept(target);
+			}
+		}
+	}
+
+	@Override
+	public ItemMetadata addItemMetadata(String name, String type, String description, String sourceType,
+			String sourceField, String sourceMethod, String defaultValue, String extensionName, boolean binary,
+			int phase) {
+		ItemMetadata property = PropertiesCollector.createItemMetadata(name, type, description, sourceType,
+				sourceField, sourceMethod, defaultValue, extensionName, binary, phase);
+		ConfigurationMetadata metadata = new ConfigurationMetadata();
+		metadata.setProperties(Collections.singletonList(property));
+		addOperation(target -> target.merge(metadata, MergingStrategy.FORCE));
+		return property;
+	}
+
+	@Override
+	public boolean hasItemHint(String hint) {
+		if (matchHints.containsKey(hint) || createdHints.contains(hint) || collector.hasItemHint(hint)) {
+			return true;
+		}
+		missingHints.add(hint);
+		return false;
+	}
+
+	@Override
+	public ItemHint getItemHint(String hint) {
+		ItemHint itemHint = matchHints.get(hint);
+		if (itemHint != null) {
+			return itemHint;
+		}
+		ItemHint bufferedHint = new ItemHint();
+		bufferedHint.setName(hint);
+		bufferedHint.setValues(new ArrayList<>());
+		matchHints.put(hint, bufferedHint);
+		boolean checkedAsMissing = missingHints.contains(hint);
+		addOperation(target -> {
+			if (checkedAsMissing && target.hasItemHint(hint)) {
+				// the hint has been created by a previous match, when the matches are
+				// processed sequentially, the provider doesn't update it.
+				return;
+			}
+			ItemHint targetHint = target.getItemHint(hint);
+			if (bufferedHint.getDescription() != null) {
+				targetHint.setDescription(bufferedHint.getDescription());
+			}
+			if (bufferedHint.getSourceType() != null) {
+				targetHint.setSourceType(bufferedHint.getSourceType());
+			}
+			if (bufferedHint.getSource() != null) {
+				targetHint.setSource(bufferedHint.getSource());
+			}
+			if (targetHint.getValues() == null) {
+				targetHint.setValues(new ArrayList<>());
+			}
+			targetHint.getValues().addAll(bufferedHint.getValues());
+			if (bufferedHint.getProviders() != null) {
+				if (targetHint.getProviders() == null) {
+					targetHint.setProviders(new ArrayList<>());
+				}
+				targetHint.getProviders().addAll(bufferedHint.getProviders());
+			}
+		});
+		return bufferedHint;
+	}
+
+	@Override
+	public void merge(ConfigurationMetadata metadata, MergingStrategy mergingStrategy) {
+		addOperation(target -> target.merge(metadata, mergingStrategy));
+	}
+
+	private void addOperation(Consumer<IPropertiesCollector> operation) {
+		operations.computeIfAbsent(matchIndex, k -> new ArrayList<>()).add(operation);
+	}
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.io.File;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.lsp4mp.jdt.core.ArtifactResolver;
+import org.eclipse.lsp4mp.jdt.core.MicroProfileCorePlugin;
+import org.osgi.framework.Bundle;
+
+import com.google.gson.Gson;
+
+/**
+ * Artifact resolver which caches the artifacts resolved by another artifact
+ * resolver.
+ *
+ * <p>
+ * The resolution of an artifact (ex : a Quarkus deployment JAR) with Maven is
+ * slow, the resolved JAR paths and dependencies are cached in memory and in
+ * the state location of the plug-in to be reused when the language server is
+ * restarted. A cached JAR path is used only while the JAR exists and the
+ * failed resolutions are not cached.
+ * </p>
+ *
+ * <p>
+ * The SNAPSHOT artifacts are never cached: a SNAPSHOT artifact can be
+ * deployed again with other dependencies.
+ * </p>
+ *
+ */
+public class CachedArtifactResolver implements ArtifactResolver {
+
+	private static final Logger LOGGER = Logger.getLogger(CachedArtifactResolver.class.getName());
+
+	private static final String CACHE_FILE_NAME = "artifacts.json";
+
+	private static final String SNAPSHOT_VERSION_SUFFIX = "-SNAPSHOT";
+
+	private static class ResolvedArtifacts {
+
+		private Map<String, String> artifacts;
+
+		private Map<String, Set<Artifact>> dependencies;
+	}
+
+	private final ArtifactResolver delegate;
+
+	private final Gson gson;
+
+	private ResolvedArtifacts resolved;
+
+	public CachedArtifactResolver(ArtifactResolver delegate) {
+		this.delegate = delegate;
+		this.gson = new Gson();
+	}
+
+	@Override
+	public String getArtifact(Artifact artifact, IProgressMonitor monitor) {
+		if (isSnapshot(artifact)) {
+			return delegate.getArtifact(artifact, monitor);
+		}
+		String key = getKey(artifact);
+		String path;
+		synchronized (this) {
+			path = getResolved().artifacts.get(key);
+		}
+		if (path != null && new File(path).isFile()) {
+			return path;
+		}
+		path = delegate.getArtifact(artifact, monitor);
+		if (path != null) {
+			synchronized (this) {
+				getResolved().artifacts.put(key, path);
+				save();
+			}
+		}
+		return path;
+	}
+
+	@Override
+	public Set<Artifact> getDependencies(Artifact artifact, IProgressMonitor monitor) {
+		if (isSnapshot(artifact)) {
+			return delegate.getDependencies(artifact, monitor);
+		}
+		String key = getKey(artifact);
+		Set<Artifact> dependencies;
+		synchronized (this) {
+			dependencies = getResolved().dependencies.get(key);
+		}
+		if (dependencies != null) {
+			return new LinkedHashSet<>(dependencies);
+		}
+		dependencies = delegate.getDependencies(artifact, monitor);
+		if (dependencies != null && !dependencies.isEmpty()) {
+			// an empty set is returned when the resolution fails
+			synchronized (this) {
+				getResolved().dependencies.put(key, new LinkedHashSet<>(dependencies));
+				save();
+			}
+		}
+		return dependencies;
+	}
+
+	private ResolvedArtifacts getResolved() {
+		if (resolved == null) {
+			resolved = load();
+			if (resolved == null) {
+				resolved = new ResolvedArtifacts();
+			}
+			if (resolved.artifacts == null) {
+				resolved.artifacts = new HashMap<>();
+			}
+			if (resolved.dependencies == null) {
+				resolved.dependencies = new HashMap<>();
+			}
+		}
+		return resolved;
+	}
+
+	private ResolvedArtifacts load() {
+		Path file = getCacheFile();
+		if (file == null || !Files.isRegularFile(file)) {
+			return null;
+		}
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return gson.fromJson(reader, ResolvedArtifacts.class);
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while loading the resolved artifacts '" + file + "'", e);
+			return null;
+		}
+	}
+
+	private void save() {
+		Path file = getCacheFile();
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.createDirectories(file.getParent());
+			// write in a temporary file and move it to never read a partial file
+			Path tmp = Files.createTempFile(file.getParent(), CACHE_FILE_NAME, ".tmp");
+			try {
+				try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+					gson.toJson(resolved, writer);
+				}
+				try {
+					Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(tmp);
+			}
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while saving the resolved artifacts '" + file + "'", e);
+		}
+	}
+
+	private static Path getCacheFile() {
+		try {
+			Bundle bundle = Platform.getBundle(MicroProfileCorePlugin.PLUGIN_ID);
+			if (bundle != null) {
+				return Platform.getStateLocation(bundle).append(CACHE_FILE_NAME).toFile().toPath();
+			}
+		} catch (Exception e) {
+			// the resolved artifacts are stored only in memory
+		}
+		return null;
+	}
+
+	private static boolean isSnapshot(Artifact artifact) {
+		return artifact.getVersion() != null && artifact.getVersion().endsWith(SNAPSHOT_VERSION_SUFFIX);
+	}
+
+	private static String getKey(Artifact artifact) {
+		StringBuilder key = new StringBuilder();
+		key.append(artifact.getGroupId()).append(':').append(artifact.getArtifactId()).append(':')
+				.append(artifact.getVersion());
+		if (artifact.getClassifier() != null) {
+			key.append(':').append(artifact.getClassifier());
+		}
+		return key.toString();
+	}
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.internal.core.JavaProject;
+
+/**
+ * Cache of the presence of types in the classpath of a Java project.
+ *
+ * <p>
+ * The participants check if a type (ex : an annotation of a MicroProfile
+ * specification) is in the classpath of the project on each hover, code lens,
+ * diagnostics, etc. The result of those checks is cached by project while the
+ * resolved classpath of the project doesn't change: a classpath change (add or
+ * remove of a dependency, etc) clears the cache of the project.
+ * </p>
+ *
+ * <p>
+ * JDT keeps the same resolved classpath array while the classpath of the
+ * project doesn't change, so the entries of the classpath are only compared
+ * when the array is not the cached one.
+ * </p>
+ *
+ */
+public class ClasspathTypeCache {
+
+	private static final ClasspathTypeCache INSTANCE = new ClasspathTypeCache();
+
+	public static ClasspathTypeCache getInstance() {
+		return INSTANCE;
+	}
+
+	private static class ProjectTypes {
+
+		private final IClasspathEntry[] resolvedClasspath;
+
+		private final Map<String, Boolean> types;
+
+		public ProjectTypes(IClasspathEntry[] resolvedClasspath) {
+			this(resolvedClasspath, new ConcurrentHashMap<>());
+		}
+
+		public ProjectTypes(IClasspathEntry[] resolvedClasspath, Map<String, Boolean> types) {
+			this.resolvedClasspath = resolvedClasspath;
+			this.types = types;
+		}
+	}
+
+	private final Map<IJavaProject, ProjectTypes> projects;
+
+	private ClasspathTypeCache() {
+		this.projects = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns true if the given type is in the classpath of the given project and
+	 * false otherwise.
+	 *
+	 * @param javaProject the Java project.
+	 * @param typeName    the fully qualified name of the type.
+	 * @param finder      the function which finds the type when its presence is
+	 *                    not cached.
+	 * @return true if the given type is in the classpath of the given project and
+	 *         false otherwise.
+	 */
+	public boolean hasType(IJavaProject javaProject, String typeName, Predicate<String> finder) {
+		if (!(javaProject instanceof JavaProject) || javaProject instanceof FakeJavaProject) {
+			// the fake project used for the search is not cached
+			return finder.test(typeName);
+		}
+		IClasspathEntry[] resolvedClasspath;
+		try {
+			resolvedClasspath = ((JavaProject) javaProject).getResolvedClasspath();
+		} catch (JavaModelException e) {
+			projects.remove(javaProject);
+			return finder.test(typeName);
+		}
+		ProjectTypes projectTypes = projects.get(javaProject);
+		if (projectTypes == null || projectTypes.resolvedClasspath != resolvedClasspath) {
+			if (projectTypes == null || !Arrays.equals(projectTypes.resolvedClasspath, resolvedClasspath)) {
+				// the classpath of the project has changed
+				projectTypes = new ProjectTypes(resolvedClasspath);
+			} else {
+				// the classpath has been resolved again with the same entries, keep the
+				// cached types with the new array
+				projectTypes = new ProjectTypes(resolvedClasspath, projectTypes.types);
+			}
+			projects.put(javaProject, projectTypes);
+		}
+		Boolean hasType = projectTypes.types.get(typeName);
+		if (hasType == null) {
+			hasType = finder.test(typeName);
+			projectTypes.types.put(typeName, hasType);
+		}
+		return hasType;
+	}
+
+	/**
+	 * Clear the cached types of the given project.
+	 *
+	 * @param javaProject the Java project.
+	 */
+	public void evict(IJavaProject javaProject) {
+		projects.remove(javaProject);
+	}
+}
@@ -0,0 +1,443 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.io.File;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.EnumTypeAdapter;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.jdt.core.MicroProfileCorePlugin;
+import org.osgi.framework.Bundle;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Cache of the MicroProfile properties and hints collected in the JARs.
+ *
+ * <p>
+ * The dependency JARs are immutable artifacts, the properties collected in a
+ * JAR are stored by JAR path, size, last modified time and document format, so
+ * they are shared by the projects which have the same JAR in their classpath.
+ * When the classpath of a project changes (ex : dependency bump), only the new
+ * and updated JARs are searched, the properties of the other JARs are merged
+ * from this cache.
+ * </p>
+ *
+ * <p>
+ * The properties of a JAR are stored in a file of the state location of the
+ * plug-in and are loaded from the disk each time they are used, they are not
+ * kept in memory. The cache can be disabled with the
+ * <code>lsp4mp.jarMetadataCache.disabled</code> system property and it is
+ * disabled when the state location is not available.
+ * </p>
+ *
+ * <p>
+ * The JARs of the last search of each project are kept to compute the
+ * difference with the new classpath of the project. The stored properties of
+ * the JARs which have been removed from the classpath are kept to be reused if
+ * the JARs come back to the classpath (ex : switch to another branch and back)
+ * until they are garbage collected: the stored properties of a JAR which is not
+ * in the classpath of a project (or which has been updated since) and which
+ * have not been used since the max age (30 days by default, see the
+ * <code>lsp4mp.jarMetadataCache.maxAge</code> system property) are deleted.
+ * </p>
+ *
+ */
+public class JarMetadataCache {
+
+	private static final Logger LOGGER = Logger.getLogger(JarMetadataCache.class.getName());
+
+	private static final JarMetadataCache INSTANCE = new JarMetadataCache();
+
+	public static final String DISABLED_PROPERTY = "lsp4mp.jarMetadataCache.disabled";
+
+	/**
+	 * The max age in days of the stored properties of a JAR which is no longer in
+	 * the classpath of a project.
+	 */
+	public static final String MAX_AGE_PROPERTY = "lsp4mp.jarMetadataCache.maxAge";
+
+	private static final int DEFAULT_MAX_AGE = 30;
+
+	/**
+	 * The version of the cache entry format, an entry stored with another version
+	 * is ignored.
+	 */
+	private static final int CACHE_VERSION = 3;
+
+	private static final String CACHE_DIR_NAME = "jar-metadata";
+
+	private static final String CLASSPATHS_KEY = "classpaths";
+
+	private static final Type CLASSPATHS_TYPE = new TypeToken<Map<String, Map<Boolean, Set<String>>>>() {
+	}.getType();
+
+	public static JarMetadataCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * The JAR of a cache entry, read without the properties for the garbage
+	 * collection.
+	 */
+	private static class JarEntry {
+
+		int version;
+
+		String path;
+
+		long size;
+
+		long lastModified;
+
+		boolean isEntryOf(File jar) {
+			return version == CACHE_VERSION && jar.getPath().equals(path) && size == jar.length()
+					&& lastModified == jar.lastModified();
+		}
+	}
+
+	private static class JarMetadata extends JarEntry {
+
+		private DocumentFormat documentFormat;
+
+		private ConfigurationMetadata metadata;
+	}
+
+	// the JAR paths of the last search by project and classpath kind, loaded from
+	// the disk on the first update
+	private Map<String /* project name */, Map<Boolean /* exclude test code */, Set<String>>> classpaths;
+
+	private final Gson gson;
+
+	private Path cacheDir;
+
+	private boolean cacheDirResolved;
+
+	private JarMetadataCache() {
+		this.gson = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+	}
+
+	/**
+	 * Returns true if the cache is enabled and false otherwise.
+	 *
+	 * @return true if the cache is enabled and false otherwise.
+	 */
+	public boolean isEnabled() {
+		return !Boolean.getBoolean(DISABLED_PROPERTY) && getCacheDir() != null;
+	}
+
+	/**
+	 * Returns the JAR file of the given package fragment root and null if it is
+	 * not a JAR.
+	 *
+	 * @param root the package fragment root.
+	 * @return the JAR file of the given package fragment root and null if it is
+	 *         not a JAR.
+	 */
+	public static File getJarFile(IPackageFragmentRoot root) {
+		if (!root.isArchive()) {
+			return null;
+		}
+		IResource resource = root.getResource();
+		IPath path = resource != null ? resource.getLocation() : root.getPath();
+		if (path == null) {
+			return null;
+		}
+		File file = path.toFile();
+		return file.isFile() ? file : null;
+	}
+
+	/**
+	 * Returns the properties and hints collected in the given JAR and null if they
+	 * are not cached or if the JAR has changed.
+	 *
+	 * <p>
+	 * A new instance of the metadata is loaded from the disk for each call
+	 * because the project info can be updated after its computation (ex :
+	 * descriptions excluded).
+	 * </p>
+	 *
+	 * @param jar            the JAR file.
+	 * @param documentFormat the document format used for the descriptions.
+	 * @return the properties and hints collected in the given JAR and null
+	 *         otherwise.
+	 */
+	public ConfigurationMetadata get(File jar, DocumentFormat documentFormat) {
+		String key = getKey(jar, documentFormat);
+		Path file = getCacheFile(key);
+		if (file == null || !Files.isRegularFile(file)) {
+			return null;
+		}
+		try {
+			JarMetadata entry;
+			try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+				entry = gson.fromJson(reader, JarMetadata.class);
+			}
+			if (entry == null || !entry.isEntryOf(jar) || entry.documentFormat != documentFormat
+					|| entry.metadata == null) {
+				// the JAR has changed
+				return null;
+			}
+			// the last use of the entry is the last modified time of its file
+			touch(file);
+			return entry.metadata;
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while reading the cached properties of '" + jar + "'", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Store the properties and hints collected in the given JAR.
+	 *
+	 * @param jar            the JAR file.
+	 * @param documentFormat the document format used for the descriptions.
+	 * @param metadata       the properties and hints collected in the JAR.
+	 */
+	public void put(File jar, DocumentFormat documentFormat, ConfigurationMetadata metadata) {
+		JarMetadata entry = new JarMetadata();
+		entry.version = CACHE_VERSION;
+		entry.path = jar.getPath();
+		entry.size = jar.length();
+		entry.lastModified = jar.lastModified();
+		entry.documentFormat = documentFormat;
+		entry.metadata = metadata;
+		save(getKey(jar, documentFormat), gson.toJson(entry));
+	}
+
+	/**
+	 * Update the JARs of the classpath of the given project. The stored
+	 * properties of the JARs which are no longer in the classpath of a project are
+	 * deleted from the disk when they are older than the max age.
+	 *
+	 * @param projectName     the project name.
+	 * @param excludeTestCode true if the test code is excluded from the classpath
+	 *                        and false otherwise.
+	 * @param jars            the JARs of the classpath.
+	 * @return the JARs which have been removed from the classpath since the last
+	 *         update.
+	 */
+	public synchronized Set<File> updateClasspath(String projectName, boolean excludeTestCode, Set<File> jars) {
+		boolean loaded = classpaths != null;
+		Map<Boolean, Set<String>> projectClasspaths = getClasspaths().computeIfAbsent(projectName,
+				k -> new HashMap<>());
+		Set<String> paths = jars.stream().map(File::getPath).collect(Collectors.toCollection(HashSet::new));
+		Set<String> oldPaths = projectClasspaths.put(excludeTestCode, paths);
+		if (!paths.equals(oldPaths)) {
+			save(CLASSPATHS_KEY, gson.toJson(classpaths, CLASSPATHS_TYPE));
+		}
+		Set<File> removedJars = new HashSet<>();
+		if (oldPaths != null) {
+			oldPaths.removeAll(paths);
+			// the JARs of the classpath with the other kind are kept
+			projectClasspaths.values().forEach(oldPaths::removeAll);
+			for (String path : oldPaths) {
+				removedJars.add(new File(path));
+			}
+		}
+		if (!loaded || !removedJars.isEmpty()) {
+			collectGarbage();
+		}
+		return removedJars;
+	}
+
+	private Map<String, Map<Boolean, Set<String>>> getClasspaths() {
+		if (classpaths == null) {
+			String json = load(CLASSPATHS_KEY);
+			if (json != null) {
+				try {
+					classpaths = gson.fromJson(json, CLASSPATHS_TYPE);
+				} catch (Exception e) {
+					LOGGER.log(Level.WARNING, "Error while reading the classpaths of the JAR properties cache", e);
+				}
+			}
+			if (classpaths == null) {
+				classpaths = new HashMap<>();
+			}
+		}
+		return classpaths;
+	}
+
+	/**
+	 * Delete the stored properties which have not been used since the max age of
+	 * the JARs which are not in the classpath of a project or which have been
+	 * updated since.
+	 */
+	private void collectGarbage() {
+		Path dir = getCacheDir();
+		if (dir == null || !Files.isDirectory(dir)) {
+			return;
+		}
+		Set<String> usedPaths = new HashSet<>();
+		classpaths.values().forEach(projectClasspaths -> projectClasspaths.values().forEach(usedPaths::addAll));
+		long maxAge = TimeUnit.DAYS.toMillis(Integer.getInteger(MAX_AGE_PROPERTY, DEFAULT_MAX_AGE));
+		long now = System.currentTimeMillis();
+		String classpathsFileName = CLASSPATHS_KEY + ".json";
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.json")) {
+			for (Path file : files) {
+				if (classpathsFileName.equals(file.getFileName().toString())
+						|| now - Files.getLastModifiedTime(file).toMillis() < maxAge) {
+					continue;
+				}
+				JarEntry entry = null;
+				try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+					// the properties of the entry are skipped
+					entry = gson.fromJson(reader, JarEntry.class);
+				} catch (Exception e) {
+					// the entry is corrupted
+				}
+				if (entry == null || entry.path == null || !usedPaths.contains(entry.path)
+						|| !entry.isEntryOf(new File(entry.path))) {
+					Files.deleteIfExists(file);
+				}
+			}
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while deleting the old cached JAR properties of '" + dir + "'", e);
+		}
+	}
+
+	/**
+	 * Remove all the cached properties.
+	 */
+	public synchronized void clear() {
+		classpaths = null;
+		Path dir = getCacheDir();
+		if (dir == null || !Files.isDirectory(dir)) {
+			return;
+		}
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.json")) {
+			for (Path file : files) {
+				Files.deleteIfExists(file);
+			}
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while deleting the cached JAR properties of '" + dir + "'", e);
+		}
+	}
+
+	private String load(String key) {
+		Path file = getCacheFile(key);
+		if (file == null || !Files.isRegularFile(file)) {
+			return null;
+		}
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			StringBuilder json = new StringBuilder();
+			char[] buffer = new char[8192];
+			int read;
+			while ((read = reader.read(buffer)) != -1) {
+				json.append(buffer, 0, read);
+			}
+			return json.toString();
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while loading the cached JAR properties '" + file + "'", e);
+			return null;
+		}
+	}
+
+	private void save(String key, String json) {
+		Path file = getCacheFile(key);
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.createDirectories(file.getParent());
+			// write in a temporary file and move it to never read a partial entry
+			Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+			try {
+				try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+					writer.write(json);
+				}
+				try {
+					Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(tmp);
+			}
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while saving the cached JAR properties '" + file + "'", e);
+		}
+	}
+
+	private static void touch(Path file) {
+		try {
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while updating the cached JAR properties '" + file + "'", e);
+		}
+	}
+
+	private Path getCacheFile(String key) {
+		Path dir = getCacheDir();
+		return dir != null ? dir.resolve(key + ".json") : null;
+	}
+
+	private synchronized Path getCacheDir() {
+		if (!cacheDirResolved) {
+			cacheDirResolved = true;
+			try {
+				Bundle bundle = Platform.getBundle(MicroProfileCorePlugin.PLUGIN_ID);
+				if (bundle != null) {
+					cacheDir = Platform.getStateLocation(bundle).append(CACHE_DIR_NAME).toFile().toPath();
+				}
+			} catch (Exception e) {
+				// the cache is disabled
+				LOGGER.log(Level.INFO, "The JAR properties cache is disabled, the state location is not available", e);
+			}
+		}
+		return cacheDir;
+	}
+
+	private static String getKey(File jar, DocumentFormat documentFormat) {
+		String id = jar.getPath() + '|' + jar.length() + '|' + jar.lastModified() + '|' + documentFormat;
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hash = digest.digest(id.getBytes(StandardCharsets.UTF_8));
+			StringBuilder key = new StringBuilder(hash.length * 2);
+			for (byte b : hash) {
+				key.append(String.format("%02x", b));
+			}
+			return key.toString();
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(id.hashCode());
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.jdt.core.SearchContext;
+
+/**
+ * Records the properties and hints collected in the JARs which are not cached,
+ * to store them in the {@link JarMetadataCache}.
+ *
+ * <p>
+ * The search matches of a recorded JAR are processed with a search context and
+ * a properties collector of the JAR: the recorded properties and hints of a JAR
+ * are the same as if the JAR was the only searched JAR. The properties and
+ * hints which a provider collects once per search (ex : the
+ * <code>${mp.register.rest.client.class}/mp-rest/url</code> property) are
+ * recorded for each JAR which contributes them and they are merged only once
+ * with {@link PropertiesCollector#mergeJarMetadata(ConfigurationMetadata)}.
+ * </p>
+ *
+ */
+public class JarMetadataRecorder {
+
+	private static class JarRecord {
+
+		private final ConfigurationMetadata metadata;
+
+		private final SearchContext context;
+
+		public JarRecord(SearchContext searchContext) {
+			this.metadata = new ConfigurationMetadata();
+			this.context = new SearchContext(searchContext.getJavaProject(),
+					new PropertiesCollector(metadata, searchContext.getScopes()), searchContext.getUtils(),
+					searchContext.getDocumentFormat(), searchContext.getScopes());
+		}
+	}
+
+	private final SearchContext context;
+
+	private final Map<IPackageFragmentRoot, ?> jarsToRecord;
+
+	// the record of each JAR, a JAR can be recorded by the providers which process
+	// the search matches in parallel
+	private final Map<IPackageFragmentRoot, JarRecord> records;
+
+	/**
+	 * Creates a recorder of the given JARs.
+	 *
+	 * @param context      the search context.
+	 * @param jarsToRecord the JARs to record.
+	 */
+	public JarMetadataRecorder(SearchContext context, Map<IPackageFragmentRoot, ?> jarsToRecord) {
+		this.context = context;
+		this.jarsToRecord = jarsToRecord;
+		this.records = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the search context to use to process the given search match: the
+	 * search context of its JAR if the JAR is recorded and the search context of
+	 * the search otherwise.
+	 *
+	 * @param match the search match.
+	 * @return the search context to use to process the given search match.
+	 */
+	public SearchContext getContext(SearchMatch match) {
+		IPackageFragmentRoot jar = getJar(match);
+		return jar != null ? records.computeIfAbsent(jar, k -> new JarRecord(context)).context : context;
+	}
+
+	/**
+	 * Returns the recorded properties and hints of the given JAR.
+	 *
+	 * @param jar the JAR.
+	 * @return the recorded properties and hints of the given JAR.
+	 */
+	public ConfigurationMetadata getRecord(IPackageFragmentRoot jar) {
+		JarRecord record = records.get(jar);
+		if (record != null) {
+			return record.metadata;
+		}
+		// the JAR has no search match
+		ConfigurationMetadata metadata = new ConfigurationMetadata();
+		metadata.setProperties(new ArrayList<>());
+		metadata.setHints(new ArrayList<>());
+		return metadata;
+	}
+
+	private IPackageFragmentRoot getJar(SearchMatch match) {
+		if (!(match.getElement() instanceof IJavaElement)) {
+			return null;
+		}
+		IJavaElement root = ((IJavaElement) match.getElement()).getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		return root != null && jarsToRecord.containsKey(root) ? (IPackageFragmentRoot) root : null;
+	}
+}
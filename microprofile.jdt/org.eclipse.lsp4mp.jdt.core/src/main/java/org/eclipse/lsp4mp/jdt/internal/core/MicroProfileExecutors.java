@@ -0,0 +1,52 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Factory of the executors shared by the requests of the MicroProfile JDT LS
+ * extension.
+ *
+ */
+public class MicroProfileExecutors {
+
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	private MicroProfileExecutors() {
+	}
+
+	/**
+	 * Returns a new executor bounded by the number of processors, to share between
+	 * the requests. The threads are daemon threads which are stopped when the
+	 * executor is idle.
+	 *
+	 * @param threadName the name of the threads.
+	 * @return a new executor bounded by the number of processors.
+	 */
+	public static ExecutorService newBoundedExecutor(String threadName) {
+		int nbThreads = Runtime.getRuntime().availableProcessors();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(nbThreads, nbThreads, KEEP_ALIVE_SECONDS,
+				TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, threadName);
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+}
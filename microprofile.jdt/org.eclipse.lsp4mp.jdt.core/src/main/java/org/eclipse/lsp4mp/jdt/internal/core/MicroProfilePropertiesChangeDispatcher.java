@@ -0,0 +1,226 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+
+/**
+ * Dispatcher which coalesces the MicroProfile properties change events.
+ *
+ * <p>
+ * A bulk operation (ex : git checkout, Maven refresh) generates an event for
+ * each changed resource. The events are merged by project and are delivered
+ * when no event has been received during the quiet window (and at the latest
+ * after 10 quiet windows), on a single thread:
+ * </p>
+ *
+ * <ul>
+ * <li>a change of the classpath includes the changes of the Java sources and of
+ * the config files of the project
+ * ({@link MicroProfilePropertiesScope#SOURCES_AND_DEPENDENCIES}).</li>
+ * <li>the saved Java sources of a project are merged in one
+ * {@link MicroProfilePropertiesScope#ONLY_SOURCES} event.</li>
+ * <li>the saved config files of a project are merged in one
+ * {@link MicroProfilePropertiesScope#ONLY_CONFIG_FILES} event.</li>
+ * </ul>
+ *
+ * <p>
+ * The projects which have the same change are delivered in the same event,
+ * except for the saved Java sources which are delivered by project.
+ * </p>
+ *
+ */
+public class MicroProfilePropertiesChangeDispatcher {
+
+	/**
+	 * System property to configure the quiet window (in milliseconds) of the
+	 * MicroProfile properties change events.
+	 */
+	public static final String QUIET_WINDOW_PROPERTY = "lsp4mp.propertiesChanged.quietWindow";
+
+	private static final long DEFAULT_QUIET_WINDOW = 200;
+
+	private static final int MAX_QUIET_WINDOWS = 10;
+
+	private static class ProjectChange {
+
+		private boolean dependencies;
+
+		private boolean sources;
+
+		private boolean configFiles;
+
+		// the saved Java sources and null if all Java sources must be scanned
+		private Set<String> javaSourceURIs;
+
+		public void merge(MicroProfilePropertiesChangeEvent event) {
+			List<MicroProfilePropertiesScope> scopes = event.getType();
+			if (scopes == null) {
+				return;
+			}
+			if (scopes.contains(MicroProfilePropertiesScope.dependencies)) {
+				dependencies = true;
+			}
+			if (scopes.contains(MicroProfilePropertiesScope.configfiles)) {
+				configFiles = true;
+			}
+			if (scopes.contains(MicroProfilePropertiesScope.sources)) {
+				if (!sources) {
+					sources = true;
+					javaSourceURIs = event.getJavaSourceURIs() != null ? new HashSet<>(event.getJavaSourceURIs())
+							: null;
+				} else if (javaSourceURIs != null) {
+					if (event.getJavaSourceURIs() != null) {
+						javaSourceURIs.addAll(event.getJavaSourceURIs());
+					} else {
+						javaSourceURIs = null;
+					}
+				}
+			}
+		}
+	}
+
+	private final long quietWindow;
+
+	private final Consumer<MicroProfilePropertiesChangeEvent> deliverer;
+
+	private final ScheduledExecutorService executor;
+
+	private final Map<String /* project URI */, ProjectChange> changes;
+
+	private long firstChangeTime;
+
+	private int generation;
+
+	private boolean scheduled;
+
+	public MicroProfilePropertiesChangeDispatcher(Consumer<MicroProfilePropertiesChangeEvent> deliverer) {
+		this(Long.getLong(QUIET_WINDOW_PROPERTY, DEFAULT_QUIET_WINDOW), deliverer);
+	}
+
+	public MicroProfilePropertiesChangeDispatcher(long quietWindow,
+			Consumer<MicroProfilePropertiesChangeEvent> deliverer) {
+		this.quietWindow = Math.max(0, quietWindow);
+		this.deliverer = deliverer;
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "MicroProfile properties changed");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.changes = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Dispatch the given MicroProfile properties change event.
+	 *
+	 * @param event the MicroProfile properties change event.
+	 */
+	public synchronized void dispatch(MicroProfilePropertiesChangeEvent event) {
+		if (event.getProjectURIs() == null || event.getProjectURIs().isEmpty()) {
+			return;
+		}
+		for (String projectURI : event.getProjectURIs()) {
+			changes.computeIfAbsent(projectURI, k -> new ProjectChange()).merge(event);
+		}
+		long now = System.currentTimeMillis();
+		if (!scheduled) {
+			scheduled = true;
+			firstChangeTime = now;
+		}
+		long delay = Math.max(0, Math.min(quietWindow, firstChangeTime + MAX_QUIET_WINDOWS * quietWindow - now));
+		// the previous scheduled delivery is ignored
+		int currentGeneration = ++generation;
+		executor.schedule(() -> deliver(currentGeneration), delay, TimeUnit.MILLISECONDS);
+	}
+
+	private void deliver(int deliveryGeneration) {
+		List<MicroProfilePropertiesChangeEvent> events;
+		synchronized (this) {
+			if (deliveryGeneration != generation || !scheduled) {
+				return;
+			}
+			scheduled = false;
+			events = createEvents(changes);
+			changes.clear();
+		}
+		for (MicroProfilePropertiesChangeEvent event : events) {
+			deliverer.accept(event);
+		}
+	}
+
+	private static List<MicroProfilePropertiesChangeEvent> createEvents(Map<String, ProjectChange> changes) {
+		MicroProfilePropertiesChangeEvent dependenciesEvent = null;
+		MicroProfilePropertiesChangeEvent sourcesEvent = null;
+		MicroProfilePropertiesChangeEvent configFilesEvent = null;
+		List<MicroProfilePropertiesChangeEvent> javaSourcesEvents = new ArrayList<>();
+		for (Map.Entry<String, ProjectChange> entry : changes.entrySet()) {
+			String projectURI = entry.getKey();
+			ProjectChange change = entry.getValue();
+			if (change.dependencies) {
+				dependenciesEvent = addProject(dependenciesEvent,
+						MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, projectURI);
+				continue;
+			}
+			if (change.sources) {
+				if (change.javaSourceURIs == null) {
+					sourcesEvent = addProject(sourcesEvent, MicroProfilePropertiesScope.ONLY_SOURCES, projectURI);
+				} else {
+					MicroProfilePropertiesChangeEvent event = addProject(null,
+							MicroProfilePropertiesScope.ONLY_SOURCES, projectURI);
+					event.setJavaSourceURIs(change.javaSourceURIs);
+					javaSourcesEvents.add(event);
+				}
+			}
+			if (change.configFiles) {
+				configFilesEvent = addProject(configFilesEvent, MicroProfilePropertiesScope.ONLY_CONFIG_FILES,
+						projectURI);
+			}
+		}
+		List<MicroProfilePropertiesChangeEvent> events = new ArrayList<>();
+		if (dependenciesEvent != null) {
+			events.add(dependenciesEvent);
+		}
+		if (sourcesEvent != null) {
+			events.add(sourcesEvent);
+		}
+		events.addAll(javaSourcesEvents);
+		if (configFilesEvent != null) {
+			events.add(configFilesEvent);
+		}
+		return events;
+	}
+
+	private static MicroProfilePropertiesChangeEvent addProject(MicroProfilePropertiesChangeEvent event,
+			List<MicroProfilePropertiesScope> type, String projectURI) {
+		if (event == null) {
+			event = new MicroProfilePropertiesChangeEvent();
+			event.setType(type);
+			event.setProjectURIs(new HashSet<>());
+		}
+		event.getProjectURIs().add(projectURI);
+		return event;
+	}
+}
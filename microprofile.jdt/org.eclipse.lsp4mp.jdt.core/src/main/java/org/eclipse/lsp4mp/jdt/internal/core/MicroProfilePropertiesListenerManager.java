@@ -13,9 +13,10 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -36,6 +37,7 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.jdt.core.IMicroProfilePropertiesChangedListener;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManager;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
 
@@ -97,6 +99,12 @@ public class MicroProfilePropertiesListenerManager {
 				break;
 			case IJavaElement.JAVA_PROJECT:
 				if (isCreatedOrDeleted(delta) || isClasspathChanged(delta.getFlags())) {
+					// the types of the classpath could have changed
+					ClasspathTypeCache.getInstance().evict((IJavaProject) element);
+					PropertiesManager.getInstance().projectChanged(element.getElementName());
+					if (isClosedOrDeleted(delta)) {
+						PropertiesManager.getInstance().projectClosed(element.getElementName());
+					}
 					if (event == null) {
 						event = new MicroProfilePropertiesChangeEvent();
 						event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
@@ -117,6 +125,10 @@ public class MicroProfilePropertiesListenerManager {
 			return kind == IJavaElementDelta.ADDED || kind == IJavaElementDelta.REMOVED;
 		}
 
+		private boolean isClosedOrDeleted(IJavaElementDelta delta) {
+			return delta.getKind() == IJavaElementDelta.REMOVED || 0 != (delta.getFlags() & IJavaElementDelta.F_CLOSED);
+		}
+
 		private boolean isClasspathChanged(int flags) {
 			return 0 != (flags & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
 					| IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED));
@@ -155,12 +167,17 @@ public class MicroProfilePropertiesListenerManager {
 				IFile file = (IFile) resource;
 				if (isJavaFile(file) && isFileContentChanged(delta)) {
 					// A Java file has been saved
+					PropertiesManager.getInstance().projectChanged(file.getProject().getName());
 					MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
 					event.setType(MicroProfilePropertiesScope.ONLY_SOURCES);
 					event.setProjectURIs(new HashSet<String>());
 					event.getProjectURIs().add(JDTMicroProfileUtils.getProjectURI(file.getProject()));
+					// the saved Java file is given to scan only it
+					event.setJavaSourceURIs(new HashSet<String>());
+					event.getJavaSourceURIs().add(file.getLocationURI().toString());
 					fireAsyncEvent(event);
 				} else if (isConfigSource(file) && isFileContentChanged(delta)) {
+					PropertiesManager.getInstance().projectChanged(file.getProject().getName());
 					MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
 					event.setType(MicroProfilePropertiesScope.ONLY_CONFIG_FILES);
 					event.setProjectURIs(new HashSet<String>());
@@ -176,18 +193,9 @@ public class MicroProfilePropertiesListenerManager {
 			// executed
 			// in background otherwise it breaks everything (JDT LS for Java completion,
 			// hover, etc are broken)
-			CompletableFuture.runAsync(() -> {
-				for (IMicroProfilePropertiesChangedListener listener : listeners) {
-					try {
-						listener.propertiesChanged(event);
-					} catch (Exception e) {
-						if (LOGGER.isLoggable(Level.SEVERE)) {
-							LOGGER.log(Level.SEVERE,
-									"Error while sending LSP 'microprofile/propertiesChanged' notification", e);
-						}
-					}
-				}
-			});
+			// The events are coalesced by project to send one notification for a bulk
+			// operation (ex : git checkout, Maven refresh)
+			dispatcher.dispatch(event);
 		}
 
 		private boolean isJavaFile(IFile file) {
@@ -208,8 +216,28 @@ public class MicroProfilePropertiesListenerManager {
 
 	private final Set<IMicroProfilePropertiesChangedListener> listeners;
 
+	private final MicroProfilePropertiesChangeDispatcher dispatcher;
+
 	private MicroProfilePropertiesListenerManager() {
 		listeners = new HashSet<>();
+		dispatcher = new MicroProfilePropertiesChangeDispatcher(this::firePropertiesChanged);
+	}
+
+	private void firePropertiesChanged(MicroProfilePropertiesChangeEvent event) {
+		List<IMicroProfilePropertiesChangedListener> currentListeners;
+		synchronized (listeners) {
+			currentListeners = new ArrayList<>(listeners);
+		}
+		for (IMicroProfilePropertiesChangedListener listener : currentListeners) {
+			try {
+				listener.propertiesChanged(event);
+			} catch (Exception e) {
+				if (LOGGER.isLoggable(Level.SEVERE)) {
+					LOGGER.log(Level.SEVERE, "Error while sending LSP 'microprofile/propertiesChanged' notification",
+							e);
+				}
+			}
+		}
 	}
 
 	/**
@@ -14,10 +14,12 @@
 package org.eclipse.lsp4mp.jdt.internal.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.function.Function;
 
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
@@ -34,10 +36,110 @@ import org.eclipse.lsp4mp.jdt.core.IPropertiesCollector;
  */
 public class PropertiesCollector implements IPropertiesCollector {
 
+	/**
+	 * Index of the positions of the items of a list by name, used to find the
+	 * existing item of a merged item without looping over the list.
+	 *
+	 * <p>
+	 * The index is updated lazily with the items which are added at the end of the
+	 * list (ex : by {@link IPropertiesCollector#addItemMetadata} or by a provider
+	 * which adds a value to a hint). A removed item is replaced with null to keep
+	 * the positions of the other items and the list is compacted at the end of the
+	 * merge.
+	 * </p>
+	 *
+	 * @param <T> the item type.
+	 */
+	private static class NameIndex<T> {
+
+		private final Function<T, String> nameProvider;
+
+		private final Map<String, List<Integer>> positions;
+
+		private List<T> indexedItems;
+
+		private int indexedSize;
+
+		private boolean hasRemovedItems;
+
+		public NameIndex(Function<T, String> nameProvider) {
+			this.nameProvider = nameProvider;
+			this.positions = new HashMap<>();
+		}
+
+		/**
+		 * Returns the position of the first item of the given list which has the
+		 * given name and -1 otherwise.
+		 */
+		public int indexOf(String name, List<T> items) {
+			update(items);
+			if (name == null) {
+				return -1;
+			}
+			List<Integer> itemPositions = positions.get(name);
+			return itemPositions == null || itemPositions.isEmpty() ? -1 : itemPositions.get(0);
+		}
+
+		/**
+		 * Returns the positions of the items of the given list which have the given
+		 * name.
+		 */
+		public List<Integer> indexesOf(String name, List<T> items) {
+			update(items);
+			List<Integer> itemPositions = name != null ? positions.get(name) : null;
+			return itemPositions != null ? itemPositions : Collections.emptyList();
+		}
+
+		/**
+		 * Remove the item at the given position which is the first item with its
+		 * name.
+		 */
+		public void remove(int index, List<T> items) {
+			positions.get(nameProvider.apply(items.get(index))).remove(0);
+			items.set(index, null);
+			hasRemovedItems = true;
+		}
+
+		/**
+		 * Remove the null items of the removed items.
+		 */
+		public void compact(List<T> items) {
+			if (hasRemovedItems) {
+				items.removeIf(Objects::isNull);
+				clear();
+			}
+		}
+
+		private void update(List<T> items) {
+			if (items != indexedItems || items.size() < indexedSize) {
+				clear();
+				indexedItems = items;
+			}
+			for (int i = indexedSize; i < items.size(); i++) {
+				T item = items.get(i);
+				String name = item != null ? nameProvider.apply(item) : null;
+				if (name != null) {
+					positions.computeIfAbsent(name, k -> new ArrayList<>(1)).add(i);
+				}
+			}
+			indexedSize = items.size();
+		}
+
+		private void clear() {
+			positions.clear();
+			indexedSize = 0;
+			hasRemovedItems = false;
+		}
+	}
+
 	private final ConfigurationMetadata configuration;
 
 	private final Map<String, ItemHint> hintsCache;
 
+	private final NameIndex<ItemMetadata> propertiesIndex;
+
+	private final Map<String /* hint name */, NameIndex<ValueHint>> valuesIndexes;
+
 	private final boolean onlySources;
 
 	public PropertiesCollector(ConfigurationMetadata configuration, List<MicroProfilePropertiesScope> scopes) {
@@ -45,6 +147,8 @@ public class PropertiesCollector implements IPropertiesCollector {
 		this.configuration.setProperties(new ArrayList<>());
 		this.configuration.setHints(new ArrayList<>());
 		this.hintsCache = new HashMap<>();
+		this.propertiesIndex = new NameIndex<>(ItemMetadata::getName);
+		this.valuesIndexes = new HashMap<>();
 		this.onlySources = MicroProfilePropertiesScope.isOnlySources(scopes);
 	}
 
@@ -52,6 +156,21 @@ public class PropertiesCollector implements IPropertiesCollector {
 	public ItemMetadata addItemMetadata(String name, String type, String description, String sourceType,
 			String sourceField, String sourceMethod, String defaultValue, String extensionName, boolean binary,
 			int phase) {
+		ItemMetadata property = createItemMetadata(name, type, description, sourceType, sourceField, sourceMethod,
+				defaultValue, extensionName, binary, phase);
+		configuration.getProperties().add(property);
+		return property;
+	}
+
+	/**
+	 * Returns a new item metadata.
+	 *
+	 * @see IPropertiesCollector#addItemMetadata(String, String, String, String,
+	 *      String, String, String, String, boolean, int)
+	 */
+	static ItemMetadata createItemMetadata(String name, String type, String description, String sourceType,
+			String sourceField, String sourceMethod, String defaultValue, String extensionName, boolean binary,
+			int phase) {
 		ItemMetadata property = new ItemMetadata();
 		property.setName(name);
 		property.setType(type);
@@ -69,8 +188,6 @@ public class PropertiesCollector implements IPropertiesCollector {
 		}
 		property.setPhase(phase);
 		property.setRequired(defaultValue == null);
-
-		configuration.getProperties().add(property);
 		return property;
 	}
 
@@ -99,6 +216,7 @@ public class PropertiesCollector implements IPropertiesCollector {
 			for (ItemMetadata property : properties) {
 				merge(property, mergingStrategy);
 			}
+			propertiesIndex.compact(configuration.getProperties());
 		}
 		List<ItemHint> hints = metadata.getHints();
 		if (hints != null) {
@@ -108,6 +226,80 @@ public class PropertiesCollector implements IPropertiesCollector {
 		}
 	}
 
+	/**
+	 * Merge the properties and hints collected in a JAR.
+	 *
+	 * <p>
+	 * The properties and hints of a JAR are collected as if the JAR was the only
+	 * searched JAR, the properties which are collected once per search (ex : the
+	 * <code>${mp.register.rest.client.class}/mp-rest/url</code> property) can be
+	 * collected by several JARs. A property is ignored if a property with the same
+	 * name and source type exists, a hint value is ignored if the hint has a value
+	 * with the same value and source type.
+	 * </p>
+	 *
+	 * @param metadata the properties and hints collected in a JAR.
+	 */
+	public void mergeJarMetadata(ConfigurationMetadata metadata) {
+		List<ItemMetadata> properties = metadata.getProperties();
+		if (properties != null) {
+			for (ItemMetadata property : properties) {
+				if (!hasProperty(property.getName(), property.getSourceType())) {
+					merge(property, MergingStrategy.FORCE);
+				}
+			}
+		}
+		List<ItemHint> hints = metadata.getHints();
+		if (hints != null) {
+			for (ItemHint itemHint : hints) {
+				ItemHint existingItemHint = getItemHint(itemHint.getName());
+				if (itemHint.getValues() != null) {
+					for (ValueHint value : itemHint.getValues()) {
+						if (!hasValue(existingItemHint, value.getValue(), value.getSourceType())) {
+							existingItemHint.getValues().add(value);
+						}
+					}
+				}
+				if (itemHint.getProviders() != null) {
+					if (existingItemHint.getProviders() == null) {
+						existingItemHint.setProviders(new ArrayList<>());
+					}
+					existingItemHint.getProviders().addAll(itemHint.getProviders());
+				}
+				if (existingItemHint.getSourceType() == null) {
+					existingItemHint.setDescription(itemHint.getDescription());
+					existingItemHint.setSourceType(itemHint.getSourceType());
+					existingItemHint.setSource(itemHint.getSource());
+				}
+			}
+		}
+	}
+
+	private boolean hasProperty(String name, String sourceType) {
+		List<ItemMetadata> existingProperties = configuration.getProperties();
+		for (int index : propertiesIndex.indexesOf(name, existingProperties)) {
+			if (Objects.equals(sourceType, existingProperties.get(index).getSourceType())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean hasValue(ItemHint itemHint, String value, String sourceType) {
+		if (itemHint.getValues() == null) {
+			itemHint.setValues(new ArrayList<>());
+		}
+		List<ValueHint> values = itemHint.getValues();
+		NameIndex<ValueHint> valuesIndex = valuesIndexes.computeIfAbsent(itemHint.getName(),
+				k -> new NameIndex<>(ValueHint::getValue));
+		for (int index : valuesIndex.indexesOf(value, values)) {
+			if (Objects.equals(sourceType, values.get(index).getSourceType())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	// --------------- Properties merge
 
 	private void merge(ItemMetadata property, MergingStrategy mergingStrategy) {
@@ -130,22 +322,20 @@ public class PropertiesCollector implements IPropertiesCollector {
 	}
 
 	private void mergeWithIgnoreIfExists(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
+		if (getExistingPropertyIndex(property) != -1) {
 			return;
 		}
 		addProperty(property);
 	}
 
-	private Optional<ItemMetadata> getExistingProperty(ItemMetadata property) {
-		List<ItemMetadata> configProperties = configuration.getProperties();
-		return configProperties.stream().filter(cp -> cp.getName().equals(property.getName())).findFirst();
+	private int getExistingPropertyIndex(ItemMetadata property) {
+		return propertiesIndex.indexOf(property.getName(), configuration.getProperties());
 	}
 
 	private void mergeWithReplace(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
-			configuration.getProperties().remove(configProperty.get());
+		int index = getExistingPropertyIndex(property);
+		if (index != -1) {
+			propertiesIndex.remove(index, configuration.getProperties());
 		}
 		addProperty(property);
 	}
@@ -167,35 +357,39 @@ public class PropertiesCollector implements IPropertiesCollector {
 		}
 	}
 
-	private static void merge(List<ValueHint> from, ItemHint to, MergingStrategy mergingStrategy) {
+	private void merge(List<ValueHint> from, ItemHint to, MergingStrategy mergingStrategy) {
 		if (from == null || from.isEmpty()) {
 			return;
 		}
 		if (to.getValues() == null) {
 			to.setValues(new ArrayList<>());
 		}
+		List<ValueHint> values = to.getValues();
+		if (mergingStrategy == MergingStrategy.FORCE) {
+			values.addAll(from);
+			return;
+		}
+		NameIndex<ValueHint> valuesIndex = valuesIndexes.computeIfAbsent(to.getName(),
+				k -> new NameIndex<>(ValueHint::getValue));
 		for (ValueHint fromValue : from) {
+			int index = valuesIndex.indexOf(fromValue.getValue(), values);
 			switch (mergingStrategy) {
 			case IGNORE_IF_EXISTS:
-				if (!getExistingValue(fromValue.getValue(), to.getValues()).isPresent()) {
-					to.getValues().add(fromValue);
+				if (index == -1) {
+					values.add(fromValue);
 				}
 				break;
 			case REPLACE:
-				Optional<ValueHint> existingValue = getExistingValue(fromValue.getValue(), to.getValues());
-				if (existingValue.isPresent()) {
-					to.getValues().remove(existingValue.get());
+				if (index != -1) {
+					valuesIndex.remove(index, values);
 				}
-				to.getValues().add(fromValue);
+				values.add(fromValue);
 				break;
 			default:
-				to.getValues().add(fromValue);
+				values.add(fromValue);
 			}
 		}
-	}
-
-	private static Optional<ValueHint> getExistingValue(String name, List<ValueHint> values) {
-		return values.stream().filter(cp -> cp.getValue().equals(name)).findFirst();
+		valuesIndex.compact(values);
 	}
 
 	private ItemHint getExistingItemHint(String hint) {
@@ -0,0 +1,195 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+
+/**
+ * Store of the property descriptions which have been excluded from the
+ * MicroProfile project information sent to the language server.
+ *
+ * <p>
+ * When the language server asks to exclude descriptions, the descriptions are
+ * removed from the collected properties and kept in this store by project URI.
+ * The language server retrieves them on demand (hover, completion resolve)
+ * with the "microprofile/propertyDescriptions" command.
+ * </p>
+ *
+ * <p>
+ * The descriptions of the properties declared in Java sources are stored with
+ * their source type, to replace only the descriptions of the scanned Java
+ * sources when the properties are collected only from Java sources.
+ * </p>
+ *
+ */
+public class PropertyDescriptionsStore {
+
+	private static final PropertyDescriptionsStore INSTANCE = new PropertyDescriptionsStore();
+
+	public static PropertyDescriptionsStore getInstance() {
+		return INSTANCE;
+	}
+
+	private static class SourceDescription {
+
+		private final String sourceType;
+
+		private final String description;
+
+		public SourceDescription(String sourceType, String description) {
+			this.sourceType = sourceType;
+			this.description = description;
+		}
+	}
+
+	private static class ProjectDescriptions {
+
+		// the descriptions of the properties declared in JARs by property name
+		private final Map<String, String> binaryDescriptions;
+
+		// the descriptions of the properties declared in Java sources by property name
+		private final Map<String, SourceDescription> sourceDescriptions;
+
+		public ProjectDescriptions(Map<String, String> binaryDescriptions,
+				Map<String, SourceDescription> sourceDescriptions) {
+			this.binaryDescriptions = binaryDescriptions;
+			this.sourceDescriptions = sourceDescriptions;
+		}
+	}
+
+	private final Map<String, ProjectDescriptions> descriptionsByProject;
+
+	private PropertyDescriptionsStore() {
+		descriptionsByProject = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Move the descriptions of the given properties to the store.
+	 *
+	 * <p>
+	 * The descriptions of dynamic properties (ex :
+	 * '${mp.register.rest.client.class}/mp-rest/url') are kept in the properties
+	 * because the language server copies them in the properties that it expands.
+	 * </p>
+	 *
+	 * @param projectURI         the project URI.
+	 * @param properties         the collected properties.
+	 * @param onlySources        true if the properties have been collected only
+	 *                           from Java sources (the stored descriptions of the
+	 *                           Java sources are replaced) and false otherwise
+	 *                           (all the stored descriptions are replaced).
+	 * @param scannedSourceTypes the scanned source types when only some Java
+	 *                           sources have been scanned (only the stored
+	 *                           descriptions of those types are replaced) and
+	 *                           null otherwise.
+	 */
+	public void excludeDescriptions(String projectURI, List<ItemMetadata> properties, boolean onlySources,
+			List<String> scannedSourceTypes) {
+		if (projectURI == null || properties == null) {
+			return;
+		}
+		Map<String, String> binaryDescriptions = new HashMap<>();
+		Map<String, SourceDescription> sourceDescriptions = new HashMap<>();
+		for (ItemMetadata property : properties) {
+			String name = property.getName();
+			String description = property.getDescription();
+			if (name == null || description == null || name.contains("${")) {
+				continue;
+			}
+			if (property.isBinary()) {
+				binaryDescriptions.putIfAbsent(name, description);
+			} else {
+				sourceDescriptions.putIfAbsent(name, new SourceDescription(property.getSourceType(), description));
+			}
+			property.setDescription(null);
+		}
+		if (!onlySources) {
+			descriptionsByProject.put(projectURI, new ProjectDescriptions(new ConcurrentHashMap<>(binaryDescriptions),
+					new ConcurrentHashMap<>(sourceDescriptions)));
+			return;
+		}
+		descriptionsByProject.compute(projectURI, (k, oldDescriptions) -> {
+			if (oldDescriptions == null) {
+				return new ProjectDescriptions(new ConcurrentHashMap<>(binaryDescriptions),
+						new ConcurrentHashMap<>(sourceDescriptions));
+			}
+			// the binary descriptions collected with the Java sources (ex : a JAR type
+			// used by a source property) are merged
+			oldDescriptions.binaryDescriptions.putAll(binaryDescriptions);
+			if (scannedSourceTypes == null) {
+				oldDescriptions.sourceDescriptions.clear();
+			} else {
+				oldDescriptions.sourceDescriptions.values()
+						.removeIf(description -> isFromScannedSources(description.sourceType, scannedSourceTypes));
+			}
+			oldDescriptions.sourceDescriptions.putAll(sourceDescriptions);
+			return oldDescriptions;
+		});
+	}
+
+	private static boolean isFromScannedSources(String sourceType, List<String> scannedSourceTypes) {
+		if (sourceType == null) {
+			return false;
+		}
+		for (String scannedSourceType : scannedSourceTypes) {
+			// the scanned source type or one of its nested types
+			if (sourceType.startsWith(scannedSourceType) && (sourceType.length() == scannedSourceType.length()
+					|| sourceType.charAt(scannedSourceType.length()) == '.')) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the stored descriptions of the given property names for the given
+	 * project URI. A property which has no stored description is not included in
+	 * the result.
+	 *
+	 * @param projectURI    the project URI.
+	 * @param propertyNames the property names.
+	 * @return the stored descriptions by property name.
+	 */
+	public Map<String, String> getDescriptions(String projectURI, Collection<String> propertyNames) {
+		Map<String, String> result = new HashMap<>();
+		ProjectDescriptions descriptions = descriptionsByProject.get(projectURI);
+		if (descriptions == null || propertyNames == null) {
+			return result;
+		}
+		for (String propertyName : propertyNames) {
+			SourceDescription sourceDescription = descriptions.sourceDescriptions.get(propertyName);
+			String description = sourceDescription != null ? sourceDescription.description
+					: descriptions.binaryDescriptions.get(propertyName);
+			if (description != null) {
+				result.put(propertyName, description);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Remove the stored descriptions of the given project URI.
+	 *
+	 * @param projectURI the project URI.
+	 */
+	public void clear(String projectURI) {
+		descriptionsByProject.remove(projectURI);
+	}
+}
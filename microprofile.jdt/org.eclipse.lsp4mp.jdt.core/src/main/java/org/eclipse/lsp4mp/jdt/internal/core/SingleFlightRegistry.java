@@ -0,0 +1,127 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Registry of the computations in progress, to share a computation between
+ * the callers which ask for the same key at the same time.
+ *
+ * <p>
+ * The first caller computes the result, the other callers wait for it. When
+ * the computation is done, it is removed from the registry: a new call starts
+ * a new computation. When the computation of the first caller is cancelled,
+ * the waiting callers which are not cancelled start a new computation.
+ * </p>
+ *
+ * @param <K> the key type.
+ * @param <V> the result type.
+ */
+public class SingleFlightRegistry<K, V> {
+
+	private static final long WAIT_DELAY = 100;
+
+	/**
+	 * A computation.
+	 *
+	 * @param <V> the result type.
+	 */
+	@FunctionalInterface
+	public interface Computation<V> {
+
+		V compute() throws CoreException;
+	}
+
+	private final Map<K, CompletableFuture<V>> inFlight;
+
+	public SingleFlightRegistry() {
+		this.inFlight = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the result of the computation in progress for the given key and
+	 * the result of the given computation if there is none.
+	 *
+	 * @param key         the key.
+	 * @param computation the computation.
+	 * @param monitor     the progress monitor of the caller.
+	 * @return the result of the computation in progress for the given key and the
+	 *         result of the given computation if there is none.
+	 * @throws CoreException
+	 */
+	public V compute(K key, Computation<V> computation, IProgressMonitor monitor) throws CoreException {
+		while (true) {
+			CompletableFuture<V> future = new CompletableFuture<>();
+			CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+			if (existing == null) {
+				try {
+					V result = computation.compute();
+					future.complete(result);
+					return result;
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+					throw e;
+				} finally {
+					inFlight.remove(key, future);
+				}
+			}
+			try {
+				return waitFor(existing, monitor);
+			} catch (OperationCanceledException e) {
+				if (monitor != null && monitor.isCanceled()) {
+					throw e;
+				}
+				// the computation of the other caller has been cancelled, compute it again
+			}
+		}
+	}
+
+	private static <V> V waitFor(CompletableFuture<V> future, IProgressMonitor monitor) throws CoreException {
+		while (true) {
+			if (monitor != null && monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			try {
+				return future.get(WAIT_DELAY, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check the cancellation and wait again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof CoreException) {
+					throw (CoreException) cause;
+				}
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw new RuntimeException(cause);
+			}
+		}
+	}
+}
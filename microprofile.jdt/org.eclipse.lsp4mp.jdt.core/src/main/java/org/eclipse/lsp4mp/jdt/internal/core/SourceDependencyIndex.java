@@ -0,0 +1,220 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
+
+/**
+ * Index of the dependencies between the compilation units of the projects, to
+ * find the compilation units whose properties depend on the saved Java files
+ * without a type hierarchy or a search on the whole project.
+ *
+ * <p>
+ * The index stores for each compilation unit the simple names of its super
+ * types and of the types of its fields and methods, computed from the
+ * compilation unit only. An entry is computed again only when the modification
+ * stamp of its file changes. The simple names are used because a compilation
+ * unit can reference a type without import (same package): a compilation unit
+ * which references another type with the same simple name is found too.
+ * </p>
+ *
+ */
+public class SourceDependencyIndex {
+
+	private static final SourceDependencyIndex INSTANCE = new SourceDependencyIndex();
+
+	public static SourceDependencyIndex getInstance() {
+		return INSTANCE;
+	}
+
+	private static class UnitDependencies {
+
+		private final long modificationStamp;
+
+		private final Set<String> superTypes;
+
+		private final Set<String> referencedTypes;
+
+		public UnitDependencies(long modificationStamp, Set<String> superTypes, Set<String> referencedTypes) {
+			this.modificationStamp = modificationStamp;
+			this.superTypes = superTypes;
+			this.referencedTypes = referencedTypes;
+		}
+	}
+
+	// the dependencies of the compilation units by project name
+	private final Map<String, Map<ICompilationUnit, UnitDependencies>> projects;
+
+	private SourceDependencyIndex() {
+		this.projects = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the compilation units of the given Java project which depend on the
+	 * given types: the compilation units which reference the types and the
+	 * compilation units of their subtypes (ex : the superclass chains of a
+	 * <code>@ConfigProperties</code> class).
+	 *
+	 * @param javaProject the Java project.
+	 * @param typeNames   the fully qualified names of the types.
+	 * @return the compilation units of the given Java project which depend on the
+	 *         given types.
+	 * @throws JavaModelException
+	 */
+	public Set<ICompilationUnit> getDependents(IJavaProject javaProject, Collection<String> typeNames)
+			throws JavaModelException {
+		Map<ICompilationUnit, UnitDependencies> units = update(javaProject);
+		Set<String> referencedTypes = new HashSet<>();
+		for (String typeName : typeNames) {
+			referencedTypes.add(getSimpleName(typeName));
+		}
+		Set<ICompilationUnit> dependents = new LinkedHashSet<>();
+		for (Map.Entry<ICompilationUnit, UnitDependencies> entry : units.entrySet()) {
+			if (intersects(entry.getValue().referencedTypes, referencedTypes)) {
+				dependents.add(entry.getKey());
+			}
+		}
+		// the subtypes of the subtypes
+		Set<String> superTypes = new HashSet<>(referencedTypes);
+		Deque<String> types = new ArrayDeque<>(superTypes);
+		while (!types.isEmpty()) {
+			String type = types.pop();
+			for (Map.Entry<ICompilationUnit, UnitDependencies> entry : units.entrySet()) {
+				if (entry.getValue().superTypes.contains(type)) {
+					dependents.add(entry.getKey());
+					for (IType subtype : entry.getKey().getTypes()) {
+						if (superTypes.add(subtype.getElementName())) {
+							types.push(subtype.getElementName());
+						}
+					}
+				}
+			}
+		}
+		return dependents;
+	}
+
+	/**
+	 * Remove the dependencies of the given project.
+	 *
+	 * @param projectName the project name.
+	 */
+	public void evict(String projectName) {
+		projects.remove(projectName);
+	}
+
+	private Map<ICompilationUnit, UnitDependencies> update(IJavaProject javaProject) throws JavaModelException {
+		Map<ICompilationUnit, UnitDependencies> oldUnits = projects.getOrDefault(javaProject.getElementName(),
+				new HashMap<>());
+		Map<ICompilationUnit, UnitDependencies> units = new HashMap<>();
+		for (IPackageFragmentRoot root : javaProject.getPackageFragmentRoots()) {
+			if (root.getKind() != IPackageFragmentRoot.K_SOURCE || !javaProject.equals(root.getJavaProject())) {
+				continue;
+			}
+			for (IJavaElement child : root.getChildren()) {
+				for (ICompilationUnit unit : ((IPackageFragment) child).getCompilationUnits()) {
+					IResource resource = unit.getResource();
+					long modificationStamp = resource != null ? resource.getModificationStamp()
+							: IResource.NULL_STAMP;
+					UnitDependencies dependencies = oldUnits.get(unit);
+					if (dependencies == null || dependencies.modificationStamp != modificationStamp
+							|| modificationStamp == IResource.NULL_STAMP) {
+						dependencies = computeDependencies(unit, modificationStamp);
+					}
+					units.put(unit, dependencies);
+				}
+			}
+		}
+		projects.put(javaProject.getElementName(), units);
+		return units;
+	}
+
+	private static UnitDependencies computeDependencies(ICompilationUnit unit, long modificationStamp)
+			throws JavaModelException {
+		Set<String> superTypes = new HashSet<>();
+		Set<String> referencedTypes = new HashSet<>();
+		for (IType type : unit.getTypes()) {
+			collectDependencies(type, superTypes, referencedTypes);
+		}
+		return new UnitDependencies(modificationStamp, superTypes, referencedTypes);
+	}
+
+	private static void collectDependencies(IType type, Set<String> superTypes, Set<String> referencedTypes)
+			throws JavaModelException {
+		if (type.getSuperclassTypeSignature() != null) {
+			collectTypes(type.getSuperclassTypeSignature(), superTypes);
+		}
+		for (String superInterface : type.getSuperInterfaceTypeSignatures()) {
+			collectTypes(superInterface, superTypes);
+		}
+		for (IField field : type.getFields()) {
+			collectTypes(field.getTypeSignature(), referencedTypes);
+		}
+		for (IMethod method : type.getMethods()) {
+			collectTypes(method.getReturnType(), referencedTypes);
+			for (String parameterType : method.getParameterTypes()) {
+				collectTypes(parameterType, referencedTypes);
+			}
+		}
+		for (IType memberType : type.getTypes()) {
+			collectDependencies(memberType, superTypes, referencedTypes);
+		}
+	}
+
+	private static void collectTypes(String signature, Set<String> types) {
+		String elementType = Signature.getElementType(signature);
+		if (Signature.getTypeSignatureKind(elementType) == Signature.CLASS_TYPE_SIGNATURE) {
+			types.add(getSimpleName(Signature.toString(Signature.getTypeErasure(elementType))));
+		}
+		for (String typeArgument : Signature.getTypeArguments(elementType)) {
+			if (typeArgument.charAt(0) != Signature.C_STAR) {
+				collectTypes(typeArgument.charAt(0) == Signature.C_EXTENDS
+						|| typeArgument.charAt(0) == Signature.C_SUPER ? typeArgument.substring(1) : typeArgument,
+						types);
+			}
+		}
+	}
+
+	private static String getSimpleName(String typeName) {
+		return typeName.substring(Math.max(typeName.lastIndexOf('.'), typeName.lastIndexOf('$')) + 1);
+	}
+
+	private static boolean intersects(Set<String> types, Set<String> otherTypes) {
+		for (String type : otherTypes) {
+			if (types.contains(type)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -49,8 +49,14 @@ public class StaticPropertyProvider extends AbstractStaticPropertiesProvider {
 			return true;
 		} else {
 			IJavaProject javaProject = context.getJavaProject();
-			return (JDTTypeUtils.findType(javaProject, type) != null);
+			return JDTTypeUtils.isOnClasspath(javaProject, type);
 		}
 	}
 
+	@Override
+	public String[] getDispatchedAnnotationNames() {
+		// the static properties don't come from the search matches
+		return new String[0];
+	}
+
 }
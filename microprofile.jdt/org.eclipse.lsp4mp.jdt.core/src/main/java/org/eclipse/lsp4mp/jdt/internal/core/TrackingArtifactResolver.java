@@ -0,0 +1,64 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.lsp4mp.jdt.core.ArtifactResolver;
+
+/**
+ * Artifact resolver which tracks the failed resolutions of another artifact
+ * resolver (ex : a Quarkus deployment JAR which cannot be downloaded while the
+ * network is not available).
+ *
+ */
+public class TrackingArtifactResolver implements ArtifactResolver {
+
+	private final ArtifactResolver delegate;
+
+	private volatile boolean failed;
+
+	public TrackingArtifactResolver(ArtifactResolver delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public String getArtifact(Artifact artifact, IProgressMonitor monitor) {
+		String path = delegate.getArtifact(artifact, monitor);
+		if (path == null) {
+			failed = true;
+		}
+		return path;
+	}
+
+	@Override
+	public Set<Artifact> getDependencies(Artifact artifact, IProgressMonitor monitor) {
+		Set<Artifact> dependencies = delegate.getDependencies(artifact, monitor);
+		if (dependencies == null || dependencies.isEmpty()) {
+			// an empty set is returned when the resolution fails
+			failed = true;
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Returns true if a resolution has failed and false otherwise.
+	 *
+	 * @return true if a resolution has failed and false otherwise.
+	 */
+	public boolean hasFailed() {
+		return failed;
+	}
+}
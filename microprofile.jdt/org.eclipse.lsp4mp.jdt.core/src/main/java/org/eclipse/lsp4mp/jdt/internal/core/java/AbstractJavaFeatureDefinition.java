@@ -31,7 +31,7 @@ public abstract class AbstractJavaFeatureDefinition<T> {
 		this.element = element;
 	}
 
-	protected T getParticipant() throws CoreException {
+	protected synchronized T getParticipant() throws CoreException {
 		if (participant == null) {
 			participant = (T) element.createExecutableExtension(CLASS_ATTR);
 		}
@@ -0,0 +1,280 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
+import org.eclipse.lsp4mp.jdt.internal.core.SingleFlightRegistry;
+
+/**
+ * Cache of the ASTs (with bindings) of the compilation units.
+ *
+ * <p>
+ * After a save of a Java file, the diagnostics, code lens, hover, etc requests
+ * use the AST of the same version of the compilation unit. The AST is created
+ * once per version of the compilation unit (the content of its buffer) and is
+ * shared by the Java contexts of those requests. The cache keeps the ASTs of
+ * the last used compilation units.
+ * </p>
+ *
+ * <p>
+ * When only the bodies of the methods (or the imports) of a compilation unit
+ * change (the fine-grained delta of the compilation unit has no other member
+ * delta) and the compilation unit doesn't declare constants, only the AST of
+ * this compilation unit is evicted: the bindings of the other ASTs don't depend
+ * on them. Any other change (a member is added, a signature, an annotation or
+ * a field changes, the classpath changes, etc) clears the cache, the bindings
+ * of an AST could depend on the changed element.
+ * </p>
+ *
+ */
+public class CompilationUnitASTCache {
+
+	private static final CompilationUnitASTCache INSTANCE = new CompilationUnitASTCache();
+
+	private static final int MAX_SIZE = 10;
+
+	public static CompilationUnitASTCache getInstance() {
+		return INSTANCE;
+	}
+
+	private static class CachedAST {
+
+		private final String source;
+
+		private final CompilationUnit ast;
+
+		public CachedAST(String source, CompilationUnit ast) {
+			this.source = source;
+			this.ast = ast;
+		}
+	}
+
+	private final Map<String /* handle identifier */, CachedAST> asts;
+
+	// the ASTs which are being created, to create the AST of a version only once
+	private final SingleFlightRegistry<List<String>, CompilationUnit> astComputations;
+
+	private int generation;
+
+	private boolean listening;
+
+	private CompilationUnitASTCache() {
+		this.asts = new LinkedHashMap<String, CachedAST>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedAST> eldest) {
+				return size() > MAX_SIZE;
+			}
+		};
+		this.astComputations = new SingleFlightRegistry<>();
+	}
+
+	/**
+	 * Returns the AST with bindings of the given compilation unit.
+	 *
+	 * @param unit    the compilation unit.
+	 * @param monitor the progress monitor.
+	 * @return the AST with bindings of the given compilation unit.
+	 */
+	public CompilationUnit getAST(ICompilationUnit unit, IProgressMonitor monitor) {
+		String source = getSource(unit);
+		if (source == null) {
+			return ASTResolving.createQuickFixAST(unit, monitor);
+		}
+		String key = unit.getHandleIdentifier();
+		int currentGeneration;
+		synchronized (this) {
+			addElementChangedListener();
+			CachedAST cached = asts.get(key);
+			if (cached != null && cached.source.equals(source)) {
+				return cached.ast;
+			}
+			currentGeneration = generation;
+		}
+		try {
+			return astComputations.compute(Arrays.asList(key, source), () -> {
+				CompilationUnit ast = ASTResolving.createQuickFixAST(unit, monitor);
+				if (ast != null) {
+					synchronized (this) {
+						if (currentGeneration == generation) {
+							asts.put(key, new CachedAST(source, ast));
+						}
+					}
+				}
+				return ast;
+			}, monitor);
+		} catch (CoreException e) {
+			return ASTResolving.createQuickFixAST(unit, monitor);
+		}
+	}
+
+	private void addElementChangedListener() {
+		if (listening) {
+			return;
+		}
+		listening = true;
+		JavaCore.addElementChangedListener(this::elementChanged,
+				ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	private synchronized void elementChanged(ElementChangedEvent event) {
+		Set<String> changedUnits = new HashSet<>();
+		if (collectChangedUnits(event.getDelta(), changedUnits)) {
+			// the AST of a changed unit is created again since its source has changed
+			for (String key : changedUnits) {
+				asts.remove(key);
+			}
+		} else {
+			generation++;
+			asts.clear();
+		}
+	}
+
+	/**
+	 * Collect the handle identifiers of the compilation units of the given delta
+	 * whose changes don't affect the bindings of the other compilation units.
+	 *
+	 * @param delta        the Java element delta.
+	 * @param changedUnits the set to fill with the handle identifiers of the
+	 *                     changed compilation units.
+	 * @return true if the changes of the given delta are local to the collected
+	 *         compilation units and false otherwise.
+	 */
+	private static boolean collectChangedUnits(IJavaElementDelta delta, Set<String> changedUnits) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+		case IJavaElement.JAVA_MODEL:
+		case IJavaElement.JAVA_PROJECT:
+		case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+		case IJavaElement.PACKAGE_FRAGMENT:
+			// F_CONTENT is a change of the non Java resources
+			if (delta.getKind() != IJavaElementDelta.CHANGED
+					|| (delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT)) != 0) {
+				// ex : classpath changed, project closed, package added
+				return false;
+			}
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (!collectChangedUnits(child, changedUnits)) {
+					return false;
+				}
+			}
+			return true;
+		case IJavaElement.COMPILATION_UNIT:
+			if (delta.getKind() != IJavaElementDelta.CHANGED) {
+				return false;
+			}
+			int flags = delta.getFlags();
+			if ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+				// the changed members are unknown
+				return false;
+			}
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (!isLocalChange(child)) {
+					return false;
+				}
+			}
+			if ((flags & IJavaElementDelta.F_CONTENT) != 0 && declaresConstants((ICompilationUnit) element)) {
+				// the change of the value of a constant is not a member delta, and the
+				// value can be used by the other units
+				return false;
+			}
+			changedUnits.add(element.getHandleIdentifier());
+			return true;
+		default:
+			// ex : class file
+			return false;
+		}
+	}
+
+	/**
+	 * Returns true if the given delta of a member of a compilation unit only
+	 * changes the compilation unit itself and false otherwise.
+	 *
+	 * @param delta the delta of a member of a compilation unit.
+	 * @return true if the given delta of a member of a compilation unit only
+	 *         changes the compilation unit itself and false otherwise.
+	 */
+	private static boolean isLocalChange(IJavaElementDelta delta) {
+		switch (delta.getElement().getElementType()) {
+		case IJavaElement.IMPORT_CONTAINER:
+		case IJavaElement.IMPORT_DECLARATION:
+			return true;
+		case IJavaElement.METHOD:
+		case IJavaElement.INITIALIZER:
+			// the local and anonymous types of the body have changed (F_CONTENT is a
+			// change of the return type of a method)
+			return delta.getKind() == IJavaElementDelta.CHANGED
+					&& (delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) == 0;
+		case IJavaElement.TYPE:
+			if (delta.getKind() != IJavaElementDelta.CHANGED
+					|| (delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0) {
+				return false;
+			}
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (!isLocalChange(child)) {
+					return false;
+				}
+			}
+			return true;
+		default:
+			// ex : a field (its constant value can be used by the other units)
+			return false;
+		}
+	}
+
+	private static boolean declaresConstants(ICompilationUnit unit) {
+		try {
+			for (IType type : unit.getAllTypes()) {
+				for (IField field : type.getFields()) {
+					int flags = field.getFlags();
+					if (Flags.isStatic(flags) && Flags.isFinal(flags) && field.getConstant() != null) {
+						return true;
+					}
+				}
+			}
+			return false;
+		} catch (JavaModelException e) {
+			return true;
+		}
+	}
+
+	private static String getSource(ICompilationUnit unit) {
+		try {
+			return unit.getSource();
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+}
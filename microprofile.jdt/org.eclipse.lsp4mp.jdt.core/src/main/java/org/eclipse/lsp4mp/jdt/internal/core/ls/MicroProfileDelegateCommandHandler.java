@@ -13,10 +13,13 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core.ls;
 
+import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getBoolean;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getFirst;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getString;
+import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getStringList;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -32,6 +35,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDescriptionsParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
 import org.eclipse.lsp4mp.jdt.core.PropertiesManager;
 
@@ -51,6 +55,8 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 
 	private static final String PROPERTY_DOCUMENTATION_COMMAND_ID = "microprofile/propertyDocumentation";
 
+	private static final String PROPERTY_DESCRIPTIONS_COMMAND_ID = "microprofile/propertyDescriptions";
+
 	@Override
 	public Object executeCommand(String commandId, List<Object> arguments, IProgressMonitor progress) throws Exception {
 		switch (commandId) {
@@ -60,6 +66,8 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 			return findDeclaredProperty(arguments, commandId, progress);
 		case PROPERTY_DOCUMENTATION_COMMAND_ID:
 			return collectPropertyDocumentation(arguments, commandId, progress);
+		case PROPERTY_DESCRIPTIONS_COMMAND_ID:
+			return collectPropertyDescriptions(arguments, commandId, progress);
 		default:
 			throw new UnsupportedOperationException(String.format("Unsupported command '%s'!", commandId));
 		}
@@ -102,6 +110,11 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(applicationPropertiesUri);
 		params.setScopes(scopes);
 		params.setDocumentFormat(documentFormat);
+		List<String> javaSourceURIs = getStringList(obj, "javaSourceURIs");
+		if (javaSourceURIs != null) {
+			params.setJavaSourceURIs(new HashSet<>(javaSourceURIs));
+		}
+		params.setExcludeDescriptions(getBoolean(obj, "excludeDescriptions"));
 
 		// Execute the getMicroProfileProjectInfo in a Job to benefit with progress
 		// monitor
@@ -199,4 +212,34 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 				progress);
 	}
 
+	private static Map<String, String> collectPropertyDescriptions(List<Object> arguments, String commandId,
+			IProgressMonitor progress) {
+		Map<String, Object> obj = getFirst(arguments);
+		if (obj == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with one MicroProfilePropertyDescriptionsParams argument!", commandId));
+		}
+		String applicationPropertiesUri = getString(obj, "uri");
+		if (applicationPropertiesUri == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with required MicroProfilePropertyDescriptionsParams.uri (properties file URI)!",
+					commandId));
+		}
+		List<String> propertyNames = getStringList(obj, "propertyNames");
+		if (propertyNames == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with required MicroProfilePropertyDescriptionsParams.propertyNames!",
+					commandId));
+		}
+		MicroProfilePropertyDescriptionsParams params = new MicroProfilePropertyDescriptionsParams();
+		params.setUri(applicationPropertiesUri);
+		params.setPropertyNames(propertyNames);
+		Number documentFormatIndex = (Number) obj.get("documentFormat");
+		if (documentFormatIndex != null) {
+			params.setDocumentFormat(DocumentFormat.forValue(documentFormatIndex.intValue()));
+		}
+		return PropertiesManager.getInstance().collectPropertyDescriptions(params, JDTUtilsLSImpl.getInstance(),
+				progress);
+	}
+
 }
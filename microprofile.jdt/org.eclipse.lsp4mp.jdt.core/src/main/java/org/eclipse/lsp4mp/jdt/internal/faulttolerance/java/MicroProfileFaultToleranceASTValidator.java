@@ -98,11 +98,11 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context,
 			IProgressMonitor monitor) throws CoreException {
 		IJavaProject javaProject = context.getJavaProject();
-		boolean adapted = JDTTypeUtils.findType(javaProject,
-				FALLBACK_ANNOTATION) != null
-				|| JDTTypeUtils.findType(javaProject,
-						ASYNCHRONOUS_ANNOTATION) != null
-				|| JDTTypeUtils.findType(javaProject, RETRY_ANNOTATION) != null;
+		boolean adapted = JDTTypeUtils.isOnClasspath(javaProject,
+				FALLBACK_ANNOTATION)
+				|| JDTTypeUtils.isOnClasspath(javaProject,
+						ASYNCHRONOUS_ANNOTATION)
+				|| JDTTypeUtils.isOnClasspath(javaProject, RETRY_ANNOTATION);
 		if (adapted) {
 			addAllowedReturnTypeForAsynchronousAnnotation(javaProject,
 					UNI_TYPE_UTILITY);
@@ -30,11 +30,10 @@ import static org.eclipse.lsp4mp.jdt.internal.faulttolerance.MicroProfileFaultTo
 import static org.eclipse.lsp4mp.jdt.internal.faulttolerance.MicroProfileFaultToleranceConstants.TIMEOUT_ANNOTATION;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -78,6 +77,12 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 		return ANNOTATION_NAMES;
 	}
 
+	@Override
+	public String[] getDispatchedAnnotationNames() {
+		// the search matches are processed only by the annotations to search
+		return getAnnotationNames();
+	}
+
 	static class AnnotationInfo {
 
 		private final String name;
@@ -202,8 +207,9 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 
 		public MicroProfileFaultToleranceContext(IJavaProject javaProject, IJDTUtils utils,
 				DocumentFormat documentFormat) {
-			this.cache = new HashMap<>();
-			this.processedAnnotations = new HashSet<>();
+			// the context is shared by the threads which process the search matches
+			this.cache = new ConcurrentHashMap<>();
+			this.processedAnnotations = ConcurrentHashMap.newKeySet();
 			this.javaProject = javaProject;
 			this.utils = utils;
 			this.documentFormat = documentFormat;
@@ -279,12 +285,11 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 			// - MP_Fault_Tolerance_Metrics_Enabled. This property comes from
 			// https://github.com/smallrye/smallrye-fault-tolerance/blob/09901426a7b2228103a706cc58288ebb59934150/implementation/fault-tolerance/src/main/java/io/smallrye/faulttolerance/metrics/MetricsCollectorFactory.java#L30
 
-			if (processedAnnotations.contains(MP_FAULT_TOLERANCE_NON_FALLBACK_ENABLED)) {
+			if (!processedAnnotations.add(MP_FAULT_TOLERANCE_NON_FALLBACK_ENABLED)) {
 				return;
 			}
 			collector.addItemMetadata(MP_FAULT_TOLERANCE_NON_FALLBACK_ENABLED, "boolean",
 					MP_FAULT_TOLERANCE_NONFALLBACK_ENABLED_DESCRIPTION, null, null, null, "false", null, false, 0);
-			processedAnnotations.add(MP_FAULT_TOLERANCE_NON_FALLBACK_ENABLED);
 		}
 	}
 
@@ -348,11 +353,7 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 
 	private static boolean isProcessed(String className, String annotationName,
 			MicroProfileFaultToleranceContext mpftContext) {
-		if (mpftContext.isProcessed(className, annotationName)) {
-			return true;
-		}
-		mpftContext.setProcessed(className, annotationName);
-		return false;
+		return !mpftContext.setProcessed(className, annotationName);
 	}
 
 	private static String getParameterDefaultValue(AnnotationParameter parameter, IAnnotation mpftAnnotation)
@@ -407,13 +408,8 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 	}
 
 	private static MicroProfileFaultToleranceContext getMicroProfileFaultToleranceContext(SearchContext context) {
-		MicroProfileFaultToleranceContext mpftContext = (MicroProfileFaultToleranceContext) context
-				.get(MICROPROFILE_FAULT_TOLERANCE_CONTEXT_KEY);
-		if (mpftContext == null) {
-			mpftContext = new MicroProfileFaultToleranceContext(context.getJavaProject(), context.getUtils(),
-					context.getDocumentFormat());
-			context.put(MICROPROFILE_FAULT_TOLERANCE_CONTEXT_KEY, mpftContext);
-		}
-		return mpftContext;
+		return (MicroProfileFaultToleranceContext) context.computeIfAbsent(MICROPROFILE_FAULT_TOLERANCE_CONTEXT_KEY,
+				key -> new MicroProfileFaultToleranceContext(context.getJavaProject(), context.getUtils(),
+						context.getDocumentFormat()));
 	}
 }
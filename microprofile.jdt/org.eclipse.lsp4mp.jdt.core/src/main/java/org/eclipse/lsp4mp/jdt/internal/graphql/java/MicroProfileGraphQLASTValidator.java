@@ -54,7 +54,7 @@ public class MicroProfileGraphQLASTValidator extends JavaASTValidator {
 			throws CoreException {
 		IJavaProject javaProject = context.getJavaProject();
 		// Check if microprofile-graphql is on the path
-		return JDTTypeUtils.findType(javaProject, MicroProfileGraphQLConstants.QUERY_ANNOTATION) != null;
+		return JDTTypeUtils.isOnClasspath(javaProject, MicroProfileGraphQLConstants.QUERY_ANNOTATION);
 	}
 
 	@Override
@@ -44,6 +44,12 @@ public class JBossLogManagerPropertyProvider extends AbstractStaticPropertiesPro
 	protected boolean isAdaptedFor(SearchContext context, IProgressMonitor monitor) {
 		// Check if JBoss LogManager exists in classpath
 		IJavaProject javaProject = context.getJavaProject();
-		return JDTTypeUtils.findType(javaProject, JBOSS_LOGMANAGER_LEVEL_CLASS) != null;
+		return JDTTypeUtils.isOnClasspath(javaProject, JBOSS_LOGMANAGER_LEVEL_CLASS);
+	}
+
+	@Override
+	public String[] getDispatchedAnnotationNames() {
+		// the static properties don't come from the search matches
+		return new String[0];
 	}
 }
@@ -65,7 +65,7 @@ public class MicroProfileMetricsDiagnosticsParticipant implements IJavaDiagnosti
 		// Collection of diagnostics for MicroProfile Metrics is done only if
 		// microprofile-metrics is on the classpath
 		IJavaProject javaProject = context.getJavaProject();
-		return JDTTypeUtils.findType(javaProject, METRIC_ID) != null;
+		return JDTTypeUtils.isOnClasspath(javaProject, METRIC_ID);
 	}
 
 	@Override
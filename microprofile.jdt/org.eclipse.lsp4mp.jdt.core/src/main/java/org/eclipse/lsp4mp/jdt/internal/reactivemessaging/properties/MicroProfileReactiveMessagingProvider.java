@@ -118,6 +118,12 @@ public class MicroProfileReactiveMessagingProvider extends AbstractAnnotationTyp
 		return ANNOTATION_NAMES;
 	}
 
+	@Override
+	public String[] getDispatchedAnnotationNames() {
+		// the search matches are processed only by the annotations to search
+		return getAnnotationNames();
+	}
+
 	@Override
 	protected void processAnnotation(IJavaElement javaElement, IAnnotation mprmAnnotation, String annotationName,
 			SearchContext context, IProgressMonitor monitor) throws JavaModelException {
@@ -57,7 +57,7 @@ public class InjectAndRestClientAnnotationMissingQuickFix extends InsertAnnotati
 		String[] annotations = getAnnotations();
 		String injectAnnotation = null;
 		for (String annotation : annotations) {
-			if (JDTTypeUtils.findType(context.getJavaProject(), annotation) != null && injectAnnotation == null
+			if (JDTTypeUtils.isOnClasspath(context.getJavaProject(), annotation) && injectAnnotation == null
 					&& (annotation.equals(MicroProfileConfigConstants.INJECT_JAVAX_ANNOTATION)
 							|| annotation.equals(MicroProfileConfigConstants.INJECT_JAKARTA_ANNOTATION))) {
 				injectAnnotation = annotation;
@@ -53,7 +53,7 @@ public class InjectAnnotationMissingQuickFix extends InsertAnnotationMissingQuic
 			throws CoreException {
 		String[] annotations = getAnnotations();
 		for (String annotation : annotations) {
-			if (JDTTypeUtils.findType(context.getJavaProject(), annotation) != null) {
+			if (JDTTypeUtils.isOnClasspath(context.getJavaProject(), annotation)) {
 				insertAnnotation(diagnostic, context, codeActions, annotation);
 				return;
 			}
@@ -86,7 +86,7 @@ public class MicroProfileRestClientDiagnosticsParticipant implements IJavaDiagno
 		// Collection of diagnostics for MicroProfile RestClient is done only if
 		// microprofile-rest-client is on the classpath
 		IJavaProject javaProject = context.getJavaProject();
-		return JDTTypeUtils.findType(javaProject, REST_CLIENT_ANNOTATION) != null;
+		return JDTTypeUtils.isOnClasspath(javaProject, REST_CLIENT_ANNOTATION);
 	}
 
 	@Override
@@ -106,13 +106,19 @@ public class MicroProfileRegisterRestClientProvider extends AbstractAnnotationTy
 		return ANNOTATION_NAMES;
 	}
 
+	@Override
+	public String[] getDispatchedAnnotationNames() {
+		// the search matches are processed only by the annotations to search
+		return getAnnotationNames();
+	}
+
 	@Override
 	protected void processAnnotation(IJavaElement javaElement, IAnnotation registerRestClientAnnotation,
 			String annotationName, SearchContext context, IProgressMonitor monitor) throws JavaModelException {
 		if (javaElement.getElementType() == IJavaElement.TYPE) {
 
 			IPropertiesCollector collector = context.getCollector();
-			if (context.get(MP_REST_ADDED) == null) {
+			if (context.putIfAbsent(MP_REST_ADDED, Boolean.TRUE) == null) {
 
 				// FIXME: move this dynamic properties declaration on MicroProfile LS side.
 				// /mp-rest/url
@@ -157,8 +163,6 @@ public class MicroProfileRegisterRestClientProvider extends AbstractAnnotationTy
 				docs = "Timeout specified in milliseconds to wait for a response from the remote endpoint.";
 				super.addItemMetadata(collector, MP_REST_CLIENT_CLASS_REFERENCE_TYPE + "/mp-rest/readTimeout", "long",
 						docs, null, null, null, null, null, false);
-
-				context.put(MP_REST_ADDED, Boolean.TRUE);
 			}
 
 			IType type = (IType) javaElement;
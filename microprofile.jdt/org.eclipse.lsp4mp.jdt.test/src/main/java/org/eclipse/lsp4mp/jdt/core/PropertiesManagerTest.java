@@ -15,11 +15,20 @@ package org.eclipse.lsp4mp.jdt.core;
 
 import static org.eclipse.lsp4mp.jdt.core.JavaUtils.getJarPath;
 
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -45,4 +54,37 @@ public class PropertiesManagerTest extends BasePropertiesManagerTest {
 		Assert.assertTrue("MicroProfileProjectInfo for 'bad-uri' should not belong to an Eclipse project ",
 				info.getProjectURI().isEmpty());
 	}
+
+	@Test
+	public void dependentSources() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		saveFile("org/acme/deps/BaseConfig.java", "package org.acme.deps;\r\n" + //
+				"public class BaseConfig {\r\n" + //
+				"}", javaProject, true);
+		saveFile("org/acme/deps/SubConfig.java", "package org.acme.deps;\r\n" + //
+				"public class SubConfig extends BaseConfig {\r\n" + //
+				"}", javaProject, true);
+		saveFile("org/acme/deps/SubSubConfig.java", "package org.acme.deps;\r\n" + //
+				"public class SubSubConfig extends SubConfig {\r\n" + //
+				"}", javaProject, true);
+		saveFile("org/acme/deps/ConfigUser.java", "package org.acme.deps;\r\n" + //
+				"import java.util.List;\r\n" + //
+				"public class ConfigUser {\r\n" + //
+				"	List<org.acme.deps.BaseConfig> configs;\r\n" + //
+				"}", javaProject, true);
+		saveFile("org/acme/deps/Unrelated.java", "package org.acme.deps;\r\n" + //
+				"public class Unrelated {\r\n" + //
+				"	String name;\r\n" + //
+				"}", javaProject, true);
+
+		IFile javaFile = javaProject.getProject().getFile(new Path("src/main/java/org/acme/deps/BaseConfig.java"));
+		MicroProfileProjectInfo info = PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				MicroProfilePropertiesScope.ONLY_SOURCES,
+				Collections.singleton(javaFile.getLocation().toFile().toURI().toString()), ClasspathKind.SRC,
+				JDT_UTILS, DocumentFormat.Markdown, new NullProgressMonitor());
+		// the subclasses and the classes which reference the saved class are scanned
+		Assert.assertTrue(info.getScannedSourceTypes().containsAll(Arrays.asList("org.acme.deps.BaseConfig",
+				"org.acme.deps.SubConfig", "org.acme.deps.SubSubConfig", "org.acme.deps.ConfigUser")));
+		Assert.assertFalse(info.getScannedSourceTypes().contains("org.acme.deps.Unrelated"));
+	}
 }
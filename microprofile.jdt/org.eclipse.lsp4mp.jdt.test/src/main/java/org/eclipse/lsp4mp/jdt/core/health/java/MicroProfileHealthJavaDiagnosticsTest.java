@@ -20,23 +20,29 @@ import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.createCodeAc
 import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.d;
 import static org.eclipse.lsp4mp.jdt.core.MicroProfileForJavaAssert.te;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.ls.core.internal.ProjectUtils;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeActionParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.codeaction.MicroProfileCodeActionId;
 import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
 import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest.MicroProfileMavenProjectName;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManagerForJava;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.internal.health.MicroProfileHealthConstants;
 import org.eclipse.lsp4mp.jdt.internal.health.java.MicroProfileHealthErrorCode;
+import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -161,4 +167,40 @@ public class MicroProfileHealthJavaDiagnosticsTest extends BasePropertiesManager
 		);
 	}
 
+	@Test
+	public void diagnosticsForSeveralJavaFiles() throws Exception {
+		IJavaProject javaProject = ProjectUtils.getJavaProject(MicroProfileMavenProjectName.microprofile_health_quickstart);
+		IJDTUtils utils = JDT_UTILS;
+
+		List<String> uris = new ArrayList<>();
+		for (String fileName : Arrays.asList("DataHealthCheck.java", "DatabaseConnectionHealthCheck.java",
+				"DontImplementHealthCheck.java", "ImplementHealthCheck.java", "SimpleHealthCheck.java")) {
+			IFile javaFile = javaProject.getProject().getFile(new Path("src/main/java/org/acme/health/" + fileName));
+			uris.add(javaFile.getLocation().toFile().toURI().toString());
+		}
+
+		// the Java files are validated in parallel with one request
+		MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+		diagnosticsParams.setUris(uris);
+		diagnosticsParams.setDocumentFormat(DocumentFormat.Markdown);
+		List<PublishDiagnosticsParams> actual = PropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams,
+				utils, new NullProgressMonitor());
+
+		// the diagnostics are the same as the diagnostics of each Java file validated
+		// alone
+		Assert.assertEquals(uris.size(), actual.size());
+		for (int i = 0; i < uris.size(); i++) {
+			MicroProfileJavaDiagnosticsParams fileParams = new MicroProfileJavaDiagnosticsParams();
+			fileParams.setUris(Arrays.asList(uris.get(i)));
+			fileParams.setDocumentFormat(DocumentFormat.Markdown);
+			List<PublishDiagnosticsParams> expected = PropertiesManagerForJava.getInstance().diagnostics(fileParams,
+					utils, new NullProgressMonitor());
+			Assert.assertEquals(uris.get(i), actual.get(i).getUri());
+			Assert.assertEquals(expected.get(0).getDiagnostics(), actual.get(i).getDiagnostics());
+		}
+		// DontImplementHealthCheck and ImplementHealthCheck have a diagnostic
+		Assert.assertEquals(1, actual.get(2).getDiagnostics().size());
+		Assert.assertEquals(1, actual.get(3).getDiagnostics().size());
+	}
+
 }
@@ -0,0 +1,122 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.lsp4mp.jdt.core.ArtifactResolver;
+import org.eclipse.lsp4mp.jdt.core.ArtifactResolver.Artifact;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link CachedArtifactResolver} and {@link TrackingArtifactResolver}.
+ *
+ */
+public class CachedArtifactResolverTest {
+
+	private static class CountingArtifactResolver implements ArtifactResolver {
+
+		private final AtomicInteger resolutions = new AtomicInteger();
+
+		private final String path;
+
+		public CountingArtifactResolver(String path) {
+			this.path = path;
+		}
+
+		@Override
+		public String getArtifact(Artifact artifact, IProgressMonitor monitor) {
+			resolutions.incrementAndGet();
+			return path;
+		}
+
+		@Override
+		public Set<Artifact> getDependencies(Artifact artifact, IProgressMonitor monitor) {
+			resolutions.incrementAndGet();
+			return path != null ? Collections.singleton(new Artifact("org.acme", "dependency", "1.0"))
+					: Collections.emptySet();
+		}
+	}
+
+	@Test
+	public void releaseIsCached() throws Exception {
+		CountingArtifactResolver delegate = new CountingArtifactResolver(createJar());
+		CachedArtifactResolver resolver = new CachedArtifactResolver(delegate);
+		Artifact artifact = createArtifact("1.0");
+
+		resolver.getArtifact(artifact, new NullProgressMonitor());
+		resolver.getArtifact(artifact, new NullProgressMonitor());
+		resolver.getDependencies(artifact, new NullProgressMonitor());
+		resolver.getDependencies(artifact, new NullProgressMonitor());
+		Assert.assertEquals(2, delegate.resolutions.get());
+	}
+
+	@Test
+	public void snapshotIsNotCached() throws Exception {
+		CountingArtifactResolver delegate = new CountingArtifactResolver(createJar());
+		CachedArtifactResolver resolver = new CachedArtifactResolver(delegate);
+		Artifact artifact = createArtifact("1.0-SNAPSHOT");
+
+		resolver.getArtifact(artifact, new NullProgressMonitor());
+		resolver.getArtifact(artifact, new NullProgressMonitor());
+		resolver.getDependencies(artifact, new NullProgressMonitor());
+		resolver.getDependencies(artifact, new NullProgressMonitor());
+		Assert.assertEquals(4, delegate.resolutions.get());
+	}
+
+	@Test
+	public void failedResolutionIsNotCached() throws Exception {
+		CountingArtifactResolver delegate = new CountingArtifactResolver(null);
+		TrackingArtifactResolver resolver = new TrackingArtifactResolver(new CachedArtifactResolver(delegate));
+		Artifact artifact = createArtifact("1.0");
+
+		Assert.assertFalse(resolver.hasFailed());
+		Assert.assertNull(resolver.getArtifact(artifact, new NullProgressMonitor()));
+		Assert.assertTrue(resolver.hasFailed());
+		resolver.getArtifact(artifact, new NullProgressMonitor());
+		resolver.getDependencies(artifact, new NullProgressMonitor());
+		resolver.getDependencies(artifact, new NullProgressMonitor());
+		Assert.assertEquals(4, delegate.resolutions.get());
+	}
+
+	@Test
+	public void successfulResolutionIsNotTrackedAsFailed() throws Exception {
+		CountingArtifactResolver delegate = new CountingArtifactResolver(createJar());
+		TrackingArtifactResolver resolver = new TrackingArtifactResolver(delegate);
+		Artifact artifact = createArtifact("1.0");
+
+		resolver.getArtifact(artifact, new NullProgressMonitor());
+		resolver.getDependencies(artifact, new NullProgressMonitor());
+		Assert.assertFalse(resolver.hasFailed());
+	}
+
+	private static Artifact createArtifact(String version) {
+		// the artifact id is unique to ignore the artifacts cached on the disk by a
+		// previous test run
+		return new Artifact("org.acme", "deployment-" + UUID.randomUUID(), version);
+	}
+
+	private static String createJar() throws Exception {
+		File jar = File.createTempFile("deployment", ".jar");
+		jar.deleteOnExit();
+		return jar.getPath();
+	}
+}
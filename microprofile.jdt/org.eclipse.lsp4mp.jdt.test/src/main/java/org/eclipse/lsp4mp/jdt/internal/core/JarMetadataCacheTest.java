@@ -0,0 +1,187 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test with {@link JarMetadataCache}: the properties collected with the cache
+ * must be the same as the properties collected without the cache.
+ *
+ */
+public class JarMetadataCacheTest extends BasePropertiesManagerTest {
+
+	@Before
+	public void clearCache() {
+		JarMetadataCache.getInstance().clear();
+	}
+
+	@After
+	public void enableCache() {
+		System.clearProperty(JarMetadataCache.DISABLED_PROPERTY);
+		System.clearProperty(JarMetadataCache.MAX_AGE_PROPERTY);
+	}
+
+	@Test
+	public void cacheMiss() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_fault_tolerance);
+		MicroProfileProjectInfo expected = getMicroProfileProjectInfoWithoutCache(javaProject);
+
+		// the JARs are searched and their properties are cached
+		MicroProfileProjectInfo info = getMicroProfileProjectInfo(javaProject);
+		assertSameProjectInfo(expected, info);
+		Assert.assertNotNull(getFirstCachedJar(javaProject));
+	}
+
+	@Test
+	public void cacheHit() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_fault_tolerance);
+		MicroProfileProjectInfo expected = getMicroProfileProjectInfoWithoutCache(javaProject);
+
+		getMicroProfileProjectInfo(javaProject);
+		// the properties of the JARs are merged from the cache
+		MicroProfileProjectInfo info = getMicroProfileProjectInfo(javaProject);
+		assertSameProjectInfo(expected, info);
+	}
+
+	@Test
+	public void jarRemoved() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_fault_tolerance);
+		getMicroProfileProjectInfo(javaProject);
+
+		// Remove the first cached JAR which has properties from the classpath
+		IClasspathEntry removedJar = getFirstCachedJar(javaProject);
+		Assert.assertNotNull(removedJar);
+		List<IClasspathEntry> entries = new ArrayList<>();
+		for (IClasspathEntry entry : javaProject.getResolvedClasspath(true)) {
+			if (!entry.equals(removedJar)) {
+				entries.add(entry);
+			}
+		}
+		javaProject.setRawClasspath(entries.toArray(new IClasspathEntry[0]), new NullProgressMonitor());
+
+		MicroProfileProjectInfo expected = getMicroProfileProjectInfoWithoutCache(javaProject);
+		MicroProfileProjectInfo info = getMicroProfileProjectInfo(javaProject);
+		assertSameProjectInfo(expected, info);
+	}
+
+	@Test
+	public void jarRemovedIsKeptOnDisk() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_fault_tolerance);
+		getMicroProfileProjectInfo(javaProject);
+
+		IClasspathEntry removedJar = getFirstCachedJar(javaProject);
+		Assert.assertNotNull(removedJar);
+		removeFromClasspath(javaProject, removedJar);
+		getMicroProfileProjectInfo(javaProject);
+
+		// the properties of the removed JAR are loaded from the disk
+		Assert.assertNotNull(JarMetadataCache.getInstance().get(removedJar.getPath().toFile(),
+				DocumentFormat.Markdown));
+	}
+
+	@Test
+	public void jarRemovedIsGarbageCollected() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_fault_tolerance);
+		getMicroProfileProjectInfo(javaProject);
+
+		IClasspathEntry removedJar = getFirstCachedJar(javaProject);
+		Assert.assertNotNull(removedJar);
+		removeFromClasspath(javaProject, removedJar);
+		// the properties of the removed JAR are older than the max age
+		System.setProperty(JarMetadataCache.MAX_AGE_PROPERTY, "0");
+		getMicroProfileProjectInfo(javaProject);
+
+		Assert.assertNull(JarMetadataCache.getInstance().get(removedJar.getPath().toFile(),
+				DocumentFormat.Markdown));
+		// the properties of the JARs of the classpath are kept
+		Assert.assertNotNull(getFirstCachedJar(javaProject));
+	}
+
+	private static void removeFromClasspath(IJavaProject javaProject, IClasspathEntry removedJar) throws Exception {
+		List<IClasspathEntry> entries = new ArrayList<>();
+		for (IClasspathEntry entry : javaProject.getResolvedClasspath(true)) {
+			if (!entry.equals(removedJar)) {
+				entries.add(entry);
+			}
+		}
+		javaProject.setRawClasspath(entries.toArray(new IClasspathEntry[0]), new NullProgressMonitor());
+	}
+
+	private static IClasspathEntry getFirstCachedJar(IJavaProject javaProject) throws Exception {
+		for (IClasspathEntry entry : javaProject.getResolvedClasspath(true)) {
+			if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
+				ConfigurationMetadata metadata = JarMetadataCache.getInstance().get(entry.getPath().toFile(),
+						DocumentFormat.Markdown);
+				if (metadata != null && !metadata.getProperties().isEmpty()) {
+					return entry;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static MicroProfileProjectInfo getMicroProfileProjectInfo(IJavaProject javaProject) throws Exception {
+		return PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.SRC, JDT_UTILS,
+				DocumentFormat.Markdown, new NullProgressMonitor());
+	}
+
+	private static MicroProfileProjectInfo getMicroProfileProjectInfoWithoutCache(IJavaProject javaProject)
+			throws Exception {
+		System.setProperty(JarMetadataCache.DISABLED_PROPERTY, "true");
+		try {
+			return getMicroProfileProjectInfo(javaProject);
+		} finally {
+			System.clearProperty(JarMetadataCache.DISABLED_PROPERTY);
+		}
+	}
+
+	private static void assertSameProjectInfo(MicroProfileProjectInfo expected, MicroProfileProjectInfo actual) {
+		Assert.assertEquals(getProperties(expected), getProperties(actual));
+		Assert.assertEquals(getHints(expected), getHints(actual));
+	}
+
+	private static List<String> getProperties(MicroProfileProjectInfo info) {
+		return info.getProperties().stream() //
+				.map(property -> property.getName() + "#" + property.getSourceType()) //
+				.sorted() //
+				.collect(Collectors.toList());
+	}
+
+	private static List<String> getHints(MicroProfileProjectInfo info) {
+		return info.getHints().stream() //
+				.flatMap(hint -> hint.getValues().stream()
+						.map(value -> hint.getName() + "=" + value.getValue() + "#" + value.getSourceType())) //
+				.sorted() //
+				.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link MicroProfilePropertiesChangeDispatcher}
+ *
+ */
+public class MicroProfilePropertiesChangeDispatcherTest {
+
+	private final BlockingQueue<MicroProfilePropertiesChangeEvent> events = new LinkedBlockingQueue<>();
+
+	private final MicroProfilePropertiesChangeDispatcher dispatcher = new MicroProfilePropertiesChangeDispatcher(100,
+			events::add);
+
+	@Test
+	public void coalesceJavaSources() throws InterruptedException {
+		dispatcher.dispatch(event(MicroProfilePropertiesScope.ONLY_SOURCES, "project1", "A.java"));
+		dispatcher.dispatch(event(MicroProfilePropertiesScope.ONLY_SOURCES, "project1", "B.java"));
+		dispatcher.dispatch(event(MicroProfilePropertiesScope.ONLY_SOURCES, "project2", "C.java"));
+
+		List<MicroProfilePropertiesChangeEvent> delivered = waitForEvents(2);
+		assertEvent(delivered.get(0), MicroProfilePropertiesScope.ONLY_SOURCES, "project1", "A.java", "B.java");
+		assertEvent(delivered.get(1), MicroProfilePropertiesScope.ONLY_SOURCES, "project2", "C.java");
+	}
+
+	@Test
+	public void upgradeToSourcesAndDependencies() throws InterruptedException {
+		dispatcher.dispatch(event(MicroProfilePropertiesScope.ONLY_SOURCES, "project1", "A.java"));
+		dispatcher.dispatch(event(MicroProfilePropertiesScope.ONLY_CONFIG_FILES, "project1"));
+		dispatcher.dispatch(event(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, "project1"));
+		dispatcher.dispatch(event(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, "project2"));
+
+		List<MicroProfilePropertiesChangeEvent> delivered = waitForEvents(1);
+		Assert.assertEquals(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, delivered.get(0).getType());
+		Assert.assertEquals(new HashSet<>(Arrays.asList("project1", "project2")), delivered.get(0).getProjectURIs());
+	}
+
+	@Test
+	public void sourcesAndConfigFiles() throws InterruptedException {
+		dispatcher.dispatch(event(MicroProfilePropertiesScope.ONLY_CONFIG_FILES, "project1"));
+		dispatcher.dispatch(event(MicroProfilePropertiesScope.ONLY_SOURCES, "project1", "A.java"));
+		dispatcher.dispatch(event(MicroProfilePropertiesScope.ONLY_CONFIG_FILES, "project2"));
+
+		List<MicroProfilePropertiesChangeEvent> delivered = waitForEvents(2);
+		assertEvent(delivered.get(0), MicroProfilePropertiesScope.ONLY_SOURCES, "project1", "A.java");
+		Assert.assertEquals(MicroProfilePropertiesScope.ONLY_CONFIG_FILES, delivered.get(1).getType());
+		Assert.assertEquals(new HashSet<>(Arrays.asList("project1", "project2")), delivered.get(1).getProjectURIs());
+	}
+
+	private List<MicroProfilePropertiesChangeEvent> waitForEvents(int expectedCount) throws InterruptedException {
+		List<MicroProfilePropertiesChangeEvent> delivered = new ArrayList<>();
+		for (int i = 0; i < expectedCount; i++) {
+			MicroProfilePropertiesChangeEvent event = events.poll(5, TimeUnit.SECONDS);
+			Assert.assertNotNull("Expected " + expectedCount + " events", event);
+			delivered.add(event);
+		}
+		// no other event is delivered
+		Assert.assertNull(events.poll(300, TimeUnit.MILLISECONDS));
+		return delivered;
+	}
+
+	private static MicroProfilePropertiesChangeEvent event(List<MicroProfilePropertiesScope> type, String projectURI,
+			String... javaSourceURIs) {
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setType(type);
+		event.setProjectURIs(new HashSet<>(Arrays.asList(projectURI)));
+		if (javaSourceURIs.length > 0) {
+			event.setJavaSourceURIs(new HashSet<>(Arrays.asList(javaSourceURIs)));
+		}
+		return event;
+	}
+
+	private static void assertEvent(MicroProfilePropertiesChangeEvent event, List<MicroProfilePropertiesScope> type,
+			String projectURI, String... javaSourceURIs) {
+		Assert.assertEquals(type, event.getType());
+		Assert.assertEquals(new HashSet<>(Arrays.asList(projectURI)), event.getProjectURIs());
+		Assert.assertEquals(new HashSet<>(Arrays.asList(javaSourceURIs)), event.getJavaSourceURIs());
+	}
+}
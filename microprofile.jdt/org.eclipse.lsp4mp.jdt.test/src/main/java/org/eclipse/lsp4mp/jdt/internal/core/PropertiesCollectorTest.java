@@ -105,6 +105,32 @@ public class PropertiesCollectorTest {
 		assertNull(configuration.getProperties().get(0).getDescription());
 	}
 
+	@Test
+	public void mergeWithReplaceAfterAdd() {
+		ConfigurationMetadata configuration = new ConfigurationMetadata();
+		PropertiesCollector collector = new PropertiesCollector(configuration,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+
+		collector.addItemMetadata("binaryProperty", "java.lang.String", null, null, null, null, null, null, true, 0);
+		collector.addItemMetadata("otherProperty", "java.lang.String", null, null, null, null, null, null, true, 0);
+		collector.addItemMetadata("binaryProperty", "int", null, null, null, null, null, null, true, 0);
+
+		ConfigurationMetadata dupMerge = createDuplicateMerge();
+		collector.merge(dupMerge, MergingStrategy.REPLACE);
+
+		assertEquals(3, configuration.getProperties().size());
+		assertEquals("otherProperty", configuration.getProperties().get(0).getName());
+		assertEquals("int", configuration.getProperties().get(1).getType());
+		assertNotNull(configuration.getProperties().get(2).getDescription());
+
+		collector.merge(createDuplicateMerge(), MergingStrategy.REPLACE);
+
+		assertEquals(3, configuration.getProperties().size());
+		assertEquals("otherProperty", configuration.getProperties().get(0).getName());
+		assertNotNull(configuration.getProperties().get(1).getDescription());
+		assertNotNull(configuration.getProperties().get(2).getDescription());
+	}
+
 	private static ConfigurationMetadata createToMerge() {
 		ConfigurationMetadata toMerge = new ConfigurationMetadata();
 		toMerge.setProperties(new ArrayList<>());
@@ -223,6 +249,40 @@ public class PropertiesCollectorTest {
 		assertEquals("OFF [2]", configuration1.getHints().get(0).getValues().get(5).getDescription());
 	}
 
+	@Test
+	public void mergeHintsWithIgnoreAfterAdd() {
+
+		ConfigurationMetadata configuration1 = new ConfigurationMetadata();
+		PropertiesCollector collector = new PropertiesCollector(configuration1,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+
+		ItemHint hint1 = collector.getItemHint("logging");
+		hint1.getValues().add(vh("OFF", "OFF [1]"));
+
+		ConfigurationMetadata configuration2 = new ConfigurationMetadata();
+		ItemHint hint2 = new ItemHint();
+		hint2.setName("logging");
+		hint2.setValues(new ArrayList<>(Arrays.asList(vh("DEBUG", "DEBUG [2]"), vh("OFF", "OFF [2]"))));
+		configuration2.setHints(new ArrayList<>(Arrays.asList(hint2)));
+		collector.merge(configuration2, MergingStrategy.IGNORE_IF_EXISTS);
+
+		// value added after the merge
+		hint1.getValues().add(vh("INFO", "INFO [1]"));
+
+		ConfigurationMetadata configuration3 = new ConfigurationMetadata();
+		ItemHint hint3 = new ItemHint();
+		hint3.setName("logging");
+		hint3.setValues(new ArrayList<>(Arrays.asList(vh("INFO", "INFO [3]"), vh("SEVERE", "SEVERE [3]"))));
+		configuration3.setHints(new ArrayList<>(Arrays.asList(hint3)));
+		collector.merge(configuration3, MergingStrategy.IGNORE_IF_EXISTS);
+
+		assertEquals(4, hint1.getValues().size());
+		assertEquals("OFF [1]", hint1.getValues().get(0).getDescription());
+		assertEquals("DEBUG [2]", hint1.getValues().get(1).getDescription());
+		assertEquals("INFO [1]", hint1.getValues().get(2).getDescription());
+		assertEquals("SEVERE [3]", hint1.getValues().get(3).getDescription());
+	}
+
 	private static ValueHint vh(String value, String description) {
 		ValueHint debug = new ValueHint();
 		debug.setValue(value);
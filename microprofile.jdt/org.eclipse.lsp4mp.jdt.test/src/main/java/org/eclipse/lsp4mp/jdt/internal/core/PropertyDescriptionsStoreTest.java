@@ -0,0 +1,98 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link PropertyDescriptionsStore}.
+ *
+ */
+public class PropertyDescriptionsStoreTest {
+
+	private static final String PROJECT_URI = "descriptions-project";
+
+	@After
+	public void clearStore() {
+		PropertyDescriptionsStore.getInstance().clear(PROJECT_URI);
+	}
+
+	@Test
+	public void excludeDescriptions() {
+		List<ItemMetadata> properties = Arrays.asList(
+				createProperty("quarkus.http.port", "The HTTP port", null, false),
+				createProperty("greeting.message", "The message", "org.acme.GreetingResource", true));
+		PropertyDescriptionsStore.getInstance().excludeDescriptions(PROJECT_URI, properties, false, null);
+
+		Assert.assertNull(properties.get(0).getDescription());
+		Assert.assertNull(properties.get(1).getDescription());
+		Map<String, String> descriptions = getDescriptions("quarkus.http.port", "greeting.message");
+		Assert.assertEquals("The HTTP port", descriptions.get("quarkus.http.port"));
+		Assert.assertEquals("The message", descriptions.get("greeting.message"));
+	}
+
+	@Test
+	public void excludeDescriptionsOfScannedSources() {
+		PropertyDescriptionsStore.getInstance().excludeDescriptions(PROJECT_URI,
+				Arrays.asList(createProperty("quarkus.http.port", "The HTTP port", null, false),
+						createProperty("greeting.message", "The message", "org.acme.GreetingResource", true),
+						createProperty("greeting.suffix", "The suffix", "org.acme.GreetingResource.Config", true),
+						createProperty("hello.name", "The name", "org.acme.HelloResource", true)),
+				false, null);
+
+		// GreetingResource.java has been scanned, the 'greeting.message' and
+		// 'greeting.suffix' properties have been removed
+		PropertyDescriptionsStore.getInstance().excludeDescriptions(PROJECT_URI,
+				new ArrayList<>(Arrays.asList(
+						createProperty("greeting.name", "The greeting name", "org.acme.GreetingResource", true))),
+				true, Arrays.asList("org.acme.GreetingResource"));
+
+		Map<String, String> descriptions = getDescriptions("quarkus.http.port", "greeting.message",
+				"greeting.suffix", "greeting.name", "hello.name");
+		Assert.assertEquals("The HTTP port", descriptions.get("quarkus.http.port"));
+		Assert.assertEquals("The greeting name", descriptions.get("greeting.name"));
+		Assert.assertEquals("The name", descriptions.get("hello.name"));
+		Assert.assertFalse(descriptions.containsKey("greeting.message"));
+		Assert.assertFalse(descriptions.containsKey("greeting.suffix"));
+
+		// all Java sources have been scanned
+		PropertyDescriptionsStore.getInstance().excludeDescriptions(PROJECT_URI, Collections.emptyList(), true,
+				null);
+		descriptions = getDescriptions("quarkus.http.port", "greeting.name", "hello.name");
+		Assert.assertEquals(Collections.singletonMap("quarkus.http.port", "The HTTP port"), descriptions);
+	}
+
+	private static Map<String, String> getDescriptions(String... propertyNames) {
+		return PropertyDescriptionsStore.getInstance().getDescriptions(PROJECT_URI, Arrays.asList(propertyNames));
+	}
+
+	private static ItemMetadata createProperty(String name, String description, String sourceType,
+			boolean source) {
+		ItemMetadata property = new ItemMetadata();
+		property.setName(name);
+		property.setDescription(description);
+		property.setSourceType(sourceType);
+		property.setSource(source);
+		return property;
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link SingleFlightRegistry}
+ *
+ */
+public class SingleFlightRegistryTest {
+
+	@Test
+	public void shareComputation() throws Exception {
+		SingleFlightRegistry<String, String> registry = new SingleFlightRegistry<>();
+		AtomicInteger computations = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			results.add(executor.submit(() -> registry.compute("project", () -> {
+				computations.incrementAndGet();
+				started.countDown();
+				await(release);
+				return "info";
+			}, new NullProgressMonitor())));
+			Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+			CountDownLatch waiting = new CountDownLatch(3);
+			for (int i = 0; i < 3; i++) {
+				results.add(executor.submit(() -> {
+					waiting.countDown();
+					return registry.compute("project", () -> {
+						computations.incrementAndGet();
+						return "other info";
+					}, new NullProgressMonitor());
+				}));
+			}
+			Assert.assertTrue(waiting.await(5, TimeUnit.SECONDS));
+			// let the other callers wait for the first computation
+			Thread.sleep(200);
+			release.countDown();
+			for (Future<String> result : results) {
+				Assert.assertEquals("info", result.get(5, TimeUnit.SECONDS));
+			}
+			Assert.assertEquals(1, computations.get());
+
+			// the computation is done, a new call computes again
+			Assert.assertEquals("new info", registry.compute("project", () -> "new info", new NullProgressMonitor()));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void computeAgainWhenCancelled() throws Exception {
+		SingleFlightRegistry<String, String> registry = new SingleFlightRegistry<>();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<String> cancelled = executor.submit(() -> registry.compute("project", () -> {
+				started.countDown();
+				await(release);
+				throw new OperationCanceledException();
+			}, new NullProgressMonitor()));
+			Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+			Future<String> result = executor.submit(
+					() -> registry.compute("project", () -> "info", new NullProgressMonitor()));
+			release.countDown();
+			try {
+				cancelled.get(5, TimeUnit.SECONDS);
+				Assert.fail("The first computation must be cancelled");
+			} catch (Exception e) {
+				Assert.assertTrue(e.getCause() instanceof OperationCanceledException);
+			}
+			Assert.assertEquals("info", result.get(5, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
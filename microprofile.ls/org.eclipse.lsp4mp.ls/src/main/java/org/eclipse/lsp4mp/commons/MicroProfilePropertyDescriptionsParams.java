@@ -0,0 +1,86 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons;
+
+import java.util.List;
+
+/**
+ * MicroProfile property descriptions parameters to retrieve the descriptions
+ * of a batch of properties which have been excluded from the project
+ * information (see {@link MicroProfileProjectInfoParams#isExcludeDescriptions()}).
+ *
+ */
+public class MicroProfilePropertyDescriptionsParams {
+
+	private String uri;
+
+	private List<String> propertyNames;
+
+	private DocumentFormat documentFormat;
+
+	/**
+	 * Returns the properties file URI.
+	 *
+	 * @return the properties file URI
+	 */
+	public String getUri() {
+		return uri;
+	}
+
+	/**
+	 * Set the properties file URI
+	 *
+	 * @param uri the properties file URI
+	 */
+	public void setUri(String uri) {
+		this.uri = uri;
+	}
+
+	/**
+	 * Returns the names of the properties.
+	 *
+	 * @return the names of the properties.
+	 */
+	public List<String> getPropertyNames() {
+		return propertyNames;
+	}
+
+	/**
+	 * Set the names of the properties.
+	 *
+	 * @param propertyNames the names of the properties.
+	 */
+	public void setPropertyNames(List<String> propertyNames) {
+		this.propertyNames = propertyNames;
+	}
+
+	/**
+	 * Returns the document format of the descriptions.
+	 *
+	 * @return the document format of the descriptions.
+	 */
+	public DocumentFormat getDocumentFormat() {
+		return documentFormat;
+	}
+
+	/**
+	 * Set the document format of the descriptions.
+	 *
+	 * @param documentFormat the document format of the descriptions.
+	 */
+	public void setDocumentFormat(DocumentFormat documentFormat) {
+		this.documentFormat = documentFormat;
+	}
+
+}
@@ -14,10 +14,15 @@
 package org.eclipse.lsp4mp.extensions;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.ServiceLoader;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -38,9 +43,17 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 	/**
 	 * Computed metadata build from dynamic properties and a given hint value.
 	 *
+	 * <p>
+	 * The computed metadata shares the strings of the dynamic metadata (type,
+	 * description) and reads the description from it, so that the description
+	 * is not copied for each hint value.
+	 * </p>
+	 *
 	 */
 	private static class ComputedItemMetadata extends ItemMetadata {
 
+		private final ItemMetadata metadata;
+
 		/**
 		 * Computed metadata constructor
 		 *
@@ -57,16 +70,26 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 			// with hint value (ex: 'org.acme.restclient.CountriesService') to obtain
 			// the new name 'org.acme.restclient.CountriesService/mp-rest/url'
 			String name = metadata.getName().replace(itemHint.getName(), value.getValue());
+			this.metadata = metadata;
 			super.setName(name);
 			super.setSource(Boolean.TRUE);
 			super.setType(metadata.getType());
-			super.setDescription(metadata.getDescription());
 			super.setSourceType(value.getSourceType());
 		}
+
+		@Override
+		public String getDescription() {
+			String description = super.getDescription();
+			return description != null ? description : metadata.getDescription();
+		}
 	}
 
 	private boolean reloadFromSource;
 
+	// the URIs of the Java source files changed since the last update of the
+	// properties from Java sources, null if all Java sources must be scanned.
+	private Set<String> changedJavaSourceURIs;
+
 	private List<ItemMetadata> dynamicProperties;
 
 	private final Function<String, ItemHint> getHint = hint -> getHint(hint);
@@ -75,8 +98,21 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 
 	private boolean updating;
 
+	private final AtomicInteger generation = new AtomicInteger();
+
+	private volatile ItemMetadataIndex propertiesIndex;
+
+	private final MetadataStringPool stringPool;
+
+	// the cache of the descriptions retrieved on demand, null if the properties
+	// have their descriptions.
+	private PropertyDescriptionsCache propertyDescriptionsCache;
+
 	public ExtendedMicroProfileProjectInfo(MicroProfileProjectInfo delegate) {
 		super.setProjectURI(delegate.getProjectURI());
+		// Share the strings of the deserialized properties and hints
+		stringPool = new MetadataStringPool();
+		stringPool.canonicalize(delegate);
 		// Update hints
 		super.setHints(
 				new CopyOnWriteArrayList<>(delegate.getHints() != null ? delegate.getHints() : new ArrayList<>()));
@@ -104,9 +140,41 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 	 * Clear the cache only for MicroProfile properties coming from java sources.
 	 */
 	public void clearPropertiesFromSource() {
+		clearPropertiesFromSource(null);
+	}
+
+	/**
+	 * Clear the cache only for MicroProfile properties coming from the given java
+	 * sources.
+	 *
+	 * @param javaSourceURIs the URIs of the changed Java source files and null if
+	 *                       they are unknown (in this case the properties of all
+	 *                       Java sources are reloaded).
+	 */
+	public synchronized void clearPropertiesFromSource(Collection<String> javaSourceURIs) {
+		if (javaSourceURIs == null || javaSourceURIs.isEmpty()) {
+			changedJavaSourceURIs = null;
+		} else if (!isReloadFromSource()) {
+			changedJavaSourceURIs = new HashSet<>(javaSourceURIs);
+		} else if (changedJavaSourceURIs != null) {
+			changedJavaSourceURIs.addAll(javaSourceURIs);
+		}
 		setReloadFromSource(true);
 	}
 
+	/**
+	 * Returns the URIs of the Java source files changed since the last update of
+	 * the properties from Java sources and null if all Java sources must be
+	 * scanned.
+	 *
+	 * @return the URIs of the Java source files changed since the last update of
+	 *         the properties from Java sources and null if all Java sources must
+	 *         be scanned.
+	 */
+	public synchronized Set<String> getChangedJavaSourceURIs() {
+		return changedJavaSourceURIs != null ? new HashSet<>(changedJavaSourceURIs) : null;
+	}
+
 	private static List<ItemMetadata> computeDynamicProperties(List<ItemMetadata> properties) {
 		return properties.stream().filter(p -> p != null && p.getName().contains("${")).collect(Collectors.toList());
 	}
@@ -119,6 +187,8 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 	 */
 	public synchronized void updateSourcesProperties(List<ItemMetadata> propertiesFromJavaSource,
 			List<ItemHint> hintsFromJavaSource) {
+		stringPool.canonicalizeProperties(propertiesFromJavaSource);
+		stringPool.canonicalizeHints(hintsFromJavaSource);
 		// remove old hints from Java sources
 		if (hintsFromJavaSource != null) {
 			updateListFromPropertiesSources(getHints(), hintsFromJavaSource);
@@ -136,12 +206,160 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 			expandProperties(staticProperties, getDynamicProperties(), getHint);
 			updateListFromPropertiesSources(getProperties(), staticProperties);
 			updateListFromPropertiesSources(getDynamicProperties(), dynamicProperties);
+			propertiesChanged();
 		}
 		// Update custom properties
 		updateCustomProperties(null);
 		setReloadFromSource(false);
 	}
 
+	/**
+	 * Update the MicroProfile properties in the cache with the project information
+	 * computed from Java sources.
+	 *
+	 * <p>
+	 * When the {@link MicroProfileProjectInfo#getScannedSourceTypes() scanned
+	 * source types} of the given project information is null, its properties and
+	 * hints are all the properties and hints coming from the Java sources (see
+	 * {@link #updateSourcesProperties(List, List)}). Otherwise, the project
+	 * information is a delta and only the properties and hints coming from the
+	 * scanned source types (and their nested types) are replaced.
+	 * </p>
+	 *
+	 * @param sourcesInfo            the project information computed from Java
+	 *                               sources.
+	 * @param scannedJavaSourceURIs  the URIs of the Java source files which have
+	 *                               been scanned and null if all Java sources have
+	 *                               been scanned.
+	 */
+	public synchronized void updateSourcesProperties(MicroProfileProjectInfo sourcesInfo,
+			Set<String> scannedJavaSourceURIs) {
+		List<String> scannedSourceTypes = sourcesInfo.getScannedSourceTypes();
+		if (scannedSourceTypes == null) {
+			updateSourcesProperties(sourcesInfo.getProperties(), sourcesInfo.getHints());
+			return;
+		}
+		stringPool.canonicalize(sourcesInfo);
+		List<ItemHint> newHints = sourcesInfo.getHints() != null ? sourcesInfo.getHints() : Collections.emptyList();
+		List<ItemMetadata> staticProperties = sourcesInfo.getProperties() != null
+				? new ArrayList<>(sourcesInfo.getProperties())
+				: new ArrayList<>();
+		List<ItemMetadata> dynamicProperties = computeDynamicProperties(staticProperties);
+		staticProperties.removeAll(dynamicProperties);
+
+		// update hints from scanned Java sources
+		Set<String> newHintKeys = getSourceKeys(newHints);
+		getHints().removeIf(hint -> isFromScannedSources(hint, scannedSourceTypes, newHintKeys));
+		addScannedItems(getHints(), newHints);
+
+		// update dynamic properties from scanned Java sources
+		Set<String> newDynamicKeys = getSourceKeys(dynamicProperties);
+		getDynamicProperties()
+				.removeIf(property -> isFromScannedSources(property, scannedSourceTypes, newDynamicKeys));
+		addScannedItems(getDynamicProperties(), dynamicProperties);
+
+		// update static properties from scanned Java sources, the properties computed
+		// with dynamic properties are all computed again because the hints and
+		// dynamic properties may have changed.
+		Set<String> newStaticKeys = getSourceKeys(staticProperties);
+		getProperties().removeIf(property -> property instanceof ComputedItemMetadata
+				|| isFromScannedSources(property, scannedSourceTypes, newStaticKeys));
+		expandProperties(staticProperties, getDynamicProperties(), getHint);
+		addScannedItems(getProperties(), staticProperties);
+		propertiesChanged();
+
+		// Update custom properties
+		updateCustomProperties(null);
+		if (changedJavaSourceURIs == null) {
+			// all Java sources must be scanned
+			return;
+		}
+		if (scannedJavaSourceURIs != null) {
+			changedJavaSourceURIs.removeAll(scannedJavaSourceURIs);
+		}
+		if (changedJavaSourceURIs.isEmpty()) {
+			setReloadFromSource(false);
+		}
+		// else, other Java sources have been changed while scanning
+	}
+
+	/**
+	 * Returns true if the given item comes from a Java source which has been
+	 * scanned and false otherwise.
+	 *
+	 * @param item               the item.
+	 * @param scannedSourceTypes the top-level source types of the scanned Java
+	 *                           sources.
+	 * @param newKeys            the keys (name and source type) of the items
+	 *                           collected in the scanned Java sources.
+	 * @return true if the given item comes from a Java source which has been
+	 *         scanned and false otherwise.
+	 */
+	private static boolean isFromScannedSources(ItemBase item, List<String> scannedSourceTypes,
+			Set<String> newKeys) {
+		if (item == null) {
+			return true;
+		}
+		if (item.isBinary()) {
+			// the item comes from a JAR, it is never replaced by the scanned Java sources
+			return false;
+		}
+		if (newKeys.contains(getSourceKey(item))) {
+			// the item is collected again (ex : the enum type of a property declared in
+			// another Java source), replace it to avoid duplicates.
+			return true;
+		}
+		String sourceType = item.getSourceType();
+		if (sourceType != null) {
+			for (String scannedSourceType : scannedSourceTypes) {
+				if (sourceType.startsWith(scannedSourceType) && (sourceType.length() == scannedSourceType.length()
+						|| sourceType.charAt(scannedSourceType.length()) == '.')) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Add the given items collected in the scanned Java sources to the given
+	 * items. A binary item (ex : the enum type of a JAR used by a property declared
+	 * in a Java source) which is already in the given items is not added again.
+	 *
+	 * @param items        the items.
+	 * @param scannedItems the items collected in the scanned Java sources.
+	 */
+	private static <T extends ItemBase> void addScannedItems(List<T> items, List<T> scannedItems) {
+		Set<String> binaryKeys = null;
+		for (T scannedItem : scannedItems) {
+			if (scannedItem != null && scannedItem.isBinary()) {
+				if (binaryKeys == null) {
+					binaryKeys = getSourceKeys(items.stream() //
+							.filter(item -> item != null && item.isBinary()) //
+							.collect(Collectors.toList()));
+				}
+				if (!binaryKeys.add(getSourceKey(scannedItem))) {
+					continue;
+				}
+			}
+			items.add(scannedItem);
+		}
+	}
+
+	private static Set<String> getSourceKeys(List<? extends ItemBase> items) {
+		Set<String> keys = new HashSet<>(items.size());
+		for (ItemBase item : items) {
+			if (item != null) {
+				keys.add(getSourceKey(item));
+			}
+		}
+		return keys;
+	}
+
+	private static String getSourceKey(ItemBase item) {
+		return item.getName() + '#' + item.getSourceType();
+	}
+
 	private static <T extends ItemBase> void updateListFromPropertiesSources(List<T> allProperties,
 			List<T> propertiesFromJavaSources) {
 		List<? extends ItemBase> oldPropertiesFromJavaSources = allProperties.stream().filter(h -> {
@@ -167,6 +385,27 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		}
 	}
 
+	/**
+	 * Returns the cache of the property descriptions retrieved on demand and null
+	 * if the properties have their descriptions.
+	 *
+	 * @return the cache of the property descriptions retrieved on demand and null
+	 *         if the properties have their descriptions.
+	 */
+	public PropertyDescriptionsCache getPropertyDescriptionsCache() {
+		return propertyDescriptionsCache;
+	}
+
+	/**
+	 * Set the cache of the property descriptions retrieved on demand, when the
+	 * properties have been loaded without their descriptions.
+	 *
+	 * @param propertyDescriptionsCache the cache of the property descriptions.
+	 */
+	public void setPropertyDescriptionsCache(PropertyDescriptionsCache propertyDescriptionsCache) {
+		this.propertyDescriptionsCache = propertyDescriptionsCache;
+	}
+
 	public boolean isReloadFromSource() {
 		return reloadFromSource;
 	}
@@ -183,6 +422,45 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		this.dynamicProperties = dynamicProperties;
 	}
 
+	@Override
+	public void setProperties(List<ItemMetadata> properties) {
+		super.setProperties(properties);
+		propertiesChanged();
+	}
+
+	/**
+	 * Returns the generation of the properties which is incremented each time the
+	 * properties are updated.
+	 *
+	 * @return the generation of the properties.
+	 */
+	public int getGeneration() {
+		return generation.get();
+	}
+
+	/**
+	 * Returns the index of the properties by name, which is rebuilt lazily when
+	 * the properties have been updated.
+	 *
+	 * @return the index of the properties by name.
+	 */
+	public ItemMetadataIndex getPropertiesIndex() {
+		ItemMetadataIndex index = propertiesIndex;
+		int currentGeneration = generation.get();
+		if (index == null || index.getGeneration() != currentGeneration) {
+			// the properties list is a CopyOnWriteArrayList, iterating it works on a
+			// snapshot. If the properties are updated during the build, the index will
+			// have an old generation and will be rebuilt on the next call.
+			index = new ItemMetadataIndex(getProperties(), currentGeneration);
+			propertiesIndex = index;
+		}
+		return index;
+	}
+
+	private void propertiesChanged() {
+		generation.incrementAndGet();
+	}
+
 	/**
 	 * Update custom properties.
 	 * 
@@ -222,6 +500,7 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 						if (newProperties != null) {
 							getProperties().addAll(newProperties);
 						}
+						propertiesChanged();
 					}
 				}
 			}
@@ -230,4 +509,4 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		}
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
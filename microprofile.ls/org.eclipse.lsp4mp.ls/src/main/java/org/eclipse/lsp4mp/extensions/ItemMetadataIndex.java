@@ -0,0 +1,184 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.extensions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.utils.EnvUtils;
+import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
+
+/**
+ * Index of {@link ItemMetadata} by property name.
+ *
+ * <p>
+ * The index is an immutable snapshot of a list of properties which provides:
+ * </p>
+ *
+ * <ul>
+ * <li>an exact-name lookup.</li>
+ * <li>a matcher of the mapped (<code>{*}</code>) and index array
+ * (<code>[*]</code>) properties, which resolves a property name with all the
+ * patterns in one pass.</li>
+ * <li>a case-insensitive lookup for environment variables.</li>
+ * <li>the list of properties sorted by name, the list of properties sorted by
+ * name by ignoring the case and the segments of the property names, used to
+ * filter the properties by a prefix (ex : completion).</li>
+ * </ul>
+ *
+ * <p>
+ * When several properties have the same name, the first property of the list
+ * wins, like a sequential search in the list does.
+ * </p>
+ *
+ */
+public class ItemMetadataIndex {
+
+	private final int generation;
+
+	private final Map<String, ItemMetadata> propertiesByName;
+
+	private final PropertyPatternMatcher patternProperties;
+
+	private final Map<String, ItemMetadata> environmentVariablesIgnoreCase;
+
+	private final List<ItemMetadata> sortedProperties;
+
+	// computed on the first completion
+	private List<ItemMetadata> sortedPropertiesIgnoreCase;
+
+	private List<String[]> sortedPropertySegments;
+
+	public ItemMetadataIndex(Collection<ItemMetadata> properties, int generation) {
+		this.generation = generation;
+		this.propertiesByName = new HashMap<>(properties.size() * 2);
+		this.patternProperties = new PropertyPatternMatcher();
+		this.environmentVariablesIgnoreCase = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		List<ItemMetadata> sortedProperties = new ArrayList<>(properties.size());
+		for (ItemMetadata property : properties) {
+			if (property == null) {
+				continue;
+			}
+			String name = property.getName();
+			if (name == null) {
+				continue;
+			}
+			sortedProperties.add(property);
+			if (PropertiesFileUtils.isMappedProperty(name) || PropertiesFileUtils.isIndexArrayProperty(name)) {
+				patternProperties.add(property);
+			} else {
+				propertiesByName.putIfAbsent(name, property);
+			}
+			if (EnvUtils.ENVIRONMENT_VARIABLES_ORIGIN.equals(property.getOrigin())) {
+				environmentVariablesIgnoreCase.putIfAbsent(name, property);
+			}
+		}
+		// the sort is stable, properties which have the same name keep the list order
+		sortedProperties.sort(Comparator.comparing(ItemMetadata::getName));
+		this.sortedProperties = Collections.unmodifiableList(sortedProperties);
+	}
+
+	/**
+	 * Returns the generation of the project information used to build this
+	 * index.
+	 *
+	 * @return the generation of the project information used to build this
+	 *         index.
+	 */
+	public int getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Returns the property which matches the given property name and null
+	 * otherwise.
+	 *
+	 * <p>
+	 * The exact name lookup is done first, then the mapped / index array
+	 * properties are matched.
+	 * </p>
+	 *
+	 * @param propertyName the property name.
+	 * @return the property which matches the given property name and null
+	 *         otherwise.
+	 */
+	public ItemMetadata findProperty(String propertyName) {
+		ItemMetadata property = propertiesByName.get(propertyName);
+		if (property != null) {
+			return property;
+		}
+		return patternProperties.findProperty(propertyName);
+	}
+
+	/**
+	 * Returns the environment variable property which matches the given name by
+	 * ignoring the case and null otherwise.
+	 *
+	 * @param propertyName the property name.
+	 * @return the environment variable property which matches the given name by
+	 *         ignoring the case and null otherwise.
+	 */
+	public ItemMetadata findEnvironmentVariableIgnoreCase(String propertyName) {
+		return environmentVariablesIgnoreCase.get(propertyName);
+	}
+
+	/**
+	 * Returns the properties sorted by name.
+	 *
+	 * @return the properties sorted by name.
+	 */
+	public List<ItemMetadata> getSortedProperties() {
+		return sortedProperties;
+	}
+
+	/**
+	 * Returns the properties sorted by name by ignoring the case.
+	 *
+	 * @return the properties sorted by name by ignoring the case.
+	 */
+	public synchronized List<ItemMetadata> getSortedPropertiesIgnoreCase() {
+		if (sortedPropertiesIgnoreCase == null) {
+			List<ItemMetadata> properties = new ArrayList<>(sortedProperties);
+			properties.sort(Comparator.comparing(ItemMetadata::getName, String.CASE_INSENSITIVE_ORDER));
+			sortedPropertiesIgnoreCase = Collections.unmodifiableList(properties);
+		}
+		return sortedPropertiesIgnoreCase;
+	}
+
+	/**
+	 * Returns the segments of the property names (see
+	 * {@link PropertiesFileUtils#getPropertyNameSegments(String)}) in the order of
+	 * the {@link #getSortedProperties() sorted properties}.
+	 *
+	 * @return the segments of the property names in the order of the sorted
+	 *         properties.
+	 */
+	public synchronized List<String[]> getSortedPropertySegments() {
+		if (sortedPropertySegments == null) {
+			List<String[]> segments = new ArrayList<>(sortedProperties.size());
+			for (ItemMetadata property : sortedProperties) {
+				segments.add(PropertiesFileUtils.getPropertyNameSegments(property.getName()));
+			}
+			sortedPropertySegments = Collections.unmodifiableList(segments);
+		}
+		return sortedPropertySegments;
+	}
+}
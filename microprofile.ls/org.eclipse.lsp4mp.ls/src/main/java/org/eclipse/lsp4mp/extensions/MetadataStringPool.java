@@ -0,0 +1,137 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.extensions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+
+/**
+ * Pool of the strings of the MicroProfile properties and hints of a project.
+ *
+ * <p>
+ * The project information deserialized from the JSON response creates a new
+ * string for each occurrence of a type (ex : 'java.lang.String'), a source type,
+ * an extension name, etc. Those strings are replaced with a canonical instance
+ * stored in this pool to share them between the properties and hints of the
+ * project.
+ * </p>
+ *
+ */
+class MetadataStringPool {
+
+	private final Map<String, String> strings;
+
+	public MetadataStringPool() {
+		this.strings = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the canonical instance of the given string.
+	 *
+	 * @param value the string.
+	 * @return the canonical instance of the given string.
+	 */
+	public String get(String value) {
+		if (value == null) {
+			return null;
+		}
+		String existing = strings.putIfAbsent(value, value);
+		return existing != null ? existing : value;
+	}
+
+	/**
+	 * Replace the strings of the properties and hints of the given project
+	 * information with their canonical instances.
+	 *
+	 * @param projectInfo the project information.
+	 */
+	public void canonicalize(MicroProfileProjectInfo projectInfo) {
+		canonicalizeProperties(projectInfo.getProperties());
+		canonicalizeHints(projectInfo.getHints());
+	}
+
+	/**
+	 * Replace the strings of the given properties with their canonical instances.
+	 *
+	 * @param properties the properties.
+	 */
+	public void canonicalizeProperties(List<ItemMetadata> properties) {
+		if (properties == null) {
+			return;
+		}
+		for (ItemMetadata property : properties) {
+			if (property != null) {
+				canonicalize(property);
+			}
+		}
+	}
+
+	/**
+	 * Replace the strings of the given hints with their canonical instances.
+	 *
+	 * @param hints the hints.
+	 */
+	public void canonicalizeHints(List<ItemHint> hints) {
+		if (hints == null) {
+			return;
+		}
+		for (ItemHint hint : hints) {
+			if (hint != null) {
+				canonicalize(hint);
+			}
+		}
+	}
+
+	private void canonicalize(ItemMetadata property) {
+		// the name is unique, it is not stored in the pool
+		property.setDescription(get(property.getDescription()));
+		property.setSourceType(get(property.getSourceType()));
+		property.setOrigin(get(property.getOrigin()));
+		property.setType(get(property.getType()));
+		property.setDefaultValue(get(property.getDefaultValue()));
+		property.setExtensionName(get(property.getExtensionName()));
+	}
+
+	private void canonicalize(ItemHint hint) {
+		hint.setName(get(hint.getName()));
+		hint.setDescription(get(hint.getDescription()));
+		hint.setSourceType(get(hint.getSourceType()));
+		hint.setOrigin(get(hint.getOrigin()));
+		List<ValueHint> values = hint.getValues();
+		if (values != null) {
+			for (ValueHint value : values) {
+				if (value != null) {
+					value.setValue(get(value.getValue()));
+					value.setDescription(get(value.getDescription()));
+					value.setSourceType(get(value.getSourceType()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of strings of the pool.
+	 *
+	 * @return the number of strings of the pool.
+	 */
+	int size() {
+		return strings.size();
+	}
+}
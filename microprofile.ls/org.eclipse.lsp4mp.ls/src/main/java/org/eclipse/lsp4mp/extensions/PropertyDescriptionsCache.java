@@ -0,0 +1,206 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.extensions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDescriptionsParams;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDescriptionsProvider;
+
+/**
+ * Bounded LRU cache of the property descriptions retrieved on demand when the
+ * descriptions are excluded from the MicroProfile project information.
+ *
+ * <p>
+ * The descriptions are loaded in batch with the
+ * "microprofile/propertyDescriptions" request (ex : for the first items of a
+ * completion list) and read synchronously when the documentation of a
+ * property is computed (hover, completion resolve). A property which has no
+ * description is cached too to avoid requesting it again.
+ * </p>
+ *
+ * <p>
+ * The descriptions are retrieved with the document format used to load the
+ * project information, like the descriptions of a project information which
+ * contains them.
+ * </p>
+ *
+ */
+public class PropertyDescriptionsCache {
+
+	private static final Logger LOGGER = Logger.getLogger(PropertyDescriptionsCache.class.getName());
+
+	public static final int DEFAULT_MAX_SIZE = 500;
+
+	private static final String NO_DESCRIPTION = "";
+
+	private final MicroProfilePropertyDescriptionsProvider provider;
+
+	private final Supplier<DocumentFormat> documentFormat;
+
+	private final Map<String, String> descriptions;
+
+	public PropertyDescriptionsCache(MicroProfilePropertyDescriptionsProvider provider,
+			Supplier<DocumentFormat> documentFormat) {
+		this(provider, documentFormat, DEFAULT_MAX_SIZE);
+	}
+
+	public PropertyDescriptionsCache(MicroProfilePropertyDescriptionsProvider provider,
+			Supplier<DocumentFormat> documentFormat, int maxSize) {
+		this.provider = provider;
+		this.documentFormat = documentFormat;
+		this.descriptions = new LinkedHashMap<String, String>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns the description of the given property and null if the property has
+	 * no description or if the description is not loaded.
+	 *
+	 * @param uri      the properties file URI.
+	 * @param property the property.
+	 * @return the description of the given property and null if the property has
+	 *         no description or if the description is not loaded.
+	 */
+	public String getDescription(String uri, ItemMetadata property) {
+		if (property.getDescription() != null) {
+			return property.getDescription();
+		}
+		String description;
+		synchronized (descriptions) {
+			description = descriptions.get(getKey(uri, property.getName()));
+		}
+		return NO_DESCRIPTION.equals(description) ? null : description;
+	}
+
+	/**
+	 * Load the descriptions of the given properties which are not loaded with one
+	 * request.
+	 *
+	 * @param uri        the properties file URI.
+	 * @param properties the properties.
+	 * @return the future which loads the descriptions.
+	 */
+	public CompletableFuture<Void> loadDescriptions(String uri, Collection<ItemMetadata> properties) {
+		List<String> propertyNames = new ArrayList<>();
+		synchronized (descriptions) {
+			for (ItemMetadata property : properties) {
+				if (property != null && property.getDescription() == null
+						&& !descriptions.containsKey(getKey(uri, property.getName()))
+						&& !propertyNames.contains(property.getName())) {
+					propertyNames.add(property.getName());
+				}
+			}
+		}
+		if (propertyNames.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		MicroProfilePropertyDescriptionsParams params = new MicroProfilePropertyDescriptionsParams();
+		params.setUri(uri);
+		params.setPropertyNames(propertyNames);
+		params.setDocumentFormat(documentFormat.get());
+		return provider.getPropertyDescriptions(params) //
+				.exceptionally(e -> {
+					LOGGER.log(Level.WARNING,
+							String.format("Error while getting MicroProfile property descriptions for '%s'", uri), e);
+					return null;
+				}) //
+				.thenAccept(result -> {
+					if (result == null) {
+						return;
+					}
+					synchronized (descriptions) {
+						for (String propertyName : propertyNames) {
+							String description = result.get(propertyName);
+							descriptions.put(getKey(uri, propertyName),
+									description != null ? description : NO_DESCRIPTION);
+						}
+					}
+				});
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	public void clear() {
+		synchronized (descriptions) {
+			descriptions.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of cached descriptions.
+	 *
+	 * @return the number of cached descriptions.
+	 */
+	int size() {
+		synchronized (descriptions) {
+			return descriptions.size();
+		}
+	}
+
+	/**
+	 * Returns the description cache of the given project information and null if
+	 * the descriptions are not excluded from the project information.
+	 *
+	 * @param projectInfo the project information.
+	 * @return the description cache of the given project information and null if
+	 *         the descriptions are not excluded from the project information.
+	 */
+	public static PropertyDescriptionsCache getCache(MicroProfileProjectInfo projectInfo) {
+		if (projectInfo instanceof ExtendedMicroProfileProjectInfo) {
+			return ((ExtendedMicroProfileProjectInfo) projectInfo).getPropertyDescriptionsCache();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the description of the given property by using the description
+	 * cache of the given project information if needed.
+	 *
+	 * @param property    the property.
+	 * @param projectInfo the project information.
+	 * @param uri         the properties file URI.
+	 * @return the description of the given property and null otherwise.
+	 */
+	public static String getDescription(ItemMetadata property, MicroProfileProjectInfo projectInfo, String uri) {
+		PropertyDescriptionsCache cache = getCache(projectInfo);
+		if (cache == null || uri == null) {
+			return property.getDescription();
+		}
+		return cache.getDescription(uri, property);
+	}
+
+	private static String getKey(String uri, String propertyName) {
+		return new StringBuilder(uri).append('|').append(propertyName).toString();
+	}
+}
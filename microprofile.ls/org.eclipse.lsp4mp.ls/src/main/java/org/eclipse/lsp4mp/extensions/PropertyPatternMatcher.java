@@ -0,0 +1,222 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.extensions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+
+/**
+ * Matcher of the mapped (<code>{*}</code>) and index array (<code>[*]</code>)
+ * properties of a project.
+ *
+ * <p>
+ * The property name patterns are compiled in a radix tree where the literal
+ * parts of the patterns are the edges shared by the patterns which have the
+ * same prefix, and where <code>{*}</code> and <code>[*]</code> are wildcard
+ * edges which consume a key (ex : 'foo', '"foo.bar"', '[0]'). A property name
+ * is resolved with one walk of the tree instead of matching it with each
+ * pattern.
+ * </p>
+ *
+ * <p>
+ * When several patterns match a property name, the first added pattern wins,
+ * like a sequential search in the list of properties does.
+ * </p>
+ *
+ */
+class PropertyPatternMatcher {
+
+	private static final String KEY_MAP = "{*}";
+
+	private static final String INDEX_ARRAY = "[*]";
+
+	private static class Node {
+
+		// the literal label of the edge which leads to this node, empty for the root
+		// and the wildcard nodes
+		private String label;
+
+		// the literal children by the first character of their label
+		private Map<Character, Node> children;
+
+		private Node wildcard;
+
+		private ItemMetadata property;
+
+		private int order;
+
+		Node(String label) {
+			this.label = label;
+		}
+
+		Node getChild(char c) {
+			return children != null ? children.get(c) : null;
+		}
+
+		void putChild(Node child) {
+			if (children == null) {
+				children = new HashMap<>(4);
+			}
+			children.put(child.label.charAt(0), child);
+		}
+	}
+
+	private static class MatchResult {
+
+		private ItemMetadata property;
+
+		private int order = Integer.MAX_VALUE;
+	}
+
+	private final Node root;
+
+	private int size;
+
+	public PropertyPatternMatcher() {
+		this.root = new Node("");
+	}
+
+	/**
+	 * Add the given mapped / index array property.
+	 *
+	 * @param property the property which has a name with <code>{*}</code> or
+	 *                 <code>[*]</code>.
+	 */
+	public void add(ItemMetadata property) {
+		String pattern = property.getName();
+		Node node = root;
+		int start = 0;
+		int i = 0;
+		while (i < pattern.length()) {
+			if (pattern.startsWith(KEY_MAP, i) || pattern.startsWith(INDEX_ARRAY, i)) {
+				node = addLiteral(node, pattern, start, i);
+				if (node.wildcard == null) {
+					node.wildcard = new Node("");
+				}
+				node = node.wildcard;
+				i += 3;
+				start = i;
+			} else {
+				i++;
+			}
+		}
+		node = addLiteral(node, pattern, start, pattern.length());
+		if (node.property == null) {
+			node.property = property;
+			node.order = size;
+		}
+		size++;
+	}
+
+	/**
+	 * Returns the property which matches the given property name and null
+	 * otherwise.
+	 *
+	 * @param propertyName the property name.
+	 * @return the property which matches the given property name and null
+	 *         otherwise.
+	 */
+	public ItemMetadata findProperty(String propertyName) {
+		if (size == 0) {
+			return null;
+		}
+		MatchResult result = new MatchResult();
+		match(root, propertyName, 0, result);
+		return result.property;
+	}
+
+	private static Node addLiteral(Node node, String pattern, int start, int end) {
+		int i = start;
+		while (i < end) {
+			Node child = node.getChild(pattern.charAt(i));
+			if (child == null) {
+				child = new Node(pattern.substring(i, end));
+				node.putChild(child);
+				return child;
+			}
+			String label = child.label;
+			int common = 0;
+			while (common < label.length() && i + common < end
+					&& label.charAt(common) == pattern.charAt(i + common)) {
+				common++;
+			}
+			if (common < label.length()) {
+				// split the edge
+				Node middle = new Node(label.substring(0, common));
+				child.label = label.substring(common);
+				middle.putChild(child);
+				node.putChild(middle);
+				child = middle;
+			}
+			node = child;
+			i += common;
+		}
+		return node;
+	}
+
+	private static void match(Node node, String propertyName, int index, MatchResult result) {
+		if (index == propertyName.length()) {
+			if (node.property != null && node.order < result.order) {
+				result.property = node.property;
+				result.order = node.order;
+			}
+		}
+		if (node.wildcard != null) {
+			int end = skipKey(propertyName, index);
+			if (end != -1) {
+				match(node.wildcard, propertyName, end, result);
+			}
+		}
+		if (index < propertyName.length()) {
+			Node child = node.getChild(propertyName.charAt(index));
+			if (child != null && propertyName.startsWith(child.label, index)) {
+				match(child, propertyName, index + child.label.length(), result);
+			}
+		}
+	}
+
+	/**
+	 * Returns the end index of the key which starts at the given index in the
+	 * given property name and -1 if there is no key.
+	 *
+	 * <p>
+	 * A key ends with the next '.' which is not escaped, or with the closing
+	 * quote when the key starts with a quote (ex : '"foo.bar"').
+	 * </p>
+	 *
+	 * @param propertyName the property name.
+	 * @param start        the start index of the key.
+	 * @return the end index of the key which starts at the given index in the
+	 *         given property name and -1 if there is no key.
+	 */
+	private static int skipKey(String propertyName, int start) {
+		int length = propertyName.length();
+		if (start >= length) {
+			return -1;
+		}
+		if (propertyName.charAt(start) == '"') {
+			int end = propertyName.indexOf('"', start + 1);
+			return end != -1 ? end + 1 : length;
+		}
+		for (int i = start + 1; i < length; i++) {
+			if (propertyName.charAt(i) == '.' && propertyName.charAt(i - 1) != '\\'
+					&& (i < 2 || propertyName.charAt(i - 2) != '\\')) {
+				return i;
+			}
+		}
+		return length;
+	}
+}
@@ -13,8 +13,15 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.ClientCapabilities;
 import org.eclipse.lsp4j.CodeAction;
@@ -26,6 +33,9 @@ import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4j.CompletionParams;
 import org.eclipse.lsp4j.DefinitionParams;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DocumentDiagnosticParams;
+import org.eclipse.lsp4j.DocumentDiagnosticReport;
 import org.eclipse.lsp4j.DocumentFormattingParams;
 import org.eclipse.lsp4j.DocumentHighlight;
 import org.eclipse.lsp4j.DocumentHighlightParams;
@@ -39,12 +49,22 @@ import org.eclipse.lsp4j.InlayHintParams;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.LocationLink;
 import org.eclipse.lsp4j.MarkupKind;
+import org.eclipse.lsp4j.PreviousResultId;
+import org.eclipse.lsp4j.RelatedFullDocumentDiagnosticReport;
+import org.eclipse.lsp4j.RelatedUnchangedDocumentDiagnosticReport;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.TextDocumentClientCapabilities;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceFullDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceUnchangedDocumentDiagnosticReport;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.TextDocumentService;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.ls.commons.DiagnosticsPublisher;
+import org.eclipse.lsp4mp.ls.commons.TextDocument;
 import org.eclipse.lsp4mp.settings.SharedSettings;
 
 /**
@@ -61,16 +81,28 @@ public abstract class AbstractTextDocumentService implements TextDocumentService
 
 	protected final SharedSettings sharedSettings;
 
+	protected final DiagnosticsPublisher diagnosticsPublisher;
+
 	private boolean hierarchicalDocumentSymbolSupport;
 
 	private boolean definitionLinkSupport;
 
+	private boolean pullDiagnosticsSupport;
+
+	private boolean diagnosticsRefreshSupport;
+
 	private DocumentFormat documentFormat;
 
 	public AbstractTextDocumentService(MicroProfileLanguageServer microprofileLanguageServer,
 			SharedSettings sharedSettings) {
 		this.microprofileLanguageServer = microprofileLanguageServer;
 		this.sharedSettings = sharedSettings;
+		this.diagnosticsPublisher = new DiagnosticsPublisher(
+				diagnostics -> microprofileLanguageServer.getLanguageClient().publishDiagnostics(diagnostics), () -> {
+					if (diagnosticsRefreshSupport) {
+						microprofileLanguageServer.getLanguageClient().refreshDiagnostics();
+					}
+				});
 		this.documentFormat = DocumentFormat.PlainText;
 	}
 
@@ -88,6 +120,7 @@ public abstract class AbstractTextDocumentService implements TextDocumentService
 			definitionLinkSupport = textDocumentClientCapabilities.getDefinition() != null
 					&& textDocumentClientCapabilities.getDefinition().getLinkSupport() != null
 					&& textDocumentClientCapabilities.getDefinition().getLinkSupport();
+			pullDiagnosticsSupport = textDocumentClientCapabilities.getDiagnostic() != null;
 			// Update document format
 			if (textDocumentClientCapabilities.getCompletion() != null
 					&& textDocumentClientCapabilities.getCompletion().getCompletionItem() != null
@@ -102,6 +135,10 @@ public abstract class AbstractTextDocumentService implements TextDocumentService
 				documentFormat = DocumentFormat.Markdown;
 			}
 		}
+		diagnosticsRefreshSupport = capabilities.getWorkspace() != null
+				&& capabilities.getWorkspace().getDiagnostics() != null
+				&& capabilities.getWorkspace().getDiagnostics().getRefreshSupport() != null
+				&& capabilities.getWorkspace().getDiagnostics().getRefreshSupport();
 	}
 
 	@Override
@@ -166,6 +203,130 @@ public abstract class AbstractTextDocumentService implements TextDocumentService
 		return CompletableFuture.completedFuture(null);
 	}
 
+	@Override
+	public CompletableFuture<DocumentDiagnosticReport> diagnostic(DocumentDiagnosticParams params) {
+		return CompletableFuture.completedFuture(createDiagnosticReport(new ArrayList<>(), null));
+	}
+
+	/**
+	 * Returns the diagnostics reports of the opened documents for the
+	 * 'workspace/diagnostic' request.
+	 *
+	 * @param params the workspace diagnostic parameters.
+	 * @return the diagnostics reports of the opened documents.
+	 */
+	public CompletableFuture<List<WorkspaceDocumentDiagnosticReport>> workspaceDiagnostic(
+			WorkspaceDiagnosticParams params) {
+		return CompletableFuture.completedFuture(Collections.emptyList());
+	}
+
+	/**
+	 * Returns the diagnostics reports of the given opened documents for the
+	 * 'workspace/diagnostic' request.
+	 *
+	 * @param params    the workspace diagnostic parameters.
+	 * @param documents the opened documents.
+	 * @return the diagnostics reports of the given opened documents.
+	 */
+	protected CompletableFuture<List<WorkspaceDocumentDiagnosticReport>> workspaceDiagnostic(
+			WorkspaceDiagnosticParams params, Collection<? extends TextDocument> documents) {
+		Map<String, String> previousResultIds = new HashMap<>();
+		if (params.getPreviousResultIds() != null) {
+			for (PreviousResultId previousResultId : params.getPreviousResultIds()) {
+				previousResultIds.put(previousResultId.getUri(), previousResultId.getValue());
+			}
+		}
+		List<CompletableFuture<WorkspaceDocumentDiagnosticReport>> reports = documents.stream() //
+				.map(document -> {
+					String uri = document.getUri();
+					int version = document.getVersion();
+					DocumentDiagnosticParams documentParams = new DocumentDiagnosticParams(
+							new TextDocumentIdentifier(uri));
+					documentParams.setPreviousResultId(previousResultIds.get(uri));
+					return diagnostic(documentParams) //
+							.thenApply(report -> createWorkspaceDiagnosticReport(uri, version, report)) //
+							.exceptionally(e -> null);
+				}) //
+				.collect(Collectors.toList());
+		return CompletableFuture.allOf(reports.toArray(new CompletableFuture[reports.size()])) //
+				.thenApply(_void -> reports.stream() //
+						.map(report -> report.getNow(null)) //
+						.filter(Objects::nonNull) //
+						.collect(Collectors.toList()));
+	}
+
+	/**
+	 * Returns the diagnostics report with the given diagnostics.
+	 *
+	 * @param diagnostics the diagnostics.
+	 * @param resultId    the result id and null otherwise.
+	 * @return the diagnostics report with the given diagnostics.
+	 */
+	protected static DocumentDiagnosticReport createDiagnosticReport(List<Diagnostic> diagnostics, String resultId) {
+		RelatedFullDocumentDiagnosticReport report = new RelatedFullDocumentDiagnosticReport(diagnostics);
+		report.setResultId(resultId);
+		return new DocumentDiagnosticReport(report);
+	}
+
+	/**
+	 * Returns the report of the unchanged diagnostics if the given previous result
+	 * id is the current result id and null otherwise.
+	 *
+	 * @param params   the document diagnostic parameters.
+	 * @param resultId the current result id of the diagnostics of the document.
+	 * @return the report of the unchanged diagnostics if the given previous result
+	 *         id is the current result id and null otherwise.
+	 */
+	protected static DocumentDiagnosticReport getUnchangedDiagnosticReport(DocumentDiagnosticParams params,
+			String resultId) {
+		if (resultId.equals(params.getPreviousResultId())) {
+			return new DocumentDiagnosticReport(new RelatedUnchangedDocumentDiagnosticReport(resultId));
+		}
+		return null;
+	}
+
+	private static WorkspaceDocumentDiagnosticReport createWorkspaceDiagnosticReport(String uri, int version,
+			DocumentDiagnosticReport report) {
+		if (report.isRelatedUnchangedDocumentDiagnosticReport()) {
+			return new WorkspaceDocumentDiagnosticReport(new WorkspaceUnchangedDocumentDiagnosticReport(
+					report.getRelatedUnchangedDocumentDiagnosticReport().getResultId(), uri, version));
+		}
+		RelatedFullDocumentDiagnosticReport fullReport = report.getRelatedFullDocumentDiagnosticReport();
+		WorkspaceFullDocumentDiagnosticReport workspaceReport = new WorkspaceFullDocumentDiagnosticReport(
+				fullReport.getItems(), uri, version);
+		workspaceReport.setResultId(fullReport.getResultId());
+		return new WorkspaceDocumentDiagnosticReport(workspaceReport);
+	}
+
+	/**
+	 * Returns true if the client pulls the diagnostics (LSP 3.17
+	 * 'textDocument/diagnostic') instead of receiving the published diagnostics
+	 * and false otherwise.
+	 *
+	 * @return true if the client pulls the diagnostics and false otherwise.
+	 */
+	public boolean isPullDiagnosticsSupport() {
+		return pullDiagnosticsSupport;
+	}
+
+	/**
+	 * Returns true if the client can be asked to pull the diagnostics again (LSP
+	 * 3.17 'workspace/diagnostic/refresh') and false otherwise.
+	 *
+	 * <p>
+	 * When the client pulls the diagnostics without supporting the refresh, the
+	 * diagnostics of the documents invalidated by a change of another document
+	 * (ex : project information, classpath or config files changes) must be
+	 * published, otherwise the client shows them only when the document changes.
+	 * </p>
+	 *
+	 * @return true if the client can be asked to pull the diagnostics again and
+	 *         false otherwise.
+	 */
+	public boolean isDiagnosticsRefreshSupport() {
+		return diagnosticsRefreshSupport;
+	}
+
 	public boolean isHierarchicalDocumentSymbolSupport() {
 		return hierarchicalDocumentSymbolSupport;
 	}
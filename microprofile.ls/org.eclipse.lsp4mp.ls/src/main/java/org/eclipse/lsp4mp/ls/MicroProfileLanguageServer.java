@@ -31,7 +31,6 @@ import org.eclipse.lsp4j.ServerCapabilities;
 import org.eclipse.lsp4j.SetTraceParams;
 import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.LanguageServer;
-import org.eclipse.lsp4j.services.TextDocumentService;
 import org.eclipse.lsp4j.services.WorkspaceService;
 import org.eclipse.lsp4mp.commons.JavaFileInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaFileInfoParams;
@@ -192,7 +191,7 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 		// FIXME: implement the behavior of this method.
 	}
 
-	public TextDocumentService getTextDocumentService() {
+	public MicroProfileTextDocumentService getTextDocumentService() {
 		return this.textDocumentService;
 	}
 
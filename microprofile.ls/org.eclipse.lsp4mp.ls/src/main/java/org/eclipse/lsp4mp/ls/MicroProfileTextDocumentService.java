@@ -13,6 +13,7 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +33,8 @@ import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.DidSaveTextDocumentParams;
+import org.eclipse.lsp4j.DocumentDiagnosticParams;
+import org.eclipse.lsp4j.DocumentDiagnosticReport;
 import org.eclipse.lsp4j.DocumentFormattingParams;
 import org.eclipse.lsp4j.DocumentHighlight;
 import org.eclipse.lsp4j.DocumentHighlightParams;
@@ -44,11 +47,15 @@ import org.eclipse.lsp4j.InlayHint;
 import org.eclipse.lsp4j.InlayHintParams;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.LocationLink;
+import org.eclipse.lsp4j.RelatedFullDocumentDiagnosticReport;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.TextDocumentClientCapabilities;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.TextDocumentService;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
@@ -109,6 +116,8 @@ public class MicroProfileTextDocumentService implements TextDocumentService {
 			sharedSettings.getCommandCapabilities().setCapabilities(extendedClientCapabilities.getCommands());
 		}
 		applicationPropertiesTextDocumentService.updateClientCapabilities(capabilities);
+		applicationPropertiesTextDocumentService.setLazyPropertyDescriptionsSupport(
+				extendedClientCapabilities != null && extendedClientCapabilities.isLazyPropertyDescriptionsSupport());
 		javaTextDocumentService.updateClientCapabilities(capabilities);
 	}
 
@@ -262,6 +271,35 @@ public class MicroProfileTextDocumentService implements TextDocumentService {
 		return CompletableFuture.completedFuture(null);
 	}
 
+	@Override
+	public CompletableFuture<DocumentDiagnosticReport> diagnostic(DocumentDiagnosticParams params) {
+		TextDocumentService service = getTextDocumentService(params.getTextDocument());
+		if (service != null) {
+			return service.diagnostic(params);
+		}
+		return CompletableFuture.completedFuture(
+				new DocumentDiagnosticReport(new RelatedFullDocumentDiagnosticReport(new ArrayList<>())));
+	}
+
+	/**
+	 * Returns the diagnostics of the opened properties and Java files for the
+	 * 'workspace/diagnostic' request.
+	 *
+	 * @param params the workspace diagnostic parameters.
+	 * @return the diagnostics of the opened properties and Java files.
+	 */
+	public CompletableFuture<WorkspaceDiagnosticReport> workspaceDiagnostic(WorkspaceDiagnosticParams params) {
+		CompletableFuture<List<WorkspaceDocumentDiagnosticReport>> propertiesReports = applicationPropertiesTextDocumentService
+				.workspaceDiagnostic(params);
+		CompletableFuture<List<WorkspaceDocumentDiagnosticReport>> javaReports = javaTextDocumentService
+				.workspaceDiagnostic(params);
+		return propertiesReports.thenCombine(javaReports, (properties, java) -> {
+			List<WorkspaceDocumentDiagnosticReport> reports = new ArrayList<>(properties);
+			reports.addAll(java);
+			return new WorkspaceDiagnosticReport(reports);
+		});
+	}
+
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
 		applicationPropertiesTextDocumentService.propertiesChanged(event);
 		javaTextDocumentService.propertiesChanged(event);
@@ -23,7 +23,8 @@ import org.eclipse.lsp4j.services.LanguageClient;
  */
 public interface MicroProfileLanguageClientAPI
 		extends LanguageClient, MicroProfileProjectInfoProvider, MicroProfilePropertyDefinitionProvider,
-		MicroProfilePropertyDocumentationProvider, MicroProfileJavaCodeActionProvider, MicroProfileJavaCodeLensProvider,
+		MicroProfilePropertyDocumentationProvider, MicroProfilePropertyDescriptionsProvider,
+		MicroProfileJavaCodeActionProvider, MicroProfileJavaCodeLensProvider,
 		MicroProfileJavaCompletionProvider, MicroProfileJavaDiagnosticsProvider, MicroProfileJavaDefinitionProvider,
 		MicroProfileJavaHoverProvider, MicroProfileJavaProjectLabelsProvider, MicroProfileJavaFileInfoProvider,
 		MicroProfileJavaCodeActionResolveProvider, MicroProfileJavaCursorContextProvider, MicroProfileJavaWorkspaceSymbolsProvider {
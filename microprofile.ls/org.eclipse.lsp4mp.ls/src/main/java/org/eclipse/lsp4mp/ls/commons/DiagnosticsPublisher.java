@@ -0,0 +1,246 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+
+/**
+ * Publish the diagnostics of the documents to the client.
+ *
+ * <p>
+ * The diagnostics of a document are published only if they are different from
+ * the last diagnostics published for the document. When several documents are
+ * validated at the same time (ex : all the opened documents after a change of
+ * the classpath), the diagnostics are published at most once per publish
+ * interval: the diagnostics computed during an interval are published together
+ * at the end of the interval and only the last diagnostics of each document
+ * are published.
+ * </p>
+ *
+ * <p>
+ * When the client pulls the diagnostics (LSP 3.17
+ * <code>textDocument/diagnostic</code>), the diagnostics are not published but
+ * a result id is given to the diagnostics of a document. The result id changes
+ * with the version of the document and when the diagnostics of the document are
+ * invalidated (ex : the project information has changed), and the client is
+ * asked to pull the diagnostics again.
+ * </p>
+ *
+ */
+public class DiagnosticsPublisher {
+
+	public static final long DEFAULT_PUBLISH_INTERVAL_MS = 50;
+
+	private final Consumer<PublishDiagnosticsParams> publisher;
+
+	private final Runnable refresher;
+
+	private final ScheduledExecutorService executorService;
+
+	private final long publishIntervalMs;
+
+	private final Map<String /* document URI */, List<Diagnostic>> publishedDiagnostics;
+
+	private final Map<String /* document URI */, PublishDiagnosticsParams> pendingDiagnostics;
+
+	private long lastPublishTime;
+
+	private boolean publishScheduled;
+
+	private final Map<String /* document URI */, Long> documentGenerations;
+
+	// the number of times the diagnostics of a document have been cleared, to skip
+	// the diagnostics computed before the document was closed
+	private final Map<String /* document URI */, Long> clearGenerations;
+
+	private boolean refreshScheduled;
+
+	public DiagnosticsPublisher(Consumer<PublishDiagnosticsParams> publisher, Runnable refresher) {
+		this(Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "MicroProfile diagnostics publisher");
+			thread.setDaemon(true);
+			return thread;
+		}), publisher, refresher, DEFAULT_PUBLISH_INTERVAL_MS);
+	}
+
+	public DiagnosticsPublisher(ScheduledExecutorService executorService, Consumer<PublishDiagnosticsParams> publisher,
+			long publishIntervalMs) {
+		this(executorService, publisher, () -> {
+		}, publishIntervalMs);
+	}
+
+	public DiagnosticsPublisher(ScheduledExecutorService executorService, Consumer<PublishDiagnosticsParams> publisher,
+			Runnable refresher, long publishIntervalMs) {
+		this.executorService = executorService;
+		this.publisher = publisher;
+		this.refresher = refresher;
+		this.publishIntervalMs = publishIntervalMs;
+		this.publishedDiagnostics = new HashMap<>();
+		this.pendingDiagnostics = new LinkedHashMap<>();
+		this.documentGenerations = new HashMap<>();
+		this.clearGenerations = new HashMap<>();
+	}
+
+	/**
+	 * Publish the given diagnostics if they have changed since the last publish of
+	 * the diagnostics of the document.
+	 *
+	 * @param diagnostics the diagnostics of a document.
+	 */
+	public void publishDiagnostics(PublishDiagnosticsParams diagnostics) {
+		long clearGeneration;
+		synchronized (pendingDiagnostics) {
+			long now = System.currentTimeMillis();
+			long delay = lastPublishTime + publishIntervalMs - now;
+			if (publishScheduled || delay > 0) {
+				// some diagnostics have been published just before, publish the diagnostics
+				// at the end of the publish interval.
+				pendingDiagnostics.put(diagnostics.getUri(), diagnostics);
+				if (!publishScheduled) {
+					publishScheduled = true;
+					executorService.schedule(this::publishPendingDiagnostics, delay, TimeUnit.MILLISECONDS);
+				}
+				return;
+			}
+			lastPublishTime = now;
+			clearGeneration = getClearGeneration(diagnostics.getUri());
+		}
+		publishIfChanged(diagnostics, clearGeneration);
+	}
+
+	/**
+	 * Publish empty diagnostics for the given closed document and forget its
+	 * diagnostics.
+	 *
+	 * @param uri the URI of the closed document.
+	 */
+	public void clearDiagnostics(String uri) {
+		synchronized (pendingDiagnostics) {
+			pendingDiagnostics.remove(uri);
+			// the diagnostics which are being published must not be published after the
+			// empty diagnostics
+			clearGenerations.merge(uri, 1L, Long::sum);
+		}
+		synchronized (documentGenerations) {
+			documentGenerations.remove(uri);
+		}
+		synchronized (publishedDiagnostics) {
+			publishedDiagnostics.remove(uri);
+			publisher.accept(new PublishDiagnosticsParams(uri, new ArrayList<Diagnostic>()));
+		}
+	}
+
+	/**
+	 * Returns the result id of the diagnostics of the given document version.
+	 *
+	 * @param uri     the document URI.
+	 * @param version the document version.
+	 * @return the result id of the diagnostics of the given document version.
+	 */
+	public String getResultId(String uri, int version) {
+		synchronized (documentGenerations) {
+			return version + ":" + documentGenerations.getOrDefault(uri, 0L);
+		}
+	}
+
+	/**
+	 * Invalidate the pulled diagnostics of the given documents and ask the client
+	 * to pull them again.
+	 *
+	 * @param uris the document URIs.
+	 */
+	public void invalidateDiagnostics(Collection<String> uris) {
+		if (uris.isEmpty()) {
+			return;
+		}
+		synchronized (documentGenerations) {
+			for (String uri : uris) {
+				documentGenerations.merge(uri, 1L, Long::sum);
+			}
+		}
+		refreshDiagnostics();
+	}
+
+	private void refreshDiagnostics() {
+		synchronized (pendingDiagnostics) {
+			if (refreshScheduled) {
+				// the invalidations of an interval are refreshed together
+				return;
+			}
+			refreshScheduled = true;
+		}
+		executorService.schedule(() -> {
+			synchronized (pendingDiagnostics) {
+				refreshScheduled = false;
+			}
+			refresher.run();
+		}, publishIntervalMs, TimeUnit.MILLISECONDS);
+	}
+
+	private void publishPendingDiagnostics() {
+		List<PublishDiagnosticsParams> diagnostics;
+		long[] clearGenerations;
+		synchronized (pendingDiagnostics) {
+			diagnostics = new ArrayList<>(pendingDiagnostics.values());
+			clearGenerations = new long[diagnostics.size()];
+			for (int i = 0; i < diagnostics.size(); i++) {
+				clearGenerations[i] = getClearGeneration(diagnostics.get(i).getUri());
+			}
+			pendingDiagnostics.clear();
+			publishScheduled = false;
+			lastPublishTime = System.currentTimeMillis();
+		}
+		for (int i = 0; i < diagnostics.size(); i++) {
+			publishIfChanged(diagnostics.get(i), clearGenerations[i]);
+		}
+	}
+
+	private void publishIfChanged(PublishDiagnosticsParams diagnostics, long clearGeneration) {
+		String uri = diagnostics.getUri();
+		List<Diagnostic> newDiagnostics = diagnostics.getDiagnostics() != null
+				? new ArrayList<>(diagnostics.getDiagnostics())
+				: Collections.emptyList();
+		synchronized (publishedDiagnostics) {
+			synchronized (pendingDiagnostics) {
+				if (getClearGeneration(uri) != clearGeneration) {
+					// the document has been closed since the diagnostics were taken
+					return;
+				}
+			}
+			if (newDiagnostics.equals(publishedDiagnostics.get(uri))) {
+				// the diagnostics of the document have not changed
+				return;
+			}
+			publishedDiagnostics.put(uri, newDiagnostics);
+			publisher.accept(diagnostics);
+		}
+	}
+
+	private long getClearGeneration(String uri) {
+		return clearGenerations.getOrDefault(uri, 0L);
+	}
+}
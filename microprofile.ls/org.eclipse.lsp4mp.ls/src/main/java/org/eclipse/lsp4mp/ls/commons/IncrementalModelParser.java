@@ -0,0 +1,48 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Parser which updates a model from a previous model by re-parsing only the
+ * changed text of a {@link TextDocument}.
+ *
+ * @param <T> the model type (ex : properties model)
+ */
+@FunctionalInterface
+public interface IncrementalModelParser<T> {
+
+	/**
+	 * Returns the model of the given document by re-using the given previous
+	 * model.
+	 *
+	 * <p>
+	 * The text which has been changed since the previous model was parsed is
+	 * located between the unchanged prefix and the unchanged suffix. The previous
+	 * model must not be used after this call.
+	 * </p>
+	 *
+	 * @param previousModel         the previous model.
+	 * @param document              the text document.
+	 * @param unchangedPrefixLength the length of the text which has not been
+	 *                              changed at the start of the document.
+	 * @param unchangedSuffixLength the length of the text which has not been
+	 *                              changed at the end of the document.
+	 * @param cancelChecker         the cancel checker.
+	 * @return the model of the given document.
+	 */
+	T parse(T previousModel, TextDocument document, int unchangedPrefixLength, int unchangedSuffixLength,
+			CancelChecker cancelChecker);
+}
@@ -13,10 +13,12 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.commons;
 
+import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.function.BiFunction;
 import java.util.logging.Logger;
 
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
@@ -33,16 +35,40 @@ public class ModelTextDocument<T> extends TextDocument {
 
 	private final BiFunction<TextDocument, CancelChecker, T> parse;
 
+	private final IncrementalModelParser<T> incrementalParse;
+
 	private T model;
 
+	// The last parsed model which is not synchronized with the text and the
+	// unchanged prefix / suffix lengths of the text since this model was parsed.
+	// The text and those lengths are updated together while holding the monitor
+	// of the document, which is held by the parse.
+	private T previousModel;
+
+	private int unchangedPrefixLength;
+
+	private int unchangedSuffixLength;
+
 	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(document, parse, null);
+	}
+
+	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(text, uri, parse, null);
+	}
+
+	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse,
+			IncrementalModelParser<T> incrementalParse) {
 		super(document);
 		this.parse = parse;
+		this.incrementalParse = incrementalParse;
 	}
 
-	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse) {
+	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse,
+			IncrementalModelParser<T> incrementalParse) {
 		super(text, uri);
 		this.parse = parse;
+		this.incrementalParse = incrementalParse;
 	}
 
 	public T getExistingModel() {
@@ -74,8 +100,15 @@ public class ModelTextDocument<T> extends TextDocument {
 			// Stop of parse process can be done when completable future is canceled or when
 			// version of document changes
 			CancelChecker cancelChecker = new TextDocumentVersionChecker(this, version);
-			// parse the model
-			model = parse.apply(this, cancelChecker);
+			if (previousModel != null && incrementalParse != null) {
+				// parse only the changed text
+				model = incrementalParse.parse(previousModel, this, unchangedPrefixLength, unchangedSuffixLength,
+						cancelChecker);
+			} else {
+				// parse the model
+				model = parse.apply(this, cancelChecker);
+			}
+			previousModel = null;
 		} catch (CancellationException e) {
 			LOGGER.fine("Stop parsing parsing of model with version '" + version + "' in "
 					+ (System.currentTimeMillis() - start) + "ms");
@@ -89,9 +122,46 @@ public class ModelTextDocument<T> extends TextDocument {
 
 	@Override
 	public void setText(String text) {
-		super.setText(text);
+		if (incrementalParse == null) {
+			super.setText(text);
+			// text changed, mark the model as dirty
+			cancelModel();
+			return;
+		}
+		synchronized (this) {
+			super.setText(text);
+			// text changed, mark the model as dirty
+			cancelModel();
+			// the whole text changed, the previous model cannot be reused
+			previousModel = null;
+		}
+	}
+
+	@Override
+	public void update(List<TextDocumentContentChangeEvent> changes) {
+		if (incrementalParse == null) {
+			super.update(changes);
+			return;
+		}
+		// the parse must never see the updated text with the unchanged prefix /
+		// suffix lengths of the previous text
+		synchronized (this) {
+			super.update(changes);
+		}
+	}
+
+	@Override
+	protected void textUpdated(int unchangedPrefixLength, int unchangedSuffixLength) {
 		// text changed, mark the model as dirty
 		cancelModel();
+		if (incrementalParse == null) {
+			return;
+		}
+		// called by update() while holding the monitor of the document
+		if (previousModel != null) {
+			this.unchangedPrefixLength = Math.min(this.unchangedPrefixLength, unchangedPrefixLength);
+			this.unchangedSuffixLength = Math.min(this.unchangedSuffixLength, unchangedSuffixLength);
+		}
 	}
 
 	@Override
@@ -105,7 +175,19 @@ public class ModelTextDocument<T> extends TextDocument {
 	 * Mark the model as dirty
 	 */
 	private void cancelModel() {
+		if (incrementalParse != null) {
+			// keep the model to re-parse only the text which will be changed
+			synchronized (this) {
+				if (model != null) {
+					previousModel = model;
+					unchangedPrefixLength = Integer.MAX_VALUE;
+					unchangedSuffixLength = Integer.MAX_VALUE;
+				}
+				model = null;
+			}
+			return;
+		}
 		model = null;
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -34,13 +34,28 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 
 	private final BiFunction<TextDocument, CancelChecker, T> parse;
 
+	private final IncrementalModelParser<T> incrementalParse;
+
 	public ModelTextDocuments(BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(parse, null);
+	}
+
+	/**
+	 * Constructor with a parser which re-parses only the changed text of the
+	 * documents when they are updated with incremental changes.
+	 *
+	 * @param parse            the parser.
+	 * @param incrementalParse the incremental parser.
+	 */
+	public ModelTextDocuments(BiFunction<TextDocument, CancelChecker, T> parse,
+			IncrementalModelParser<T> incrementalParse) {
 		this.parse = parse;
+		this.incrementalParse = incrementalParse;
 	}
 
 	@Override
 	public ModelTextDocument<T> createDocument(TextDocumentItem document) {
-		ModelTextDocument<T> doc = new ModelTextDocument<T>(document, parse);
+		ModelTextDocument<T> doc = new ModelTextDocument<T>(document, parse, incrementalParse);
 		doc.setIncremental(isIncremental());
 		return doc;
 	}
@@ -153,4 +168,4 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 		start.complete(new FutureCancelChecker(result));
 		return result;
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
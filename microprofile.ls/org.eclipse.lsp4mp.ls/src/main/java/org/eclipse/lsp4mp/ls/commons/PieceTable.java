@@ -0,0 +1,250 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable piece table used to store the text of a {@link TextDocument}
+ * updated with incremental changes.
+ *
+ * <p>
+ * The text is a sequence of pieces which reference a range of an immutable
+ * string (the original text of the document or the text of a change).
+ * Replacing a range of the text creates a new piece table which shares the
+ * strings of the previous one, so an incremental change doesn't copy the text
+ * of the document. The {@link String} of the whole text is created only when
+ * {@link #toString()} is called, and the next piece table is then built from
+ * this string.
+ * </p>
+ *
+ * <p>
+ * As a piece table is immutable, it can be read by several threads (ex : the
+ * parser of a model) while the document is updated.
+ * </p>
+ *
+ */
+public final class PieceTable implements CharSequence {
+
+	/**
+	 * The maximum number of pieces before the text is rebuilt in one string.
+	 */
+	private static final int MAX_PIECES = 256;
+
+	private static class Piece {
+
+		private final String source;
+
+		private final int start;
+
+		private final int length;
+
+		public Piece(String source, int start, int length) {
+			this.source = source;
+			this.start = start;
+			this.length = length;
+		}
+	}
+
+	private final Piece[] pieces;
+
+	// the start offset of each piece in the text
+	private final int[] offsets;
+
+	private final int length;
+
+	private volatile String text;
+
+	// the index of the last piece used by charAt, to read the text sequentially
+	// without searching the piece.
+	private int lastPiece;
+
+	public PieceTable(String text) {
+		this.length = text.length();
+		this.text = text;
+		if (length == 0) {
+			this.pieces = new Piece[0];
+			this.offsets = new int[0];
+		} else {
+			this.pieces = new Piece[] { new Piece(text, 0, length) };
+			this.offsets = new int[] { 0 };
+		}
+	}
+
+	private PieceTable(List<Piece> pieces, int length) {
+		this.pieces = pieces.toArray(new Piece[pieces.size()]);
+		this.offsets = new int[this.pieces.length];
+		int offset = 0;
+		for (int i = 0; i < this.pieces.length; i++) {
+			offsets[i] = offset;
+			offset += this.pieces[i].length;
+		}
+		this.length = length;
+	}
+
+	/**
+	 * Returns a new piece table where the given range of text is replaced with
+	 * the given text.
+	 *
+	 * @param offset  the start offset of the text to replace.
+	 * @param length  the length of the text to replace.
+	 * @param newText the new text.
+	 * @return a new piece table where the given range of text is replaced with
+	 *         the given text.
+	 */
+	public PieceTable replace(int offset, int length, String newText) {
+		int end = offset + length;
+		if (offset < 0 || length < 0 || end > this.length) {
+			throw new StringIndexOutOfBoundsException(
+					"Range [" + offset + ", " + end + "[ is out of text of length " + this.length);
+		}
+		String text = this.text;
+		if (text != null && pieces.length > 1) {
+			// the text has been built, start from it to reduce the number of pieces
+			return new PieceTable(text).replace(offset, length, newText);
+		}
+		int newLength = this.length - length + (newText != null ? newText.length() : 0);
+		List<Piece> newPieces = new ArrayList<>(pieces.length + 2);
+		addPieces(newPieces, 0, offset);
+		if (newText != null && !newText.isEmpty()) {
+			newPieces.add(new Piece(newText, 0, newText.length()));
+		}
+		addPieces(newPieces, end, this.length);
+		if (newPieces.size() > MAX_PIECES) {
+			return new PieceTable(build(newPieces, newLength));
+		}
+		return new PieceTable(newPieces, newLength);
+	}
+
+	/**
+	 * Add the pieces (or part of pieces) which cover the given range of text.
+	 *
+	 * @param result the list to update.
+	 * @param from   the start offset of the range.
+	 * @param to     the end offset of the range.
+	 */
+	private void addPieces(List<Piece> result, int from, int to) {
+		if (from >= to) {
+			return;
+		}
+		for (int i = findPiece(from); i < pieces.length && offsets[i] < to; i++) {
+			Piece piece = pieces[i];
+			int start = Math.max(from, offsets[i]);
+			int end = Math.min(to, offsets[i] + piece.length);
+			if (start == offsets[i] && end == offsets[i] + piece.length) {
+				result.add(piece);
+			} else {
+				result.add(new Piece(piece.source, piece.start + start - offsets[i], end - start));
+			}
+		}
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public char charAt(int index) {
+		String text = this.text;
+		if (text != null) {
+			return text.charAt(index);
+		}
+		if (index < 0 || index >= length) {
+			throw new StringIndexOutOfBoundsException(index);
+		}
+		int i = lastPiece;
+		if (index < offsets[i] || index >= offsets[i] + pieces[i].length) {
+			i = findPiece(index);
+			lastPiece = i;
+		}
+		Piece piece = pieces[i];
+		return piece.source.charAt(piece.start + index - offsets[i]);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		String text = this.text;
+		if (text != null) {
+			return text.substring(start, end);
+		}
+		if (start < 0 || start > end || end > length) {
+			throw new StringIndexOutOfBoundsException(
+					"Range [" + start + ", " + end + "[ is out of text of length " + length);
+		}
+		StringBuilder result = new StringBuilder(end - start);
+		for (int i = findPiece(start); i < pieces.length && offsets[i] < end; i++) {
+			Piece piece = pieces[i];
+			int from = Math.max(start, offsets[i]) - offsets[i];
+			int to = Math.min(end, offsets[i] + piece.length) - offsets[i];
+			result.append(piece.source, piece.start + from, piece.start + to);
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Returns the number of pieces of this piece table.
+	 *
+	 * @return the number of pieces of this piece table.
+	 */
+	int getPieceCount() {
+		return pieces.length;
+	}
+
+	@Override
+	public String toString() {
+		String text = this.text;
+		if (text == null) {
+			text = build(Arrays.asList(pieces), length);
+			this.text = text;
+		}
+		return text;
+	}
+
+	private static String build(List<Piece> pieces, int length) {
+		if (pieces.size() == 1) {
+			Piece piece = pieces.get(0);
+			if (piece.start == 0 && piece.length == piece.source.length()) {
+				return piece.source;
+			}
+		}
+		StringBuilder result = new StringBuilder(length);
+		for (Piece piece : pieces) {
+			result.append(piece.source, piece.start, piece.start + piece.length);
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Returns the index of the piece which contains the given offset.
+	 *
+	 * @param offset the offset.
+	 * @return the index of the piece which contains the given offset.
+	 */
+	private int findPiece(int offset) {
+		int low = 0;
+		int high = offsets.length - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (offsets[middle] <= offset) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+}
@@ -40,6 +40,10 @@ public class TextDocument extends TextDocumentItem {
 
 	private boolean incremental;
 
+	// the text updated with incremental changes and null if the text has been
+	// set with setText
+	private volatile PieceTable content;
+
 	public TextDocument(TextDocumentItem document) {
 		this(document.getText(), document.getUri());
 		super.setVersion(document.getVersion());
@@ -62,6 +66,41 @@ public class TextDocument extends TextDocumentItem {
 		return incremental;
 	}
 
+	@Override
+	public String getText() {
+		PieceTable content = this.content;
+		if (content != null) {
+			return content.toString();
+		}
+		return super.getText();
+	}
+
+	@Override
+	public void setText(String text) {
+		super.setText(text);
+		content = null;
+	}
+
+	/**
+	 * Returns the text of the document as a char sequence.
+	 *
+	 * <p>
+	 * Contrary to {@link #getText()}, this method doesn't create a
+	 * {@link String} of the whole text when the document has been updated with
+	 * incremental changes. The returned char sequence is a snapshot which is not
+	 * updated by the next changes of the document.
+	 * </p>
+	 *
+	 * @return the text of the document as a char sequence.
+	 */
+	public CharSequence getTextSequence() {
+		PieceTable content = this.content;
+		if (content != null) {
+			return content;
+		}
+		return super.getText();
+	}
+
 	public Position positionAt(int position) throws BadLocationException {
 		ILineTracker lineTracker = getLineTracker();
 		return lineTracker.getPositionAt(position);
@@ -105,8 +144,8 @@ public class TextDocument extends TextDocumentItem {
 			Position pos = positionAt(textOffset);
 			ILineTracker lineTracker = getLineTracker();
 			Line line = lineTracker.getLineInformation(pos.getLine());
-			String text = super.getText();
-			String lineText = text.substring(line.offset, textOffset);
+			CharSequence text = getTextSequence();
+			String lineText = text.subSequence(line.offset, textOffset).toString();
 			int position = lineText.length();
 			Matcher m = wordDefinition.matcher(lineText);
 			int currentPosition = 0;
@@ -139,7 +178,7 @@ public class TextDocument extends TextDocumentItem {
 			return lineTracker;
 		}
 		ILineTracker lineTracker = isIncremental() ? new TreeLineTracker(new ListLineTracker()) : new ListLineTracker();
-		lineTracker.set(super.getText());
+		lineTracker.set(getTextSequence());
 		return lineTracker;
 	}
 
@@ -158,8 +197,13 @@ public class TextDocument extends TextDocumentItem {
 			try {
 				long start = System.currentTimeMillis();
 				synchronized (lock) {
-					// Initialize buffer and line tracker from the current text document
-					StringBuilder buffer = new StringBuilder(getText());
+					// Initialize buffer from the current text document, the piece table
+					// doesn't copy the text
+					PieceTable buffer = content != null ? content : new PieceTable(super.getText());
+					// the length of the text which is not changed at the start / end of the
+					// document
+					int unchangedPrefixLength = buffer.length();
+					int unchangedSuffixLength = buffer.length();
 
 					// Loop for each changes and update the buffer
 					for (int i = 0; i < changes.size(); i++) {
@@ -177,11 +221,15 @@ public class TextDocument extends TextDocumentItem {
 						}
 						String text = changeEvent.getText();
 						int startOffset = offsetAt(range.getStart());
-						buffer.replace(startOffset, startOffset + length, text);
+						unchangedPrefixLength = Math.min(unchangedPrefixLength, startOffset);
+						unchangedSuffixLength = Math.min(unchangedSuffixLength,
+								buffer.length() - (startOffset + length));
+						buffer = buffer.replace(startOffset, length, text);
 						lineTracker.replace(startOffset, length, text);
 					}
 					// Update the new text content from the updated buffer
-					setText(buffer.toString());
+					content = buffer;
+					textUpdated(Math.max(0, unchangedPrefixLength), Math.max(0, unchangedSuffixLength));
 				}
 				LOGGER.fine("Text document content updated in " + (System.currentTimeMillis() - start) + "ms");
 			} catch (BadLocationException e) {
@@ -199,4 +247,24 @@ public class TextDocument extends TextDocumentItem {
 		}
 	}
 
+	/**
+	 * Called when the text of the document has been updated with incremental
+	 * changes.
+	 *
+	 * <p>
+	 * The unchanged prefix / suffix lengths give the length of the text which is
+	 * the same at the start / end of the document before and after the changes.
+	 * This information can be used by sub-classes to update a model
+	 * incrementally.
+	 * </p>
+	 *
+	 * @param unchangedPrefixLength the length of the text which has not been
+	 *                              changed at the start of the document.
+	 * @param unchangedSuffixLength the length of the text which has not been
+	 *                              changed at the end of the document.
+	 */
+	protected void textUpdated(int unchangedPrefixLength, int unchangedSuffixLength) {
+
+	}
+
 }
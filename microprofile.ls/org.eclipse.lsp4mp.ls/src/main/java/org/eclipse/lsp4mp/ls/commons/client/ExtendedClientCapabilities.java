@@ -26,6 +26,8 @@ public class ExtendedClientCapabilities {
 
 	private boolean shouldLanguageServerExitOnShutdown;
 
+	private boolean lazyPropertyDescriptionsSupport;
+
 	public CommandCapabilities getCommands() {
 		return commands;
 	}
@@ -62,4 +64,32 @@ public class ExtendedClientCapabilities {
 		return shouldLanguageServerExitOnShutdown;
 	}
 
+	/**
+	 * Returns true if the client supports the
+	 * "microprofile/propertyDescriptions" request and false otherwise.
+	 *
+	 * <p>
+	 * In this case, the descriptions of the properties are excluded from the
+	 * project information and they are retrieved on demand.
+	 * </p>
+	 *
+	 * @return true if the client supports the "microprofile/propertyDescriptions"
+	 *         request and false otherwise.
+	 */
+	public boolean isLazyPropertyDescriptionsSupport() {
+		return lazyPropertyDescriptionsSupport;
+	}
+
+	/**
+	 * Set true if the client supports the "microprofile/propertyDescriptions"
+	 * request and false otherwise.
+	 *
+	 * @param lazyPropertyDescriptionsSupport true if the client supports the
+	 *                                        "microprofile/propertyDescriptions"
+	 *                                        request and false otherwise.
+	 */
+	public void setLazyPropertyDescriptionsSupport(boolean lazyPropertyDescriptionsSupport) {
+		this.lazyPropertyDescriptionsSupport = lazyPropertyDescriptionsSupport;
+	}
+
 }
\ No newline at end of file
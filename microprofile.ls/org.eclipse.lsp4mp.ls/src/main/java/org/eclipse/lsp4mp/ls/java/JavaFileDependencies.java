@@ -0,0 +1,339 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.java;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * What the MicroProfile diagnostics of a Java file depend on.
+ *
+ * <p>
+ * The diagnostics of a Java file depend on:
+ * <ul>
+ * <li>the config files when the Java file reads some config keys (ex :
+ * <code>@ConfigProperty(name="greeting.message")</code>).</li>
+ * <li>the types declared in other Java files that the Java file references (ex :
+ * the interface of an injected REST client).</li>
+ * <li>the Java files which reference the types declared in the Java file (ex :
+ * the fields which inject a REST client interface).</li>
+ * <li>the super classes of the Java file, at any level (ex : the super class
+ * of the super class which declares a fault tolerance fallback method).</li>
+ * </ul>
+ * Those dependencies are collected from the text of the Java file with
+ * heuristics: the comments and the content of the string literals are ignored
+ * (except the <code>${...}</code> expressions of the string literals which
+ * read the config), but a dependency could still be reported although it
+ * doesn't exist (ex : a type with the same simple name in another package).
+ * </p>
+ *
+ */
+public class JavaFileDependencies {
+
+	private static final Pattern TYPE_DECLARATION_PATTERN = Pattern
+			.compile("\\b(?:class|interface|enum|record)\\s+([A-Za-z_$][A-Za-z0-9_$]*)");
+
+	private static final Pattern TYPE_NAME_PATTERN = Pattern.compile("\\b[A-Z][A-Za-z0-9_$]*");
+
+	private static final Pattern SUPER_TYPE_PATTERN = Pattern
+			.compile("\\bextends\\s+(?:[A-Za-z_$][A-Za-z0-9_$]*\\s*\\.\\s*)*([A-Za-z_$][A-Za-z0-9_$]*)");
+
+	// the annotation can be referenced with its simple name or its qualified name
+	private static final Pattern CONFIG_KEY_PATTERN = Pattern
+			.compile("@(?:[A-Za-z_$][A-Za-z0-9_$]*\\s*\\.\\s*)*ConfigPropert(?:y|ies)\\b|\\$\\{");
+
+	private static final Pattern INHERITED_MEMBER_PATTERN = Pattern
+			.compile("@(?:[A-Za-z_$][A-Za-z0-9_$]*\\s*\\.\\s*)*Fallback\\b");
+
+	private final Set<String> declaredTypes;
+
+	private final Set<String> referencedTypes;
+
+	private final Set<String> superTypes;
+
+	private final boolean readConfig;
+
+	private final boolean useInheritedMembers;
+
+	private JavaFileDependencies(Set<String> declaredTypes, Set<String> referencedTypes, Set<String> superTypes,
+			boolean readConfig, boolean useInheritedMembers) {
+		this.declaredTypes = declaredTypes;
+		this.referencedTypes = referencedTypes;
+		this.superTypes = superTypes;
+		this.readConfig = readConfig;
+		this.useInheritedMembers = useInheritedMembers;
+	}
+
+	/**
+	 * Returns the dependencies of the Java file with the given URI and text.
+	 *
+	 * @param uri  the Java file URI.
+	 * @param text the text of the Java file.
+	 * @return the dependencies of the Java file with the given URI and text.
+	 */
+	public static JavaFileDependencies create(String uri, CharSequence text) {
+		// the expressions of the string literals read the config
+		String textWithoutComments = strip(text, false);
+		boolean readConfig = CONFIG_KEY_PATTERN.matcher(textWithoutComments).find();
+		// the type names written in the comments and string literals are ignored
+		text = strip(textWithoutComments, true);
+		Set<String> declaredTypes = new HashSet<>();
+		String fileTypeName = getFileTypeName(uri);
+		if (fileTypeName != null) {
+			declaredTypes.add(fileTypeName);
+		}
+		Matcher matcher = TYPE_DECLARATION_PATTERN.matcher(text);
+		while (matcher.find()) {
+			declaredTypes.add(matcher.group(1));
+		}
+		Set<String> referencedTypes = new HashSet<>();
+		matcher = TYPE_NAME_PATTERN.matcher(text);
+		while (matcher.find()) {
+			String typeName = matcher.group();
+			if (!declaredTypes.contains(typeName)) {
+				referencedTypes.add(typeName);
+			}
+		}
+		Set<String> superTypes = new HashSet<>();
+		matcher = SUPER_TYPE_PATTERN.matcher(text);
+		while (matcher.find()) {
+			superTypes.add(matcher.group(1));
+		}
+		boolean useInheritedMembers = INHERITED_MEMBER_PATTERN.matcher(text).find();
+		return new JavaFileDependencies(Collections.unmodifiableSet(declaredTypes),
+				Collections.unmodifiableSet(referencedTypes), Collections.unmodifiableSet(superTypes), readConfig,
+				useInheritedMembers);
+	}
+
+	/**
+	 * Returns the union of the dependencies of this Java file and the given
+	 * dependencies (ex : the dependencies of the Java file before and after a
+	 * change, to find the Java files which depended on the removed types too).
+	 *
+	 * @param other the other dependencies.
+	 * @return the union of the dependencies of this Java file and the given
+	 *         dependencies.
+	 */
+	public JavaFileDependencies union(JavaFileDependencies other) {
+		if (other == null || other == this) {
+			return this;
+		}
+		return new JavaFileDependencies(union(declaredTypes, other.declaredTypes),
+				union(referencedTypes, other.referencedTypes), union(superTypes, other.superTypes),
+				readConfig || other.readConfig, useInheritedMembers || other.useInheritedMembers);
+	}
+
+	/**
+	 * Returns the simple names of the types declared in the Java file.
+	 *
+	 * @return the simple names of the types declared in the Java file.
+	 */
+	public Set<String> getDeclaredTypes() {
+		return declaredTypes;
+	}
+
+	/**
+	 * Returns true if the diagnostics of the Java file depend on the config files
+	 * and false otherwise.
+	 *
+	 * @return true if the diagnostics of the Java file depend on the config files
+	 *         and false otherwise.
+	 */
+	public boolean isReadConfig() {
+		return readConfig;
+	}
+
+	/**
+	 * Returns true if the diagnostics of the Java file depend on the given changed
+	 * Java file and false otherwise.
+	 *
+	 * @param changed the dependencies of the changed Java file.
+	 * @return true if the diagnostics of the Java file depend on the given changed
+	 *         Java file and false otherwise.
+	 */
+	public boolean dependsOn(JavaFileDependencies changed) {
+		return intersects(referencedTypes, changed.declaredTypes)
+				|| intersects(changed.referencedTypes, declaredTypes);
+	}
+
+	/**
+	 * Returns the given Java files whose diagnostics depend on the given changed
+	 * Java file, directly or through their super classes.
+	 *
+	 * <p>
+	 * A Java file which uses the members inherited from its super classes (ex : a
+	 * fault tolerance fallback method) depends on the Java files of all its super
+	 * classes: when a super class is not declared by the given Java files, the
+	 * hierarchy is unknown and the Java file depends on any changed Java file.
+	 * </p>
+	 *
+	 * @param <T>          the Java file type.
+	 * @param changed      the dependencies of the changed Java file.
+	 * @param files        the Java files.
+	 * @param dependencies the function which returns the dependencies of a Java
+	 *                     file.
+	 * @return the given Java files whose diagnostics depend on the given changed
+	 *         Java file.
+	 */
+	public static <T> List<T> getDependents(JavaFileDependencies changed, Collection<T> files,
+			Function<T, JavaFileDependencies> dependencies) {
+		Set<T> dependents = new LinkedHashSet<>();
+		Set<String> knownTypes = new HashSet<>();
+		for (T file : files) {
+			JavaFileDependencies fileDependencies = dependencies.apply(file);
+			knownTypes.addAll(fileDependencies.declaredTypes);
+			if (fileDependencies.dependsOn(changed)) {
+				dependents.add(file);
+			}
+		}
+		// the Java files which extend the changed Java file at any level
+		List<T> others = new ArrayList<>(files);
+		Set<String> changedTypes = new HashSet<>(changed.declaredTypes);
+		boolean found = true;
+		while (found) {
+			found = false;
+			for (int i = others.size() - 1; i >= 0; i--) {
+				JavaFileDependencies fileDependencies = dependencies.apply(others.get(i));
+				if (intersects(fileDependencies.superTypes, changedTypes)) {
+					changedTypes.addAll(fileDependencies.declaredTypes);
+					dependents.add(others.remove(i));
+					found = true;
+				}
+			}
+		}
+		// the Java files which use inherited members of an unknown hierarchy
+		for (T file : files) {
+			JavaFileDependencies fileDependencies = dependencies.apply(file);
+			if (fileDependencies.useInheritedMembers && !knownTypes.containsAll(fileDependencies.superTypes)) {
+				dependents.add(file);
+			}
+		}
+		return new ArrayList<>(dependents);
+	}
+
+	/**
+	 * Returns the given Java text without the comments and, if
+	 * <code>literals</code> is true, without the content of the string and
+	 * character literals (text blocks included).
+	 *
+	 * @param text     the Java text.
+	 * @param literals true if the content of the literals must be removed and
+	 *                 false otherwise.
+	 * @return the given Java text without the comments and the content of the
+	 *         literals.
+	 */
+	private static String strip(CharSequence text, boolean literals) {
+		StringBuilder result = new StringBuilder(text.length());
+		int length = text.length();
+		int i = 0;
+		while (i < length) {
+			char c = text.charAt(i);
+			char next = i + 1 < length ? text.charAt(i + 1) : 0;
+			if (c == '/' && next == '/') {
+				// line comment
+				while (i < length && text.charAt(i) != '\n') {
+					i++;
+				}
+				result.append(' ');
+			} else if (c == '/' && next == '*') {
+				// block comment
+				int end = indexOf(text, "*/", i + 2);
+				i = end != -1 ? end + 2 : length;
+				result.append(' ');
+			} else if (c == '"' || c == '\'') {
+				String delimiter = c == '"' && next == '"' && i + 2 < length && text.charAt(i + 2) == '"' ? "\"\"\""
+						: String.valueOf(c);
+				int end = i + delimiter.length();
+				while (end < length) {
+					if (startsWith(text, delimiter, end)) {
+						end += delimiter.length();
+						break;
+					}
+					char literalChar = text.charAt(end);
+					if (literalChar == '\n' && delimiter.length() == 1) {
+						// unterminated literal
+						break;
+					}
+					end += literalChar == '\\' ? 2 : 1;
+				}
+				end = Math.min(end, length);
+				if (literals) {
+					result.append(delimiter).append(delimiter);
+				} else {
+					result.append(text, i, end);
+				}
+				i = end;
+			} else {
+				result.append(c);
+				i++;
+			}
+		}
+		return result.toString();
+	}
+
+	private static int indexOf(CharSequence text, String str, int fromIndex) {
+		for (int i = fromIndex; i <= text.length() - str.length(); i++) {
+			if (startsWith(text, str, i)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean startsWith(CharSequence text, String prefix, int offset) {
+		if (offset + prefix.length() > text.length()) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length(); i++) {
+			if (text.charAt(offset + i) != prefix.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Set<String> union(Set<String> names, Set<String> otherNames) {
+		Set<String> union = new HashSet<>(names);
+		union.addAll(otherNames);
+		return Collections.unmodifiableSet(union);
+	}
+
+	private static boolean intersects(Set<String> names, Set<String> otherNames) {
+		if (names.size() > otherNames.size()) {
+			return intersects(otherNames, names);
+		}
+		for (String name : names) {
+			if (otherNames.contains(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String getFileTypeName(String uri) {
+		if (uri == null || !uri.endsWith(".java")) {
+			return null;
+		}
+		int start = uri.lastIndexOf('/') + 1;
+		return uri.substring(start, uri.length() - ".java".length());
+	}
+}
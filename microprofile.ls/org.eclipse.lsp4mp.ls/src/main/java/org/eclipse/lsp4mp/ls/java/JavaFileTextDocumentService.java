@@ -16,6 +16,7 @@ package org.eclipse.lsp4mp.ls.java;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -37,6 +38,8 @@ import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.DidSaveTextDocumentParams;
+import org.eclipse.lsp4j.DocumentDiagnosticParams;
+import org.eclipse.lsp4j.DocumentDiagnosticReport;
 import org.eclipse.lsp4j.Hover;
 import org.eclipse.lsp4j.HoverParams;
 import org.eclipse.lsp4j.Location;
@@ -45,6 +48,8 @@ import org.eclipse.lsp4j.MarkupKind;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.JavaCursorContextResult;
@@ -119,14 +124,27 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		documents.onDidCloseTextDocument(params);
 		String uri = params.getTextDocument().getUri();
 		validatorDelayer.cleanPendingValidation(uri);
-		microprofileLanguageServer.getLanguageClient()
-				.publishDiagnostics(new PublishDiagnosticsParams(uri, new ArrayList<Diagnostic>()));
+		diagnosticsPublisher.clearDiagnostics(uri);
 	}
 
 	@Override
 	public void didSave(DidSaveTextDocumentParams params) {
-		// validate all opened java files which belong to a MicroProfile project
-		triggerValidationForAll(null);
+		JavaTextDocument savedDocument = documents.get(params.getTextDocument().getUri());
+		if (savedDocument == null) {
+			// validate all opened java files which belong to a MicroProfile project
+			triggerValidationForAll(null);
+			return;
+		}
+		// validate the saved Java file and the opened Java files which depend on it
+		// (before or after the save)
+		JavaFileDependencies savedDependencies = savedDocument.saveDependencies();
+		Set<JavaTextDocument> validatedDocuments = new LinkedHashSet<>();
+		validatedDocuments.add(savedDocument);
+		validatedDocuments.addAll(JavaFileDependencies.getDependents(savedDependencies, documents.all(),
+				JavaTextDocument::getDependencies));
+		triggerValidationFor(validatedDocuments.stream() //
+				.map(TextDocument::getUri) //
+				.collect(Collectors.toList()));
 	}
 
 	// ------------------------------ Completion ------------------------------
@@ -328,7 +346,52 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 
 	// ------------------------------ Diagnostics ------------------------------
 
+	@Override
+	public CompletableFuture<DocumentDiagnosticReport> diagnostic(DocumentDiagnosticParams params) {
+		String uri = params.getTextDocument().getUri();
+		JavaTextDocument document = documents.get(uri);
+		if (document == null) {
+			return super.diagnostic(params);
+		}
+		String resultId = diagnosticsPublisher.getResultId(uri, document.getVersion());
+		DocumentDiagnosticReport unchanged = getUnchangedDiagnosticReport(params, resultId);
+		if (unchanged != null) {
+			// the Java file and what its diagnostics depend on have not changed
+			return CompletableFuture.completedFuture(unchanged);
+		}
+		List<String> excludedUnassignedProperties = sharedSettings.getValidationSettings().getUnassigned()
+				.getExcluded();
+		return document.executeIfInMicroProfileProject((projectInfo, cancelChecker) -> {
+			MicroProfileJavaDiagnosticsParams javaParams = createJavaDiagnosticsParams(Arrays.asList(uri),
+					excludedUnassignedProperties);
+			return microprofileLanguageServer.getLanguageClient() //
+					.getJavaDiagnostics(javaParams) //
+					.thenApply(diagnostics -> {
+						cancelChecker.checkCanceled();
+						List<Diagnostic> items = new ArrayList<>();
+						if (diagnostics != null) {
+							for (PublishDiagnosticsParams diagnostic : diagnostics) {
+								if (uri.equals(diagnostic.getUri())) {
+									items.addAll(diagnostic.getDiagnostics());
+								}
+							}
+						}
+						return createDiagnosticReport(items, resultId);
+					});
+		}, createDiagnosticReport(new ArrayList<>(), resultId), true);
+	}
+
+	@Override
+	public CompletableFuture<List<WorkspaceDocumentDiagnosticReport>> workspaceDiagnostic(
+			WorkspaceDiagnosticParams params) {
+		return workspaceDiagnostic(params, documents.all());
+	}
+
 	private void validate(JavaTextDocument javaTextDocument, boolean delay) {
+		if (isPullDiagnosticsSupport()) {
+			// the client pulls the diagnostics of the opened / changed Java file
+			return;
+		}
 		if (delay) {
 			validatorDelayer.validateWithDelay(javaTextDocument);
 		} else {
@@ -364,38 +427,71 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	/**
 	 * Validate all given Java files uris.
 	 *
+	 * <p>
+	 * The diagnostics of each Java file are requested separately, to publish them
+	 * as soon as they are computed (the JDT LS extension validates the Java files
+	 * of the requests in parallel) instead of waiting for the validation of all
+	 * the Java files.
+	 * </p>
+	 *
 	 * @param uris Java files uris to validate.
 	 */
 	private void triggerValidationFor(List<String> uris) {
 		if (uris.isEmpty()) {
 			return;
 		}
+		if (isPullDiagnosticsSupport()) {
+			// the client pulls again the diagnostics of the Java files
+			diagnosticsPublisher.invalidateDiagnostics(uris);
+			if (isDiagnosticsRefreshSupport()) {
+				return;
+			}
+			// the client cannot be asked to pull the diagnostics again, publish them
+		}
 		List<String> excludedUnassignedProperties = sharedSettings.getValidationSettings().getUnassigned()
 				.getExcluded();
-		MicroProfileJavaDiagnosticsParams javaParams = new MicroProfileJavaDiagnosticsParams(uris,
-				new MicroProfileJavaDiagnosticsSettings(excludedUnassignedProperties));
-		boolean markdownSupported = sharedSettings.getHoverSettings().isContentFormatSupported(MarkupKind.MARKDOWN);
-		if (markdownSupported) {
-			javaParams.setDocumentFormat(DocumentFormat.Markdown);
+		for (String uri : uris) {
+			triggerValidationFor(uri, excludedUnassignedProperties);
 		}
+	}
+
+	private void triggerValidationFor(String uri, List<String> excludedUnassignedProperties) {
+		MicroProfileJavaDiagnosticsParams javaParams = createJavaDiagnosticsParams(Arrays.asList(uri),
+				excludedUnassignedProperties);
 		microprofileLanguageServer.getLanguageClient().getJavaDiagnostics(javaParams) //
 				.thenApply(diagnostics -> {
 					if (diagnostics == null) {
 						return null;
 					}
 					for (PublishDiagnosticsParams diagnostic : diagnostics) {
-						microprofileLanguageServer.getLanguageClient().publishDiagnostics(diagnostic);
+						diagnosticsPublisher.publishDiagnostics(diagnostic);
 					}
 					return null;
 				});
 	}
 
+	private MicroProfileJavaDiagnosticsParams createJavaDiagnosticsParams(List<String> uris,
+			List<String> excludedUnassignedProperties) {
+		MicroProfileJavaDiagnosticsParams javaParams = new MicroProfileJavaDiagnosticsParams(uris,
+				new MicroProfileJavaDiagnosticsSettings(excludedUnassignedProperties));
+		boolean markdownSupported = sharedSettings.getHoverSettings().isContentFormatSupported(MarkupKind.MARKDOWN);
+		if (markdownSupported) {
+			javaParams.setDocumentFormat(DocumentFormat.Markdown);
+		}
+		return javaParams;
+	}
+
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
-		if (documents.propertiesChanged(event) || MicroProfilePropertiesScope.isOnlyConfigFiles(event.getType())) {
-			// Classpath changed or some properties config files (ex :
-			// microprofile-config.properties) has been
-			// saved, revalidate all opened java files.
+		if (documents.propertiesChanged(event)) {
+			// Classpath changed, revalidate all opened java files.
 			triggerValidationForAll(null);
+		} else if (MicroProfilePropertiesScope.isOnlyConfigFiles(event.getType())) {
+			// Some properties config files (ex : microprofile-config.properties) has been
+			// saved, revalidate the opened java files which read some config keys.
+			triggerValidationFor(documents.all().stream() //
+					.filter(document -> document.getDependencies().isReadConfig()) //
+					.map(TextDocument::getUri) //
+					.collect(Collectors.toList()));
 		}
 	}
 
@@ -78,8 +78,17 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 
 		private CompletableFuture<JavaFileInfo> fileInfoFuture;
 
+		private CharSequence dependenciesText;
+
+		private JavaFileDependencies dependencies;
+
+		// the text of the Java file when it has been opened or saved for the last
+		// time
+		private CharSequence savedText;
+
 		public JavaTextDocument(TextDocumentItem document) {
 			super(document);
+			this.savedText = getTextSequence();
 			collectFileInfo();
 		}
 
@@ -120,6 +129,37 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 			this.projectURI = projectURI;
 		}
 
+		/**
+		 * Returns what the MicroProfile diagnostics of the Java file depend on.
+		 *
+		 * @return what the MicroProfile diagnostics of the Java file depend on.
+		 */
+		public synchronized JavaFileDependencies getDependencies() {
+			CharSequence text = getTextSequence();
+			if (dependencies == null || dependenciesText != text) {
+				// the Java file has changed since the last collect of the dependencies
+				dependencies = JavaFileDependencies.create(getUri(), text);
+				dependenciesText = text;
+			}
+			return dependencies;
+		}
+
+		/**
+		 * Returns what the MicroProfile diagnostics of the Java file depend on before
+		 * and after the save of the Java file, and mark the current text as saved.
+		 *
+		 * @return what the MicroProfile diagnostics of the Java file depend on before
+		 *         and after the save of the Java file.
+		 */
+		public synchronized JavaFileDependencies saveDependencies() {
+			JavaFileDependencies current = getDependencies();
+			JavaFileDependencies previous = savedText != null && savedText != dependenciesText
+					? JavaFileDependencies.create(getUri(), savedText)
+					: null;
+			savedText = dependenciesText;
+			return current.union(previous);
+		}
+
 		/**
 		 * Execute the given code only if the Java file belongs to a MicroProfile
 		 * without waiting for the load of project information.
@@ -369,4 +409,4 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 	private static boolean isProjectInfoLoading(ProjectLabelInfoEntry projectInfo) {
 		return PROJECT_INFO_LOADING == projectInfo;
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -29,6 +30,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
+import org.eclipse.lsp4mp.extensions.PropertyDescriptionsCache;
 import org.eclipse.lsp4mp.ls.api.MicroProfileProjectInfoProvider;
 
 /**
@@ -45,9 +47,40 @@ class MicroProfileProjectInfoCache {
 
 	private final MicroProfileProjectInfoProvider provider;
 
+	private final MicroProfileProjectInfoDiskCache diskCache;
+
+	private final Consumer<String> projectInfoUpdated;
+
+	// the application.properties URIs for which the disk cache has been read
+	private final Set<String> diskCacheLoadedURIs;
+
+	// the cache of the property descriptions when they are excluded from the
+	// project info
+	private PropertyDescriptionsCache propertyDescriptionsCache;
+
 	public MicroProfileProjectInfoCache(MicroProfileProjectInfoProvider provider) {
+		this(provider, null, null);
+	}
+
+	/**
+	 * Constructor of the cache with a disk cache.
+	 *
+	 * @param provider           the MicroProfile project information provider.
+	 * @param diskCache          the disk cache and null if the project
+	 *                           information must not be stored on the disk.
+	 * @param projectInfoUpdated the callback called with the
+	 *                           application.properties URI when the project
+	 *                           information loaded from the disk cache is
+	 *                           replaced by the project information computed by
+	 *                           the provider.
+	 */
+	public MicroProfileProjectInfoCache(MicroProfileProjectInfoProvider provider,
+			MicroProfileProjectInfoDiskCache diskCache, Consumer<String> projectInfoUpdated) {
 		this.provider = provider;
 		this.cache = new ConcurrentHashMap<>();
+		this.diskCache = diskCache;
+		this.projectInfoUpdated = projectInfoUpdated;
+		this.diskCacheLoadedURIs = ConcurrentHashMap.newKeySet();
 	}
 
 	/**
@@ -72,11 +105,34 @@ class MicroProfileProjectInfoCache {
 		CompletableFuture<MicroProfileProjectInfo> projectInfo = cache.get(params.getUri());
 		if (projectInfo == null || projectInfo.isCancelled() || projectInfo.isCompletedExceptionally()) {
 			// not found in the cache, load the project info from the JDT LS Extension
+			String uri = params.getUri();
 			params.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
 			CompletableFuture<MicroProfileProjectInfo> future = provider.getProjectInfo(params). //
-					thenApply(info -> new ExtendedMicroProfileProjectInfo(info));
+					thenApply(info -> {
+						if (diskCache != null) {
+							// store the project info before wrapping it (the wrapper updates the
+							// properties of the given project info), only its lists are copied
+							// on this thread
+							diskCache.save(uri, info);
+						}
+						return createProjectInfoWrapper(info, params);
+					});
+			CompletableFuture<MicroProfileProjectInfo> snapshot = loadFromDiskCache(uri, params);
+			if (snapshot != null) {
+				// The project info of the last session is used while the project info is
+				// computed
+				cache.put(uri, snapshot);
+				future.thenAccept(info -> {
+					// replace the project info of the last session with the computed project
+					// info
+					if (cache.replace(uri, snapshot, future) && projectInfoUpdated != null) {
+						projectInfoUpdated.accept(uri);
+					}
+				});
+				return snapshot;
+			}
 			// cache the future.
-			cache.put(params.getUri(), future);
+			cache.put(uri, future);
 			return future;
 		}
 		if (!projectInfo.isDone()) {
@@ -87,8 +143,11 @@ class MicroProfileProjectInfoCache {
 		if (wrapper.isReloadFromSource()) {
 			// There are some java sources changed, get the MicroProfile properties from
 			// java
-			// sources.
+			// sources. When the changed Java sources are known, only them are scanned and
+			// the result is a delta.
 			params.setScopes(MicroProfilePropertiesScope.ONLY_SOURCES);
+			Set<String> changedJavaSourceURIs = wrapper.getChangedJavaSourceURIs();
+			params.setJavaSourceURIs(changedJavaSourceURIs);
 			return provider.getProjectInfo(params). //
 					exceptionally(ex -> {
 						LOGGER.log(Level.WARNING, String.format(
@@ -98,7 +157,7 @@ class MicroProfileProjectInfoCache {
 					thenApply(info ->
 					// then update the cache with the new properties
 					{
-						wrapper.updateSourcesProperties(info.getProperties(), info.getHints());
+						wrapper.updateSourcesProperties(info, changedJavaSourceURIs);
 						return wrapper;
 					});
 		}
@@ -107,6 +166,53 @@ class MicroProfileProjectInfoCache {
 		return projectInfo;
 	}
 
+	/**
+	 * Returns the project info stored in the disk cache for the given
+	 * application.properties URI and null otherwise.
+	 *
+	 * <p>
+	 * The disk cache is read only once per application.properties URI, when the
+	 * project info is loaded for the first time: after an eviction of the cache
+	 * (ex : classpath changed), the project info of the disk cache is out of
+	 * date.
+	 * </p>
+	 *
+	 * @param uri the application.properties URI.
+	 * @return the project info stored in the disk cache for the given
+	 *         application.properties URI and null otherwise.
+	 */
+	private CompletableFuture<MicroProfileProjectInfo> loadFromDiskCache(String uri,
+			MicroProfileProjectInfoParams params) {
+		if (diskCache == null || !diskCacheLoadedURIs.add(uri)) {
+			return null;
+		}
+		MicroProfileProjectInfo info = diskCache.load(uri);
+		if (info == null) {
+			return null;
+		}
+		return CompletableFuture.completedFuture(createProjectInfoWrapper(info, params));
+	}
+
+	private ExtendedMicroProfileProjectInfo createProjectInfoWrapper(MicroProfileProjectInfo info,
+			MicroProfileProjectInfoParams params) {
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+		if (params.isExcludeDescriptions()) {
+			// the descriptions will be retrieved on demand
+			wrapper.setPropertyDescriptionsCache(propertyDescriptionsCache);
+		}
+		return wrapper;
+	}
+
+	/**
+	 * Set the cache of the property descriptions used when the descriptions are
+	 * excluded from the project information.
+	 *
+	 * @param propertyDescriptionsCache the cache of the property descriptions.
+	 */
+	void setPropertyDescriptionsCache(PropertyDescriptionsCache propertyDescriptionsCache) {
+		this.propertyDescriptionsCache = propertyDescriptionsCache;
+	}
+
 	private static ExtendedMicroProfileProjectInfo getProjectInfoWrapper(
 			CompletableFuture<MicroProfileProjectInfo> future) {
 		return future != null ? (ExtendedMicroProfileProjectInfo) future.getNow(null) : null;
@@ -119,11 +225,15 @@ class MicroProfileProjectInfoCache {
 			// saved, ignore this event.
 			return Collections.emptyList();
 		}
+		if (propertyDescriptionsCache != null) {
+			// the descriptions of the properties could have been changed
+			propertyDescriptionsCache.clear();
+		}
 		boolean changedOnlyInSources = MicroProfilePropertiesScope.isOnlySources(scopes);
 		if (changedOnlyInSources) {
 			// Some Java sources files has been saved, evict the cache for item metadata
 			// (properties) computed from Java source files only.
-			return javaSourceChanged(event.getProjectURIs());
+			return javaSourceChanged(event.getProjectURIs(), event.getJavaSourceURIs());
 		}
 		// Classpath changed (ex : add, remove maven/gradle dependencies) evict the full
 		// cache.
@@ -136,12 +246,19 @@ class MicroProfileProjectInfoCache {
 		return applicationPropertiesURIs;
 	}
 
-	private Collection<String> javaSourceChanged(Set<String> projectURIs) {
+	private Collection<String> javaSourceChanged(Set<String> projectURIs, Set<String> javaSourceURIs) {
 		List<String> applicationPropertiesURIs = getApplicationPropertiesURIs(projectURIs);
 		for (String uri : applicationPropertiesURIs) {
-			ExtendedMicroProfileProjectInfo info = getProjectInfoWrapper(cache.get(uri));
+			CompletableFuture<MicroProfileProjectInfo> future = cache.get(uri);
+			if (future != null && !future.isDone()) {
+				// the project info which is loading could be computed before the change,
+				// evict it
+				cache.remove(uri, future);
+				continue;
+			}
+			ExtendedMicroProfileProjectInfo info = getProjectInfoWrapper(future);
 			if (info != null) {
-				info.clearPropertiesFromSource();
+				info.clearPropertiesFromSource(javaSourceURIs);
 			}
 		}
 		return applicationPropertiesURIs;
@@ -150,6 +267,12 @@ class MicroProfileProjectInfoCache {
 	/**
 	 * Returns the application.propeties URIs which belongs to the given project
 	 * URIs.
+	 *
+	 * <p>
+	 * The project of a project info which is loading is not known yet, its
+	 * application.properties URI is returned too: the project info could be
+	 * computed before the change.
+	 * </p>
 	 * 
 	 * @param projectURIs project URIs
 	 * 
@@ -158,7 +281,14 @@ class MicroProfileProjectInfoCache {
 	 */
 	private List<String> getApplicationPropertiesURIs(Set<String> projectURIs) {
 		return cache.entrySet().stream().filter(entry -> {
-			MicroProfileProjectInfo projectInfo = getProjectInfoWrapper(entry.getValue());
+			CompletableFuture<MicroProfileProjectInfo> future = entry.getValue();
+			if (!future.isDone()) {
+				return true;
+			}
+			if (future.isCompletedExceptionally()) {
+				return false;
+			}
+			MicroProfileProjectInfo projectInfo = getProjectInfoWrapper(future);
 			if (projectInfo != null) {
 				return projectURIs.contains(projectInfo.getProjectURI());
 			}
@@ -0,0 +1,258 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.utils.JSONUtility;
+
+import com.google.gson.Gson;
+
+/**
+ * On-disk cache of the MicroProfile project information.
+ *
+ * <p>
+ * The last MicroProfile project information received from the MicroProfile
+ * project information provider (the JDT side) for an application.properties
+ * URI is stored in a gzipped JSON file of the cache directory. When the
+ * language server starts, this snapshot is used as soon as an
+ * application.properties is opened, while the up-to-date project information
+ * is computed.
+ * </p>
+ *
+ * <p>
+ * The disk cache is enabled when the <code>projectInfoCacheDir</code> system
+ * property defines the cache directory.
+ * </p>
+ *
+ */
+class MicroProfileProjectInfoDiskCache {
+
+	private static final Logger LOGGER = Logger.getLogger(MicroProfileProjectInfoDiskCache.class.getName());
+
+	public static final String CACHE_DIR_PROPERTY = "projectInfoCacheDir";
+
+	/**
+	 * The version of the snapshot format, a snapshot stored with another version is
+	 * ignored.
+	 */
+	private static final int SNAPSHOT_VERSION = 1;
+
+	private static class ProjectInfoSnapshot {
+
+		private int version;
+
+		private String uri;
+
+		private MicroProfileProjectInfo projectInfo;
+	}
+
+	private final Path cacheDir;
+
+	private final Gson gson;
+
+	// serializes and writes the snapshots one after the other, a snapshot of an
+	// URI is never overwritten by an older snapshot
+	private final Executor executor;
+
+	public MicroProfileProjectInfoDiskCache(Path cacheDir) {
+		this(cacheDir, Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "MicroProfile project information disk cache");
+			thread.setDaemon(true);
+			return thread;
+		}));
+	}
+
+	public MicroProfileProjectInfoDiskCache(Path cacheDir, Executor executor) {
+		this.cacheDir = cacheDir;
+		this.gson = JSONUtility.getLsp4jGson();
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the disk cache configured with the <code>projectInfoCacheDir</code>
+	 * system property and null if the disk cache is disabled.
+	 *
+	 * @return the disk cache configured with the
+	 *         <code>projectInfoCacheDir</code> system property and null if the
+	 *         disk cache is disabled.
+	 */
+	public static MicroProfileProjectInfoDiskCache create() {
+		String cacheDir = System.getProperty(CACHE_DIR_PROPERTY);
+		if (cacheDir == null || cacheDir.trim().isEmpty()) {
+			return null;
+		}
+		try {
+			return new MicroProfileProjectInfoDiskCache(Paths.get(cacheDir));
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Invalid MicroProfile project information cache directory '" + cacheDir + "'",
+					e);
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the MicroProfile project information stored for the given
+	 * application.properties URI and null otherwise.
+	 *
+	 * @param uri the application.properties URI.
+	 * @return the MicroProfile project information stored for the given
+	 *         application.properties URI and null otherwise.
+	 */
+	public MicroProfileProjectInfo load(String uri) {
+		Path file = getSnapshotFile(uri);
+		if (file == null || !Files.isRegularFile(file)) {
+			return null;
+		}
+		try (InputStream input = new GZIPInputStream(Files.newInputStream(file));
+				Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+			ProjectInfoSnapshot snapshot = gson.fromJson(reader, ProjectInfoSnapshot.class);
+			if (snapshot == null || snapshot.version != SNAPSHOT_VERSION || !uri.equals(snapshot.uri)
+					|| snapshot.projectInfo == null || snapshot.projectInfo.getProperties() == null) {
+				return null;
+			}
+			return snapshot.projectInfo;
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while loading MicroProfile project information snapshot for '" + uri + "'",
+					e);
+			return null;
+		}
+	}
+
+	/**
+	 * Store the given MicroProfile project information for the given
+	 * application.properties URI.
+	 *
+	 * <p>
+	 * The lists of the project information are copied when this method is called
+	 * (the project information can be updated after), the project information is
+	 * serialized and the file is written in background.
+	 * </p>
+	 *
+	 * @param uri         the application.properties URI.
+	 * @param projectInfo the MicroProfile project information.
+	 * @return the future which writes the file.
+	 */
+	public CompletableFuture<Void> save(String uri, MicroProfileProjectInfo projectInfo) {
+		Path file = getSnapshotFile(uri);
+		if (file == null || projectInfo == null || projectInfo.getProperties() == null
+				|| projectInfo.getProperties().isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		ProjectInfoSnapshot snapshot = new ProjectInfoSnapshot();
+		snapshot.version = SNAPSHOT_VERSION;
+		snapshot.uri = uri;
+		snapshot.projectInfo = copy(projectInfo);
+		return CompletableFuture.runAsync(() -> {
+			byte[] content;
+			try {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+					gson.toJson(snapshot, writer);
+				}
+				content = bytes.toByteArray();
+			} catch (Exception e) {
+				LOGGER.log(Level.WARNING, "Error while serializing MicroProfile project information for '" + uri + "'",
+						e);
+				return;
+			}
+			try {
+				Files.createDirectories(cacheDir);
+				// write in a temporary file and move it to never read a partial snapshot
+				Path tmp = Files.createTempFile(cacheDir, file.getFileName().toString(), ".tmp");
+				try {
+					Files.write(tmp, content);
+					try {
+						Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+					} catch (AtomicMoveNotSupportedException e) {
+						Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+					}
+				} finally {
+					Files.deleteIfExists(tmp);
+				}
+			} catch (IOException e) {
+				LOGGER.log(Level.WARNING, "Error while saving MicroProfile project information snapshot for '" + uri + "'",
+						e);
+			}
+		}, executor);
+	}
+
+	/**
+	 * Returns a copy of the lists of the given project information, the
+	 * properties and hints themselves are not updated after they are received.
+	 *
+	 * @param projectInfo the MicroProfile project information.
+	 * @return a copy of the lists of the given project information.
+	 */
+	private static MicroProfileProjectInfo copy(MicroProfileProjectInfo projectInfo) {
+		MicroProfileProjectInfo copy = new MicroProfileProjectInfo();
+		copy.setProjectURI(projectInfo.getProjectURI());
+		copy.setClasspathKind(projectInfo.getClasspathKind());
+		copy.setProperties(new ArrayList<>(projectInfo.getProperties()));
+		if (projectInfo.getHints() != null) {
+			copy.setHints(new ArrayList<>(projectInfo.getHints()));
+		}
+		if (projectInfo.getScannedSourceTypes() != null) {
+			copy.setScannedSourceTypes(new ArrayList<>(projectInfo.getScannedSourceTypes()));
+		}
+		return copy;
+	}
+
+	/**
+	 * Returns the snapshot file of the given application.properties URI.
+	 *
+	 * @param uri the application.properties URI.
+	 * @return the snapshot file of the given application.properties URI.
+	 */
+	private Path getSnapshotFile(String uri) {
+		if (uri == null) {
+			return null;
+		}
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hash = digest.digest(uri.getBytes(StandardCharsets.UTF_8));
+			StringBuilder name = new StringBuilder(hash.length * 2 + 8);
+			for (byte b : hash) {
+				name.append(String.format("%02x", b));
+			}
+			name.append(".json.gz");
+			return cacheDir.resolve(name.toString());
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+}
@@ -34,6 +34,8 @@ import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.DidSaveTextDocumentParams;
+import org.eclipse.lsp4j.DocumentDiagnosticParams;
+import org.eclipse.lsp4j.DocumentDiagnosticReport;
 import org.eclipse.lsp4j.DocumentFormattingParams;
 import org.eclipse.lsp4j.DocumentHighlight;
 import org.eclipse.lsp4j.DocumentHighlightParams;
@@ -50,12 +52,16 @@ import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.utils.JSONUtility;
+import org.eclipse.lsp4mp.extensions.PropertyDescriptionsCache;
 import org.eclipse.lsp4mp.ls.AbstractTextDocumentService;
 import org.eclipse.lsp4mp.ls.MicroProfileLanguageServer;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageServerAPI.JsonSchemaForProjectInfo;
@@ -71,6 +77,7 @@ import org.eclipse.lsp4mp.settings.MicroProfileSymbolSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
 import org.eclipse.lsp4mp.settings.SharedSettings;
 import org.eclipse.lsp4mp.utils.JSONSchemaUtils;
+import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
 import org.eclipse.lsp4mp.utils.URIUtils;
 
 import com.google.gson.JsonElement;
@@ -85,18 +92,24 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 
 	private static final MicroProfileProjectInfo PROJECT_INFO_LOADING = new MicroProfileProjectInfo();
 
+	// the number of completion items for which the property descriptions are
+	// retrieved when the completion is computed
+	private static final int PREFETCHED_DESCRIPTIONS_COUNT = 20;
+
 	private final ModelTextDocuments<PropertiesModel> documents;
 
 	private MicroProfileProjectInfoCache projectInfoCache;
 
 	private final ValidatorDelayer<ModelTextDocument<PropertiesModel>> validatorDelayer;
 
+	private boolean lazyPropertyDescriptionsSupport;
+
 	public PropertiesFileTextDocumentService(MicroProfileLanguageServer microprofileLanguageServer,
 			SharedSettings sharedSettings) {
 		super(microprofileLanguageServer, sharedSettings);
 		this.documents = new ModelTextDocuments<PropertiesModel>((document, cancelChecker) -> {
 			return PropertiesModel.parse(document, cancelChecker);
-		});
+		}, PropertiesModel::parse);
 		this.validatorDelayer = new ValidatorDelayer<ModelTextDocument<PropertiesModel>>((document) -> {
 			triggerValidationFor(document);
 		});
@@ -119,8 +132,8 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		documents.onDidCloseTextDocument(params);
 		String uri = params.getTextDocument().getUri();
 		validatorDelayer.cleanPendingValidation(uri);
-		microprofileLanguageServer.getLanguageClient()
-				.publishDiagnostics(new PublishDiagnosticsParams(uri, new ArrayList<Diagnostic>()));
+		getPropertiesFileLanguageService().clearDiagnosticsCache(uri);
+		diagnosticsPublisher.clearDiagnostics(uri);
 	}
 
 	@Override
@@ -145,6 +158,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 			CompletionList list = getPropertiesFileLanguageService().doComplete(document, params.getPosition(),
 					projectInfo, sharedSettings.getCompletionCapabilities(), sharedSettings.getFormattingSettings(),
 					cancelChecker);
+			prefetchPropertyDescriptions(list, projectInfo, params.getTextDocument().getUri());
 			return Either.forRight(list);
 		});
 	}
@@ -156,11 +170,22 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 			return CompletableFuture.completedFuture(null);
 		}
 		TextDocumentIdentifier identifier = new TextDocumentIdentifier(uri);
-		return getPropertiesModel(identifier, (document, cancelChecker) -> {
+		return getPropertiesModelCompose(identifier, (document, cancelChecker) -> {
 			MicroProfileProjectInfoParams projectInfoParams = createProjectInfoParams(new TextDocumentIdentifier(uri));
 			MicroProfileProjectInfo projectInfo = getProjectInfoCache().getProjectInfo(projectInfoParams).getNow(null);
-			return getPropertiesFileLanguageService().resolveCompletionItem(unresolved, projectInfo,
-					sharedSettings.getCompletionCapabilities(), cancelChecker);
+			PropertyDescriptionsCache descriptionsCache = PropertyDescriptionsCache.getCache(projectInfo);
+			if (descriptionsCache != null) {
+				// The project information has been loaded without descriptions, retrieve the
+				// description of the property before resolving the completion item
+				ItemMetadata property = PropertiesFileUtils.getProperty(unresolved.getLabel(), projectInfo);
+				if (property != null) {
+					return descriptionsCache.loadDescriptions(uri, Collections.singletonList(property)) //
+							.thenApply(_null -> getPropertiesFileLanguageService().resolveCompletionItem(unresolved,
+									projectInfo, sharedSettings.getCompletionCapabilities(), cancelChecker));
+				}
+			}
+			return CompletableFuture.completedFuture(getPropertiesFileLanguageService().resolveCompletionItem(
+					unresolved, projectInfo, sharedSettings.getCompletionCapabilities(), cancelChecker));
 		});
 	}
 
@@ -298,14 +323,114 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	private MicroProfileProjectInfoParams createProjectInfoParams(String uri) {
 		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(uri);
 		params.setDocumentFormat(getDocumentFormat());
+		params.setExcludeDescriptions(isExcludeDescriptions());
 		return params;
 	}
 
+	/**
+	 * Returns true if the descriptions of the properties must be excluded from the
+	 * project information and retrieved on demand and false otherwise.
+	 *
+	 * <p>
+	 * The descriptions are retrieved on demand only if the client supports the
+	 * "microprofile/propertyDescriptions" request and resolves the documentation
+	 * of the completion items.
+	 * </p>
+	 *
+	 * @return true if the descriptions of the properties must be excluded from the
+	 *         project information and false otherwise.
+	 */
+	private boolean isExcludeDescriptions() {
+		return lazyPropertyDescriptionsSupport
+				&& sharedSettings.getCompletionCapabilities().isCompletionResolveDocumentationSupported();
+	}
+
+	/**
+	 * Retrieve in background with one request the descriptions of the first
+	 * properties of the given completion list, which are the first ones resolved
+	 * by the client.
+	 *
+	 * @param list        the completion list.
+	 * @param projectInfo the project information.
+	 * @param uri         the properties file URI.
+	 */
+	private static void prefetchPropertyDescriptions(CompletionList list, MicroProfileProjectInfo projectInfo,
+			String uri) {
+		PropertyDescriptionsCache descriptionsCache = PropertyDescriptionsCache.getCache(projectInfo);
+		if (descriptionsCache == null || list.getItems().isEmpty()) {
+			return;
+		}
+		List<ItemMetadata> properties = new ArrayList<>();
+		for (CompletionItem item : list.getItems()) {
+			if (properties.size() >= PREFETCHED_DESCRIPTIONS_COUNT) {
+				break;
+			}
+			if (item.getData() != null) {
+				ItemMetadata property = PropertiesFileUtils.getProperty(item.getLabel(), projectInfo);
+				if (property != null) {
+					properties.add(property);
+				}
+			}
+		}
+		descriptionsCache.loadDescriptions(uri, properties);
+	}
+
+	/**
+	 * Set true if the client supports the "microprofile/propertyDescriptions"
+	 * request and false otherwise.
+	 *
+	 * @param lazyPropertyDescriptionsSupport true if the client supports the
+	 *                                        "microprofile/propertyDescriptions"
+	 *                                        request and false otherwise.
+	 */
+	public void setLazyPropertyDescriptionsSupport(boolean lazyPropertyDescriptionsSupport) {
+		this.lazyPropertyDescriptionsSupport = lazyPropertyDescriptionsSupport;
+	}
+
 	private PropertiesFileLanguageService getPropertiesFileLanguageService() {
 		return microprofileLanguageServer.getPropertiesFileLanguageService();
 	}
 
+	@Override
+	public CompletableFuture<DocumentDiagnosticReport> diagnostic(DocumentDiagnosticParams params) {
+		String uri = params.getTextDocument().getUri();
+		ModelTextDocument<PropertiesModel> document = getDocument(uri);
+		if (document == null) {
+			return super.diagnostic(params);
+		}
+		String resultId = diagnosticsPublisher.getResultId(uri, document.getVersion());
+		DocumentDiagnosticReport unchanged = getUnchangedDiagnosticReport(params, resultId);
+		if (unchanged != null) {
+			// the properties file and the project information have not changed
+			return CompletableFuture.completedFuture(unchanged);
+		}
+		return getPropertiesModelCompose(params.getTextDocument(), (propertiesModel, cancelChecker) -> {
+			// Get MicroProfile project information which stores all available
+			// MicroProfile properties
+			MicroProfileProjectInfoParams projectInfoParams = createProjectInfoParams(uri);
+			return getProjectInfoCache().getProjectInfo(projectInfoParams).thenApply(projectInfo -> {
+				cancelChecker.checkCanceled();
+				List<Diagnostic> diagnostics = new ArrayList<>();
+				if (projectInfo != null && !projectInfo.getProperties().isEmpty()) {
+					diagnostics = getPropertiesFileLanguageService().doDiagnostics(propertiesModel, projectInfo,
+							getSharedSettings().getValidationSettings(), cancelChecker);
+				}
+				return createDiagnosticReport(diagnostics, resultId);
+			});
+		});
+	}
+
+	@Override
+	public CompletableFuture<List<WorkspaceDocumentDiagnosticReport>> workspaceDiagnostic(
+			WorkspaceDiagnosticParams params) {
+		return workspaceDiagnostic(params, documents.all());
+	}
+
 	private void validate(ModelTextDocument<PropertiesModel> model, boolean delay) {
+		if (isPullDiagnosticsSupport()) {
+			// the client pulls the diagnostics of the opened / changed properties file
+			return;
+		}
 		if (delay) {
 			this.validatorDelayer.validateWithDelay(model);
 		} else {
@@ -316,6 +441,14 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	}
 
 	private void triggerValidationFor(ModelTextDocument<PropertiesModel> model) {
+		if (isPullDiagnosticsSupport()) {
+			// the client pulls again the diagnostics of the properties file
+			diagnosticsPublisher.invalidateDiagnostics(Collections.singletonList(model.getUri()));
+			if (isDiagnosticsRefreshSupport()) {
+				return;
+			}
+			// the client cannot be asked to pull the diagnostics again, publish them
+		}
 		PropertiesModel propertiesModel = model.getModel();
 		CancelChecker cancelChecker = propertiesModel.getCancelChecker();
 		cancelChecker.checkCanceled();
@@ -347,7 +480,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		List<Diagnostic> diagnostics = getPropertiesFileLanguageService().doDiagnostics(propertiesModel, projectInfo,
 				getSharedSettings().getValidationSettings(), cancelChecker);
 		cancelChecker.checkCanceled();
-		microprofileLanguageServer.getLanguageClient()
+		diagnosticsPublisher
 				.publishDiagnostics(new PublishDiagnosticsParams(propertiesModel.getDocumentURI(), diagnostics));
 		return null;
 	}
@@ -437,7 +570,18 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		if (projectInfoCache != null) {
 			return;
 		}
-		projectInfoCache = new MicroProfileProjectInfoCache(microprofileLanguageServer.getLanguageClient());
+		projectInfoCache = new MicroProfileProjectInfoCache(microprofileLanguageServer.getLanguageClient(),
+				MicroProfileProjectInfoDiskCache.create(), uri -> {
+					// the project info loaded from the disk cache has been updated, validate
+					// the application.properties again (or ask the client to pull its
+					// diagnostics again)
+					ModelTextDocument<PropertiesModel> document = getDocument(uri);
+					if (document != null) {
+						CompletableFuture.runAsync(() -> triggerValidationFor(document));
+					}
+				});
+		projectInfoCache.setPropertyDescriptionsCache(
+				new PropertyDescriptionsCache(microprofileLanguageServer.getLanguageClient(), this::getDocumentFormat));
 	}
 
 	public CompletableFuture<JsonSchemaForProjectInfo> getJsonSchemaForProjectInfo(
@@ -26,4 +26,9 @@ public class Comments extends Node {
 		return NodeType.COMMENTS;
 	}
 
+	@Override
+	Node createNode() {
+		return new Comments();
+	}
+
 }
@@ -140,6 +140,38 @@ public abstract class Node {
 		children.add(node);
 	}
 
+	/**
+	 * Returns a copy of this node and its children whose start / end offsets are
+	 * shifted with the given delta.
+	 *
+	 * <p>
+	 * This method is used when the properties model is re-parsed incrementally to
+	 * reuse the nodes which are not impacted by the edited text without updating
+	 * the previous model.
+	 * </p>
+	 *
+	 * @param delta the delta to add to the offsets.
+	 * @return a copy of this node and its children.
+	 */
+	Node copy(int delta) {
+		Node copy = createNode();
+		copy.start = start != -1 ? start + delta : -1;
+		copy.end = end != -1 ? end + delta : -1;
+		if (children != null) {
+			for (Node child : children) {
+				copy.addNode(child.copy(delta));
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * Returns a new empty node of the same type as this node.
+	 *
+	 * @return a new empty node of the same type as this node.
+	 */
+	abstract Node createNode();
+
 	/**
 	 * Returns the node type
 	 *
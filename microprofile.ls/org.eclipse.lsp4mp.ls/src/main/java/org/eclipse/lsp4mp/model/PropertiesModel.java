@@ -13,9 +13,11 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.model;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -159,9 +161,18 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		}
 	}
 
+	private static final ErrorHandler NO_ERROR_HANDLER = new ErrorHandler() {
+
+		@Override
+		public void error(ParseContext context, ErrorEvent errorEvent) throws ParseException {
+
+		}
+	};
+
 	private final TextDocument document;
 	private CancelChecker cancelChecker;
 	private transient Set<String> keys;
+	private List<Node> changedNodes;
 
 	PropertiesModel(TextDocument document, CancelChecker cancelChecker) {
 		this.document = document;
@@ -174,6 +185,11 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		return NodeType.DOCUMENT;
 	}
 
+	@Override
+	Node createNode() {
+		return new PropertiesModel(document, cancelChecker);
+	}
+
 	/**
 	 * Returns the properties model from the given text.
 	 *
@@ -208,16 +224,209 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 	public static PropertiesModel parse(TextDocument document, CancelChecker cancelChecker) {
 		PropertiesModel model = new PropertiesModel(document, cancelChecker);
 		PropertiesParser parser = new PropertiesParser();
-		parser.parse(document.getText(), new PropertiesModelHandler(model), new ErrorHandler() {
+		parser.parse(document.getTextSequence(), new PropertiesModelHandler(model), NO_ERROR_HANDLER,
+				cancelChecker);
+		return model;
+	}
 
-			@Override
-			public void error(ParseContext context, ErrorEvent errorEvent) throws ParseException {
+	/**
+	 * Returns the properties model from the text of the given document by
+	 * re-parsing only the text which has been changed since the given previous
+	 * model was parsed.
+	 *
+	 * <p>
+	 * The top-level nodes (properties, comments) of the previous model which are
+	 * located before the changed text are copied, the nodes which are located
+	 * after the changed text are copied with shifted offsets, and only the logical
+	 * lines impacted by the changed text (with their backslash continuation lines)
+	 * are re-parsed. The re-parsed nodes are available with
+	 * {@link #getChangedNodes()}.
+	 * </p>
+	 *
+	 * <p>
+	 * The previous model is not updated, it can still be used by the readers which
+	 * hold it.
+	 * </p>
+	 *
+	 * @param previousModel         the previous properties model and null if
+	 *                              there is no previous model.
+	 * @param document              the text document.
+	 * @param unchangedPrefixLength the length of the text which has not been
+	 *                              changed at the start of the document since the
+	 *                              previous model was parsed.
+	 * @param unchangedSuffixLength the length of the text which has not been
+	 *                              changed at the end of the document since the
+	 *                              previous model was parsed.
+	 * @param cancelChecker         the cancel checker.
+	 * @return the properties model from the text of the given document.
+	 */
+	public static PropertiesModel parse(PropertiesModel previousModel, TextDocument document,
+			int unchangedPrefixLength, int unchangedSuffixLength, CancelChecker cancelChecker) {
+		if (previousModel == null || previousModel.getEnd() == -1) {
+			return parse(document, cancelChecker);
+		}
+		CharSequence text = document.getTextSequence();
+		int oldLength = previousModel.getEnd();
+		int newLength = text.length();
+		int delta = newLength - oldLength;
+		int prefixLength = Math.max(0, Math.min(unchangedPrefixLength, Math.min(oldLength, newLength)));
+		int suffixLength = Math.max(0,
+				Math.min(unchangedSuffixLength, Math.min(oldLength, newLength) - prefixLength));
+		// The changed text is [damageStart, oldDamageEnd[ in the previous text and
+		// [damageStart, newDamageEnd[ in the new text.
+		int damageStart = prefixLength;
+		int oldDamageEnd = oldLength - suffixLength;
+		int newDamageEnd = newLength - suffixLength;
+
+		List<Node> oldNodes = previousModel.getChildren();
+
+		// Re-parse from the start of the logical line which contains the changed
+		// text: walk back while the line start is inside a property which continues
+		// on several lines (backslash continuation lines with the blank and comment
+		// lines which are between them).
+		int lineStart = getLineStart(text, damageStart);
+		Property spanning = findSpanningProperty(oldNodes, lineStart);
+		while (spanning != null) {
+			lineStart = getLineStart(text, spanning.getStart());
+			spanning = findSpanningProperty(oldNodes, lineStart);
+		}
+		int reparseStart = lineStart;
+		int firstReparsed = findFirstNode(oldNodes, node -> node.getStart() >= reparseStart);
 
+		// Re-parse until the start of a line located after the changed text which
+		// starts a logical line both in the previous text and in the new text.
+		PropertiesParser parser = new PropertiesParser();
+		PropertiesModel reparsed = null;
+		int reparseEnd = getNextLineStart(text, newDamageEnd);
+		while (reparsed == null) {
+			cancelChecker.checkCanceled();
+			if (reparseEnd < newLength) {
+				spanning = findSpanningProperty(oldNodes, reparseEnd - delta);
+				if (spanning != null) {
+					// the line is a continuation of a property in the previous text
+					reparseEnd = getNextLineStart(text, spanning.getEnd() + delta);
+					continue;
+				}
 			}
-		}, cancelChecker);
+			PropertiesModel model = new PropertiesModel(document, cancelChecker);
+			parser.parse(text, reparseStart, reparseEnd, new PropertiesModelHandler(model), NO_ERROR_HANDLER,
+					cancelChecker);
+			if (reparseEnd < newLength && parser.isLastLineContinuation()) {
+				// the line is a continuation of the last re-parsed property in the new
+				// text, re-parse it too
+				reparseEnd = getNextLineStart(text, reparseEnd);
+				continue;
+			}
+			reparsed = model;
+		}
+		int oldReparseEnd = reparseEnd - delta;
+		int nextReused = reparseEnd < newLength
+				? findFirstNode(oldNodes, node -> node.getStart() >= oldReparseEnd)
+				: oldNodes.size();
+
+		List<Node> reparsedNodes = new ArrayList<>(reparsed.getChildren());
+		if (reparseEnd < newLength && !reparsedNodes.isEmpty()) {
+			// The parser creates an empty property for the empty last line (after the
+			// last new line), it's not a node of the document.
+			Node last = reparsedNodes.get(reparsedNodes.size() - 1);
+			if (last.getNodeType() == NodeType.PROPERTY && last.getStart() == reparseEnd) {
+				reparsedNodes.remove(reparsedNodes.size() - 1);
+			}
+		}
+
+		// Build the new model with copies of the reused nodes, the previous model
+		// is not updated.
+		PropertiesModel model = new PropertiesModel(document, cancelChecker);
+		model.setStart(0);
+		for (int i = 0; i < firstReparsed; i++) {
+			model.addNode(oldNodes.get(i).copy(0));
+		}
+		for (Node node : reparsedNodes) {
+			model.addNode(node);
+		}
+		for (int i = nextReused; i < oldNodes.size(); i++) {
+			model.addNode(oldNodes.get(i).copy(delta));
+		}
+		model.setEnd(newLength);
+		model.changedNodes = reparsedNodes;
 		return model;
 	}
 
+	private static int findFirstNode(List<Node> nodes, Predicate<Node> p) {
+		int low = 0, high = nodes.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (p.test(nodes.get(mid))) {
+				high = mid;
+			} else {
+				low = mid + 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the property of the given nodes which starts before the given line
+	 * start offset and continues after it, and null otherwise.
+	 *
+	 * <p>
+	 * The properties don't overlap, but a property which continues on several
+	 * lines can contain comment nodes, so only the last property which starts
+	 * before the offset can contain the offset.
+	 * </p>
+	 *
+	 * @param nodes     the top-level nodes sorted by start offset.
+	 * @param lineStart the line start offset.
+	 * @return the property which starts before the given line start offset and
+	 *         continues after it, and null otherwise.
+	 */
+	private static Property findSpanningProperty(List<Node> nodes, int lineStart) {
+		int i = findFirstNode(nodes, node -> node.getStart() >= lineStart) - 1;
+		while (i >= 0 && nodes.get(i).getNodeType() != NodeType.PROPERTY) {
+			i--;
+		}
+		if (i < 0) {
+			return null;
+		}
+		Property property = (Property) nodes.get(i);
+		return property.getEnd() >= lineStart ? property : null;
+	}
+
+	/**
+	 * Returns the start offset of the line which contains the given offset.
+	 *
+	 * @param text   the text.
+	 * @param offset the offset.
+	 * @return the start offset of the line which contains the given offset.
+	 */
+	private static int getLineStart(CharSequence text, int offset) {
+		int i = Math.min(offset, text.length()) - 1;
+		while (i >= 0 && text.charAt(i) != '\n') {
+			i--;
+		}
+		return i + 1;
+	}
+
+	/**
+	 * Returns the start offset of the line which follows the first new line
+	 * located at or after the given offset, and the text length if there is no
+	 * such new line.
+	 *
+	 * @param text   the text.
+	 * @param offset the offset.
+	 * @return the start offset of the line which follows the first new line
+	 *         located at or after the given offset.
+	 */
+	private static int getNextLineStart(CharSequence text, int offset) {
+		int length = text.length();
+		for (int i = Math.max(offset, 0); i < length; i++) {
+			if (text.charAt(i) == '\n') {
+				return i + 1;
+			}
+		}
+		return length;
+	}
+
 	/**
 	 * Returns the text from the <code>start</code> offset (inclusive) to the
 	 * <code>end</code> offset (exclusive).
@@ -231,10 +440,10 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 	 *         <code>end</code> offset (exclusive).
 	 */
 	public String getText(int start, int end, boolean skipMultiLine) {
-		String text = document.getText();
+		CharSequence text = document.getTextSequence();
 		if (!skipMultiLine) {
 			cancelChecker.checkCanceled();
-			return text.substring(start, end);
+			return text.subSequence(start, end).toString();
 		}
 		
 		StringBuilder sb = new StringBuilder();
@@ -288,6 +497,17 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		return document.getText();
 	}
 
+	/**
+	 * Returns the text of the document as a char sequence, without creating a
+	 * {@link String} of the whole text.
+	 *
+	 * @return the text of the document as a char sequence.
+	 * @see TextDocument#getTextSequence()
+	 */
+	public CharSequence getTextSequence() {
+		return document.getTextSequence();
+	}
+
 	public String getDocumentURI() {
 		return getDocument().getUri();
 	}
@@ -296,6 +516,34 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		return cancelChecker;
 	}
 
+	/**
+	 * Returns true if the model has been parsed incrementally from a previous
+	 * model and false otherwise.
+	 *
+	 * @return true if the model has been parsed incrementally from a previous
+	 *         model and false otherwise.
+	 */
+	public boolean isIncrementallyParsed() {
+		return changedNodes != null;
+	}
+
+	/**
+	 * Returns the top-level nodes (properties, comments) which have been re-parsed
+	 * when the model has been parsed incrementally and null if the model has been
+	 * fully parsed (all nodes are new).
+	 *
+	 * <p>
+	 * The other nodes are the nodes of the previous model which have been reused
+	 * (with shifted offsets when they are located after the changed text).
+	 * </p>
+	 *
+	 * @return the top-level nodes which have been re-parsed and null if the model
+	 *         has been fully parsed.
+	 */
+	public List<Node> getChangedNodes() {
+		return changedNodes;
+	}
+
 	@Override
 	public Set<String> keys() {
 		if (keys != null) {
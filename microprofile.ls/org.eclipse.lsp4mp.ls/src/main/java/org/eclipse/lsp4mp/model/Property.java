@@ -203,6 +203,26 @@ public class Property extends Node {
 		return NodeType.PROPERTY;
 	}
 
+	@Override
+	Node createNode() {
+		return new Property();
+	}
+
+	@Override
+	Node copy(int delta) {
+		Property copy = (Property) super.copy(delta);
+		if (key != null) {
+			copy.setKey((PropertyKey) key.copy(delta));
+		}
+		if (delimiterAssign != null) {
+			copy.setDelimiterAssign(delimiterAssign.copy(delta));
+		}
+		if (value != null) {
+			copy.setValue((PropertyValue) value.copy(delta));
+		}
+		return copy;
+	}
+
 	/**
 	 * Returns true if the property value is an expression(ex : ${ENV:SEVERE} and
 	 * false otherwise (SEVERE)).
@@ -26,6 +26,11 @@ public class PropertyKey extends Node {
 		return NodeType.PROPERTY_KEY;
 	}
 
+	@Override
+	Node createNode() {
+		return new PropertyKey();
+	}
+
 	/**
 	 * Returns the profile of the property key and null otherwise.
 	 *
@@ -39,8 +44,8 @@ public class PropertyKey extends Node {
 	public String getProfile() {
 		int profileEndOffset = getEndProfileOffset();
 		if (profileEndOffset != -1) {
-			String fulltext = getOwnerModel().getText();
-			return fulltext.substring(getStart() + 1, profileEndOffset);
+			CharSequence fulltext = getOwnerModel().getTextSequence();
+			return fulltext.subSequence(getStart() + 1, profileEndOffset).toString();
 		}
 		return null;
 	}
@@ -119,7 +124,7 @@ public class PropertyKey extends Node {
 		if (start == -1 || end == -1) {
 			return -1;
 		}
-		String fulltext = getOwnerModel().getText();
+		CharSequence fulltext = getOwnerModel().getTextSequence();
 		if (start >= fulltext.length()) {
 			return -1;
 		}
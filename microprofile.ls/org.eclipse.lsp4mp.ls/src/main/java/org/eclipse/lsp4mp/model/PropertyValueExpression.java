@@ -87,7 +87,7 @@ public class PropertyValueExpression extends BasePropertyValue {
 		if (end == -1) {
 			return false;
 		}
-		return super.getOwnerModel().getText().charAt(end - 1) == '}';
+		return super.getOwnerModel().getTextSequence().charAt(end - 1) == '}';
 	}
 
 	/**
@@ -187,6 +187,12 @@ public class PropertyValueExpression extends BasePropertyValue {
 		return isIncluded(defaultValueStartOffset, defaultValueEndOffset, offset);
 	}
 
+	@Override
+	Node createNode() {
+		// the reference and default value offsets of the copy are parsed on demand
+		return new PropertyValueExpression();
+	}
+
 	private void parseExpressionIfNeeded() {
 		if (parsed) {
 			return;
@@ -209,7 +215,7 @@ public class PropertyValueExpression extends BasePropertyValue {
 		}
 		boolean nameParsing = true;
 		referenceNameStartOffset = start + 2;
-		String text = super.getOwnerModel().getText();
+		CharSequence text = super.getOwnerModel().getTextSequence();
 		for (int i = referenceNameStartOffset; i < end; i++) {
 			char c = text.charAt(i);
 			switch (c) {
@@ -36,7 +36,9 @@ public class PropertiesParser implements ParseContext {
 	private ErrorHandler errorHandler;
 	private ParseState parseState;
 	private CancelChecker cancelChecker;
-	private String text;
+	private CharSequence text;
+	private int endOffset;
+	private ParseState lastLineStartParseState;
 	private int bufferOffset;
 	private int index;
 	private int line;
@@ -65,19 +67,45 @@ public class PropertiesParser implements ParseContext {
 	 *                        react on some {@link ErrorEvent} by throwing
 	 *                        {@code ParseException}s for them
 	 */
-	public void parse(String text, PropertiesHandler handler, ErrorHandler errorHandler, CancelChecker cancelChecker) {
+	public void parse(CharSequence text, PropertiesHandler handler, ErrorHandler errorHandler, CancelChecker cancelChecker) {
+		parse(text, 0, text.length(), handler, errorHandler, cancelChecker);
+	}
+
+	/**
+	 * Reads the input from the {@code startOffset} (inclusive) to the
+	 * {@code endOffset} (exclusive) of the given text and transforms it into a
+	 * sequence of parse events which are sent to the given
+	 * {@link PropertiesHandler}.
+	 *
+	 * <p>
+	 * The {@code startOffset} must be the start of a line which is not a
+	 * continuation of a previous line. The offsets given by the parse context are
+	 * offsets of the whole text.
+	 * </p>
+	 *
+	 * @param text          the text to parse.
+	 * @param startOffset   the start offset (inclusive).
+	 * @param endOffset     the end offset (exclusive).
+	 * @param handler       the handler to send the parse events to
+	 * @param errorHandler  an {@link ErrorHandler} to notify on parse errors
+	 * @param cancelChecker the cancel checker.
+	 */
+	public void parse(CharSequence text, int startOffset, int endOffset, PropertiesHandler handler,
+			ErrorHandler errorHandler, CancelChecker cancelChecker) {
 		this.handler = handler;
 		this.errorHandler = errorHandler;
 		this.parseState = ParseState.Property;
+		this.lastLineStartParseState = ParseState.Property;
 		this.cancelChecker = cancelChecker;
 		bufferOffset = 0;
-		index = 0;
+		index = startOffset;
 		line = 1;
-		lineOffset = 0;
+		lineOffset = startOffset;
 		current = 0;
 		last = -1;
 
 		this.text = text;
+		this.endOffset = endOffset;
 		readLines();
 		if (!isEndOfText()) {
 			Location location = getLocation();
@@ -94,6 +122,7 @@ public class PropertiesParser implements ParseContext {
 			read();
 			if (currentLine != line) {
 				currentLine = line;
+				lastLineStartParseState = parseState;
 				readLine();
 			}
 			cancelChecker.checkCanceled();
@@ -401,6 +430,24 @@ public class PropertiesParser implements ParseContext {
 		return false;
 	}
 
+	/**
+	 * Returns true if the last parsed line was the continuation of a property
+	 * (key or value) started in a previous line and false otherwise.
+	 *
+	 * <p>
+	 * When the parsed text ends with a new line, the last parsed line is the
+	 * empty line after this new line. In this case, this method returns true if
+	 * the text which follows the parsed text would be parsed as a property
+	 * continuation.
+	 * </p>
+	 *
+	 * @return true if the last parsed line was the continuation of a property
+	 *         (key or value) started in a previous line and false otherwise.
+	 */
+	public boolean isLastLineContinuation() {
+		return lastLineStartParseState != ParseState.Property;
+	}
+
 	private void skipWhiteSpace() {
 		while (isWhiteSpace()) {
 			read();
@@ -419,7 +466,7 @@ public class PropertiesParser implements ParseContext {
 			lineOffset = bufferOffset + index;
 		}
 		last = current;
-		current = index >= text.length() ? -1 : text.charAt(index++);
+		current = index >= endOffset ? -1 : text.charAt(index++);
 		if (current == -1) {
 			bufferOffset++;
 		}
@@ -463,4 +510,4 @@ public class PropertiesParser implements ParseContext {
 	public ErrorHandler getErrorHandler() {
 		return errorHandler;
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
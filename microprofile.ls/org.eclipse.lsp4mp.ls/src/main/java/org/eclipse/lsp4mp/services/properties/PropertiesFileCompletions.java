@@ -41,6 +41,8 @@ import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.ItemMetadataIndex;
+import org.eclipse.lsp4mp.extensions.PropertyDescriptionsCache;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.eclipse.lsp4mp.ls.commons.SnippetsBuilder;
 import org.eclipse.lsp4mp.ls.commons.TextDocument;
@@ -70,6 +72,16 @@ import org.eclipse.lsp4mp.utils.PropertiesFileUtils.FormattedPropertyResult;
 class PropertiesFileCompletions {
 
 	private static final Logger LOGGER = Logger.getLogger(PropertiesFileCompletions.class.getName());
+
+	/**
+	 * The max number of property key completion items returned when the user has
+	 * typed a prefix. When this limit is reached the completion list is marked as
+	 * incomplete to ask the client to re-query the completion as the prefix
+	 * grows.
+	 */
+	static final int MAX_PROPERTY_KEY_COMPLETION_ITEMS = 100;
+
+	private static final int SORT_TEXT_LENGTH = String.valueOf(MAX_PROPERTY_KEY_COMPLETION_ITEMS).length();
 	private TextDocumentSnippetRegistry snippetRegistry;
 
 	/**
@@ -168,7 +180,15 @@ class PropertiesFileCompletions {
 		if (property == null) {
 			return unresolved;
 		}
-		unresolved.setDocumentation(DocumentationUtils.getDocumentation(property, null, null, markdownSupported));
+		String description = property.getDescription();
+		if (description == null && PropertyDescriptionsCache.getCache(projectInfo) != null) {
+			// the description has been retrieved on demand
+			CompletionData data = CompletionData.getCompletionData(unresolved);
+			description = PropertyDescriptionsCache.getDescription(property, projectInfo,
+					data != null ? data.getUri() : null);
+		}
+		unresolved.setDocumentation(
+				DocumentationUtils.getDocumentation(property, description, null, null, markdownSupported));
 		return unresolved;
 	}
 
@@ -219,10 +239,26 @@ class PropertiesFileCompletions {
 			propertyValue = ((Assign) node).getProperty().getPropertyValue();
 		}
 
+		// Filter and rank the MicroProfile properties with the prefix typed by the
+		// user
+		String prefix = getPropertyKeyPrefix(offset, node);
+		ItemMetadataIndex index = PropertiesFileUtils.getPropertiesIndex(projectInfo);
+		// the existing properties are skipped, one more property is filtered to know
+		// if the completion items are capped
+		int limit = MAX_PROPERTY_KEY_COMPLETION_ITEMS + existingProperties.size() + 1;
+		List<ItemMetadata> properties = PropertyNameFilter.filter(prefix, index, limit);
+		if (properties.size() < index.getSortedProperties().size()) {
+			// some properties have been filtered, the client must re-query the
+			// completion if the prefix changes
+			list.setIsIncomplete(true);
+		}
+
 		// Completion on MicroProfile properties
-		for (ItemMetadata property : projectInfo.getProperties()) {
-			if (property == null) {
-				continue;
+		int itemCount = 0;
+		for (ItemMetadata property : properties) {
+			if (itemCount >= MAX_PROPERTY_KEY_COMPLETION_ITEMS) {
+				list.setIsIncomplete(true);
+				break;
 			}
 			String propertyName = property.getName();
 			if (profile != null) {
@@ -301,8 +337,47 @@ class PropertiesFileCompletions {
 			} else {
 				item.setDocumentation(DocumentationUtils.getDocumentation(property, profile, null, markdownSupported));
 			}
+			// keep the rank of the filter, the client sorts the items with the label
+			// otherwise
+			item.setSortText(getSortText(itemCount));
 			list.getItems().add(item);
+			itemCount++;
+		}
+	}
+
+	private static String getSortText(int itemCount) {
+		String sortText = String.valueOf(itemCount);
+		StringBuilder padded = new StringBuilder(SORT_TEXT_LENGTH);
+		for (int i = sortText.length(); i < SORT_TEXT_LENGTH; i++) {
+			padded.append('0');
+		}
+		return padded.append(sortText).toString();
+	}
+
+	/**
+	 * Returns the property name prefix typed by the user (without the profile)
+	 * before the given offset and an empty string otherwise.
+	 *
+	 * @param offset the offset where completion was invoked
+	 * @param node   the node where completion was invoked
+	 * @return the property name prefix typed by the user (without the profile)
+	 *         before the given offset and an empty string otherwise.
+	 */
+	private static String getPropertyKeyPrefix(int offset, Node node) {
+		if (node == null || node.getNodeType() != NodeType.PROPERTY_KEY) {
+			return "";
+		}
+		PropertyKey key = (PropertyKey) node;
+		int start = key.getStart();
+		String profile = key.getProfile();
+		if (profile != null) {
+			// skip '%' + profile + '.'
+			start += profile.length() + 2;
+		}
+		if (start < 0 || offset <= start) {
+			return "";
 		}
+		return key.getOwnerModel().getText(start, Math.min(offset, key.getEnd()), true);
 	}
 
 	/**
@@ -657,4 +732,4 @@ class PropertiesFileCompletions {
 		}
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
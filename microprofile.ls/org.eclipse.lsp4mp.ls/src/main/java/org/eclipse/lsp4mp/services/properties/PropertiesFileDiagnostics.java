@@ -15,6 +15,8 @@ package org.eclipse.lsp4mp.services.properties;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -30,9 +32,12 @@ import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
 class PropertiesFileDiagnostics {
 	
 	private final PropertiesFileExtensionRegistry extensionRegistry;
+
+	private final Map<String, PropertiesFileValidationCache> caches;
 	
 	public PropertiesFileDiagnostics(PropertiesFileExtensionRegistry extensionRegistry) {
 		this.extensionRegistry = extensionRegistry;
+		this.caches = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -52,10 +57,29 @@ class PropertiesFileDiagnostics {
 		}
 		List<Diagnostic> diagnostics = new ArrayList<Diagnostic>();
 		if (validationSettings.isEnabled()) {
-			PropertiesFileValidator validator = new PropertiesFileValidator(projectInfo, diagnostics, validationSettings, extensionRegistry);
+			PropertiesFileValidationCache cache = getCache(document);
+			PropertiesFileValidator validator = new PropertiesFileValidator(projectInfo, diagnostics, validationSettings,
+					extensionRegistry, cache);
 			validator.validate(document, cancelChecker);
 		}
 		return diagnostics;
 	}
 
+	private PropertiesFileValidationCache getCache(PropertiesModel document) {
+		String uri = document.getDocumentURI();
+		if (uri == null) {
+			return null;
+		}
+		return caches.computeIfAbsent(uri, k -> new PropertiesFileValidationCache());
+	}
+
+	/**
+	 * Clear the diagnostics cached for the given document URI.
+	 *
+	 * @param documentURI the document URI.
+	 */
+	public void clearCache(String documentURI) {
+		caches.remove(documentURI);
+	}
+
 }
@@ -13,6 +13,7 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.services.properties;
 
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -34,6 +35,7 @@ import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
 import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.PropertyDescriptionsCache;
 import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.eclipse.lsp4mp.model.BasePropertyValue;
@@ -158,7 +160,6 @@ class PropertiesFileHover {
 	private static CompletableFuture<Hover> getPropertyKeyHover(PropertyKey key, MicroProfileProjectInfo projectInfo,
 			MicroProfileHoverSettings hoverSettings, MicroProfilePropertyDocumentationProvider documentationProvider,
 			String uri, CancelChecker cancelChecker) {
-		boolean markdownSupported = hoverSettings.isContentFormatSupported(MarkupKind.MARKDOWN);
 		// retrieve MicroProfile property from the project information
 		String propertyName = key.getPropertyName();
 
@@ -176,11 +177,30 @@ class PropertiesFileHover {
 		ItemMetadata item = PropertiesFileUtils.getProperty(propertyName, projectInfo);
 
 		final String propertyValueFinal = propertyValue;
+		PropertyDescriptionsCache descriptionsCache = PropertyDescriptionsCache.getCache(projectInfo);
+		if (item != null && descriptionsCache != null && uri != null
+				&& descriptionsCache.getDescription(uri, item) == null) {
+			// The project information has been loaded without descriptions, retrieve the
+			// description of the property before computing the hover
+			return descriptionsCache.loadDescriptions(uri, Collections.singletonList(item)) //
+					.thenCompose(_null -> getPropertyKeyHover(key, item, propertyValueFinal, projectInfo,
+							hoverSettings, documentationProvider, uri));
+		}
+		return getPropertyKeyHover(key, item, propertyValueFinal, projectInfo, hoverSettings, documentationProvider,
+				uri);
+	}
+
+	private static CompletableFuture<Hover> getPropertyKeyHover(PropertyKey key, ItemMetadata item,
+			String propertyValue, MicroProfileProjectInfo projectInfo, MicroProfileHoverSettings hoverSettings,
+			MicroProfilePropertyDocumentationProvider documentationProvider, String uri) {
+		boolean markdownSupported = hoverSettings.isContentFormatSupported(MarkupKind.MARKDOWN);
+		String propertyName = key.getPropertyName();
 
 		if (item != null || propertyValue != null) {
 
 			CompletableFuture<Void> docsCollect = null;
-			if (item != null && item.isJavaOrigin() && StringUtils.isEmpty(item.getDescription())) {
+			if (item != null && item.isJavaOrigin() && StringUtils
+					.isEmpty(PropertyDescriptionsCache.getDescription(item, projectInfo, uri))) {
 				// It is a property declared in a Java file, try to collect the Javadoc
 				MicroProfilePropertyDocumentationParams params = new MicroProfilePropertyDocumentationParams();
 				params.setUri(uri);
@@ -201,8 +221,9 @@ class PropertiesFileHover {
 				MarkupContent markupContent = null;
 				if (item != null) {
 					// MicroProfile property found, display the documentation as hover
-					markupContent = DocumentationUtils.getDocumentation(item, key.getProfile(), propertyValue,
-							markdownSupported);
+					markupContent = DocumentationUtils.getDocumentation(item,
+							PropertyDescriptionsCache.getDescription(item, projectInfo, uri),
+							key.getProfile(), propertyValue, markdownSupported);
 				} else {
 					// The property was not found, display just the resolved value
 					markupContent = DocumentationUtils.getDocumentation(key.getProfile(), propertyName, propertyValue,
@@ -218,8 +239,9 @@ class PropertiesFileHover {
 				// Docs are only collected asynchronously from JDT.LS if the ItemMetadata
 				// resolves
 				// MicroProfile property found, display the documentation as hover
-				markupContent = DocumentationUtils.getDocumentation(item, key.getProfile(), propertyValueFinal,
-						markdownSupported);
+				markupContent = DocumentationUtils.getDocumentation(item,
+						PropertyDescriptionsCache.getDescription(item, projectInfo, uri),
+						key.getProfile(), propertyValue, markdownSupported);
 				hover.setContents(markupContent);
 				hover.setRange(PositionUtils.createRange(key));
 				return hover;
@@ -228,6 +228,16 @@ public class PropertiesFileLanguageService extends PropertiesFileExtensionRegist
 		return diagnostics.doDiagnostics(document, projectInfo, validationSettings, cancelChecker);
 	}
 
+	/**
+	 * Clear the diagnostics cached for the given application.properties document
+	 * URI (ex : when the document is closed).
+	 *
+	 * @param documentURI the document URI.
+	 */
+	public void clearDiagnosticsCache(String documentURI) {
+		diagnostics.clearCache(documentURI);
+	}
+
 	/**
 	 * Returns code actions for the given diagnostics of the application.properties
 	 * <code>document</code> by using the given MicroProfile properties metadata
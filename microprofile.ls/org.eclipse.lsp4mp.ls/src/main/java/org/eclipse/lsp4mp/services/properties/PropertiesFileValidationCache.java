@@ -0,0 +1,246 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.ls.commons.BadLocationException;
+import org.eclipse.lsp4mp.ls.commons.TextDocument;
+import org.eclipse.lsp4mp.model.Property;
+import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileValidationTypeSettings;
+import org.eclipse.lsp4mp.utils.PositionUtils;
+
+/**
+ * Cache of the diagnostics of the properties of an application.properties
+ * document.
+ *
+ * <p>
+ * The diagnostics reported by the built-in validation of a property which
+ * depend only on the property (syntax, unknown property, value type) are stored
+ * with the text of the property (key, assign and value). When the next
+ * validation of the document finds a property with the same text, the
+ * diagnostics are reused by shifting their ranges to the new location of the
+ * property, instead of validating the property again.
+ * </p>
+ *
+ * <p>
+ * The diagnostics of the {@link IPropertyValidatorParticipant} are not cached,
+ * the participants validate the property each time.
+ * </p>
+ *
+ * <p>
+ * The cached diagnostics are valid only for the project information, its
+ * generation and the validation settings used to compute them.
+ * </p>
+ *
+ */
+class PropertiesFileValidationCache {
+
+	/**
+	 * A diagnostic with a range stored with offsets relative to the start of the
+	 * property.
+	 */
+	static class CachedDiagnostic {
+
+		private final Diagnostic diagnostic;
+
+		private final int startOffset;
+
+		private final int endOffset;
+
+		CachedDiagnostic(Diagnostic diagnostic, int startOffset, int endOffset) {
+			this.diagnostic = diagnostic;
+			this.startOffset = startOffset;
+			this.endOffset = endOffset;
+		}
+
+		/**
+		 * Returns a copy of the cached diagnostic with a range shifted to the given
+		 * property and null if the range cannot be computed.
+		 *
+		 * @param property the property.
+		 * @return a copy of the cached diagnostic with a range shifted to the given
+		 *         property and null if the range cannot be computed.
+		 */
+		Diagnostic createDiagnostic(Property property) {
+			int start = property.getStart();
+			Range range = PositionUtils.createRange(start + startOffset, start + endOffset, property.getDocument());
+			if (range == null) {
+				return null;
+			}
+			Diagnostic copy = new Diagnostic(range, diagnostic.getMessage(), diagnostic.getSeverity(),
+					diagnostic.getSource());
+			copy.setCode(diagnostic.getCode());
+			copy.setCodeDescription(diagnostic.getCodeDescription());
+			copy.setTags(diagnostic.getTags());
+			copy.setData(diagnostic.getData());
+			return copy;
+		}
+	}
+
+	/**
+	 * The cached diagnostics of the built-in validation of a property by
+	 * validation type (syntax, unknown, value).
+	 */
+	static class CachedProperty {
+
+		private final Map<ValidationType, List<CachedDiagnostic>> diagnostics = new EnumMap<>(
+				ValidationType.class);
+
+		/**
+		 * Returns the cached diagnostics of the given validation type and null if the
+		 * validation has not been done or cannot be cached.
+		 *
+		 * @param type the validation type.
+		 * @return the cached diagnostics of the given validation type and null
+		 *         otherwise.
+		 */
+		List<CachedDiagnostic> getDiagnostics(ValidationType type) {
+			return diagnostics.get(type);
+		}
+
+		void setDiagnostics(ValidationType type, List<CachedDiagnostic> cachedDiagnostics) {
+			if (cachedDiagnostics != null) {
+				diagnostics.put(type, cachedDiagnostics);
+			}
+		}
+	}
+
+	private static class Entries {
+
+		private final MicroProfileProjectInfo projectInfo;
+
+		private final int generation;
+
+		private final MicroProfileValidationSettings settings;
+
+		private final Map<String, CachedProperty> properties;
+
+		Entries(MicroProfileProjectInfo projectInfo, int generation, MicroProfileValidationSettings settings,
+				Map<String, CachedProperty> properties) {
+			this.projectInfo = projectInfo;
+			this.generation = generation;
+			this.settings = settings;
+			this.properties = properties;
+		}
+	}
+
+	private volatile Entries entries;
+
+	/**
+	 * Returns the cached diagnostics (by property text) computed with the given
+	 * project information, generation and validation settings, and an empty map
+	 * otherwise.
+	 *
+	 * @param projectInfo the project information.
+	 * @param generation  the generation of the project information.
+	 * @param settings    the validation settings.
+	 * @return the cached diagnostics by property text.
+	 */
+	Map<String, CachedProperty> getProperties(MicroProfileProjectInfo projectInfo, int generation,
+			MicroProfileValidationSettings settings) {
+		Entries entries = this.entries;
+		if (entries == null || entries.projectInfo != projectInfo || entries.generation != generation
+				|| !entries.settings.equals(settings)) {
+			return Collections.emptyMap();
+		}
+		return entries.properties;
+	}
+
+	/**
+	 * Replace the cached diagnostics with the diagnostics of the last validation.
+	 *
+	 * @param projectInfo the project information.
+	 * @param generation  the generation of the project information.
+	 * @param settings    the validation settings.
+	 * @param properties  the diagnostics by property text.
+	 */
+	void update(MicroProfileProjectInfo projectInfo, int generation, MicroProfileValidationSettings settings,
+			Map<String, CachedProperty> properties) {
+		Entries entries = this.entries;
+		// the validation settings can be updated after the validation, a copy is
+		// stored
+		MicroProfileValidationSettings settingsCopy = entries != null && entries.settings.equals(settings)
+				? entries.settings
+				: copy(settings);
+		this.entries = new Entries(projectInfo, generation, settingsCopy, properties);
+	}
+
+	private static MicroProfileValidationSettings copy(MicroProfileValidationSettings settings) {
+		MicroProfileValidationSettings copy = new MicroProfileValidationSettings();
+		copy.setEnabled(settings.isEnabled());
+		copy.setSyntax(copy(settings.getSyntax()));
+		copy.setUnknown(copy(settings.getUnknown()));
+		copy.setDuplicate(copy(settings.getDuplicate()));
+		copy.setValue(copy(settings.getValue()));
+		copy.setRequired(copy(settings.getRequired()));
+		copy.setExpression(copy(settings.getExpression()));
+		copy.setUnassigned(copy(settings.getUnassigned()));
+		return copy;
+	}
+
+	private static MicroProfileValidationTypeSettings copy(MicroProfileValidationTypeSettings settings) {
+		if (settings == null) {
+			return null;
+		}
+		MicroProfileValidationTypeSettings copy = new MicroProfileValidationTypeSettings();
+		copy.setSeverity(settings.getSeverity());
+		copy.setExcluded(settings.getExcluded() != null ? new ArrayList<>(settings.getExcluded()) : null);
+		return copy;
+	}
+
+	/**
+	 * Returns the given diagnostics of the given property with ranges relative to
+	 * the start of the property and null if a diagnostic is not located in the
+	 * property or references another location.
+	 *
+	 * @param diagnostics the diagnostics reported for the property.
+	 * @param property    the property.
+	 * @return the given diagnostics of the given property with ranges relative
+	 *         to the start of the property and null if they cannot be cached.
+	 */
+	static List<CachedDiagnostic> toCachedDiagnostics(List<Diagnostic> diagnostics, Property property) {
+		if (diagnostics.isEmpty()) {
+			return Collections.emptyList();
+		}
+		TextDocument document = property.getDocument();
+		int start = property.getStart();
+		int end = property.getEnd();
+		List<CachedDiagnostic> cached = new ArrayList<>(diagnostics.size());
+		try {
+			for (Diagnostic diagnostic : diagnostics) {
+				if (diagnostic.getRelatedInformation() != null && !diagnostic.getRelatedInformation().isEmpty()) {
+					return null;
+				}
+				int diagnosticStart = document.offsetAt(diagnostic.getRange().getStart());
+				int diagnosticEnd = document.offsetAt(diagnostic.getRange().getEnd());
+				if (diagnosticStart < start || diagnosticEnd > end) {
+					return null;
+				}
+				cached.add(new CachedDiagnostic(diagnostic, diagnosticStart - start, diagnosticEnd - start));
+			}
+		} catch (BadLocationException e) {
+			return null;
+		}
+		return cached;
+	}
+}
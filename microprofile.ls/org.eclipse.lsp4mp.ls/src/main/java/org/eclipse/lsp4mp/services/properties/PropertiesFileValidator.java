@@ -36,11 +36,14 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.model.Node;
 import org.eclipse.lsp4mp.model.Node.NodeType;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.model.Property;
 import org.eclipse.lsp4mp.model.PropertyValueExpression;
+import org.eclipse.lsp4mp.services.properties.PropertiesFileValidationCache.CachedDiagnostic;
+import org.eclipse.lsp4mp.services.properties.PropertiesFileValidationCache.CachedProperty;
 import org.eclipse.lsp4mp.services.properties.extensions.PropertiesFileExtensionRegistry;
 import org.eclipse.lsp4mp.services.properties.extensions.participants.IPropertyValidatorParticipant;
 import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
@@ -72,8 +75,25 @@ class PropertiesFileValidator {
 	private ValidationKeyContext validationKeyContext;
 	private ValidationValueContext validationValueContext;
 
+	private final PropertiesFileValidationCache cache;
+	private Map<String, CachedProperty> cachedProperties;
+	private Map<String, CachedProperty> newCachedProperties;
+
+	// the property which is validated, its cached diagnostics of the previous
+	// validation and its diagnostics to cache (null if the property cannot be
+	// cached)
+	private Property validatedProperty;
+	private CachedProperty cachedProperty;
+	private CachedProperty newCachedProperty;
+
 	public PropertiesFileValidator(MicroProfileProjectInfo projectInfo, List<Diagnostic> diagnostics,
 			MicroProfileValidationSettings validationSettings, PropertiesFileExtensionRegistry extensionRegistry) {
+		this(projectInfo, diagnostics, validationSettings, extensionRegistry, null);
+	}
+
+	public PropertiesFileValidator(MicroProfileProjectInfo projectInfo, List<Diagnostic> diagnostics,
+			MicroProfileValidationSettings validationSettings, PropertiesFileExtensionRegistry extensionRegistry,
+			PropertiesFileValidationCache cache) {
 		this.projectInfo = projectInfo;
 		this.diagnostics = diagnostics;
 		this.validationSettings = validationSettings;
@@ -82,11 +102,21 @@ class PropertiesFileValidator {
 		// to be lazily init
 		this.declaredProperties = null;
 		this.availableProperties = null;
+		// the diagnostics can be cached only if the project information has a
+		// generation which changes when the properties change
+		this.cache = projectInfo instanceof ExtendedMicroProfileProjectInfo ? cache : null;
 	}
 
 	public void validate(PropertiesModel document, CancelChecker cancelChecker) {
 		List<Node> nodes = document.getChildren();
 
+		int generation = 0;
+		if (cache != null) {
+			generation = ((ExtendedMicroProfileProjectInfo) projectInfo).getGeneration();
+			cachedProperties = cache.getProperties(projectInfo, generation, validationSettings);
+			newCachedProperties = new HashMap<>();
+		}
+
 		for (Node node : nodes) {
 			if (cancelChecker != null) {
 				cancelChecker.checkCanceled();
@@ -96,6 +126,10 @@ class PropertiesFileValidator {
 			}
 		}
 
+		if (cache != null) {
+			cache.update(projectInfo, generation, validationSettings, newCachedProperties);
+		}
+
 		addDiagnosticsForDuplicates();
 		addDiagnosticsForMissingRequired(document);
 	}
@@ -103,12 +137,78 @@ class PropertiesFileValidator {
 	private void validateProperty(Property property, CancelChecker cancelChecker) {
 		String propertyNameWithProfile = property.getPropertyNameWithProfile();
 		if (!StringUtils.isEmpty(propertyNameWithProfile)) {
-			// Validate Syntax property
-			validateSyntaxProperty(propertyNameWithProfile, property);
 			// Validate Duplicate property
 			validateDuplicateProperty(propertyNameWithProfile, property);
 		}
 
+		// The validation of a property value expression depends on the other
+		// properties, its built-in validation cannot be cached.
+		String text = cache != null && !property.isPropertyValueExpression() ? property.getText() : null;
+		validatedProperty = property;
+		if (text != null) {
+			cachedProperty = newCachedProperties.get(text);
+			if (cachedProperty == null) {
+				cachedProperty = cachedProperties.get(text);
+			}
+			newCachedProperty = new CachedProperty();
+		}
+		try {
+			validatePropertyContent(property, propertyNameWithProfile, cancelChecker);
+			if (text != null) {
+				newCachedProperties.put(text, newCachedProperty);
+			}
+		} finally {
+			validatedProperty = null;
+			cachedProperty = null;
+			newCachedProperty = null;
+		}
+	}
+
+	/**
+	 * Execute the given built-in validation of the validated property or reuse the
+	 * diagnostics of the previous validation of the property when the property has
+	 * not changed.
+	 *
+	 * @param type       the validation type.
+	 * @param validation the built-in validation.
+	 */
+	private void validateBuiltIn(ValidationType type, Runnable validation) {
+		if (newCachedProperty == null) {
+			validation.run();
+			return;
+		}
+		List<CachedDiagnostic> cached = cachedProperty != null ? cachedProperty.getDiagnostics(type) : null;
+		if (cached != null) {
+			// The property has not changed, reuse the diagnostics of the previous
+			// validation.
+			List<Diagnostic> propertyDiagnostics = new ArrayList<>(cached.size());
+			for (CachedDiagnostic cachedDiagnostic : cached) {
+				Diagnostic diagnostic = cachedDiagnostic.createDiagnostic(validatedProperty);
+				if (diagnostic == null) {
+					propertyDiagnostics = null;
+					break;
+				}
+				propertyDiagnostics.add(diagnostic);
+			}
+			if (propertyDiagnostics != null) {
+				diagnostics.addAll(propertyDiagnostics);
+				newCachedProperty.setDiagnostics(type, cached);
+				return;
+			}
+		}
+		int from = diagnostics.size();
+		validation.run();
+		newCachedProperty.setDiagnostics(type, PropertiesFileValidationCache
+				.toCachedDiagnostics(diagnostics.subList(from, diagnostics.size()), validatedProperty));
+	}
+
+	private void validatePropertyContent(Property property, String propertyNameWithProfile,
+			CancelChecker cancelChecker) {
+		if (!StringUtils.isEmpty(propertyNameWithProfile)) {
+			// Validate Syntax property
+			validateBuiltIn(ValidationType.syntax, () -> validateSyntaxProperty(propertyNameWithProfile, property));
+		}
+
 		String propertyName = property.getPropertyName();
 		if (!StringUtils.isEmpty(propertyName)) {
 			ItemMetadata metadata = PropertiesFileUtils.getProperty(propertyName, projectInfo);
@@ -166,7 +266,7 @@ class PropertiesFileValidator {
 		if (metadata != null) {
 			return;
 		}
-		validateUnknownProperty(propertyName, property);
+		validateBuiltIn(ValidationType.unknown, () -> validateUnknownProperty(propertyName, property));
 
 	}
 
@@ -248,8 +348,12 @@ class PropertiesFileValidator {
 		if (metadata == null || StringUtils.isEmpty(value)) {
 			return;
 		}
+		validateBuiltIn(ValidationType.value,
+				() -> validateStandardPropertyValue(metadata, value, start, end, propertiesModel, severity));
+	}
 
-		//
+	private void validateStandardPropertyValue(ItemMetadata metadata, String value, int start, int end,
+			PropertiesModel propertiesModel, DiagnosticSeverity severity) {
 		String errorMessage = getErrorIfInvalidEnum(metadata, projectInfo, propertiesModel, value);
 		if (errorMessage == null) {
 			errorMessage = getErrorIfValueTypeMismatch(metadata, value);
@@ -0,0 +1,283 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.extensions.ItemMetadataIndex;
+import org.eclipse.lsp4mp.utils.EnvUtils;
+import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
+
+/**
+ * Filter and rank MicroProfile properties with a prefix typed by the user for
+ * property key completion.
+ *
+ * <p>
+ * A property matches the prefix with the following ranks (the lowest rank is
+ * the best):
+ * </p>
+ *
+ * <ul>
+ * <li>{@link #RANK_PREFIX}: the property name starts with the prefix (ex :
+ * 'quarkus.http.p' for 'quarkus.http.port').</li>
+ * <li>{@link #RANK_PREFIX_IGNORE_CASE}: the property name starts with the
+ * prefix by ignoring the case (ex : 'Quarkus.HTTP' for
+ * 'quarkus.http.port').</li>
+ * <li>{@link #RANK_SEGMENTS}: each segment of the prefix starts a consecutive
+ * segment of the property name (ex : 'q.h.po' or 'http.port' for
+ * 'quarkus.http.port'). A '{*}' segment of a mapped property matches any
+ * segment (ex : 'quarkus.log.category."org.acme".le' for
+ * 'quarkus.log.category.{*}.level').</li>
+ * <li>{@link #RANK_SUBSEQUENCE}: the characters of the prefix appear in the
+ * property name in the same order (ex : 'qhport' for 'quarkus.http.port').
+ * It's the less restrictive rank which keeps the properties that the client
+ * fuzzy matching could show.</li>
+ * </ul>
+ *
+ * <p>
+ * When the prefix is empty, all the properties start with the prefix: the
+ * properties of the project (ex : Java sources, dependencies) are ranked
+ * before the system properties and the environment variables, otherwise the
+ * (generally numerous) environment variables written in upper case fill the
+ * first items.
+ * </p>
+ *
+ */
+class PropertyNameFilter {
+
+	public static final int NO_MATCH = -1;
+
+	public static final int RANK_PREFIX = 0;
+
+	public static final int RANK_PREFIX_IGNORE_CASE = 1;
+
+	public static final int RANK_SEGMENTS = 2;
+
+	public static final int RANK_SUBSEQUENCE = 3;
+
+	private static final String KEY_MAP_SEGMENT = "{*}";
+
+	private static final String INDEX_ARRAY = "[*]";
+
+	private PropertyNameFilter() {
+
+	}
+
+	/**
+	 * Returns at most <code>limit</code> properties which match the given prefix,
+	 * ordered by rank then by name.
+	 *
+	 * <p>
+	 * The properties which start with the prefix (by ignoring the case or not) are
+	 * found with a binary search in the sorted properties of the index. The other
+	 * properties are ranked with the segments of their names computed by the
+	 * index, only when the properties which start with the prefix are less than
+	 * the limit.
+	 * </p>
+	 *
+	 * @param prefix the prefix typed by the user.
+	 * @param index  the properties index.
+	 * @param limit  the max number of returned properties.
+	 * @return at most <code>limit</code> properties which match the given prefix,
+	 *         ordered by rank then by name.
+	 */
+	public static List<ItemMetadata> filter(String prefix, ItemMetadataIndex index, int limit) {
+		List<ItemMetadata> sortedProperties = index.getSortedProperties();
+		if (prefix.isEmpty()) {
+			return filterWithoutPrefix(sortedProperties, limit);
+		}
+		List<ItemMetadata> result = new ArrayList<>();
+
+		// RANK_PREFIX: the properties which start with the prefix are contiguous in
+		// the sorted properties
+		int from = lowerBound(prefix, sortedProperties, Comparator.naturalOrder());
+		for (int i = from; i < sortedProperties.size() && result.size() < limit; i++) {
+			ItemMetadata property = sortedProperties.get(i);
+			if (!property.getName().startsWith(prefix)) {
+				break;
+			}
+			result.add(property);
+		}
+		if (result.size() >= limit) {
+			return result;
+		}
+
+		// RANK_PREFIX_IGNORE_CASE: the properties which start with the prefix by
+		// ignoring the case are contiguous in the properties sorted by ignoring the
+		// case
+		List<ItemMetadata> sortedPropertiesIgnoreCase = index.getSortedPropertiesIgnoreCase();
+		from = lowerBound(prefix, sortedPropertiesIgnoreCase, String.CASE_INSENSITIVE_ORDER);
+		for (int i = from; i < sortedPropertiesIgnoreCase.size() && result.size() < limit; i++) {
+			ItemMetadata property = sortedPropertiesIgnoreCase.get(i);
+			String name = property.getName();
+			if (!name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+				break;
+			}
+			if (!name.startsWith(prefix)) {
+				result.add(property);
+			}
+		}
+		if (result.size() >= limit) {
+			return result;
+		}
+
+		// RANK_SEGMENTS and RANK_SUBSEQUENCE: rank the other properties
+		String[] prefixSegments = PropertiesFileUtils.getPropertyNameSegments(prefix);
+		List<String[]> sortedPropertySegments = index.getSortedPropertySegments();
+		int remaining = limit - result.size();
+		List<ItemMetadata> segmentMatches = new ArrayList<>();
+		List<ItemMetadata> subsequenceMatches = new ArrayList<>();
+		for (int i = 0; i < sortedProperties.size() && segmentMatches.size() < remaining; i++) {
+			ItemMetadata property = sortedProperties.get(i);
+			String name = property.getName();
+			if (name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+				// already ranked
+				continue;
+			}
+			if (matchSegments(prefixSegments, sortedPropertySegments.get(i))) {
+				segmentMatches.add(property);
+			} else if (subsequenceMatches.size() < remaining && isSubsequence(prefix, name)) {
+				subsequenceMatches.add(property);
+			}
+		}
+		result.addAll(segmentMatches);
+		for (int i = 0; i < subsequenceMatches.size() && result.size() < limit; i++) {
+			result.add(subsequenceMatches.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns at most <code>limit</code> properties, the properties of the project
+	 * first then the system properties and the environment variables, ordered by
+	 * name.
+	 *
+	 * @param sortedProperties the properties sorted by name.
+	 * @param limit            the max number of returned properties.
+	 * @return at most <code>limit</code> properties, the properties of the project
+	 *         first then the system properties and the environment variables,
+	 *         ordered by name.
+	 */
+	private static List<ItemMetadata> filterWithoutPrefix(List<ItemMetadata> sortedProperties, int limit) {
+		List<ItemMetadata> result = new ArrayList<>();
+		for (int i = 0; i < sortedProperties.size() && result.size() < limit; i++) {
+			ItemMetadata property = sortedProperties.get(i);
+			if (!isSystemOrigin(property)) {
+				result.add(property);
+			}
+		}
+		for (int i = 0; i < sortedProperties.size() && result.size() < limit; i++) {
+			ItemMetadata property = sortedProperties.get(i);
+			if (isSystemOrigin(property)) {
+				result.add(property);
+			}
+		}
+		return result;
+	}
+
+	private static boolean isSystemOrigin(ItemMetadata property) {
+		String origin = property.getOrigin();
+		return EnvUtils.SYSTEM_PROPERTIES_ORIGN.equals(origin) || EnvUtils.ENVIRONMENT_VARIABLES_ORIGIN.equals(origin);
+	}
+
+	/**
+	 * Returns the rank of the given property name for the given prefix and
+	 * {@link #NO_MATCH} if the property name doesn't match the prefix.
+	 *
+	 * @param prefix       the prefix typed by the user.
+	 * @param propertyName the property name.
+	 * @return the rank of the given property name for the given prefix and
+	 *         {@link #NO_MATCH} if the property name doesn't match the prefix.
+	 */
+	public static int rank(String prefix, String propertyName) {
+		if (propertyName.startsWith(prefix)) {
+			return RANK_PREFIX;
+		}
+		if (propertyName.regionMatches(true, 0, prefix, 0, prefix.length())) {
+			return RANK_PREFIX_IGNORE_CASE;
+		}
+		if (matchSegments(PropertiesFileUtils.getPropertyNameSegments(prefix),
+				PropertiesFileUtils.getPropertyNameSegments(propertyName))) {
+			return RANK_SEGMENTS;
+		}
+		if (isSubsequence(prefix, propertyName)) {
+			return RANK_SUBSEQUENCE;
+		}
+		return NO_MATCH;
+	}
+
+	private static boolean matchSegments(String[] prefixSegments, String[] nameSegments) {
+		int max = nameSegments.length - prefixSegments.length;
+		for (int start = 0; start <= max; start++) {
+			boolean match = true;
+			for (int i = 0; i < prefixSegments.length && match; i++) {
+				match = matchSegment(prefixSegments[i], nameSegments[start + i]);
+			}
+			if (match) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean matchSegment(String prefixSegment, String nameSegment) {
+		if (KEY_MAP_SEGMENT.equals(nameSegment)) {
+			// '{*}' matches any key
+			return true;
+		}
+		if (nameSegment.endsWith(INDEX_ARRAY)) {
+			// 'foo[*]' matches 'foo[0]', 'foo['
+			String name = nameSegment.substring(0, nameSegment.length() - INDEX_ARRAY.length());
+			int index = prefixSegment.indexOf('[');
+			if (index != -1) {
+				return name.equalsIgnoreCase(prefixSegment.substring(0, index));
+			}
+			nameSegment = name;
+		}
+		return nameSegment.regionMatches(true, 0, prefixSegment, 0, prefixSegment.length());
+	}
+
+	private static boolean isSubsequence(String prefix, String propertyName) {
+		int j = 0;
+		for (int i = 0; i < prefix.length(); i++) {
+			char c = Character.toLowerCase(prefix.charAt(i));
+			while (j < propertyName.length() && Character.toLowerCase(propertyName.charAt(j)) != c) {
+				j++;
+			}
+			if (j == propertyName.length()) {
+				return false;
+			}
+			j++;
+		}
+		return true;
+	}
+
+	private static int lowerBound(String prefix, List<ItemMetadata> sortedProperties,
+			Comparator<String> comparator) {
+		int low = 0;
+		int high = sortedProperties.size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (comparator.compare(sortedProperties.get(middle).getName(), prefix) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+}
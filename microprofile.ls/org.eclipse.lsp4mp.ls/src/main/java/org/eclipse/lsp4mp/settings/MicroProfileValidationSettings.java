@@ -241,4 +241,38 @@ public class MicroProfileValidationSettings {
 		this.setExpression(newValidation.getExpression());
 		this.setUnassigned(newValidation.getUnassigned());
 	}
-}
\ No newline at end of file
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (isEnabled() ? 1231 : 1237);
+		result = prime * result + getSyntax().hashCode();
+		result = prime * result + getUnknown().hashCode();
+		result = prime * result + getDuplicate().hashCode();
+		result = prime * result + getValue().hashCode();
+		result = prime * result + getRequired().hashCode();
+		result = prime * result + getExpression().hashCode();
+		result = prime * result + getUnassigned().hashCode();
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		MicroProfileValidationSettings other = (MicroProfileValidationSettings) obj;
+		return isEnabled() == other.isEnabled() //
+				&& getSyntax().equals(other.getSyntax()) //
+				&& getUnknown().equals(other.getUnknown()) //
+				&& getDuplicate().equals(other.getDuplicate()) //
+				&& getValue().equals(other.getValue()) //
+				&& getRequired().equals(other.getRequired()) //
+				&& getExpression().equals(other.getExpression()) //
+				&& getUnassigned().equals(other.getUnassigned());
+	}
+}
\ No newline at end of file
@@ -179,6 +179,7 @@ public class MicroProfileValidationTypeSettings {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((severity == null) ? 0 : severity.hashCode());
+		result = prime * result + ((excluded == null) ? 0 : excluded.hashCode());
 		return result;
 	}
 
@@ -196,6 +197,11 @@ public class MicroProfileValidationTypeSettings {
 				return false;
 		} else if (!severity.equals(other.severity))
 			return false;
+		if (excluded == null) {
+			if (other.excluded != null)
+				return false;
+		} else if (!excluded.equals(other.excluded))
+			return false;
 		return true;
 	}
 
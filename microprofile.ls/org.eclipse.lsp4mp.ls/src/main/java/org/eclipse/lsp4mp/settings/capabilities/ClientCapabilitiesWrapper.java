@@ -84,6 +84,14 @@ public class ClientCapabilitiesWrapper {
 		return v3Supported && isDynamicRegistrationSupported(getWorkspace().getSymbol());
 	}
 
+	public boolean isDiagnosticDynamicRegistered() {
+		return v3Supported && isDynamicRegistrationSupported(getTextDocument().getDiagnostic());
+	}
+
+	public boolean isPullDiagnosticsSupported() {
+		return v3Supported && getTextDocument().getDiagnostic() != null;
+	}
+
 	public boolean isDocumentHighlightSupported() {
 		return v3Supported && isDynamicRegistrationSupported(getTextDocument().getDocumentHighlight());
 	}
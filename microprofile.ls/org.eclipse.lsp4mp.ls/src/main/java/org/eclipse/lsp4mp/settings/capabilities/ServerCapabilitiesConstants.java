@@ -19,6 +19,7 @@ import java.util.UUID;
 import org.eclipse.lsp4j.CodeActionOptions;
 import org.eclipse.lsp4j.CodeLensOptions;
 import org.eclipse.lsp4j.CompletionOptions;
+import org.eclipse.lsp4j.DiagnosticRegistrationOptions;
 import org.eclipse.lsp4j.WorkspaceSymbolOptions;
 
 /**
@@ -39,6 +40,7 @@ public class ServerCapabilitiesConstants {
 	public static final String TEXT_DOCUMENT_CODE_LENS = "textDocument/codeLens";
 	public static final String TEXT_DOCUMENT_DOCUMENT_HIGHLIGHT = "textDocument/documentHighlight";
 	public static final String TEXT_DOCUMENT_INLAY_HINT = "textDocument/inlayHint";
+	public static final String TEXT_DOCUMENT_DIAGNOSTIC = "textDocument/diagnostic";
 
 	public static final String WORKSPACE_SYMBOLS = "workspace/symbol";
 
@@ -54,6 +56,7 @@ public class ServerCapabilitiesConstants {
 	public static final String CODE_LENS_ID = UUID.randomUUID().toString();
 	public static final String DOCUMENT_HIGHLIGHT_ID = UUID.randomUUID().toString();
 	public static final String INLAY_HINT_ID = UUID.randomUUID().toString();
+	public static final String DIAGNOSTIC_ID = UUID.randomUUID().toString();
 
 	public static final String WORKSPACE_SYMBOL_ID = UUID.randomUUID().toString();
 
@@ -68,6 +71,11 @@ public class ServerCapabilitiesConstants {
 
 	public static final WorkspaceSymbolOptions DEFAULT_WORKSPACE_SYMBOL_OPTIONS = new WorkspaceSymbolOptions(false);
 
+	// the diagnostics of a properties / Java file depend on the other files (Java
+	// sources, config files)
+	public static final DiagnosticRegistrationOptions DEFAULT_DIAGNOSTIC_OPTIONS = new DiagnosticRegistrationOptions(
+			true, true);
+
 	private static CodeActionOptions createDefaultCodeActionOptions() {
 		CodeActionOptions options = new CodeActionOptions();
 		options.setResolveProvider(Boolean.TRUE);
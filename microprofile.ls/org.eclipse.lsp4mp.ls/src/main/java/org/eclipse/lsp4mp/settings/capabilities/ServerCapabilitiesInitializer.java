@@ -16,6 +16,7 @@ package org.eclipse.lsp4mp.settings.capabilities;
 import static org.eclipse.lsp4mp.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_CODEACTION_OPTIONS;
 import static org.eclipse.lsp4mp.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_CODELENS_OPTIONS;
 import static org.eclipse.lsp4mp.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_COMPLETION_OPTIONS;
+import static org.eclipse.lsp4mp.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_DIAGNOSTIC_OPTIONS;
 
 import org.eclipse.lsp4j.ServerCapabilities;
 import org.eclipse.lsp4j.TextDocumentSyncKind;
@@ -57,6 +58,9 @@ public class ServerCapabilitiesInitializer {
 		}
 		serverCapabilities.setInlayHintProvider(!clientCapabilities.isInlayHintDynamicRegistered());
 		serverCapabilities.setWorkspaceSymbolProvider(!clientCapabilities.isWorkspaceSymbolDynamicRegistered());
+		if (clientCapabilities.isPullDiagnosticsSupported() && !clientCapabilities.isDiagnosticDynamicRegistered()) {
+			serverCapabilities.setDiagnosticProvider(DEFAULT_DIAGNOSTIC_OPTIONS);
+		}
 		return serverCapabilities;
 	}
 }
\ No newline at end of file
@@ -14,6 +14,7 @@
 package org.eclipse.lsp4mp.utils;
 
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.BiConsumer;
@@ -29,6 +30,8 @@ import org.eclipse.lsp4mp.commons.metadata.ValueProvider;
 import org.eclipse.lsp4mp.commons.metadata.ValueProvider.ValueProviderDefaultName;
 import org.eclipse.lsp4mp.commons.metadata.ValueProviderParameter;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
+import org.eclipse.lsp4mp.extensions.ItemMetadataIndex;
 import org.eclipse.lsp4mp.ls.commons.SnippetsBuilder;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.services.properties.QuarkusModel;
@@ -184,6 +187,20 @@ public class PropertiesFileUtils {
 		if (StringUtils.isEmpty(propertyName)) {
 			return null;
 		}
+		if (info instanceof ExtendedMicroProfileProjectInfo) {
+			// Use the index of properties instead of looping for each properties
+			ItemMetadataIndex index = ((ExtendedMicroProfileProjectInfo) info).getPropertiesIndex();
+			ItemMetadata property = index.findProperty(propertyName);
+			if (property != null) {
+				return property;
+			}
+			if (EnvUtils.isWindows && System.getenv(propertyName) != null) {
+				// Here we are on Windows OS and the property name is an Environment variable
+				// (see comment below)
+				return index.findEnvironmentVariableIgnoreCase(propertyName);
+			}
+			return null;
+		}
 		Collection<ItemMetadata> properties = info.getProperties();
 		for (ItemMetadata property : properties) {
 			if (property != null && match(propertyName, property.getName())) {
@@ -206,6 +223,22 @@ public class PropertiesFileUtils {
 		return null;
 	}
 
+	/**
+	 * Returns the index of the MicroProfile properties of the given project
+	 * information.
+	 *
+	 * @param info the MicroProfile project information which hosts the
+	 *             MicroProfile properties.
+	 * @return the index of the MicroProfile properties of the given project
+	 *         information.
+	 */
+	public static ItemMetadataIndex getPropertiesIndex(MicroProfileProjectInfo info) {
+		if (info instanceof ExtendedMicroProfileProjectInfo) {
+			return ((ExtendedMicroProfileProjectInfo) info).getPropertiesIndex();
+		}
+		return new ItemMetadataIndex(info.getProperties(), 0);
+	}
+
 	/**
 	 * Returns true if the given property name matches the given pattern and false
 	 * otherwise.
@@ -223,7 +256,7 @@ public class PropertiesFileUtils {
 	 * @return true if the given property name matches the given pattern and false
 	 *         otherwise.
 	 */
-	private static boolean match(String propertyName, String pattern) {
+	public static boolean match(String propertyName, String pattern) {
 		int i2 = 0;
 		int len = Math.max(propertyName.length(), pattern.length());
 		for (int i1 = 0; i1 < len; i1++) {
@@ -332,6 +365,30 @@ public class PropertiesFileUtils {
 		return propertyName.indexOf("[*]") != -1;
 	}
 
+	/**
+	 * Split the given property name with '.' by ignoring the '.' which are in a
+	 * quoted segment (ex : 'quarkus.log.category."org.acme".level').
+	 *
+	 * @param propertyName the property name to split.
+	 * @return the segments of the property name.
+	 */
+	public static String[] getPropertyNameSegments(String propertyName) {
+		List<String> segments = new ArrayList<>();
+		boolean inQuote = false;
+		int start = 0;
+		for (int i = 0; i < propertyName.length(); i++) {
+			char c = propertyName.charAt(i);
+			if (c == '"') {
+				inQuote = !inQuote;
+			} else if (c == '.' && !inQuote) {
+				segments.add(propertyName.substring(start, i));
+				start = i + 1;
+			}
+		}
+		segments.add(propertyName.substring(start));
+		return segments.toArray(new String[segments.size()]);
+	}
+
 	/**
 	 * 
 	 * @param documentURI
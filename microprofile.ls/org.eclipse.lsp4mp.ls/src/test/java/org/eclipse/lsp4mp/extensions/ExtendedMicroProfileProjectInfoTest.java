@@ -11,12 +11,15 @@ package org.eclipse.lsp4mp.extensions;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.services.properties.PropertiesFileAssert;
+import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -68,6 +71,67 @@ public class ExtendedMicroProfileProjectInfoTest {
 				first.getDescription());
 	}
 
+	@Test
+	public void shareStrings() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+
+		// fill properties with strings created like the JSON deserializer does
+		ItemMetadata p1 = new ItemMetadata();
+		p1.setName("quarkus.http.host");
+		p1.setType(new String("java.lang.String"));
+		p1.setExtensionName(new String("quarkus-vertx-http"));
+		info.getProperties().add(p1);
+
+		ItemMetadata p2 = new ItemMetadata();
+		p2.setName("quarkus.http.cors.origins");
+		p2.setType(new String("java.lang.String"));
+		p2.setExtensionName(new String("quarkus-vertx-http"));
+		info.getProperties().add(p2);
+
+		ItemMetadata p3 = new ItemMetadata();
+		p3.setName("${mp.register.rest.client.class}/mp-rest/url");
+		p3.setDescription("The base URL to use for this service.");
+		p3.setType(new String("java.lang.String"));
+		info.getProperties().add(p3);
+
+		ItemHint hint = new ItemHint();
+		hint.setName("${mp.register.rest.client.class}");
+		hint.setValues(new ArrayList<>());
+		info.getHints().add(hint);
+		ValueHint value = new ValueHint();
+		value.setValue("org.acme.restclient.CountriesService");
+		value.setSourceType(new String("org.acme.restclient.CountriesService"));
+		hint.getValues().add(value);
+		value = new ValueHint();
+		value.setValue("org.acme.restclient.StreetsService");
+		value.setSourceType(new String("org.acme.restclient.StreetsService"));
+		hint.getValues().add(value);
+
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+		Assert.assertSame(p1.getType(), p2.getType());
+		Assert.assertSame(p1.getType(), p3.getType());
+		Assert.assertSame(p1.getExtensionName(), p2.getExtensionName());
+
+		// the computed properties share the strings of the dynamic property
+		ItemMetadata countries = PropertiesFileUtils
+				.getProperty("org.acme.restclient.CountriesService/mp-rest/url", wrapper);
+		ItemMetadata streets = PropertiesFileUtils.getProperty("org.acme.restclient.StreetsService/mp-rest/url",
+				wrapper);
+		Assert.assertNotNull(countries);
+		Assert.assertNotNull(streets);
+		Assert.assertSame(p3.getType(), countries.getType());
+		Assert.assertSame(p3.getDescription(), countries.getDescription());
+		Assert.assertSame(p3.getDescription(), streets.getDescription());
+		Assert.assertEquals("org.acme.restclient.StreetsService", streets.getSourceType());
+
+		// a description updated in the dynamic property is visible in the computed
+		// properties
+		p3.setDescription("The base URL.");
+		Assert.assertEquals("The base URL.", countries.getDescription());
+	}
+
 	@Test
 	public void expandWithSourcesUpdate() {
 		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
@@ -120,6 +184,169 @@ public class ExtendedMicroProfileProjectInfoTest {
 
 	}
 
+	@Test
+	public void getPropertyWithSourcesUpdate() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+
+		// Create a binary property
+		ItemMetadata p = new ItemMetadata();
+		p.setName("quarkus.http.port");
+		p.setSource(Boolean.FALSE);
+		info.getProperties().add(p);
+
+		// Create a binary map property
+		p = new ItemMetadata();
+		p.setName("quarkus.log.category.{*}.level");
+		p.setSource(Boolean.FALSE);
+		info.getProperties().add(p);
+
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+		Assert.assertNotNull(PropertiesFileUtils.getProperty("quarkus.http.port", wrapper));
+		Assert.assertNotNull(PropertiesFileUtils.getProperty("quarkus.log.category.\"org.acme\".level", wrapper));
+		Assert.assertNull(PropertiesFileUtils.getProperty("greeting.message", wrapper));
+
+		// Update with a source property
+		p = new ItemMetadata();
+		p.setName("greeting.message");
+		p.setSource(Boolean.TRUE);
+		wrapper.updateSourcesProperties(new ArrayList<>(Arrays.asList(p)), new ArrayList<>());
+		Assert.assertNotNull(PropertiesFileUtils.getProperty("quarkus.http.port", wrapper));
+		Assert.assertNotNull(PropertiesFileUtils.getProperty("greeting.message", wrapper));
+
+		// Remove the source property
+		wrapper.updateSourcesProperties(new ArrayList<>(), new ArrayList<>());
+		Assert.assertNull(PropertiesFileUtils.getProperty("greeting.message", wrapper));
+	}
+
+	@Test
+	public void updateSourcesPropertiesWithDelta() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+
+		// Create a binary property
+		ItemMetadata p = new ItemMetadata();
+		p.setName("quarkus.http.port");
+		p.setSource(Boolean.FALSE);
+		info.getProperties().add(p);
+
+		// Create source properties declared in 2 Java sources
+		info.getProperties().add(createSourceProperty("greeting.message", "org.acme.GreetingResource"));
+		info.getProperties().add(createSourceProperty("greeting.suffix", "org.acme.GreetingResource.Config"));
+		info.getProperties().add(createSourceProperty("hello.name", "org.acme.HelloResource"));
+
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+		Assert.assertNotNull(PropertiesFileUtils.getProperty("greeting.message", wrapper));
+		Assert.assertNotNull(PropertiesFileUtils.getProperty("greeting.suffix", wrapper));
+
+		// GreetingResource.java has been saved
+		wrapper.clearPropertiesFromSource(Arrays.asList("file:///org/acme/GreetingResource.java"));
+		Assert.assertTrue(wrapper.isReloadFromSource());
+		Set<String> changedJavaSourceURIs = wrapper.getChangedJavaSourceURIs();
+		Assert.assertEquals(new HashSet<>(Arrays.asList("file:///org/acme/GreetingResource.java")),
+				changedJavaSourceURIs);
+
+		// The delta contains only the properties of GreetingResource
+		MicroProfileProjectInfo delta = new MicroProfileProjectInfo();
+		delta.setProperties(new ArrayList<>(
+				Arrays.asList(createSourceProperty("greeting.name", "org.acme.GreetingResource"))));
+		delta.setHints(new ArrayList<>());
+		delta.setScannedSourceTypes(Arrays.asList("org.acme.GreetingResource"));
+		int generation = wrapper.getGeneration();
+		wrapper.updateSourcesProperties(delta, changedJavaSourceURIs);
+
+		Assert.assertFalse(wrapper.isReloadFromSource());
+		Assert.assertNotEquals(generation, wrapper.getGeneration());
+		Assert.assertNotNull(PropertiesFileUtils.getProperty("quarkus.http.port", wrapper));
+		Assert.assertNotNull(PropertiesFileUtils.getProperty("hello.name", wrapper));
+		Assert.assertNotNull(PropertiesFileUtils.getProperty("greeting.name", wrapper));
+		Assert.assertNull(PropertiesFileUtils.getProperty("greeting.message", wrapper));
+		Assert.assertNull(PropertiesFileUtils.getProperty("greeting.suffix", wrapper));
+	}
+
+	@Test
+	public void updateSourcesPropertiesWithDeltaAndOtherChanges() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+		info.getProperties().add(createSourceProperty("hello.name", "org.acme.HelloResource"));
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+
+		wrapper.clearPropertiesFromSource(Arrays.asList("file:///org/acme/GreetingResource.java"));
+		Set<String> changedJavaSourceURIs = wrapper.getChangedJavaSourceURIs();
+
+		// HelloResource.java is saved while GreetingResource.java is scanned
+		wrapper.clearPropertiesFromSource(Arrays.asList("file:///org/acme/HelloResource.java"));
+
+		MicroProfileProjectInfo delta = new MicroProfileProjectInfo();
+		delta.setProperties(new ArrayList<>());
+		delta.setHints(new ArrayList<>());
+		delta.setScannedSourceTypes(Arrays.asList("org.acme.GreetingResource"));
+		wrapper.updateSourcesProperties(delta, changedJavaSourceURIs);
+
+		// HelloResource.java must be scanned
+		Assert.assertTrue(wrapper.isReloadFromSource());
+		Assert.assertEquals(new HashSet<>(Arrays.asList("file:///org/acme/HelloResource.java")),
+				wrapper.getChangedJavaSourceURIs());
+		Assert.assertNotNull(PropertiesFileUtils.getProperty("hello.name", wrapper));
+
+		// Unknown changed Java sources -> all Java sources must be scanned
+		wrapper.clearPropertiesFromSource();
+		Assert.assertNull(wrapper.getChangedJavaSourceURIs());
+	}
+
+	@Test
+	public void updateSourcesPropertiesWithDeltaKeepsBinaryItems() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+
+		// Create a binary property and a binary hint
+		ItemMetadata p = new ItemMetadata();
+		p.setName("greeting.message");
+		p.setSourceType("org.acme.GreetingResource");
+		p.setSource(Boolean.FALSE);
+		info.getProperties().add(p);
+		info.getHints().add(createBinaryHint("java.util.concurrent.TimeUnit"));
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+
+		// GreetingResource.java has been saved, it declares a property with the same
+		// name and source type as the binary property and uses the binary hint
+		wrapper.clearPropertiesFromSource(Arrays.asList("file:///org/acme/GreetingResource.java"));
+		MicroProfileProjectInfo delta = new MicroProfileProjectInfo();
+		delta.setProperties(new ArrayList<>(
+				Arrays.asList(createSourceProperty("greeting.message", "org.acme.GreetingResource"))));
+		delta.setHints(new ArrayList<>(Arrays.asList(createBinaryHint("java.util.concurrent.TimeUnit"))));
+		delta.setScannedSourceTypes(Arrays.asList("org.acme.GreetingResource"));
+		wrapper.updateSourcesProperties(delta, wrapper.getChangedJavaSourceURIs());
+
+		// the binary property is kept
+		Assert.assertEquals(2,
+				wrapper.getProperties().stream().filter(item -> "greeting.message".equals(item.getName())).count());
+		Assert.assertTrue(wrapper.getProperties().contains(p));
+		// the binary hint is not duplicated
+		Assert.assertEquals(1, wrapper.getHints().stream()
+				.filter(item -> "java.util.concurrent.TimeUnit".equals(item.getName())).count());
+	}
+
+	private static ItemHint createBinaryHint(String name) {
+		ItemHint hint = new ItemHint();
+		hint.setName(name);
+		hint.setSourceType(name);
+		hint.setValues(new ArrayList<>());
+		return hint;
+	}
+
+	private static ItemMetadata createSourceProperty(String name, String sourceType) {
+		ItemMetadata p = new ItemMetadata();
+		p.setName(name);
+		p.setSourceType(sourceType);
+		p.setSource(Boolean.TRUE);
+		return p;
+	}
+
 	private void assertPropertyExist(String propertyName, ExtendedMicroProfileProjectInfo wrapper) {
 		Assert.assertTrue(wrapper.getProperties().stream().anyMatch(p -> propertyName.equals(p.getName())));
 	}
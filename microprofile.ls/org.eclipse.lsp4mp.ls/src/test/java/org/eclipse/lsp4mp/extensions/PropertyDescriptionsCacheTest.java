@@ -0,0 +1,138 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.extensions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDescriptionsParams;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDescriptionsProvider;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link PropertyDescriptionsCache}.
+ *
+ */
+public class PropertyDescriptionsCacheTest {
+
+	private static final String URI = "file:///application.properties";
+
+	private static class DescriptionsProvider implements MicroProfilePropertyDescriptionsProvider {
+
+		private final List<MicroProfilePropertyDescriptionsParams> requests = new ArrayList<>();
+
+		@Override
+		public CompletableFuture<Map<String, String>> getPropertyDescriptions(
+				MicroProfilePropertyDescriptionsParams params) {
+			requests.add(params);
+			Map<String, String> descriptions = new HashMap<>();
+			for (String name : params.getPropertyNames()) {
+				if (!name.startsWith("undocumented")) {
+					descriptions.put(name, "Description of " + name);
+				}
+			}
+			return CompletableFuture.completedFuture(descriptions);
+		}
+	}
+
+	@Test
+	public void loadDescriptionsInBatch() {
+		DescriptionsProvider provider = new DescriptionsProvider();
+		PropertyDescriptionsCache cache = new PropertyDescriptionsCache(provider, () -> DocumentFormat.Markdown);
+
+		ItemMetadata a = createProperty("a", null);
+		ItemMetadata b = createProperty("b", null);
+		ItemMetadata c = createProperty("c", "Description of c");
+		ItemMetadata undocumented = createProperty("undocumented", null);
+		cache.loadDescriptions(URI, Arrays.asList(a, b, c, undocumented)).join();
+
+		// one request for the properties without description
+		Assert.assertEquals(1, provider.requests.size());
+		Assert.assertEquals(Arrays.asList("a", "b", "undocumented"), provider.requests.get(0).getPropertyNames());
+		Assert.assertEquals(DocumentFormat.Markdown, provider.requests.get(0).getDocumentFormat());
+
+		Assert.assertEquals("Description of a", cache.getDescription(URI, a));
+		Assert.assertEquals("Description of b", cache.getDescription(URI, b));
+		Assert.assertEquals("Description of c", cache.getDescription(URI, c));
+		Assert.assertNull(cache.getDescription(URI, undocumented));
+
+		// the descriptions are cached, even the missing one
+		cache.loadDescriptions(URI, Arrays.asList(a, undocumented)).join();
+		Assert.assertEquals(1, provider.requests.size());
+
+		// the descriptions are cached by properties file URI
+		cache.loadDescriptions("file:///other.properties", Arrays.asList(a)).join();
+		Assert.assertEquals(2, provider.requests.size());
+	}
+
+	@Test
+	public void evictLeastRecentlyUsed() {
+		DescriptionsProvider provider = new DescriptionsProvider();
+		PropertyDescriptionsCache cache = new PropertyDescriptionsCache(provider, () -> DocumentFormat.PlainText, 2);
+
+		ItemMetadata a = createProperty("a", null);
+		ItemMetadata b = createProperty("b", null);
+		ItemMetadata c = createProperty("c", null);
+		cache.loadDescriptions(URI, Arrays.asList(a, b)).join();
+		// 'a' becomes the most recently used description
+		Assert.assertEquals("Description of a", cache.getDescription(URI, a));
+
+		cache.loadDescriptions(URI, Arrays.asList(c)).join();
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals("Description of a", cache.getDescription(URI, a));
+		Assert.assertNull(cache.getDescription(URI, b));
+		Assert.assertEquals("Description of c", cache.getDescription(URI, c));
+
+		cache.clear();
+		Assert.assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void getDescriptionFromProjectInfo() {
+		DescriptionsProvider provider = new DescriptionsProvider();
+		PropertyDescriptionsCache cache = new PropertyDescriptionsCache(provider, () -> DocumentFormat.PlainText);
+
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+		ItemMetadata a = createProperty("a", null);
+		info.getProperties().add(a);
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+
+		// the project info has no description cache
+		Assert.assertNull(PropertyDescriptionsCache.getCache(wrapper));
+		Assert.assertNull(PropertyDescriptionsCache.getDescription(a, wrapper, URI));
+
+		wrapper.setPropertyDescriptionsCache(cache);
+		Assert.assertSame(cache, PropertyDescriptionsCache.getCache(wrapper));
+		Assert.assertNull(PropertyDescriptionsCache.getDescription(a, wrapper, URI));
+		cache.loadDescriptions(URI, Arrays.asList(a)).join();
+		Assert.assertEquals("Description of a", PropertyDescriptionsCache.getDescription(a, wrapper, URI));
+	}
+
+	private static ItemMetadata createProperty(String name, String description) {
+		ItemMetadata property = new ItemMetadata();
+		property.setName(name);
+		property.setDescription(description);
+		return property;
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.extensions;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link PropertyPatternMatcher}.
+ *
+ */
+public class PropertyPatternMatcherTest {
+
+	@Test
+	public void keyMap() {
+		PropertyPatternMatcher matcher = new PropertyPatternMatcher();
+		ItemMetadata url = add("quarkus.datasource.{*}.jdbc.url", matcher);
+		ItemMetadata username = add("quarkus.datasource.{*}.username", matcher);
+		ItemMetadata level = add("quarkus.log.category.{*}.level", matcher);
+
+		Assert.assertSame(url, matcher.findProperty("quarkus.datasource.users.jdbc.url"));
+		Assert.assertSame(username, matcher.findProperty("quarkus.datasource.users.username"));
+		Assert.assertSame(username, matcher.findProperty("quarkus.datasource.u.username"));
+		Assert.assertSame(level, matcher.findProperty("quarkus.log.category.\"org.acme\".level"));
+		Assert.assertSame(level, matcher.findProperty("quarkus.log.category.org\\.acme.level"));
+
+		Assert.assertNull(matcher.findProperty("quarkus.datasource.jdbc.url"));
+		Assert.assertNull(matcher.findProperty("quarkus.datasource..username"));
+		Assert.assertNull(matcher.findProperty("quarkus.datasource.users.username.foo"));
+		Assert.assertNull(matcher.findProperty("quarkus.datasource.users.user"));
+		Assert.assertNull(matcher.findProperty("quarkus.datasource.users"));
+		Assert.assertNull(matcher.findProperty("quarkus.log.category.org.acme.level"));
+	}
+
+	@Test
+	public void indexArray() {
+		PropertyPatternMatcher matcher = new PropertyPatternMatcher();
+		ItemMetadata urls = add("quarkus.urls[*]", matcher);
+		ItemMetadata host = add("quarkus.servers[*].host", matcher);
+		ItemMetadata mapped = add("quarkus.{*}.hosts[*]", matcher);
+
+		Assert.assertSame(urls, matcher.findProperty("quarkus.urls[0]"));
+		Assert.assertSame(host, matcher.findProperty("quarkus.servers[12].host"));
+		Assert.assertSame(mapped, matcher.findProperty("quarkus.foo.hosts[1]"));
+
+		Assert.assertNull(matcher.findProperty("quarkus.urls"));
+		Assert.assertNull(matcher.findProperty("quarkus.servers[1].port"));
+	}
+
+	@Test
+	public void firstPatternWins() {
+		PropertyPatternMatcher matcher = new PropertyPatternMatcher();
+		ItemMetadata first = add("a.{*}.c", matcher);
+		ItemMetadata second = add("a.b.{*}", matcher);
+		add("a.{*}.c", matcher);
+
+		Assert.assertSame(first, matcher.findProperty("a.b.c"));
+		Assert.assertSame(second, matcher.findProperty("a.b.d"));
+		Assert.assertSame(first, matcher.findProperty("a.x.c"));
+	}
+
+	@Test
+	public void empty() {
+		PropertyPatternMatcher matcher = new PropertyPatternMatcher();
+		Assert.assertNull(matcher.findProperty("a.b"));
+	}
+
+	private static ItemMetadata add(String name, PropertyPatternMatcher matcher) {
+		ItemMetadata property = new ItemMetadata();
+		property.setName(name);
+		matcher.add(property);
+		return property;
+	}
+}
@@ -13,12 +13,15 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.extensions.reactivemessaging;
 
+import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.MAX_PROPERTY_KEY_COMPLETION_ITEMS;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.c;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.load;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.r;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.SYS_ENV_PROPERTIES_NUMBER;
+import static org.junit.Assert.assertEquals;
 
 import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.eclipse.lsp4mp.services.properties.PropertiesFileAssert;
@@ -84,10 +87,14 @@ public class MicroProfileReactiveMessagingCompletionTest {
 						r(1, 0, 0)));
 	}
 
-	private static void testCompletionFor(String value, boolean snippetSupport, Integer expectedCount,
+	private static void testCompletionFor(String value, boolean snippetSupport, int expectedCount,
 			CompletionItem... expectedItems) throws BadLocationException {
-		PropertiesFileAssert.testCompletionFor(value, snippetSupport, null, expectedCount,
-				getMicroProfileReactiveMessagingProjectInfo(), expectedItems);
+		// the properties of the project are ranked before the system properties and
+		// the environment variables, the property key completion items are capped
+		CompletionList list = PropertiesFileAssert.testCompletionFor(value, snippetSupport, false, false, null,
+				Math.min(expectedCount, MAX_PROPERTY_KEY_COMPLETION_ITEMS), getMicroProfileReactiveMessagingProjectInfo(),
+				expectedItems);
+		assertEquals(expectedCount > MAX_PROPERTY_KEY_COMPLETION_ITEMS, list.isIncomplete());
 	}
 
 	private static MicroProfileProjectInfo getMicroProfileReactiveMessagingProjectInfo() {
@@ -13,11 +13,14 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.extensions.sysenv;
 
+import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.MAX_PROPERTY_KEY_COMPLETION_ITEMS;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.SYS_ENV_PROPERTIES_NUMBER;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.c;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.r;
+import static org.junit.Assert.assertEquals;
 
 import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
@@ -40,8 +43,11 @@ public class SysEnvCompletionTest {
 	@Test
 	public void systemPropertiesInKey() throws BadLocationException {
 		String value = "|";
-		testCompletionFor(value, true,
-				c("user.name", "user.name=${0:" + System.getProperty("user.name") + "}", r(0, 0, 0)));
+		testCappedCompletionInKeyFor(value, true);
+
+		value = "user.na|";
+		testCompletionInKeyFor(value, true,
+				c("user.name", "user.name=${0:" + System.getProperty("user.name") + "}", r(0, 0, 7)));
 	}
 
 	@Test
@@ -53,7 +59,11 @@ public class SysEnvCompletionTest {
 	@Test
 	public void environmentVariablesInKey() throws BadLocationException {
 		String value = "|";
-		testCompletionFor(value, true, c(PATH_ENV, PATH_ENV + "=${0:" + System.getenv("PATH") + "}", r(0, 0, 0)));
+		testCappedCompletionInKeyFor(value, true);
+
+		value = PATH_ENV + "|";
+		testCompletionInKeyFor(value, true,
+				c(PATH_ENV, PATH_ENV + "=${0:" + System.getenv("PATH") + "}", r(0, 0, PATH_ENV.length())));
 	}
 
 	@Test
@@ -67,4 +77,20 @@ public class SysEnvCompletionTest {
 		PropertiesFileAssert.testCompletionFor(value, snippetSupport, null, SYS_ENV_PROPERTIES_NUMBER,
 				new ExtendedMicroProfileProjectInfo(new MicroProfileProjectInfo()), expectedItems);
 	}
+
+	private static void testCappedCompletionInKeyFor(String value, boolean snippetSupport)
+			throws BadLocationException {
+		// no prefix, the property key completion items are capped
+		CompletionList list = PropertiesFileAssert.testCompletionFor(value, snippetSupport, false, false, null,
+				Math.min(SYS_ENV_PROPERTIES_NUMBER, MAX_PROPERTY_KEY_COMPLETION_ITEMS),
+				new ExtendedMicroProfileProjectInfo(new MicroProfileProjectInfo()));
+		assertEquals(SYS_ENV_PROPERTIES_NUMBER > MAX_PROPERTY_KEY_COMPLETION_ITEMS, list.isIncomplete());
+	}
+
+	private static void testCompletionInKeyFor(String value, boolean snippetSupport, CompletionItem... expectedItems)
+			throws BadLocationException {
+		// the property keys are filtered with the prefix
+		PropertiesFileAssert.testCompletionFor(value, snippetSupport, null, null,
+				new ExtendedMicroProfileProjectInfo(new MicroProfileProjectInfo()), expectedItems);
+	}
 }
@@ -9,6 +9,7 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls;
 
+import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.MAX_PROPERTY_KEY_COMPLETION_ITEMS;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.assertCompletions;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.c;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.r;
@@ -17,6 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 
+import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
@@ -89,7 +91,7 @@ public class MicroProfileLanguageServerScopeChangedTest {
 
 		server.didOpen(PROJECT1_APPLICATION_PROPERTIES);
 		CompletionList list = server.completion(PROJECT1_APPLICATION_PROPERTIES);
-		assertCompletions(list, 3 + SYS_ENV_PROPERTIES_NUMBER,
+		assertPropertyKeyCompletions(list, 3 + SYS_ENV_PROPERTIES_NUMBER,
 				c("quarkus.application.name", "quarkus.application.name=", r(0, 0, 0)), //
 				c("quarkus.application.version", "quarkus.application.version=", r(0, 0, 0)), //
 				c("greeting.message", "greeting.message=", r(0, 0, 0)));
@@ -97,14 +99,14 @@ public class MicroProfileLanguageServerScopeChangedTest {
 		// Emulate change of classpath (Jar and Java sources)
 		client.changedClasspath(PROJECT1, property1FromJar, property1FromSources);
 		list = server.completion(PROJECT1_APPLICATION_PROPERTIES);
-		assertCompletions(list, 2 + SYS_ENV_PROPERTIES_NUMBER,
+		assertPropertyKeyCompletions(list, 2 + SYS_ENV_PROPERTIES_NUMBER,
 				c("quarkus.application.name", "quarkus.application.name=", r(0, 0, 0)), //
 				c("greeting.message", "greeting.message=", r(0, 0, 0)));
 
 		// Emulate change of Java sources (add)
 		client.changedJavaSources(PROJECT1, property2FromSources);
 		list = server.completion(PROJECT1_APPLICATION_PROPERTIES);
-		assertCompletions(list, 2 + SYS_ENV_PROPERTIES_NUMBER,
+		assertPropertyKeyCompletions(list, 2 + SYS_ENV_PROPERTIES_NUMBER,
 				c("quarkus.application.name", "quarkus.application.name=", r(0, 0, 0)), //
 				c("greeting.suffix", "greeting.suffix=", r(0, 0, 0)));
 
@@ -112,7 +114,7 @@ public class MicroProfileLanguageServerScopeChangedTest {
 		client.changedJavaSources(PROJECT1, dynamicProperty1FromSources, dynamicProperty2FromSources,
 				itemHintFromSources);
 		list = server.completion(PROJECT1_APPLICATION_PROPERTIES);
-		assertCompletions(list, 1 /* (from JAR ) */ + 4 /* from sources */ + SYS_ENV_PROPERTIES_NUMBER,
+		assertPropertyKeyCompletions(list, 1 /* (from JAR ) */ + 4 /* from sources */ + SYS_ENV_PROPERTIES_NUMBER,
 				c("quarkus.application.name", "quarkus.application.name=", r(0, 0, 0)), //
 				c("org.acme.restclient.CountriesService/mp-rest/url",
 						"org.acme.restclient.CountriesService/mp-rest/url=", r(0, 0, 0)),
@@ -131,7 +133,7 @@ public class MicroProfileLanguageServerScopeChangedTest {
 
 		server.didOpen(PROJECT1_APPLICATION_PROPERTIES);
 		CompletionList list = server.completion(PROJECT1_APPLICATION_PROPERTIES);
-		assertCompletions(list, 3 + SYS_ENV_PROPERTIES_NUMBER,
+		assertPropertyKeyCompletions(list, 3 + SYS_ENV_PROPERTIES_NUMBER,
 				c("quarkus.application.name", "quarkus.application.name=", r(0, 0, 0)), //
 				c("quarkus.application.version", "quarkus.application.version=", r(0, 0, 0)), //
 				c("greeting.message", "greeting.message=", r(0, 0, 0)));
@@ -139,7 +141,7 @@ public class MicroProfileLanguageServerScopeChangedTest {
 		// Emulate change of classpath (Jar and Java sources)
 		client.changedClasspath(PROJECT1, property1FromJar, property1FromSources);
 		list = server.completion(PROJECT1_APPLICATION_PROPERTIES);
-		assertCompletions(list, 2 + SYS_ENV_PROPERTIES_NUMBER,
+		assertPropertyKeyCompletions(list, 2 + SYS_ENV_PROPERTIES_NUMBER,
 				c("quarkus.application.name", "quarkus.application.name=", r(0, 0, 0)), //
 				c("greeting.message", "greeting.message=", r(0, 0, 0)));
 
@@ -163,6 +165,14 @@ public class MicroProfileLanguageServerScopeChangedTest {
 		Assert.assertTrue(max <= 2 + SYS_ENV_PROPERTIES_NUMBER);
 	}
 
+	private static void assertPropertyKeyCompletions(CompletionList list, int expectedCount,
+			CompletionItem... expectedItems) {
+		// the properties of the project are ranked before the system properties and
+		// the environment variables, the property key completion items are capped
+		assertCompletions(list, Math.min(expectedCount, MAX_PROPERTY_KEY_COMPLETION_ITEMS), expectedItems);
+		Assert.assertEquals(expectedCount > MAX_PROPERTY_KEY_COMPLETION_ITEMS, list.isIncomplete());
+	}
+
 	private Thread createCompletionThread(MockMicroProfileLanguageServer server, MockMicroProfileLanguageClient client,
 			List<Integer> count) {
 		return new Thread(() -> {
@@ -11,6 +11,7 @@ package org.eclipse.lsp4mp.ls;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -43,6 +44,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDescriptionsParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
 import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
 import org.eclipse.lsp4mp.commons.metadata.ItemBase;
@@ -243,6 +245,12 @@ public class MockMicroProfileLanguageClient implements MicroProfileLanguageClien
 		return CompletableFuture.completedFuture(null);
 	}
 
+	@Override
+	public CompletableFuture<Map<String, String>> getPropertyDescriptions(
+			MicroProfilePropertyDescriptionsParams params) {
+		return CompletableFuture.completedFuture(Collections.emptyMap());
+	}
+
 	@Override
 	public CompletableFuture<List<CodeAction>> getJavaCodeAction(MicroProfileJavaCodeActionParams javaParams) {
 		return CompletableFuture.completedFuture(null);
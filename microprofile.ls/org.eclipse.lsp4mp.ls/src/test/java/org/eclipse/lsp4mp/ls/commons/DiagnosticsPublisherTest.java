@@ -0,0 +1,127 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link DiagnosticsPublisher}.
+ *
+ */
+public class DiagnosticsPublisherTest {
+
+	private static final long PUBLISH_INTERVAL_MS = 100;
+
+	private ScheduledExecutorService executorService;
+
+	private List<PublishDiagnosticsParams> published;
+
+	private DiagnosticsPublisher publisher;
+
+	@Before
+	public void setUp() {
+		executorService = Executors.newSingleThreadScheduledExecutor();
+		published = Collections.synchronizedList(new ArrayList<>());
+		publisher = new DiagnosticsPublisher(executorService, published::add, PUBLISH_INTERVAL_MS);
+	}
+
+	@After
+	public void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	public void skipUnchangedDiagnostics() throws InterruptedException {
+		publisher.publishDiagnostics(params("a.properties", "error"));
+		Thread.sleep(PUBLISH_INTERVAL_MS * 2);
+		publisher.publishDiagnostics(params("a.properties", "error"));
+		Thread.sleep(PUBLISH_INTERVAL_MS * 2);
+		Assert.assertEquals(1, published.size());
+
+		publisher.publishDiagnostics(params("a.properties"));
+		Thread.sleep(PUBLISH_INTERVAL_MS * 2);
+		Assert.assertEquals(2, published.size());
+		Assert.assertTrue(published.get(1).getDiagnostics().isEmpty());
+	}
+
+	@Test
+	public void coalesceBurst() throws InterruptedException {
+		publisher.publishDiagnostics(params("A.java", "error 1"));
+		// published at the end of the publish interval, only the last diagnostics of
+		// B.java
+		publisher.publishDiagnostics(params("B.java", "error 1"));
+		publisher.publishDiagnostics(params("C.java", "error 1"));
+		publisher.publishDiagnostics(params("B.java", "error 2"));
+		Assert.assertEquals(1, published.size());
+
+		Thread.sleep(PUBLISH_INTERVAL_MS * 3);
+		Assert.assertEquals(3, published.size());
+		Assert.assertEquals("B.java", published.get(1).getUri());
+		Assert.assertEquals("error 2", published.get(1).getDiagnostics().get(0).getMessage());
+		Assert.assertEquals("C.java", published.get(2).getUri());
+	}
+
+	@Test
+	public void clearDiagnostics() throws InterruptedException {
+		publisher.publishDiagnostics(params("a.properties", "error"));
+		publisher.clearDiagnostics("a.properties");
+		Assert.assertEquals(2, published.size());
+
+		// the closed document is reopened with the same diagnostics
+		Thread.sleep(PUBLISH_INTERVAL_MS * 2);
+		publisher.publishDiagnostics(params("a.properties", "error"));
+		Assert.assertEquals(3, published.size());
+	}
+
+	@Test
+	public void clearDiagnosticsWhilePublishing() throws InterruptedException {
+		// the document C.java is closed while the pending diagnostics of B.java are
+		// published
+		publisher = new DiagnosticsPublisher(executorService, diagnostics -> {
+			published.add(diagnostics);
+			if ("B.java".equals(diagnostics.getUri())) {
+				publisher.clearDiagnostics("C.java");
+			}
+		}, PUBLISH_INTERVAL_MS);
+		publisher.publishDiagnostics(params("A.java", "error"));
+		publisher.publishDiagnostics(params("B.java", "error"));
+		publisher.publishDiagnostics(params("C.java", "error"));
+
+		Thread.sleep(PUBLISH_INTERVAL_MS * 3);
+		Assert.assertEquals(3, published.size());
+		Assert.assertEquals("C.java", published.get(2).getUri());
+		Assert.assertTrue(published.get(2).getDiagnostics().isEmpty());
+	}
+
+	private static PublishDiagnosticsParams params(String uri, String... messages) {
+		List<Diagnostic> diagnostics = new ArrayList<>();
+		Arrays.stream(messages).forEach(message -> diagnostics
+				.add(new Diagnostic(new Range(new Position(0, 0), new Position(0, 1)), message)));
+		return new PublishDiagnosticsParams(uri, diagnostics);
+	}
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for {@link PieceTable} and incremental updates of
+ * {@link TextDocument}.
+ *
+ */
+public class PieceTableTest {
+
+	@Test
+	public void replace() {
+		PieceTable text = new PieceTable("abcdef");
+		PieceTable updated = text.replace(2, 2, "XYZ");
+		assertText("abXYZef", updated);
+		// the previous piece table is not changed
+		assertText("abcdef", text);
+
+		assertText("XYZef", updated.replace(0, 2, ""));
+		assertText("abXYZef!", updated.replace(7, 0, "!"));
+		assertText("", updated.replace(0, 7, ""));
+		Assert.assertEquals("YZe", updated.subSequence(3, 6).toString());
+	}
+
+	@Test
+	public void replaceAfterToString() {
+		PieceTable text = new PieceTable("abcdef").replace(1, 0, "1").replace(3, 0, "2");
+		Assert.assertEquals(5, text.getPieceCount());
+		Assert.assertEquals("a1b2cdef", text.toString());
+		// the built string is used for the next changes
+		Assert.assertEquals(2, text.replace(0, 0, "0").getPieceCount());
+	}
+
+	@Test
+	public void randomReplace() {
+		Random random = new Random(42);
+		StringBuilder expected = new StringBuilder("key1=value1\nkey2=value2\n");
+		PieceTable text = new PieceTable(expected.toString());
+		for (int i = 0; i < 2000; i++) {
+			int offset = random.nextInt(expected.length() + 1);
+			int length = random.nextInt(Math.min(5, expected.length() - offset) + 1);
+			String newText = random.nextBoolean() ? "" : Integer.toString(i);
+			expected.replace(offset, offset + length, newText);
+			text = text.replace(offset, length, newText);
+			if (i % 500 == 0) {
+				text.toString();
+			}
+			assertText(expected.toString(), text);
+		}
+	}
+
+	@Test
+	public void updateTextDocument() throws BadLocationException {
+		TextDocument document = new TextDocument("a=b\nc=d\n", "application.properties");
+		document.setIncremental(true);
+		document.update(Arrays.asList(
+				new TextDocumentContentChangeEvent(new Range(new Position(1, 2), new Position(1, 3)), 1, "foo"),
+				new TextDocumentContentChangeEvent(new Range(new Position(0, 0), new Position(0, 0)), 0, "# x\n")));
+		Assert.assertEquals("# x\na=b\nc=foo\n", document.getTextSequence().toString());
+		Assert.assertEquals("# x\na=b\nc=foo\n", document.getText());
+		Assert.assertEquals(new Position(2, 2), document.positionAt(document.getText().indexOf("foo")));
+
+		document.setText("new");
+		Assert.assertEquals("new", document.getText());
+		Assert.assertEquals("new", document.getTextSequence());
+	}
+
+	private static void assertText(String expected, CharSequence actual) {
+		Assert.assertEquals(expected.length(), actual.length());
+		for (int i = 0; i < expected.length(); i++) {
+			Assert.assertEquals(expected.charAt(i), actual.charAt(i));
+		}
+		if (expected.length() > 2) {
+			Assert.assertEquals(expected.substring(1, expected.length() - 1),
+					actual.subSequence(1, actual.length() - 1).toString());
+		}
+	}
+}
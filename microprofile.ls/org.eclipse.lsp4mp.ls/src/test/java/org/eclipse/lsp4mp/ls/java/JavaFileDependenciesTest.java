@@ -0,0 +1,193 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.java;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for {@link JavaFileDependencies}.
+ *
+ */
+public class JavaFileDependenciesTest {
+
+	private static final String SERVICE_URI = "file:///project/src/main/java/org/acme/CountryResource.java";
+
+	private static final String SERVICE = "package org.acme;\n" + //
+			"\n" + //
+			"public class CountryResource {\n" + //
+			"\n" + //
+			"	@Inject\n" + //
+			"	@RestClient\n" + //
+			"	CountriesService countriesService;\n" + //
+			"}";
+
+	private static final String REST_CLIENT_URI = "file:///project/src/main/java/org/acme/CountriesService.java";
+
+	private static final String REST_CLIENT = "package org.acme;\n" + //
+			"\n" + //
+			"@RegisterRestClient\n" + //
+			"public interface CountriesService {\n" + //
+			"}";
+
+	private static final String CONFIG_URI = "file:///project/src/main/java/org/acme/GreetingResource.java";
+
+	private static final String CONFIG = "package org.acme;\n" + //
+			"\n" + //
+			"public class GreetingResource {\n" + //
+			"\n" + //
+			"	@ConfigProperty(name = \"greeting.message\")\n" + //
+			"	String message;\n" + //
+			"}";
+
+	@Test
+	public void declaredTypes() {
+		JavaFileDependencies dependencies = JavaFileDependencies.create(SERVICE_URI, SERVICE);
+		Assert.assertEquals(1, dependencies.getDeclaredTypes().size());
+		Assert.assertTrue(dependencies.getDeclaredTypes().contains("CountryResource"));
+	}
+
+	@Test
+	public void dependsOnReferencedAndReferencingTypes() {
+		JavaFileDependencies service = JavaFileDependencies.create(SERVICE_URI, SERVICE);
+		JavaFileDependencies restClient = JavaFileDependencies.create(REST_CLIENT_URI, REST_CLIENT);
+		JavaFileDependencies config = JavaFileDependencies.create(CONFIG_URI, CONFIG);
+
+		// the injected REST client interface
+		Assert.assertTrue(service.dependsOn(restClient));
+		// the fields which inject the REST client interface
+		Assert.assertTrue(restClient.dependsOn(service));
+
+		Assert.assertFalse(config.dependsOn(service));
+		Assert.assertFalse(config.dependsOn(restClient));
+		Assert.assertFalse(service.dependsOn(config));
+	}
+
+	@Test
+	public void readConfig() {
+		Assert.assertTrue(JavaFileDependencies.create(CONFIG_URI, CONFIG).isReadConfig());
+		Assert.assertFalse(JavaFileDependencies.create(SERVICE_URI, SERVICE).isReadConfig());
+		Assert.assertTrue(JavaFileDependencies
+				.create(SERVICE_URI, "@Retry(maxRetries = \"${retry.max}\") void call() {}").isReadConfig());
+		Assert.assertTrue(JavaFileDependencies.create(CONFIG_URI,
+				"@org.eclipse.microprofile.config.inject.ConfigProperty(name = \"greeting.message\")\n" + //
+						"String message;")
+				.isReadConfig());
+	}
+
+	@Test
+	public void ignoreCommentsAndStringLiterals() {
+		JavaFileDependencies restClient = JavaFileDependencies.create(REST_CLIENT_URI, REST_CLIENT);
+		JavaFileDependencies config = JavaFileDependencies.create(CONFIG_URI, "package org.acme;\n" + //
+				"\n" + //
+				"/**\n" + //
+				" * Same as {@link CountriesService} but with the config.\n" + //
+				" */\n" + //
+				"public class GreetingResource {\n" + //
+				"\n" + //
+				"	// TODO: inject CountriesService\n" + //
+				"	@ConfigProperty(name = \"greeting.message\", defaultValue = \"CountriesService \\\" Other\")\n" + //
+				"	String message;\n" + //
+				"\n" + //
+				"	String text = \"\"\"\n" + //
+				"		class CountriesService\n" + //
+				"		\"\"\";\n" + //
+				"}");
+
+		Assert.assertEquals(Collections.singleton("GreetingResource"), config.getDeclaredTypes());
+		Assert.assertFalse(config.dependsOn(restClient));
+		Assert.assertFalse(restClient.dependsOn(config));
+		Assert.assertTrue(config.isReadConfig());
+		// the config expression of a string literal is kept
+		Assert.assertTrue(JavaFileDependencies
+				.create(SERVICE_URI, "/* @ConfigProperty */ @Retry(maxRetries = \"${retry.max}\") void call() {}")
+				.isReadConfig());
+		Assert.assertFalse(JavaFileDependencies.create(SERVICE_URI, "// @ConfigProperty(name = \"${a}\")\n" + //
+				"void call() {}").isReadConfig());
+	}
+
+	@Test
+	public void saveUnrelatedFile() {
+		JavaFileDependencies service = JavaFileDependencies.create(SERVICE_URI, SERVICE);
+		JavaFileDependencies restClient = JavaFileDependencies.create(REST_CLIENT_URI, REST_CLIENT);
+		// the neighbour only mentions the saved REST client in a comment and in a
+		// string literal
+		JavaFileDependencies neighbour = JavaFileDependencies.create(CONFIG_URI, "package org.acme;\n" + //
+				"\n" + //
+				"// calls CountriesService\n" + //
+				"public class GreetingResource {\n" + //
+				"\n" + //
+				"	String name = \"CountriesService\";\n" + //
+				"}");
+
+		// the Java files revalidated when the REST client is saved
+		Assert.assertEquals(Arrays.asList(service), getDependents(restClient, Arrays.asList(service, neighbour)));
+	}
+
+	@Test
+	public void unionWithPreviousDependencies() {
+		JavaFileDependencies service = JavaFileDependencies.create(SERVICE_URI, SERVICE);
+		JavaFileDependencies restClient = JavaFileDependencies.create(REST_CLIENT_URI, REST_CLIENT);
+		// the field which injects the REST client interface has been removed
+		JavaFileDependencies savedService = JavaFileDependencies.create(SERVICE_URI,
+				"package org.acme;\n" + //
+						"\n" + //
+						"public class CountryResource {\n" + //
+						"}");
+
+		Assert.assertFalse(restClient.dependsOn(savedService));
+		Assert.assertTrue(restClient.dependsOn(savedService.union(service)));
+		Assert.assertSame(service, service.union(null));
+	}
+
+	@Test
+	public void superClassChain() {
+		JavaFileDependencies base = JavaFileDependencies.create("file:///project/src/main/java/org/acme/Base.java",
+				"public class Base {\n" + //
+						"	String fallback() { return null; }\n" + //
+						"}");
+		JavaFileDependencies middle = JavaFileDependencies.create(
+				"file:///project/src/main/java/org/acme/Middle.java", //
+				"public class Middle extends org.acme.Base {}");
+		JavaFileDependencies resource = JavaFileDependencies.create(
+				"file:///project/src/main/java/org/acme/Resource.java", //
+				"public class Resource extends Middle {\n" + //
+						"	@Fallback(fallbackMethod = \"fallback\")\n" + //
+						"	String hello() { return null; }\n" + //
+						"}");
+		JavaFileDependencies other = JavaFileDependencies.create(
+				"file:///project/src/main/java/org/acme/Other.java", //
+				"public class Other extends Middle {}");
+
+		// the super class of the super class declares the fallback method
+		Assert.assertFalse(resource.dependsOn(base));
+		Assert.assertEquals(Arrays.asList(middle, resource, other),
+				getDependents(base, Arrays.asList(base, middle, resource, other)));
+
+		// the hierarchy of the Java file which uses a fallback method is unknown
+		Assert.assertEquals(Arrays.asList(resource), getDependents(base, Arrays.asList(base, resource, other)));
+		Assert.assertEquals(Collections.emptyList(), getDependents(base, Arrays.asList(base, other)));
+	}
+
+	private static List<JavaFileDependencies> getDependents(JavaFileDependencies changed,
+			List<JavaFileDependencies> files) {
+		List<JavaFileDependencies> dependents = JavaFileDependencies.getDependents(changed, files, f -> f);
+		dependents.sort((d1, d2) -> Integer.compare(files.indexOf(d1), files.indexOf(d2)));
+		return dependents;
+	}
+}
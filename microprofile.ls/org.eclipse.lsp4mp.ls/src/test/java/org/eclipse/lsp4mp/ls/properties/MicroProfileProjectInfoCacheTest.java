@@ -9,20 +9,30 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.properties;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.api.MicroProfileProjectInfoProvider;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Test for cache of {@link MicroProfileProjectInfo}
@@ -35,6 +45,9 @@ public class MicroProfileProjectInfoCacheTest {
 	private static final String PROJECT1 = "project1";
 	private static final String PROJECT1_APPLICATION_PROPERTIES = PROJECT1 + "/application.properties";
 
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
 	static class MicroProfileProjectInfoProviderTracker implements MicroProfileProjectInfoProvider {
 
 		private final AtomicInteger instanceCount = new AtomicInteger();
@@ -136,6 +149,39 @@ public class MicroProfileProjectInfoCacheTest {
 
 	}
 
+	@Test
+	public void propertiesChangedWhileLoading() {
+		AtomicInteger instanceCount = new AtomicInteger();
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(params -> {
+			instanceCount.incrementAndGet();
+			return new CompletableFuture<>();
+		});
+
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		CompletableFuture<MicroProfileProjectInfo> request1 = cache.getProjectInfoFromCache(params);
+
+		// Classpath changed while the project info is loading -> the project info could
+		// be computed before the change, a new getProjectInfo instance should be get
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		Assert.assertEquals(Arrays.asList(PROJECT1_APPLICATION_PROPERTIES), cache.propertiesChanged(event));
+
+		CompletableFuture<MicroProfileProjectInfo> request2 = cache.getProjectInfoFromCache(params);
+		Assert.assertFalse("Different futures for getProjectInfo after propertiesChanged", request1 == request2);
+		Assert.assertEquals("Number of call of getProjectInfo after propertiesChanged", 2, instanceCount.get());
+
+		// Java sources changed while the project info is loading
+		event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.ONLY_SOURCES);
+		Assert.assertEquals(Arrays.asList(PROJECT1_APPLICATION_PROPERTIES), cache.propertiesChanged(event));
+
+		CompletableFuture<MicroProfileProjectInfo> request3 = cache.getProjectInfoFromCache(params);
+		Assert.assertFalse("Different futures for getProjectInfo after propertiesChanged", request2 == request3);
+		Assert.assertEquals("Number of call of getProjectInfo after propertiesChanged", 3, instanceCount.get());
+	}
+
 	@Test
 	public void getProjectInfoCacheProviderException() throws InterruptedException, ExecutionException {
 		MicroProfileProjectInfoProvider provider = new MicroProfileProjectInfoProviderThrowException();
@@ -165,4 +211,87 @@ public class MicroProfileProjectInfoCacheTest {
 				!infoWithNoError.getProjectURI().isEmpty());
 
 	}
+
+	@Test
+	public void saveAndLoadDiskCache() throws IOException {
+		Path cacheDir = tempFolder.newFolder().toPath();
+		MicroProfileProjectInfoDiskCache diskCache = new MicroProfileProjectInfoDiskCache(cacheDir);
+		Assert.assertNull("No snapshot before save", diskCache.load(PROJECT1_APPLICATION_PROPERTIES));
+
+		diskCache.save(PROJECT1_APPLICATION_PROPERTIES, createProjectInfo("quarkus.http.port")).join();
+
+		MicroProfileProjectInfo info = diskCache.load(PROJECT1_APPLICATION_PROPERTIES);
+		Assert.assertNotNull("Snapshot after save", info);
+		Assert.assertEquals(PROJECT1, info.getProjectURI());
+		Assert.assertEquals(1, info.getProperties().size());
+		Assert.assertEquals("quarkus.http.port", info.getProperties().get(0).getName());
+		Assert.assertNull("No snapshot for another URI", diskCache.load("project2/application.properties"));
+
+		// A corrupted snapshot is ignored
+		try (Stream<Path> files = Files.list(cacheDir)) {
+			Path file = files.findFirst().get();
+			Files.write(file, new byte[] { 1, 2, 3 });
+		}
+		Assert.assertNull("Corrupted snapshot", diskCache.load(PROJECT1_APPLICATION_PROPERTIES));
+	}
+
+	@Test
+	public void saveDiskCacheBeforeUpdate() throws IOException {
+		Path cacheDir = tempFolder.newFolder().toPath();
+		List<Runnable> tasks = new ArrayList<>();
+		MicroProfileProjectInfoDiskCache diskCache = new MicroProfileProjectInfoDiskCache(cacheDir, tasks::add);
+
+		// the project info is updated before the snapshot is written in background
+		MicroProfileProjectInfo projectInfo = createProjectInfo("quarkus.http.port");
+		CompletableFuture<Void> saved = diskCache.save(PROJECT1_APPLICATION_PROPERTIES, projectInfo);
+		projectInfo.getProperties().clear();
+		Assert.assertFalse(saved.isDone());
+		tasks.forEach(Runnable::run);
+		saved.join();
+
+		MicroProfileProjectInfo info = diskCache.load(PROJECT1_APPLICATION_PROPERTIES);
+		Assert.assertNotNull("Snapshot after save", info);
+		Assert.assertEquals(1, info.getProperties().size());
+		Assert.assertEquals("quarkus.http.port", info.getProperties().get(0).getName());
+	}
+
+	@Test
+	public void getProjectInfoFromDiskCache() throws Exception {
+		MicroProfileProjectInfoDiskCache diskCache = new MicroProfileProjectInfoDiskCache(
+				tempFolder.newFolder().toPath());
+		diskCache.save(PROJECT1_APPLICATION_PROPERTIES, createProjectInfo("quarkus.http.port")).join();
+
+		CompletableFuture<MicroProfileProjectInfo> computedInfo = new CompletableFuture<>();
+		CompletableFuture<String> updatedURI = new CompletableFuture<>();
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(params -> computedInfo, diskCache,
+				updatedURI::complete);
+
+		// The project info of the disk cache is returned while the project info is
+		// computed
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		MicroProfileProjectInfo snapshot = cache.getProjectInfoFromCache(params).getNow(null);
+		Assert.assertTrue("Project info from disk cache", snapshot instanceof ExtendedMicroProfileProjectInfo);
+		Assert.assertNotNull(((ExtendedMicroProfileProjectInfo) snapshot).getPropertiesIndex().findProperty("quarkus.http.port"));
+		Assert.assertFalse("Project info not updated", updatedURI.isDone());
+
+		// The computed project info replaces the project info of the disk cache
+		computedInfo.complete(createProjectInfo("quarkus.http.host"));
+		Assert.assertEquals(PROJECT1_APPLICATION_PROPERTIES, updatedURI.get(5, TimeUnit.SECONDS));
+		ExtendedMicroProfileProjectInfo info = (ExtendedMicroProfileProjectInfo) cache
+				.getProjectInfoFromCache(params).get(5, TimeUnit.SECONDS);
+		Assert.assertNotSame(snapshot, info);
+		Assert.assertNull(info.getPropertiesIndex().findProperty("quarkus.http.port"));
+		Assert.assertNotNull(info.getPropertiesIndex().findProperty("quarkus.http.host"));
+	}
+
+	private static MicroProfileProjectInfo createProjectInfo(String propertyName) {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProjectURI(PROJECT1);
+		ItemMetadata property = new ItemMetadata();
+		property.setName(propertyName);
+		property.setType("java.lang.String");
+		info.setProperties(new ArrayList<>(Arrays.asList(property)));
+		info.setHints(new ArrayList<>());
+		return info;
+	}
 }
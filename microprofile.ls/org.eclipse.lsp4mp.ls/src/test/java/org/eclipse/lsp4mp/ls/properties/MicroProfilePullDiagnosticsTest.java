@@ -0,0 +1,281 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.ClientCapabilities;
+import org.eclipse.lsp4j.DiagnosticCapabilities;
+import org.eclipse.lsp4j.DiagnosticWorkspaceCapabilities;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DocumentDiagnosticParams;
+import org.eclipse.lsp4j.DocumentDiagnosticReport;
+import org.eclipse.lsp4j.InitializeParams;
+import org.eclipse.lsp4j.PreviousResultId;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.TextDocumentClientCapabilities;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceClientCapabilities;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.ls.MockMicroProfileLanguageClient;
+import org.eclipse.lsp4mp.ls.MockMicroProfileLanguageServer;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * Test with the diagnostics pulled by the client (LSP 3.17
+ * 'textDocument/diagnostic' and 'workspace/diagnostic').
+ *
+ */
+public class MicroProfilePullDiagnosticsTest {
+
+	private static final String URI = "microprofile-config.properties";
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	private final String json = "{\r\n" + //
+			"    \"settings\": {\r\n" + //
+			"        \"microprofile\": {\r\n" + //
+			"            \"tools\": {\r\n" + //
+			"                \"validation\": {\r\n" + //
+			"                    \"enabled\": \"true\"\r\n" + //
+			"                }\r\n" + //
+			"            }\r\n" + //
+			"        }\r\n" + //
+			"    }\r\n" + //
+			"}";
+
+	@Test
+	public void unchangedDiagnostics() throws Exception {
+		MockMicroProfileLanguageServer server = createServer();
+		server.initialize(createInitializeParams());
+
+		server.didOpen(URI, "server.url = http://localhost:8080");
+		DocumentDiagnosticReport report = diagnostic(server, null);
+		Assert.assertTrue(report.isRelatedFullDocumentDiagnosticReport());
+		Assert.assertEquals(1, report.getRelatedFullDocumentDiagnosticReport().getItems().size());
+		String resultId = report.getRelatedFullDocumentDiagnosticReport().getResultId();
+		Assert.assertNotNull(resultId);
+
+		// the properties file has not changed
+		report = diagnostic(server, resultId);
+		Assert.assertTrue(report.isRelatedUnchangedDocumentDiagnosticReport());
+		Assert.assertEquals(resultId, report.getRelatedUnchangedDocumentDiagnosticReport().getResultId());
+
+		// the properties file has changed
+		DidChangeTextDocumentParams changeParams = new DidChangeTextDocumentParams(
+				new VersionedTextDocumentIdentifier(URI, 2),
+				Arrays.asList(new TextDocumentContentChangeEvent("server.host = localhost")));
+		server.getTextDocumentService().didChange(changeParams);
+		report = diagnostic(server, resultId);
+		Assert.assertTrue(report.isRelatedFullDocumentDiagnosticReport());
+		Assert.assertEquals(0, report.getRelatedFullDocumentDiagnosticReport().getItems().size());
+		Assert.assertNotEquals(resultId, report.getRelatedFullDocumentDiagnosticReport().getResultId());
+
+		// the diagnostics are pulled, they are never published
+		Thread.sleep(1000);
+		Assert.assertEquals(0, server.getPublishDiagnostics().size());
+	}
+
+	@Test
+	public void workspaceDiagnostics() throws Exception {
+		MockMicroProfileLanguageServer server = createServer();
+		server.initialize(createInitializeParams());
+
+		server.didOpen(URI, "server.url = http://localhost:8080");
+		WorkspaceDiagnosticReport report = server.getWorkspaceService()
+				.diagnostic(new WorkspaceDiagnosticParams(new ArrayList<>())).get();
+		Assert.assertEquals(1, report.getItems().size());
+		Assert.assertTrue(report.getItems().get(0).isWorkspaceFullDocumentDiagnosticReport());
+		String resultId = report.getItems().get(0).getWorkspaceFullDocumentDiagnosticReport().getResultId();
+
+		report = server.getWorkspaceService()
+				.diagnostic(new WorkspaceDiagnosticParams(Arrays.asList(new PreviousResultId(URI, resultId))))
+				.get();
+		Assert.assertEquals(1, report.getItems().size());
+		Assert.assertTrue(report.getItems().get(0).isWorkspaceUnchangedDocumentDiagnosticReport());
+		Assert.assertEquals(URI, report.getItems().get(0).getWorkspaceUnchangedDocumentDiagnosticReport().getUri());
+	}
+
+	@Test
+	public void refreshDiagnosticsWhenDiskCacheIsUpdated() throws Exception {
+		File cacheDir = tempFolder.newFolder();
+		new MicroProfileProjectInfoDiskCache(cacheDir.toPath()).save(URI, createProjectInfo("server.host")).join();
+		CompletableFuture<MicroProfileProjectInfo> computedInfo = new CompletableFuture<>();
+		CountDownLatch refreshed = new CountDownLatch(1);
+
+		System.setProperty(MicroProfileProjectInfoDiskCache.CACHE_DIR_PROPERTY, cacheDir.getPath());
+		try {
+			MockMicroProfileLanguageServer server = new MockMicroProfileLanguageServer();
+			server.setClient(new MockMicroProfileLanguageClient(server) {
+
+				@Override
+				public CompletableFuture<MicroProfileProjectInfo> getProjectInfo(MicroProfileProjectInfoParams params) {
+					return computedInfo;
+				}
+
+				@Override
+				public CompletableFuture<Void> refreshDiagnostics() {
+					refreshed.countDown();
+					return CompletableFuture.completedFuture(null);
+				}
+			});
+			InitializeParams initializeParams = createInitializeParams();
+			initializeParams.getCapabilities().getWorkspace()
+					.setDiagnostics(new DiagnosticWorkspaceCapabilities(true));
+			server.initialize(initializeParams);
+
+			// the diagnostics are computed with the project info of the disk cache
+			server.didOpen(URI, "server.url = http://localhost:8080");
+			DocumentDiagnosticReport report = diagnostic(server, null);
+			Assert.assertEquals(1, report.getRelatedFullDocumentDiagnosticReport().getItems().size());
+			String resultId = report.getRelatedFullDocumentDiagnosticReport().getResultId();
+
+			// the computed project info replaces the project info of the disk cache, the
+			// client is asked to pull the diagnostics again
+			computedInfo.complete(createProjectInfo("server.url"));
+			Assert.assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+			report = diagnostic(server, resultId);
+			Assert.assertTrue(report.isRelatedFullDocumentDiagnosticReport());
+			Assert.assertEquals(0, report.getRelatedFullDocumentDiagnosticReport().getItems().size());
+		} finally {
+			System.clearProperty(MicroProfileProjectInfoDiskCache.CACHE_DIR_PROPERTY);
+		}
+	}
+
+	@Test
+	public void publishDiagnosticsWithoutRefreshSupport() throws Exception {
+		File cacheDir = tempFolder.newFolder();
+		new MicroProfileProjectInfoDiskCache(cacheDir.toPath()).save(URI, createProjectInfo("server.host")).join();
+		CompletableFuture<MicroProfileProjectInfo> computedInfo = new CompletableFuture<>();
+		CountDownLatch published = new CountDownLatch(1);
+		List<PublishDiagnosticsParams> publishedDiagnostics = Collections.synchronizedList(new ArrayList<>());
+
+		System.setProperty(MicroProfileProjectInfoDiskCache.CACHE_DIR_PROPERTY, cacheDir.getPath());
+		try {
+			MockMicroProfileLanguageServer server = new MockMicroProfileLanguageServer();
+			server.setClient(new MockMicroProfileLanguageClient(server) {
+
+				@Override
+				public CompletableFuture<MicroProfileProjectInfo> getProjectInfo(MicroProfileProjectInfoParams params) {
+					return computedInfo;
+				}
+
+				@Override
+				public void publishDiagnostics(PublishDiagnosticsParams diagnostics) {
+					publishedDiagnostics.add(diagnostics);
+					published.countDown();
+				}
+
+				@Override
+				public CompletableFuture<Void> refreshDiagnostics() {
+					Assert.fail("The client doesn't support the diagnostics refresh");
+					return CompletableFuture.completedFuture(null);
+				}
+			});
+			// the client pulls the diagnostics but doesn't support the refresh
+			server.initialize(createInitializeParams());
+
+			server.didOpen(URI, "server.url = http://localhost:8080");
+			DocumentDiagnosticReport report = diagnostic(server, null);
+			Assert.assertEquals(1, report.getRelatedFullDocumentDiagnosticReport().getItems().size());
+			String resultId = report.getRelatedFullDocumentDiagnosticReport().getResultId();
+
+			// the computed project info replaces the project info of the disk cache, the
+			// diagnostics of the properties file are published
+			computedInfo.complete(createProjectInfo("server.url"));
+			Assert.assertTrue(published.await(5, TimeUnit.SECONDS));
+			Assert.assertEquals(URI, publishedDiagnostics.get(0).getUri());
+			Assert.assertEquals(0, publishedDiagnostics.get(0).getDiagnostics().size());
+			// the pulled diagnostics are invalidated too
+			report = diagnostic(server, resultId);
+			Assert.assertTrue(report.isRelatedFullDocumentDiagnosticReport());
+			Assert.assertEquals(0, report.getRelatedFullDocumentDiagnosticReport().getItems().size());
+		} finally {
+			System.clearProperty(MicroProfileProjectInfoDiskCache.CACHE_DIR_PROPERTY);
+		}
+	}
+
+	private static MicroProfileProjectInfo createProjectInfo(String propertyName) {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProjectURI("project1");
+		ItemMetadata property = new ItemMetadata();
+		property.setName(propertyName);
+		info.setProperties(new ArrayList<>(Arrays.asList(property)));
+		info.setHints(new ArrayList<>());
+		return info;
+	}
+
+	private static DocumentDiagnosticReport diagnostic(MockMicroProfileLanguageServer server,
+			String previousResultId) throws Exception {
+		DocumentDiagnosticParams params = new DocumentDiagnosticParams(new TextDocumentIdentifier(URI));
+		params.setPreviousResultId(previousResultId);
+		return server.getTextDocumentService().diagnostic(params).get();
+	}
+
+	private InitializeParams createInitializeParams() {
+		InitializeParams initializeParams = new InitializeParams();
+		Object initializationOptions = new Gson().fromJson(json, JsonObject.class);
+		initializeParams.setInitializationOptions(initializationOptions);
+		ClientCapabilities capabilities = new ClientCapabilities();
+		TextDocumentClientCapabilities textDocument = new TextDocumentClientCapabilities();
+		textDocument.setDiagnostic(new DiagnosticCapabilities());
+		capabilities.setTextDocument(textDocument);
+		capabilities.setWorkspace(new WorkspaceClientCapabilities());
+		initializeParams.setCapabilities(capabilities);
+		return initializeParams;
+	}
+
+	private MockMicroProfileLanguageServer createServer() {
+		MockMicroProfileLanguageServer server = new MockMicroProfileLanguageServer();
+		MockMicroProfileLanguageClient client = new MockMicroProfileLanguageClient(server) {
+
+			@Override
+			public CompletableFuture<MicroProfileProjectInfo> getProjectInfo(MicroProfileProjectInfoParams params) {
+				MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+				info.setProjectURI("project1");
+				List<ItemMetadata> properties = new ArrayList<>();
+				ItemMetadata host = new ItemMetadata();
+				host.setName("server.host");
+				properties.add(host);
+				ItemMetadata port = new ItemMetadata();
+				port.setName("server.port");
+				properties.add(port);
+				info.setProperties(properties);
+				return CompletableFuture.completedFuture(info);
+			}
+		};
+		server.setClient(client);
+		return server;
+	}
+}
@@ -0,0 +1,339 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4mp.ls.commons.BadLocationException;
+import org.eclipse.lsp4mp.ls.commons.ModelTextDocument;
+import org.eclipse.lsp4mp.model.Node;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.model.Property;
+import org.eclipse.lsp4mp.model.PropertyValueExpression;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for incremental parse of {@link PropertiesModel}.
+ *
+ */
+public class PropertiesModelIncrementalParseTest {
+
+	private static final String TEXT = "# comment\n" + //
+			"a=b\n" + //
+			"\n" + //
+			"c = ${a:default}\n" + //
+			"d=multi \\\n" + //
+			"  line\n" + //
+			"%dev.e=f\n";
+
+	@Test
+	public void changePropertyValue() throws BadLocationException {
+		PropertiesModel model = assertIncrementalParse(TEXT, 1, 2, 1, 3, "bar");
+		Assert.assertEquals(1, model.getChangedNodes().size());
+		Assert.assertEquals("bar", ((Property) model.getChangedNodes().get(0)).getPropertyValue());
+	}
+
+	@Test
+	public void insertLine() throws BadLocationException {
+		ModelTextDocument<PropertiesModel> document = createDocument(TEXT);
+		PropertiesModel previous = document.getModel();
+		Node lastProperty = previous.getChildren().get(4);
+		int lastPropertyStart = lastProperty.getStart();
+
+		PropertiesModel model = assertIncrementalParse(document, 2, 0, 2, 0, "x=y\n");
+		// the nodes which are not impacted by the change are copied, the previous
+		// model is not updated
+		Assert.assertEquals(1, model.getChangedNodes().size());
+		Assert.assertEquals(lastPropertyStart, lastProperty.getStart());
+		Assert.assertSame(previous, lastProperty.getOwnerModel());
+		Assert.assertEquals(lastPropertyStart + 4, model.getChildren().get(5).getStart());
+		Assert.assertSame(model, model.getChildren().get(5).getOwnerModel());
+	}
+
+	@Test
+	public void changeAfterCommentInContinuation() throws BadLocationException {
+		// the comment and 'd=1' are a continuation of the 'a' property
+		ModelTextDocument<PropertiesModel> document = createDocument("a=b,\\\n#c\nd=1");
+		assertIncrementalParse(document, 2, 2, 2, 3, "");
+		Node last = document.getModel().getChildren().get(document.getModel().getChildren().size() - 1);
+		Assert.assertNotNull(last.getText());
+	}
+
+	@Test
+	public void changeBlankLineInContinuation() throws BadLocationException {
+		assertIncrementalParse("a=b\\\n\n\nc=d\ne=f", 2, 0, 2, 0, " ");
+	}
+
+	@Test
+	public void removeContinuationBeforeComment() throws BadLocationException {
+		assertIncrementalParse("a=b,\\\n#c\nd=1\ne=2", 0, 4, 0, 5, "");
+	}
+
+	@Test
+	public void randomChanges() throws BadLocationException {
+		String[] fragments = { "a", "b.c", "%dev.", "=", ":", " ", "\t", "\\", "\n", "#", ";", "${", "}",
+				"${a:b}", "x=y\n", "\\\n", "#c\n" };
+		Random random = new Random(0);
+		for (int i = 0; i < 200; i++) {
+			StringBuilder text = new StringBuilder();
+			int size = random.nextInt(20);
+			for (int j = 0; j < size; j++) {
+				text.append(fragments[random.nextInt(fragments.length)]);
+			}
+			ModelTextDocument<PropertiesModel> document = createDocument(text.toString());
+			for (int version = 1; version <= 10; version++) {
+				PropertiesModel previous = document.getModel();
+				List<int[]> previousOffsets = getOffsets(previous);
+
+				int length = document.getText().length();
+				int start = random.nextInt(length + 1);
+				int end = start + random.nextInt(Math.min(length - start, 10) + 1);
+				String newText = random.nextBoolean() ? "" : fragments[random.nextInt(fragments.length)];
+				String message = "'" + document.getText() + "' [" + start + ", " + end + "] -> '" + newText + "'";
+				Position startPosition = document.positionAt(start);
+				Position endPosition = document.positionAt(end);
+				document.setVersion(version);
+				document.update(Arrays.asList(createChange(document, startPosition.getLine(),
+						startPosition.getCharacter(), endPosition.getLine(), endPosition.getCharacter(), newText)));
+
+				PropertiesModel actual = document.getModel();
+				PropertiesModel expected = PropertiesModel.parse(document.getText(), "application.properties");
+				try {
+					assertSameModel(expected, actual);
+				} catch (AssertionError e) {
+					throw new AssertionError(message, e);
+				}
+				// the previous model is not updated
+				assertSameOffsets(message, previousOffsets, getOffsets(previous));
+			}
+		}
+	}
+
+	@Test
+	public void removeLines() throws BadLocationException {
+		assertIncrementalParse(TEXT, 1, 0, 3, 0, "");
+	}
+
+	@Test
+	public void changeExpression() throws BadLocationException {
+		PropertiesModel model = assertIncrementalParse(TEXT, 3, 6, 3, 7, "foo");
+		Property property = (Property) model.getChildren().get(2);
+		PropertyValueExpression expression = (PropertyValueExpression) property.getValue().getChildren().get(0);
+		Assert.assertEquals("foo", expression.getReferencedPropertyName());
+	}
+
+	@Test
+	public void addContinuation() throws BadLocationException {
+		// 'c = ${a:default}\' makes the next line a continuation of the property
+		assertIncrementalParse(TEXT, 3, 16, 3, 16, "\\");
+	}
+
+	@Test
+	public void removeContinuation() throws BadLocationException {
+		assertIncrementalParse(TEXT, 4, 8, 4, 9, "");
+	}
+
+	@Test
+	public void addContinuationBeforeBlankLine() throws BadLocationException {
+		assertIncrementalParse(TEXT, 1, 3, 1, 3, "\\");
+	}
+
+	@Test
+	public void changeProfile() throws BadLocationException {
+		assertIncrementalParse(TEXT, 6, 1, 6, 4, "prod");
+	}
+
+	@Test
+	public void appendAtEnd() throws BadLocationException {
+		assertIncrementalParse(TEXT, 7, 0, 7, 0, "g=h");
+	}
+
+	@Test
+	public void removeAll() throws BadLocationException {
+		assertIncrementalParse(TEXT, 0, 0, 7, 0, "");
+	}
+
+	@Test
+	public void severalChanges() throws BadLocationException {
+		String text = TEXT;
+		ModelTextDocument<PropertiesModel> document = createDocument(text);
+		document.getModel();
+		document.setVersion(1);
+		document.update(Arrays.asList(createChange(document, 1, 2, 1, 3, "bar"),
+				createChange(document, 6, 7, 6, 8, "g")));
+		assertSameModel(PropertiesModel.parse(document, () -> {
+		}), document.getModel());
+	}
+
+	@Test(timeout = 10000)
+	public void parseWhileUpdating() throws Exception {
+		// the unchanged prefix lengths given to the incremental parse
+		List<Integer> prefixLengths = new ArrayList<>();
+		List<Thread> parsers = new ArrayList<>();
+		ModelTextDocument<PropertiesModel> document = new ModelTextDocument<PropertiesModel>(TEXT,
+				"application.properties", PropertiesModel::parse,
+				(previousModel, doc, unchangedPrefixLength, unchangedSuffixLength, cancelChecker) -> {
+					prefixLengths.add(unchangedPrefixLength);
+					return PropertiesModel.parse(previousModel, doc, unchangedPrefixLength, unchangedSuffixLength,
+							cancelChecker);
+				}) {
+
+			@Override
+			protected void textUpdated(int unchangedPrefixLength, int unchangedSuffixLength) {
+				// the model is requested by another thread when the text has been updated
+				// but not the unchanged prefix / suffix lengths
+				Thread parser = new Thread(() -> getModel());
+				parsers.add(parser);
+				parser.start();
+				while (parser.isAlive() && parser.getState() != Thread.State.BLOCKED) {
+					Thread.yield();
+				}
+				super.textUpdated(unchangedPrefixLength, unchangedSuffixLength);
+			}
+		};
+		document.setIncremental(true);
+		document.getModel();
+
+		document.setVersion(1);
+		document.update(Arrays.asList(createChange(document, 1, 2, 1, 3, "bar")));
+		for (Thread parser : parsers) {
+			parser.join();
+		}
+		// the other thread has parsed the updated text with the unchanged prefix
+		// length of the change
+		Assert.assertEquals(Arrays.asList(document.offsetAt(new Position(1, 2))), prefixLengths);
+		assertSameModel(PropertiesModel.parse(document.getText(), "application.properties"), document.getModel());
+	}
+
+	private static PropertiesModel assertIncrementalParse(String text, int startLine, int startCharacter,
+			int endLine, int endCharacter, String newText) throws BadLocationException {
+		return assertIncrementalParse(createDocument(text), startLine, startCharacter, endLine, endCharacter,
+				newText);
+	}
+
+	private static PropertiesModel assertIncrementalParse(ModelTextDocument<PropertiesModel> document,
+			int startLine, int startCharacter, int endLine, int endCharacter, String newText)
+			throws BadLocationException {
+		PropertiesModel previous = document.getModel();
+		Assert.assertFalse(previous.isIncrementallyParsed());
+
+		document.setVersion(1);
+		document.update(
+				Arrays.asList(createChange(document, startLine, startCharacter, endLine, endCharacter, newText)));
+		PropertiesModel actual = document.getModel();
+		Assert.assertTrue(actual.isIncrementallyParsed());
+
+		PropertiesModel expected = PropertiesModel.parse(document.getText(), "application.properties");
+		assertSameModel(expected, actual);
+		return actual;
+	}
+
+	private static List<int[]> getOffsets(Node node) {
+		List<int[]> offsets = new ArrayList<>();
+		collectOffsets(node, offsets);
+		return offsets;
+	}
+
+	private static void collectOffsets(Node node, List<int[]> offsets) {
+		if (node == null) {
+			return;
+		}
+		offsets.add(new int[] { node.getStart(), node.getEnd() });
+		if (node instanceof Property) {
+			Property property = (Property) node;
+			collectOffsets(property.getKey(), offsets);
+			collectOffsets(property.getDelimiterAssign(), offsets);
+			collectOffsets(property.getValue(), offsets);
+		}
+		for (Node child : node.getChildren()) {
+			collectOffsets(child, offsets);
+		}
+	}
+
+	private static void assertSameOffsets(String message, List<int[]> expected, List<int[]> actual) {
+		Assert.assertEquals(message, expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertArrayEquals(message, expected.get(i), actual.get(i));
+		}
+	}
+
+	private static ModelTextDocument<PropertiesModel> createDocument(String text) {
+		ModelTextDocument<PropertiesModel> document = new ModelTextDocument<PropertiesModel>(text,
+				"application.properties", PropertiesModel::parse, PropertiesModel::parse);
+		document.setIncremental(true);
+		return document;
+	}
+
+	private static TextDocumentContentChangeEvent createChange(ModelTextDocument<PropertiesModel> document,
+			int startLine, int startCharacter, int endLine, int endCharacter, String newText)
+			throws BadLocationException {
+		Position start = new Position(startLine, startCharacter);
+		Position end = new Position(endLine, endCharacter);
+		int rangeLength = document.offsetAt(end) - document.offsetAt(start);
+		return new TextDocumentContentChangeEvent(new Range(start, end), rangeLength, newText);
+	}
+
+	private static void assertSameModel(PropertiesModel expected, PropertiesModel actual) {
+		Assert.assertEquals(expected.getStart(), actual.getStart());
+		Assert.assertEquals(expected.getEnd(), actual.getEnd());
+		assertSameChildren(expected, actual);
+	}
+
+	private static void assertSameChildren(Node expected, Node actual) {
+		Assert.assertEquals(expected.getChildren().size(), actual.getChildren().size());
+		for (int i = 0; i < expected.getChildren().size(); i++) {
+			assertSameNode(expected.getChildren().get(i), actual.getChildren().get(i));
+		}
+	}
+
+	private static void assertSameNode(Node expected, Node actual) {
+		if (expected == null) {
+			Assert.assertNull(actual);
+			return;
+		}
+		Assert.assertNotNull(actual);
+		Assert.assertEquals(expected.getNodeType(), actual.getNodeType());
+		Assert.assertEquals(expected.getStart(), actual.getStart());
+		Assert.assertEquals(expected.getEnd(), actual.getEnd());
+		Assert.assertEquals(expected.getText(), actual.getText());
+		if (expected instanceof Property) {
+			Property expectedProperty = (Property) expected;
+			Property actualProperty = (Property) actual;
+			assertSameNode(expectedProperty.getKey(), actualProperty.getKey());
+			assertSameNode(expectedProperty.getDelimiterAssign(), actualProperty.getDelimiterAssign());
+			assertSameNode(expectedProperty.getValue(), actualProperty.getValue());
+			Assert.assertEquals(expectedProperty.getProfile(), actualProperty.getProfile());
+			Assert.assertEquals(expectedProperty.getPropertyName(), actualProperty.getPropertyName());
+			Assert.assertEquals(expectedProperty.getPropertyValue(), actualProperty.getPropertyValue());
+		} else if (expected instanceof PropertyValueExpression) {
+			PropertyValueExpression expectedExpression = (PropertyValueExpression) expected;
+			PropertyValueExpression actualExpression = (PropertyValueExpression) actual;
+			Assert.assertEquals(expectedExpression.getReferenceStartOffset(),
+					actualExpression.getReferenceStartOffset());
+			Assert.assertEquals(expectedExpression.getReferenceEndOffset(), actualExpression.getReferenceEndOffset());
+			Assert.assertEquals(expectedExpression.getDefaultValueStartOffset(),
+					actualExpression.getDefaultValueStartOffset());
+			Assert.assertEquals(expectedExpression.getDefaultValueEndOffset(),
+					actualExpression.getDefaultValueEndOffset());
+		}
+		assertSameChildren(expected, actual);
+	}
+}
@@ -100,6 +100,8 @@ public class PropertiesFileAssert {
 
 	public static final int SYS_ENV_PROPERTIES_NUMBER = System.getProperties().size() + System.getenv().size();
 
+	public static final int MAX_PROPERTY_KEY_COMPLETION_ITEMS = PropertiesFileCompletions.MAX_PROPERTY_KEY_COMPLETION_ITEMS;
+
 	private static MicroProfileProjectInfo DEFAULT_PROJECT;
 
 	private static MicroProfilePropertyDefinitionProvider DEFAULT_DEFINITION_PROVIDER;
@@ -187,7 +189,20 @@ public class PropertiesFileAssert {
 		testCompletionFor(value, true, null, expectedCount, projectInfo);
 	}
 
-	public static void testCompletionFor(String value, boolean snippetSupport, boolean insertSpacing,
+	/**
+	 * Test the property key completion with the default project, which has more
+	 * properties than the max number of property key completion items: the items
+	 * are capped and the list is incomplete.
+	 */
+	public static CompletionList testCappedCompletionFor(String value, boolean snippetSupport, boolean insertSpacing,
+			boolean isItemDefaultsSupport, CompletionItem... expectedItems) throws BadLocationException {
+		CompletionList list = testCompletionFor(value, snippetSupport, insertSpacing, isItemDefaultsSupport, null,
+				MAX_PROPERTY_KEY_COMPLETION_ITEMS, getDefaultMicroProfileProjectInfo(), expectedItems);
+		Assert.assertTrue(list.isIncomplete());
+		return list;
+	}
+
+	public static CompletionList testCompletionFor(String value, boolean snippetSupport, boolean insertSpacing,
 			boolean isItemDefaultsSupport, String fileURI, Integer expectedCount, MicroProfileProjectInfo projectInfo,
 			CompletionItem... expectedItems) throws BadLocationException {
 		int offset = value.indexOf('|');
@@ -218,6 +233,7 @@ public class PropertiesFileAssert {
 				});
 
 		assertCompletions(list, expectedCount, isItemDefaultsSupport, expectedItems);
+		return list;
 	}
 
 	public static void assertCompletions(CompletionList actual, Integer expectedCount,
@@ -927,4 +943,4 @@ public class PropertiesFileAssert {
 	public static Position p(int line, int character) {
 		return new Position(line, character);
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
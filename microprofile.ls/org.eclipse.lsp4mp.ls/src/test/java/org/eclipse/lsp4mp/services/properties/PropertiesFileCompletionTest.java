@@ -10,15 +10,23 @@
 package org.eclipse.lsp4mp.services.properties;
 
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.c;
+import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.getDefaultMicroProfileProjectInfo;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.r;
+import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testCappedCompletionFor;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testCompletionFor;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testCompletionItemResolveFor;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testCompletionItemUnresolvedFor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
@@ -43,13 +51,19 @@ public class PropertiesFileCompletionTest {
 
 	@Test
 	public void completionOnKey() throws BadLocationException {
+		// no prefix, the properties of the project are ranked first by name and the
+		// items are capped
 		String value = "|";
-		testCompletionFor(value, false, c("quarkus.http.cors", "quarkus.http.cors=false", r(0, 0, 0)));
-		testCompletionFor(value, true, c("quarkus.http.cors", "quarkus.http.cors=${1|false,true|}", r(0, 0, 0)));
+		testCappedCompletionFor(value, false, false, false,
+				c("kubernetes.expose", "kubernetes.expose=false", r(0, 0, 0)));
+		testCappedCompletionFor(value, true, false, false,
+				c("kubernetes.expose", "kubernetes.expose=${1|false,true|}", r(0, 0, 0)));
 
 		value = " |";
-		testCompletionFor(value, false, c("quarkus.http.cors", "quarkus.http.cors=false", r(0, 0, 1)));
-		testCompletionFor(value, true, c("quarkus.http.cors", "quarkus.http.cors=${1|false,true|}", r(0, 0, 1)));
+		testCappedCompletionFor(value, false, false, false,
+				c("kubernetes.expose", "kubernetes.expose=false", r(0, 0, 1)));
+		testCappedCompletionFor(value, true, false, false,
+				c("kubernetes.expose", "kubernetes.expose=${1|false,true|}", r(0, 0, 1)));
 
 		value = " quarkus.http.co|rs = ";
 		testCompletionFor(value, false, c("quarkus.http.cors", "quarkus.http.cors=false", r(0, 0, 21)));
@@ -61,15 +75,19 @@ public class PropertiesFileCompletionTest {
 
 	@Test
 	public void completionOnKeyItemDefaults() throws BadLocationException {
+		// no prefix, the properties of the project are ranked first by name and the
+		// items are capped
 		String value = "|";
-		testCompletionFor(value, false, false, true, c("quarkus.http.cors", "quarkus.http.cors=false", r(0, 0, 0)));
-		testCompletionFor(value, true, false, true,
-				c("quarkus.http.cors", "quarkus.http.cors=${1|false,true|}", r(0, 0, 0)));
+		testCappedCompletionFor(value, false, false, true,
+				c("kubernetes.expose", "kubernetes.expose=false", r(0, 0, 0)));
+		testCappedCompletionFor(value, true, false, true,
+				c("kubernetes.expose", "kubernetes.expose=${1|false,true|}", r(0, 0, 0)));
 
 		value = " |";
-		testCompletionFor(value, false, false, true, c("quarkus.http.cors", "quarkus.http.cors=false", r(0, 0, 1)));
-		testCompletionFor(value, true, false, true,
-				c("quarkus.http.cors", "quarkus.http.cors=${1|false,true|}", r(0, 0, 1)));
+		testCappedCompletionFor(value, false, false, true,
+				c("kubernetes.expose", "kubernetes.expose=false", r(0, 0, 1)));
+		testCappedCompletionFor(value, true, false, true,
+				c("kubernetes.expose", "kubernetes.expose=${1|false,true|}", r(0, 0, 1)));
 
 		value = " quarkus.http.co|rs = ";
 		testCompletionFor(value, false, false, true, c("quarkus.http.cors", "quarkus.http.cors=false", r(0, 0, 21)));
@@ -90,6 +108,64 @@ public class PropertiesFileCompletionTest {
 				r(0, 0, 20)));
 	}
 
+	@Test
+	public void completionOnKeyFilteredByPrefix() throws BadLocationException {
+		String value = "quarkus.http.co|";
+		CompletionList list = testCompletionFor(value, true, false, false, null, null,
+				getDefaultMicroProfileProjectInfo(), //
+				c("quarkus.http.cors", "quarkus.http.cors=${1|false,true|}", r(0, 0, 15)), //
+				c("quarkus.http.cors.origins", "quarkus.http.cors.origins=$0", r(0, 0, 15)));
+		assertTrue(list.isIncomplete());
+		// properties which don't match the prefix are not returned
+		assertFalse(list.getItems().stream().anyMatch(item -> item.getLabel().startsWith("quarkus.datasource.")));
+		// properties which start with the prefix are ranked first
+		assertEquals("quarkus.http.cors", list.getItems().get(0).getLabel());
+
+		// segment abbreviation
+		value = "q.h.cor|";
+		testCompletionFor(value, true, c("quarkus.http.cors", "quarkus.http.cors=${1|false,true|}", r(0, 0, 7)));
+
+		// key map
+		value = "quarkus.log.category.\"org.acme\".le|";
+		testCompletionFor(value, true, c("quarkus.log.category.{*}.level",
+				"quarkus.log.category.${1:key}.level=${2|OFF,SEVERE,WARNING,CONFIG,FINE,FINER,FINEST,ALL,FATAL,ERROR,WARN,INFO,DEBUG,TRACE|}",
+				r(0, 0, 34)));
+	}
+
+	@Test
+	public void completionOnKeyCapped() throws BadLocationException {
+		String value = "quarkus.|";
+		CompletionList list = testCompletionFor(value, true, false, false, null,
+				PropertiesFileCompletions.MAX_PROPERTY_KEY_COMPLETION_ITEMS, getDefaultMicroProfileProjectInfo());
+		assertTrue(list.isIncomplete());
+
+		// No prefix, the properties are capped too, the properties of the project are
+		// ranked before the system properties and the environment variables
+		value = "|";
+		list = testCappedCompletionFor(value, true, false, false);
+		assertFalse(list.getItems().stream().anyMatch(item -> System.getenv().containsKey(item.getLabel())
+				|| System.getProperties().containsKey(item.getLabel())));
+	}
+
+	@Test
+	public void completionOnKeySortText() throws BadLocationException {
+		// the client sorts the items with the sort text, it must keep the rank of the
+		// properties which start with the prefix before the other properties
+		String value = "quarkus.http.co|";
+		CompletionList list = testCompletionFor(value, true, false, false, null, null,
+				getDefaultMicroProfileProjectInfo());
+		List<CompletionItem> items = new ArrayList<>(list.getItems());
+		items.sort(Comparator.comparing(CompletionItem::getSortText));
+		assertEquals(list.getItems(), items);
+		assertEquals("quarkus.http.cors", items.get(0).getLabel());
+		// the properties which match the prefix with a lower rank are sorted after
+		// the properties which start with the prefix, even if their label is lower
+		CompletionItem last = items.get(items.size() - 1);
+		assertFalse(last.getLabel().startsWith("quarkus.http.co"));
+		assertTrue(items.stream().anyMatch(item -> !item.getLabel().startsWith("quarkus.http.co")
+				&& item.getLabel().compareTo("quarkus.http.cors") < 0));
+	}
+
 	@Test
 	public void completionOnKeyMapItemDefaults() throws BadLocationException {
 		String value = "quarkus.log.category|";
@@ -105,11 +181,10 @@ public class PropertiesFileCompletionTest {
 		String value = "quarkus.application.name= \r\n" + //
 				"|\r\n" + //
 				"quarkus.application.version= ";
-		testCompletionFor(value, false,
-				c("quarkus.log.category.{*}.level", "quarkus.log.category.{*}.level=inherit", r(1, 0, 0)));
-		testCompletionFor(value, true, c("quarkus.log.category.{*}.level",
-				"quarkus.log.category.${1:key}.level=${2|OFF,SEVERE,WARNING,CONFIG,FINE,FINER,FINEST,ALL,FATAL,ERROR,WARN,INFO,DEBUG,TRACE|}",
-				r(1, 0, 0)));
+		testCappedCompletionFor(value, false, false, false,
+				c("kubernetes.annotations[*].key", "kubernetes.annotations[*].key=", r(1, 0, 0)));
+		testCappedCompletionFor(value, true, false, false,
+				c("kubernetes.annotations[*].key", "kubernetes.annotations[${1:0}].key=$0", r(1, 0, 0)));
 	}
 
 	@Test
@@ -151,17 +226,24 @@ public class PropertiesFileCompletionTest {
 	@Test
 	public void completionOnKeyWithEnums() throws BadLocationException {
 		String value = "|";
-		// OverflowAction enum type
-		testCompletionFor(value, false,
-				c("quarkus.log.console.async.overflow", "quarkus.log.console.async.overflow=block", r(0, 0, 0)));
-		testCompletionFor(value, true, c("quarkus.log.console.async.overflow",
-				"quarkus.log.console.async.overflow=${1|block,discard|}", r(0, 0, 0)));
+		// ImagePullPolicy enum type
+		testCappedCompletionFor(value, false, false, false,
+				c("kubernetes.image-pull-policy", "kubernetes.image-pull-policy=IfNotPresent", r(0, 0, 0)));
+		testCappedCompletionFor(value, true, false, false, c("kubernetes.image-pull-policy",
+				"kubernetes.image-pull-policy=${1|Always,IfNotPresent,Never|}", r(0, 0, 0)));
 
 		// Boolean type
+		testCappedCompletionFor(value, false, false, false,
+				c("kubernetes.headless", "kubernetes.headless=false", r(0, 0, 0)));
+		testCappedCompletionFor(value, true, false, false,
+				c("kubernetes.headless", "kubernetes.headless=${1|false,true|}", r(0, 0, 0)));
+
+		// OverflowAction enum type
+		value = "quarkus.log.console.async.overflow|";
 		testCompletionFor(value, false,
-				c("quarkus.datasource.enable-metrics", "quarkus.datasource.enable-metrics=false", r(0, 0, 0)));
-		testCompletionFor(value, true, c("quarkus.datasource.enable-metrics",
-				"quarkus.datasource.enable-metrics=${1|false,true|}", r(0, 0, 0)));
+				c("quarkus.log.console.async.overflow", "quarkus.log.console.async.overflow=block", r(0, 0, 34)));
+		testCompletionFor(value, true, c("quarkus.log.console.async.overflow",
+				"quarkus.log.console.async.overflow=${1|block,discard|}", r(0, 0, 34)));
 	}
 
 	@Test
@@ -237,17 +319,19 @@ public class PropertiesFileCompletionTest {
 	@Test
 	public void completionAfterProfile() throws BadLocationException {
 		String value = "%dev.|";
-		testCompletionFor(value, false, c("quarkus.http.cors", "%dev.quarkus.http.cors=false", r(0, 0, 5)));
-		testCompletionFor(value, true, c("quarkus.http.cors", "%dev.quarkus.http.cors=${1|false,true|}", r(0, 0, 5)));
+		testCappedCompletionFor(value, false, false, false,
+				c("kubernetes.expose", "%dev.kubernetes.expose=false", r(0, 0, 5)));
+		testCappedCompletionFor(value, true, false, false,
+				c("kubernetes.expose", "%dev.kubernetes.expose=${1|false,true|}", r(0, 0, 5)));
 	}
 
 	@Test
 	public void completionAfterProfileItemDefaults() throws BadLocationException {
 		String value = "%dev.|";
-		testCompletionFor(value, false, false, true,
-				c("quarkus.http.cors", "%dev.quarkus.http.cors=false", r(0, 0, 5)));
-		testCompletionFor(value, true, false, true,
-				c("quarkus.http.cors", "%dev.quarkus.http.cors=${1|false,true|}", r(0, 0, 5)));
+		testCappedCompletionFor(value, false, false, true,
+				c("kubernetes.expose", "%dev.kubernetes.expose=false", r(0, 0, 5)));
+		testCappedCompletionFor(value, true, false, true,
+				c("kubernetes.expose", "%dev.kubernetes.expose=${1|false,true|}", r(0, 0, 5)));
 	}
 
 	@Test
@@ -364,9 +448,10 @@ public class PropertiesFileCompletionTest {
 	@Test
 	public void completionSpacingSurroundingEquals() throws BadLocationException {
 		String value = "|";
-		testCompletionFor(value, false, true, c("quarkus.http.cors", "quarkus.http.cors = false", r(0, 0, 0)));
-		testCompletionFor(value, true, true,
-				c("quarkus.http.cors", "quarkus.http.cors = ${1|false,true|}", r(0, 0, 0)));
+		testCappedCompletionFor(value, false, true, false,
+				c("kubernetes.expose", "kubernetes.expose = false", r(0, 0, 0)));
+		testCappedCompletionFor(value, true, true, false,
+				c("kubernetes.expose", "kubernetes.expose = ${1|false,true|}", r(0, 0, 0)));
 	}
 
 	@Test
@@ -452,21 +537,26 @@ public class PropertiesFileCompletionTest {
 
 	@Test
 	public void completionOnKeyResolve() throws BadLocationException {
-		String expectedDocumentation = "quarkus.http.cors" + System.lineSeparator() + System.lineSeparator() + //
-				"Enable the CORS filter." + System.lineSeparator() + System.lineSeparator() + //
+		String exposeDocumentation = "kubernetes.expose" + System.lineSeparator() + System.lineSeparator() + //
+				"Controls whether the application should be exposed via Ingress" + System.lineSeparator()
+				+ System.lineSeparator() + //
 				"Type: boolean" + System.lineSeparator() + //
-				"Default: false" + System.lineSeparator() + //
-				"Phase: runtime" + System.lineSeparator() + //
-				"Extension: quarkus-vertx-http";
+				"Default: false";
 		String value = "|";
 		testCompletionItemResolveFor(value,
-				c("quarkus.http.cors", "quarkus.http.cors=false", r(0, 0, 0), expectedDocumentation));
-		testCompletionItemUnresolvedFor(value, c("quarkus.http.cors", "quarkus.http.cors=false", r(0, 0, 0)));
+				c("kubernetes.expose", "kubernetes.expose=false", r(0, 0, 0), exposeDocumentation));
+		testCompletionItemUnresolvedFor(value, c("kubernetes.expose", "kubernetes.expose=false", r(0, 0, 0)));
 		value = " |";
 		testCompletionItemResolveFor(value,
-				c("quarkus.http.cors", "quarkus.http.cors=false", r(0, 0, 1), expectedDocumentation));
-		testCompletionItemUnresolvedFor(value, c("quarkus.http.cors", "quarkus.http.cors=false", r(0, 0, 1)));
+				c("kubernetes.expose", "kubernetes.expose=false", r(0, 0, 1), exposeDocumentation));
+		testCompletionItemUnresolvedFor(value, c("kubernetes.expose", "kubernetes.expose=false", r(0, 0, 1)));
 
+		String expectedDocumentation = "quarkus.http.cors" + System.lineSeparator() + System.lineSeparator() + //
+				"Enable the CORS filter." + System.lineSeparator() + System.lineSeparator() + //
+				"Type: boolean" + System.lineSeparator() + //
+				"Default: false" + System.lineSeparator() + //
+				"Phase: runtime" + System.lineSeparator() + //
+				"Extension: quarkus-vertx-http";
 		value = " quarkus.http.co|rs = ";
 		testCompletionItemResolveFor(value,
 				c("quarkus.http.cors", "quarkus.http.cors=false", r(0, 0, 21), expectedDocumentation));
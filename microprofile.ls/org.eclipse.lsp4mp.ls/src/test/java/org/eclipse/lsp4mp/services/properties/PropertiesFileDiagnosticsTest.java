@@ -9,6 +9,7 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.services.properties;
 
+import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.assertDiagnostics;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.d;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.getDefaultMicroProfileProjectInfo;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testDiagnosticsFor;
@@ -17,7 +18,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4mp.commons.JavaVersion;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ConverterKind;
@@ -25,6 +28,8 @@ import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.services.properties.extensions.participants.IPropertyValidatorParticipant;
 import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileValidationTypeSettings;
 import org.junit.Test;
@@ -770,4 +775,116 @@ public class PropertiesFileDiagnosticsTest {
 						ValidationType.unknown));
 	}
 
+	@Test
+	public void validateWithCachedDiagnostics() {
+		MicroProfileProjectInfo projectInfo = getDefaultMicroProfileProjectInfo();
+		MicroProfileValidationSettings settings = new MicroProfileValidationSettings();
+		PropertiesFileLanguageService languageService = new PropertiesFileLanguageService();
+		String value = "quarkus.http.port=abc\n" + //
+				"unknown.property=X\n" + //
+				"quarkus.http.port=8080\n";
+		PropertiesModel model = PropertiesModel.parse(value, "application.properties");
+		List<Diagnostic> actual = languageService.doDiagnostics(model, projectInfo, settings, () -> {
+		});
+		assertDiagnostics(actual, //
+				d(0, 18, 21, "Type mismatch: int expected", DiagnosticSeverity.Error, ValidationType.value), //
+				d(1, 0, 16, "Unrecognized property 'unknown.property', it is not referenced in any Java files",
+						DiagnosticSeverity.Warning, ValidationType.unknown), //
+				d(0, 0, 17, "Duplicate property 'quarkus.http.port'", DiagnosticSeverity.Warning,
+						ValidationType.duplicate), //
+				d(2, 0, 17, "Duplicate property 'quarkus.http.port'", DiagnosticSeverity.Warning,
+						ValidationType.duplicate));
+
+		// Insert a line: the diagnostics of the unchanged properties are reused and
+		// shifted, the duplicate diagnostics are computed again
+		value = "  # comment\n" + //
+				" quarkus.http.port=abc\n" + //
+				"unknown.property=X\n" + //
+				"quarkus.http.port=8081\n";
+		model = PropertiesModel.parse(value, "application.properties");
+		actual = languageService.doDiagnostics(model, projectInfo, settings, () -> {
+		});
+		assertDiagnostics(actual, //
+				d(1, 19, 22, "Type mismatch: int expected", DiagnosticSeverity.Error, ValidationType.value), //
+				d(2, 0, 16, "Unrecognized property 'unknown.property', it is not referenced in any Java files",
+						DiagnosticSeverity.Warning, ValidationType.unknown), //
+				d(1, 1, 18, "Duplicate property 'quarkus.http.port'", DiagnosticSeverity.Warning,
+						ValidationType.duplicate), //
+				d(3, 0, 17, "Duplicate property 'quarkus.http.port'", DiagnosticSeverity.Warning,
+						ValidationType.duplicate));
+
+		// Change the validation settings: the cached diagnostics cannot be reused
+		MicroProfileValidationTypeSettings unknown = new MicroProfileValidationTypeSettings();
+		unknown.setSeverity("error");
+		settings.setUnknown(unknown);
+		actual = languageService.doDiagnostics(model, projectInfo, settings, () -> {
+		});
+		assertDiagnostics(actual, //
+				d(1, 19, 22, "Type mismatch: int expected", DiagnosticSeverity.Error, ValidationType.value), //
+				d(2, 0, 16, "Unrecognized property 'unknown.property', it is not referenced in any Java files",
+						DiagnosticSeverity.Error, ValidationType.unknown), //
+				d(1, 1, 18, "Duplicate property 'quarkus.http.port'", DiagnosticSeverity.Warning,
+						ValidationType.duplicate), //
+				d(3, 0, 17, "Duplicate property 'quarkus.http.port'", DiagnosticSeverity.Warning,
+						ValidationType.duplicate));
+	}
+
+	@Test
+	public void validateWithCachedDiagnosticsAndParticipant() {
+		MicroProfileProjectInfo projectInfo = getDefaultMicroProfileProjectInfo();
+		MicroProfileValidationSettings settings = new MicroProfileValidationSettings();
+		PropertiesFileLanguageService languageService = new PropertiesFileLanguageService();
+		List<String> deprecatedProperties = new ArrayList<>();
+		languageService.registerPropertyValidatorParticipant(new IPropertyValidatorParticipant() {
+
+			@Override
+			public boolean validatePropertyKey(ValidationKeyContext context, CancelChecker cancelChecker) {
+				if (deprecatedProperties.contains(context.getPropertyName())) {
+					context.addDiagnostic("Deprecated property", DiagnosticSeverity.Warning);
+				}
+				return false;
+			}
+
+			@Override
+			public boolean validatePropertyValue(ValidationValueContext context, CancelChecker cancelChecker) {
+				return false;
+			}
+		});
+		String value = "quarkus.http.port=abc\n" + //
+				"unknown.property=X\n";
+		PropertiesModel model = PropertiesModel.parse(value, "application.properties");
+		List<Diagnostic> actual = languageService.doDiagnostics(model, projectInfo, settings, () -> {
+		});
+		assertDiagnostics(actual, //
+				d(0, 18, 21, "Type mismatch: int expected", DiagnosticSeverity.Error, ValidationType.value), //
+				d(1, 0, 16, "Unrecognized property 'unknown.property', it is not referenced in any Java files",
+						DiagnosticSeverity.Warning, ValidationType.unknown));
+
+		// The participant is called even if the property has not changed, only the
+		// built-in diagnostics are reused
+		deprecatedProperties.add("quarkus.http.port");
+		actual = languageService.doDiagnostics(model, projectInfo, settings, () -> {
+		});
+		assertDiagnostics(actual, //
+				d(0, 0, 21, "Deprecated property", DiagnosticSeverity.Warning, ValidationType.unknown), //
+				d(0, 18, 21, "Type mismatch: int expected", DiagnosticSeverity.Error, ValidationType.value), //
+				d(1, 0, 16, "Unrecognized property 'unknown.property', it is not referenced in any Java files",
+						DiagnosticSeverity.Warning, ValidationType.unknown));
+
+		// Update the excluded properties of the validation settings in place: the
+		// cached diagnostics cannot be reused
+		MicroProfileValidationTypeSettings unknown = new MicroProfileValidationTypeSettings();
+		unknown.setSeverity("warning");
+		unknown.setExcluded(new ArrayList<>());
+		settings.setUnknown(unknown);
+		actual = languageService.doDiagnostics(model, projectInfo, settings, () -> {
+		});
+		unknown.getExcluded().add("unknown.property");
+		actual = languageService.doDiagnostics(model, projectInfo, settings, () -> {
+		});
+		assertDiagnostics(actual, //
+				d(0, 0, 21, "Deprecated property", DiagnosticSeverity.Warning, ValidationType.unknown), //
+				d(0, 18, 21, "Type mismatch: int expected", DiagnosticSeverity.Error, ValidationType.value));
+	}
+
 }